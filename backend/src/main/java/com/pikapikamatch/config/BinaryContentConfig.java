@@ -0,0 +1,67 @@
+package com.pikapikamatch.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.pikapikamatch.service.cache.ResponseFormats;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Binary encodings of the API responses for clients on slow networks, negotiated
+ * with the Accept header: CBOR ({@code application/cbor}) and Smile
+ * ({@code application/x-jackson-smile}).
+ * The converters replace Spring MVC's defaults, so they keep their place after JSON
+ * (which still answers {@code Accept: *}{@code /*}), but use the application's
+ * Jackson settings, e.g. ISO-8601 dates.
+ */
+@Configuration
+@Profile("!reactive")
+public class BinaryContentConfig implements WebMvcConfigurer {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    /**
+     * The representations versioned endpoints negotiate, in the converters' order.
+     *
+     * @return ResponseFormats instance
+     */
+    @Bean
+    public ResponseFormats responseFormats() {
+        return new ResponseFormats(List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, ResponseFormats.APPLICATION_SMILE));
+    }
+
+    /**
+     * The same URL now has several representations, so shared caches must key them by Accept.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                return true;
+            }
+        }).addPathPatterns("/api/**");
+    }
+}
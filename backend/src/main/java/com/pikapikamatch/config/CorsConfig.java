@@ -1,10 +1,15 @@
 package com.pikapikamatch.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 /**
  * CORS configuration for the PikaPikaMatch API.
  * Configures Cross-Origin Resource Sharing to allow the frontend application
@@ -25,13 +30,27 @@ public class CorsConfig implements WebMvcConfigurer {
     @Value("${cors.allow-credentials}")
     private boolean allowCredentials;
     
+    /**
+     * CORS rules of the API endpoints, also applied by filters answering before
+     * Spring MVC (e.g. rate-limited requests).
+     *
+     * @return CorsConfiguration instance
+     */
+    @Bean
+    public CorsConfiguration apiCorsConfiguration() {
+        CorsConfiguration configuration = new CorsConfiguration();
+        configuration.setAllowedOrigins(List.of(allowedOrigins.split(",")));
+        configuration.setAllowedMethods(List.of(allowedMethods.split(",")));
+        configuration.setAllowedHeaders(List.of(allowedHeaders.split(",")));
+        configuration.setExposedHeaders(List.of(HttpHeaders.RETRY_AFTER));
+        configuration.setAllowCredentials(allowCredentials);
+        configuration.setMaxAge(3600L);
+        return configuration;
+    }
+    
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")
-            .allowedOrigins(allowedOrigins.split(","))
-            .allowedMethods(allowedMethods.split(","))
-            .allowedHeaders(allowedHeaders.split(","))
-            .allowCredentials(allowCredentials)
-            .maxAge(3600);
+            .combine(apiCorsConfiguration());
     }
 }
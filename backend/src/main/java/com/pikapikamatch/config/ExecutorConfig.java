@@ -0,0 +1,54 @@
+package com.pikapikamatch.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executor configuration.
+ * Provides the executor used to run independent statistics queries concurrently:
+ * a bounded thread pool on platform threads, or one virtual thread per query when
+ * virtual threads are enabled ({@code spring.threads.virtual.enabled}).
+ */
+@Configuration
+public class ExecutorConfig {
+
+    @Value("${stats.summary.pool-size:4}")
+    private int statsPoolSize;
+
+    /**
+     * Creates the executor used by the statistics summary to fan out its queries.
+     *
+     * @return ThreadPoolTaskExecutor instance
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor statsQueryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(statsPoolSize);
+        executor.setMaxPoolSize(statsPoolSize);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("stats-query-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Creates the virtual-thread variant of the statistics query executor.
+     * Queries are cheap to park, so there is no pool to size: concurrency is
+     * bounded by the MongoDB connection pool instead.
+     *
+     * @return SimpleAsyncTaskExecutor starting a virtual thread per query
+     */
+    @Bean(name = "statsQueryExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor virtualStatsQueryExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("stats-query-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+}
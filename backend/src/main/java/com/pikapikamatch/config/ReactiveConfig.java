@@ -0,0 +1,165 @@
+package com.pikapikamatch.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.pikapikamatch.service.cache.ResponseFormats;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.ReactiveMongoTransactionManager;
+import org.springframework.data.mongodb.config.EnableReactiveMongoAuditing;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.reactive.config.CorsRegistry;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuration of the reactive stack, active with the "reactive" profile.
+ * Provides the Netty server, the WebClients of the external APIs, reactive MongoDB
+ * auditing and transactions, the Smile encoding of {@link BinaryContentConfig} and the
+ * CORS rules of {@link CorsConfig} for WebFlux.
+ */
+@Configuration
+@Profile("reactive")
+@EnableReactiveMongoAuditing
+public class ReactiveConfig implements WebFluxConfigurer {
+
+    @Value("${external.apis.pokeapi.base-url:https://pokeapi.co/api/v2}")
+    private String pokeApiBaseUrl;
+
+    @Value("${external.apis.pokeapi.timeout:5000}")
+    private long pokeApiTimeout;
+
+    @Value("${external.apis.rickandmorty.base-url:https://rickandmortyapi.com/api}")
+    private String rickAndMortyBaseUrl;
+
+    @Value("${external.apis.rickandmorty.timeout:5000}")
+    private long rickAndMortyTimeout;
+
+    @Value("${external.apis.superhero.base-url:https://superheroapi.com/api}")
+    private String superheroBaseUrl;
+
+    @Value("${external.apis.superhero.timeout:5000}")
+    private long superheroTimeout;
+
+    @Value("${external.apis.superhero.api-key:}")
+    private String superheroApiKey;
+
+    @Value("${cors.allowed-origins}")
+    private String allowedOrigins;
+
+    @Value("${cors.allowed-methods}")
+    private String allowedMethods;
+
+    @Value("${cors.allowed-headers}")
+    private String allowedHeaders;
+
+    @Value("${cors.allow-credentials}")
+    private boolean allowCredentials;
+
+    /**
+     * Serves WebFlux on Netty's event loops. Tomcat is on the classpath for the
+     * servlet stack and would otherwise be picked first.
+     *
+     * @return NettyReactiveWebServerFactory instance
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public WebClient pokeApiWebClient(WebClient.Builder builder) {
+        return webClient(builder, pokeApiBaseUrl, pokeApiTimeout);
+    }
+
+    @Bean
+    public WebClient rickAndMortyWebClient(WebClient.Builder builder) {
+        return webClient(builder, rickAndMortyBaseUrl, rickAndMortyTimeout);
+    }
+
+    @Bean
+    public WebClient superheroWebClient(WebClient.Builder builder) {
+        String baseUrl = superheroBaseUrl;
+        if (superheroApiKey != null && !superheroApiKey.isEmpty()) {
+            baseUrl = baseUrl + "/" + superheroApiKey;
+        }
+
+        return webClient(builder, baseUrl, superheroTimeout);
+    }
+
+    /**
+     * Applies the application's Jackson settings to WebFlux's default Smile codecs.
+     * CBOR is only available on the servlet stack: a custom WebFlux codec would be
+     * preferred over JSON for {@code Accept: *}{@code /*}.
+     *
+     * @param builder Builder with the application's Jackson settings
+     * @return CodecCustomizer instance
+     */
+    @Bean
+    public CodecCustomizer smileCodecCustomizer(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper smileMapper = builder.factory(new SmileFactory()).build();
+        return configurer -> {
+            configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileMapper));
+            configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileMapper));
+        };
+    }
+
+    /**
+     * The representations versioned endpoints negotiate: JSON and Smile, as WebFlux's default codecs.
+     *
+     * @return ResponseFormats instance
+     */
+    @Bean
+    public ResponseFormats responseFormats() {
+        return new ResponseFormats(List.of(MediaType.APPLICATION_JSON, ResponseFormats.APPLICATION_SMILE));
+    }
+
+    /**
+     * Creates the operator running reactive pipelines in a MongoDB transaction.
+     * The reactive transaction manager is deliberately not exposed as a bean, so
+     * {@code @Transactional} keeps resolving to the imperative MongoTransactionManager.
+     *
+     * @param databaseFactory Reactive MongoDB database factory
+     * @return TransactionalOperator instance
+     */
+    @Bean
+    public TransactionalOperator reactiveTransactionalOperator(ReactiveMongoDatabaseFactory databaseFactory) {
+        return TransactionalOperator.create(new ReactiveMongoTransactionManager(databaseFactory));
+    }
+
+    @Override
+    public void addCorsMappings(CorsRegistry registry) {
+        registry.addMapping("/api/**")
+            .allowedOrigins(allowedOrigins.split(","))
+            .allowedMethods(allowedMethods.split(","))
+            .allowedHeaders(allowedHeaders.split(","))
+            .allowCredentials(allowCredentials)
+            .maxAge(3600);
+    }
+
+    private static WebClient webClient(WebClient.Builder builder, String baseUrl, long timeoutMillis) {
+        HttpClient httpClient = HttpClient.create()
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) timeoutMillis)
+            .responseTimeout(Duration.ofMillis(timeoutMillis));
+
+        return builder.clone()
+            .baseUrl(baseUrl)
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .build();
+    }
+}
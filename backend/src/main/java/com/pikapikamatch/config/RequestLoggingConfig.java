@@ -0,0 +1,23 @@
+package com.pikapikamatch.config;
+
+import com.pikapikamatch.filter.RequestSamplingInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers the sampling decision of request logs on the API endpoints.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class RequestLoggingConfig implements WebMvcConfigurer {
+
+    private final RequestSamplingInterceptor requestSamplingInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(requestSamplingInterceptor)
+            .addPathPatterns("/api/**");
+    }
+}
@@ -1,9 +1,12 @@
 package com.pikapikamatch.config;
 
+import com.pikapikamatch.util.ServerTiming;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.Duration;
@@ -11,38 +14,83 @@ import java.time.Duration;
 @Configuration
 public class RestTemplateConfig {
 
+    @Value("${external.apis.pokeapi.base-url:https://pokeapi.co/api/v2}")
+    private String pokeApiBaseUrl;
+
+    @Value("${external.apis.pokeapi.timeout:5000}")
+    private long pokeApiTimeout;
+
+    @Value("${external.apis.rickandmorty.base-url:https://rickandmortyapi.com/api}")
+    private String rickAndMortyBaseUrl;
+
+    @Value("${external.apis.rickandmorty.timeout:5000}")
+    private long rickAndMortyTimeout;
+
+    @Value("${external.apis.superhero.base-url:https://superheroapi.com/api}")
+    private String superheroBaseUrl;
+
+    @Value("${external.apis.superhero.timeout:5000}")
+    private long superheroTimeout;
+
     @Value("${external.apis.superhero.api-key:}")
     private String superheroApiKey;
 
     @Bean
-    public RestTemplate pokeApiRestTemplate(RestTemplateBuilder builder) {
-        return builder
-                .rootUri("https://pokeapi.co/api/v2")
-                .setConnectTimeout(Duration.ofSeconds(5))
-                .setReadTimeout(Duration.ofSeconds(5))
+    public RestTemplate pokeApiRestTemplate(ObjectProvider<RestTemplateBuilder> builderProvider) {
+        return builder(builderProvider)
+                .rootUri(pokeApiBaseUrl)
+                .setConnectTimeout(Duration.ofMillis(pokeApiTimeout))
+                .setReadTimeout(Duration.ofMillis(pokeApiTimeout))
+                .additionalInterceptors(timed("pokeapi"))
                 .build();
     }
 
     @Bean
-    public RestTemplate rickAndMortyRestTemplate(RestTemplateBuilder builder) {
-        return builder
-                .rootUri("https://rickandmortyapi.com/api")
-                .setConnectTimeout(Duration.ofSeconds(5))
-                .setReadTimeout(Duration.ofSeconds(5))
+    public RestTemplate rickAndMortyRestTemplate(ObjectProvider<RestTemplateBuilder> builderProvider) {
+        return builder(builderProvider)
+                .rootUri(rickAndMortyBaseUrl)
+                .setConnectTimeout(Duration.ofMillis(rickAndMortyTimeout))
+                .setReadTimeout(Duration.ofMillis(rickAndMortyTimeout))
+                .additionalInterceptors(timed("rickandmorty"))
                 .build();
     }
 
     @Bean
-    public RestTemplate superheroRestTemplate(RestTemplateBuilder builder) {
-        String baseUrl = "https://superheroapi.com/api";
+    public RestTemplate superheroRestTemplate(ObjectProvider<RestTemplateBuilder> builderProvider) {
+        String baseUrl = superheroBaseUrl;
         if (superheroApiKey != null && !superheroApiKey.isEmpty()) {
             baseUrl = baseUrl + "/" + superheroApiKey;
         }
         
-        return builder
+        return builder(builderProvider)
                 .rootUri(baseUrl)
-                .setConnectTimeout(Duration.ofSeconds(5))
-                .setReadTimeout(Duration.ofSeconds(5))
+                .setConnectTimeout(Duration.ofMillis(superheroTimeout))
+                .setReadTimeout(Duration.ofMillis(superheroTimeout))
+                .additionalInterceptors(timed("superhero"))
                 .build();
     }
+
+    /**
+     * The builder is only auto-configured for servlet applications; the "reactive"
+     * profile still creates these RestTemplates for the blocking services, so it
+     * falls back to a default builder there.
+     */
+    private static RestTemplateBuilder builder(ObjectProvider<RestTemplateBuilder> builderProvider) {
+        return builderProvider.getIfAvailable(RestTemplateBuilder::new);
+    }
+
+    /**
+     * Records every exchange of a client in the request's {@link ServerTiming},
+     * retries and follow-up calls included.
+     */
+    private static ClientHttpRequestInterceptor timed(String metric) {
+        return (request, body, execution) -> {
+            long start = System.nanoTime();
+            try {
+                return execution.execute(request, body);
+            } finally {
+                ServerTiming.record(metric, System.nanoTime() - start);
+            }
+        };
+    }
 }
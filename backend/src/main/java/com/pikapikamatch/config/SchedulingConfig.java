@@ -0,0 +1,13 @@
+package com.pikapikamatch.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling configuration.
+ * Enables @Scheduled background jobs such as leaderboard reconciliation.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,40 @@
+package com.pikapikamatch.config;
+
+import com.pikapikamatch.util.ServerTiming;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the time spent in MongoDB repositories as the "db" metric of
+ * {@link ServerTiming}. Only active with {@code server-timing.enabled}, so
+ * repositories are not instrumented otherwise.
+ */
+@Configuration
+@ConditionalOnProperty(name = "server-timing.enabled", havingValue = "true")
+public class ServerTimingConfig {
+
+    /**
+     * Adds an invocation listener to every repository factory. Static, as bean
+     * post-processors are created before the rest of the configuration.
+     *
+     * @return BeanPostProcessor instance
+     */
+    @Bean
+    public static BeanPostProcessor serverTimingRepositoryPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(
+                        invocation -> ServerTiming.record("db", invocation.getDuration(TimeUnit.NANOSECONDS))));
+                }
+                return bean;
+            }
+        };
+    }
+}
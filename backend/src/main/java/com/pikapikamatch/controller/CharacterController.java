@@ -3,8 +3,10 @@ package com.pikapikamatch.controller;
 import com.pikapikamatch.model.dto.Response;
 import com.pikapikamatch.model.dto.CharacterDTO;
 import com.pikapikamatch.model.dto.CharacterStatsDTO;
+import com.pikapikamatch.model.dto.CharacterSuggestionDTO;
 import com.pikapikamatch.model.dto.UpdateVoteCountDTO;
 import com.pikapikamatch.service.CharacterService;
+import com.pikapikamatch.service.search.CharacterSearchService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,28 +15,39 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 /**
  * REST controller for character-related endpoints.
  * Provides endpoints to fetch random characters and query Pikachu status.
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/characters")
 @Tag(name = "Characters", description = "Character management endpoints")
 @RequiredArgsConstructor
 @Slf4j
+@Validated
 public class CharacterController {
 
     private final CharacterService characterService;
+    private final CharacterSearchService characterSearchService;
 
     /**
      * Gets a random character from one of the external APIs (Pokemon, Rick and Morty, or Superhero).
@@ -71,6 +84,46 @@ public class CharacterController {
         return ResponseEntity.ok(Response.success(character));
     }
 
+    /**
+     * Suggests characters whose name starts with the given prefix.
+     *
+     * @param prefix The text typed so far
+     * @param limit The maximum number of suggestions (default: 10, min: 1, max: 20)
+     * @return ResponseEntity with Response containing list of CharacterSuggestionDTO
+     */
+    @Operation(
+        summary = "Search characters by name prefix",
+        description = "Returns the most voted characters whose name starts with the given prefix, " +
+                     "ignoring case and accents. Served from an in-memory index, suitable for search-as-you-type."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Suggestions retrieved successfully",
+            content = @Content(schema = @Schema(implementation = CharacterSuggestionDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Missing prefix or invalid limit (must be between 1 and 20)",
+            content = @Content(schema = @Schema(implementation = Response.class))
+        )
+    })
+    @GetMapping("/search")
+    public ResponseEntity<Response<List<CharacterSuggestionDTO>>> search(
+            @RequestParam 
+            @NotBlank(message = "Prefix must not be blank")
+            String prefix,
+            @RequestParam(defaultValue = "10") 
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = CharacterSearchService.MAX_LIMIT, message = "Limit must not exceed 20")
+            Integer limit) {
+        log.debug("GET /api/characters/search - Searching characters with prefix '{}'", prefix);
+        
+        List<CharacterSuggestionDTO> suggestions = characterSearchService.search(prefix, limit);
+        
+        return ResponseEntity.ok(Response.success(suggestions));
+    }
+
     /**
      * Gets a character's status by name from the database.
      * Returns voting statistics if the character has been voted on.
@@ -81,7 +134,8 @@ public class CharacterController {
     @Operation(
         summary = "Get character status by name",
         description = "Returns a character's voting statistics from the database by name. " +
-                     "Search is case-insensitive."
+                     "Search is case and accent insensitive, and falls back to the closest known name " +
+                     "when there is no exact match (e.g. 'Pikchu' finds Pikachu)."
     )
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -0,0 +1,138 @@
+package com.pikapikamatch.controller;
+
+import com.pikapikamatch.model.dto.CharacterStatsDTO;
+import com.pikapikamatch.model.dto.Response;
+import com.pikapikamatch.model.dto.VoteExportDTO;
+import com.pikapikamatch.service.export.ExportService;
+import com.pikapikamatch.util.ContentCodings;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * REST controller for bulk data exports.
+ * Streams votes and characters as NDJSON straight from a database cursor, gzipped
+ * for clients that accept it. The cursor is opened on the request thread, so query
+ * failures get the usual error response; rows are then written on an async thread,
+ * so long exports hold no request thread and do not count as slow requests for load shedding.
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/export")
+@Tag(name = "Export", description = "Bulk NDJSON export endpoints")
+@RequiredArgsConstructor
+@Slf4j
+public class ExportController {
+
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    private final ExportService exportService;
+
+    /**
+     * Exports the votes cast at or after a given time, oldest first, one JSON document per line.
+     *
+     * @param since The earliest vote timestamp to include (ISO date-time), or null for all votes
+     * @param acceptEncoding The Accept-Encoding header, to gzip the export
+     * @return ResponseEntity streaming the NDJSON body
+     */
+    @Operation(
+        summary = "Export votes",
+        description = "Streams votes as NDJSON (one VoteExportDTO per line), oldest first. " +
+                     "With 'since', only votes cast at or after that time are exported (inclusive, " +
+                     "deduplicate on voteId). Gzipped when the client sends Accept-Encoding: gzip."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Export streamed",
+            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                schema = @Schema(implementation = VoteExportDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid since parameter (must be an ISO date-time)",
+            content = @Content(schema = @Schema(implementation = Response.class))
+        )
+    })
+    @GetMapping("/votes")
+    public ResponseEntity<StreamingResponseBody> exportVotes(
+            @Parameter(description = "Earliest vote timestamp to include", example = "2024-01-31T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        log.info("GET /api/export/votes - Exporting votes since {}", since);
+
+        return ndjson("votes.ndjson", acceptEncoding, exportService.streamVotes(since));
+    }
+
+    /**
+     * Exports the characters with their vote statistics, one JSON document per line.
+     *
+     * @param since The earliest update time to include (ISO date-time), or null for all characters
+     * @param acceptEncoding The Accept-Encoding header, to gzip the export
+     * @return ResponseEntity streaming the NDJSON body
+     */
+    @Operation(
+        summary = "Export characters",
+        description = "Streams characters as NDJSON (one CharacterStatsDTO per line). " +
+                     "With 'since', only characters updated at or after that time are exported, least " +
+                     "recently updated first (inclusive, deduplicate on id). " +
+                     "Gzipped when the client sends Accept-Encoding: gzip."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Export streamed",
+            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                schema = @Schema(implementation = CharacterStatsDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid since parameter (must be an ISO date-time)",
+            content = @Content(schema = @Schema(implementation = Response.class))
+        )
+    })
+    @GetMapping("/characters")
+    public ResponseEntity<StreamingResponseBody> exportCharacters(
+            @Parameter(description = "Earliest character update time to include", example = "2024-01-31T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        log.info("GET /api/export/characters - Exporting characters since {}", since);
+
+        return ndjson("characters.ndjson", acceptEncoding, exportService.streamCharacters(since));
+    }
+
+    private ResponseEntity<StreamingResponseBody> ndjson(String filename, String acceptEncoding, Stream<?> rows) {
+        boolean gzip = ContentCodings.acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            // Not compressed again by Tomcat, which skips responses with a Content-Encoding
+            response.header(HttpHeaders.CONTENT_ENCODING, ContentCodings.GZIP);
+        }
+        return response.body(out -> exportService.writeNdjson(rows, gzip ? new GZIPOutputStream(out, GZIP_BUFFER_SIZE) : out));
+    }
+}
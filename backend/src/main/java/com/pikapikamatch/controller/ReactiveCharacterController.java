@@ -0,0 +1,108 @@
+package com.pikapikamatch.controller;
+
+import com.pikapikamatch.model.dto.CharacterDTO;
+import com.pikapikamatch.model.dto.CharacterStatsDTO;
+import com.pikapikamatch.model.dto.CharacterSuggestionDTO;
+import com.pikapikamatch.model.dto.Response;
+import com.pikapikamatch.model.dto.UpdateVoteCountDTO;
+import com.pikapikamatch.service.ReactiveCharacterService;
+import com.pikapikamatch.service.search.CharacterSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * WebFlux variant of {@link CharacterController}, active with the "reactive" profile.
+ * Same paths, status codes and response envelope; see {@link CharacterController}
+ * for the documented contract.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/characters")
+@Tag(name = "Characters", description = "Character management endpoints")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+public class ReactiveCharacterController {
+
+    private final ReactiveCharacterService characterService;
+    private final CharacterSearchService characterSearchService;
+
+    @Operation(summary = "Get random character")
+    @GetMapping("/random")
+    public Mono<ResponseEntity<Response<CharacterDTO>>> getRandomCharacter() {
+        log.info("GET /api/characters/random - Fetching random character");
+        
+        return characterService.getRandomCharacter()
+            .doOnNext(character -> log.info("Successfully retrieved random character: {} from {}",
+                character.getName(), character.getSource()))
+            .map(character -> ResponseEntity.ok(Response.success(character)));
+    }
+
+    @Operation(summary = "Search characters by name prefix")
+    @GetMapping("/search")
+    public Mono<ResponseEntity<Response<List<CharacterSuggestionDTO>>>> search(
+            @RequestParam 
+            @NotBlank(message = "Prefix must not be blank")
+            String prefix,
+            @RequestParam(defaultValue = "10") 
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = CharacterSearchService.MAX_LIMIT, message = "Limit must not exceed 20")
+            Integer limit) {
+        log.debug("GET /api/characters/search - Searching characters with prefix '{}'", prefix);
+        
+        // Served from the in-memory index, no I/O involved
+        return Mono.fromSupplier(() -> ResponseEntity.ok(Response.success(characterSearchService.search(prefix, limit))));
+    }
+
+    @Operation(summary = "Get character status by name")
+    @GetMapping("/{name}")
+    public Mono<ResponseEntity<Response<CharacterStatsDTO>>> getCharacterByName(@PathVariable String name) {
+        log.info("GET /api/characters/{} - Fetching character status", name);
+        
+        return characterService.getCharacterByName(name)
+            .doOnNext(stats -> log.info("Successfully retrieved character status: {} with {} votes",
+                stats.getName(), stats.getTotalVotes()))
+            .map(stats -> ResponseEntity.ok(Response.success(stats)));
+    }
+
+    @Operation(summary = "Add likes to character")
+    @PatchMapping("/{name}/like")
+    public Mono<ResponseEntity<Response<CharacterStatsDTO>>> addLikes(
+            @PathVariable String name,
+            @Valid @RequestBody UpdateVoteCountDTO request) {
+        log.info("PATCH /api/characters/{}/like - Adding {} likes to character", name, request.getAmount());
+        
+        return characterService.addLikesByName(name, request.getAmount())
+            .map(stats -> ResponseEntity.ok(Response.success("Likes added successfully", stats)));
+    }
+
+    @Operation(summary = "Add dislikes to character")
+    @PatchMapping("/{name}/dislike")
+    public Mono<ResponseEntity<Response<CharacterStatsDTO>>> addDislikes(
+            @PathVariable String name,
+            @Valid @RequestBody UpdateVoteCountDTO request) {
+        log.info("PATCH /api/characters/{}/dislike - Adding {} dislikes to character", name, request.getAmount());
+        
+        return characterService.addDislikesByName(name, request.getAmount())
+            .map(stats -> ResponseEntity.ok(Response.success("Dislikes added successfully", stats)));
+    }
+}
@@ -0,0 +1,300 @@
+package com.pikapikamatch.controller;
+
+import com.pikapikamatch.model.dto.CharacterStatsDTO;
+import com.pikapikamatch.model.dto.RankingPageDTO;
+import com.pikapikamatch.model.dto.Response;
+import com.pikapikamatch.model.dto.SourceStatsDTO;
+import com.pikapikamatch.model.dto.StatsSummaryDTO;
+import com.pikapikamatch.model.dto.TrendingCharacterDTO;
+import com.pikapikamatch.service.ReactiveSourceStatsService;
+import com.pikapikamatch.service.ReactiveStatsService;
+import com.pikapikamatch.service.cache.DataVersion;
+import com.pikapikamatch.service.cache.ResponseFormats;
+import com.pikapikamatch.service.trending.TrendingService;
+import com.pikapikamatch.util.ETags;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * WebFlux variant of {@link StatsController}, active with the "reactive" profile.
+ * Same paths, status codes, ETags and response envelope; see {@link StatsController}
+ * for the documented contract.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/stats")
+@Tag(name = "Statistics", description = "Statistics endpoints")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+public class ReactiveStatsController {
+
+    private final ReactiveStatsService statsService;
+    private final ReactiveSourceStatsService sourceStatsService;
+    private final TrendingService trendingService;
+    private final DataVersion dataVersion;
+    private final ResponseFormats responseFormats;
+
+    @Operation(summary = "Get most liked character")
+    @GetMapping("/most-liked")
+    public Mono<ResponseEntity<Response<CharacterStatsDTO>>> getMostLiked(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        String eTag = responseFormats.eTag(accept, ETags.strong("most-liked", "v" + dataVersion.current()));
+        
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            log.debug("GET /api/stats/most-liked - Not modified ({})", eTag);
+            return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build());
+        }
+        
+        log.info("GET /api/stats/most-liked - Fetching most liked character");
+        
+        return statsService.getMostLiked()
+            .map(mostLiked -> ResponseEntity.ok()
+                .eTag(eTag)
+                .body(Response.success(mostLiked)));
+    }
+
+    @Operation(summary = "Get most disliked character")
+    @GetMapping("/most-disliked")
+    public Mono<ResponseEntity<Response<CharacterStatsDTO>>> getMostDisliked(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        String eTag = responseFormats.eTag(accept, ETags.strong("most-disliked", "v" + dataVersion.current()));
+        
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            log.debug("GET /api/stats/most-disliked - Not modified ({})", eTag);
+            return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build());
+        }
+        
+        log.info("GET /api/stats/most-disliked - Fetching most disliked character");
+        
+        return statsService.getMostDisliked()
+            .map(mostDisliked -> ResponseEntity.ok()
+                .eTag(eTag)
+                .body(Response.success(mostDisliked)));
+    }
+
+    @Operation(summary = "Get top liked characters")
+    @GetMapping("/top-liked")
+    public Mono<ResponseEntity<Response<List<CharacterStatsDTO>>>> getTopLiked(
+            @RequestParam(defaultValue = "5") 
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 50, message = "Limit must not exceed 50")
+            Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        String eTag = responseFormats.eTag(accept, ETags.strong("top-liked", "v" + dataVersion.current(), "l" + limit));
+        
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            log.debug("GET /api/stats/top-liked - Not modified ({})", eTag);
+            return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build());
+        }
+        
+        log.info("GET /api/stats/top-liked - Fetching top {} liked characters", limit);
+        
+        return statsService.getTopLiked(limit)
+            .map(topLiked -> ResponseEntity.ok()
+                .eTag(eTag)
+                .body(Response.success(topLiked)));
+    }
+
+    @Operation(summary = "Get top disliked characters")
+    @GetMapping("/top-disliked")
+    public Mono<ResponseEntity<Response<List<CharacterStatsDTO>>>> getTopDisliked(
+            @RequestParam(defaultValue = "5") 
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 50, message = "Limit must not exceed 50")
+            Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        String eTag = responseFormats.eTag(accept, ETags.strong("top-disliked", "v" + dataVersion.current(), "l" + limit));
+        
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            log.debug("GET /api/stats/top-disliked - Not modified ({})", eTag);
+            return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build());
+        }
+        
+        log.info("GET /api/stats/top-disliked - Fetching top {} disliked characters", limit);
+        
+        return statsService.getTopDisliked(limit)
+            .map(topDisliked -> ResponseEntity.ok()
+                .eTag(eTag)
+                .body(Response.success(topDisliked)));
+    }
+
+    @Operation(summary = "Get top rated characters")
+    @GetMapping("/top-rated")
+    public Mono<ResponseEntity<Response<List<CharacterStatsDTO>>>> getTopRated(
+            @RequestParam(defaultValue = "5") 
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 50, message = "Limit must not exceed 50")
+            Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        String eTag = responseFormats.eTag(accept, ETags.strong("top-rated", "v" + dataVersion.current(), "l" + limit));
+        
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            log.debug("GET /api/stats/top-rated - Not modified ({})", eTag);
+            return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build());
+        }
+        
+        log.info("GET /api/stats/top-rated - Fetching top {} rated characters", limit);
+        
+        return statsService.getTopRated(limit)
+            .map(topRated -> ResponseEntity.ok()
+                .eTag(eTag)
+                .body(Response.success(topRated)));
+    }
+
+    @Operation(summary = "Get most controversial characters")
+    @GetMapping("/most-controversial")
+    public Mono<ResponseEntity<Response<List<CharacterStatsDTO>>>> getMostControversial(
+            @RequestParam(defaultValue = "5") 
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 50, message = "Limit must not exceed 50")
+            Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        String eTag = responseFormats.eTag(accept, ETags.strong("most-controversial", "v" + dataVersion.current(), "l" + limit));
+        
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            log.debug("GET /api/stats/most-controversial - Not modified ({})", eTag);
+            return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build());
+        }
+        
+        log.info("GET /api/stats/most-controversial - Fetching top {} controversial characters", limit);
+        
+        return statsService.getMostControversial(limit)
+            .map(controversial -> ResponseEntity.ok()
+                .eTag(eTag)
+                .body(Response.success(controversial)));
+    }
+
+    @Operation(summary = "Get trending characters")
+    @GetMapping("/trending")
+    public Mono<ResponseEntity<Response<List<TrendingCharacterDTO>>>> getTrending(
+            @RequestParam(defaultValue = "15m") String window,
+            @RequestParam(defaultValue = "10") 
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 50, message = "Limit must not exceed 50")
+            Integer limit) {
+        log.info("GET /api/stats/trending - Fetching top {} trending characters over {}", limit, window);
+        
+        // Served from memory, no I/O involved
+        return Mono.fromSupplier(() -> ResponseEntity.ok(Response.success(trendingService.getTrending(window, limit))));
+    }
+
+    @Operation(summary = "Get per-source statistics")
+    @GetMapping("/sources")
+    public Mono<ResponseEntity<Response<List<SourceStatsDTO>>>> getSourceStats(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        String eTag = responseFormats.eTag(accept, ETags.strong("sources", "v" + dataVersion.current()));
+        
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            log.debug("GET /api/stats/sources - Not modified ({})", eTag);
+            return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build());
+        }
+        
+        log.info("GET /api/stats/sources - Fetching per-source statistics");
+        
+        return sourceStatsService.getSourceStats()
+            .map(sources -> ResponseEntity.ok()
+                .eTag(eTag)
+                .body(Response.success(sources)));
+    }
+
+    @Operation(summary = "Get dashboard summary")
+    @GetMapping("/summary")
+    public Mono<ResponseEntity<Response<StatsSummaryDTO>>> getSummary(
+            @RequestParam(defaultValue = "5") 
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 50, message = "Limit must not exceed 50")
+            Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        String eTag = responseFormats.eTag(accept, ETags.strong("summary", "v" + dataVersion.current(), "l" + limit));
+        
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            log.debug("GET /api/stats/summary - Not modified ({})", eTag);
+            return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build());
+        }
+        
+        log.info("GET /api/stats/summary - Fetching dashboard summary with top {}", limit);
+        
+        return statsService.getSummary(limit)
+            .map(summary -> ResponseEntity.ok()
+                .eTag(eTag)
+                .body(Response.success(summary)));
+    }
+
+    @Operation(summary = "Get likes ranking page")
+    @GetMapping("/rankings/liked")
+    public Mono<ResponseEntity<Response<RankingPageDTO>>> getLikesRanking(
+            @RequestParam(defaultValue = "20") 
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 100, message = "Limit must not exceed 100")
+            Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        String eTag = responseFormats.eTag(accept, ETags.strong("liked", "v" + dataVersion.current(), "l" + limit,
+            cursor != null ? "c" + cursor : "first"));
+        
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            log.debug("GET /api/stats/rankings/liked - Not modified ({})", eTag);
+            return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build());
+        }
+        
+        log.info("GET /api/stats/rankings/liked - Fetching likes ranking page of {}", limit);
+        
+        return statsService.getLikesRanking(limit, cursor)
+            .map(page -> ResponseEntity.ok()
+                .eTag(eTag)
+                .body(Response.success(page)));
+    }
+
+    @Operation(summary = "Get dislikes ranking page")
+    @GetMapping("/rankings/disliked")
+    public Mono<ResponseEntity<Response<RankingPageDTO>>> getDislikesRanking(
+            @RequestParam(defaultValue = "20") 
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 100, message = "Limit must not exceed 100")
+            Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        String eTag = responseFormats.eTag(accept, ETags.strong("disliked", "v" + dataVersion.current(), "l" + limit,
+            cursor != null ? "c" + cursor : "first"));
+        
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            log.debug("GET /api/stats/rankings/disliked - Not modified ({})", eTag);
+            return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build());
+        }
+        
+        log.info("GET /api/stats/rankings/disliked - Fetching dislikes ranking page of {}", limit);
+        
+        return statsService.getDislikesRanking(limit, cursor)
+            .map(page -> ResponseEntity.ok()
+                .eTag(eTag)
+                .body(Response.success(page)));
+    }
+}
@@ -0,0 +1,109 @@
+package com.pikapikamatch.controller;
+
+import com.pikapikamatch.exception.ResourceNotFoundException;
+import com.pikapikamatch.model.dto.Response;
+import com.pikapikamatch.model.dto.VoteRequestDTO;
+import com.pikapikamatch.model.dto.VoteResponseDTO;
+import com.pikapikamatch.service.ReactiveVoteService;
+import com.pikapikamatch.service.cache.DataVersion;
+import com.pikapikamatch.service.cache.ResponseFormats;
+import com.pikapikamatch.util.ETags;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * WebFlux variant of {@link VoteController}, active with the "reactive" profile.
+ * Same paths, status codes, ETags and response envelope; see {@link VoteController}
+ * for the documented contract.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/votes")
+@Tag(name = "Votes", description = "Vote management endpoints")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+public class ReactiveVoteController {
+
+    private final ReactiveVoteService voteService;
+    private final DataVersion dataVersion;
+    private final ResponseFormats responseFormats;
+
+    @Operation(summary = "Create a vote")
+    @PostMapping
+    public Mono<ResponseEntity<Response<VoteResponseDTO>>> createVote(
+            @Valid @RequestBody VoteRequestDTO request) {
+        log.info("POST /api/votes - Creating vote for character: {} ({})", 
+            request.getCharacterName(), request.getVoteType());
+        
+        return voteService.createVote(request)
+            .map(response -> ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(Response.success("Vote created successfully", response)));
+    }
+
+    @Operation(summary = "Get recent votes")
+    @GetMapping("/recent")
+    public Mono<ResponseEntity<Response<List<VoteResponseDTO>>>> getRecentVotes(
+            @RequestParam(defaultValue = "10") 
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 50, message = "Limit must not exceed 50")
+            Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        String eTag = responseFormats.eTag(accept, ETags.strong("recent", "v" + dataVersion.current(), "l" + limit));
+        
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            log.debug("GET /api/votes/recent - Not modified ({})", eTag);
+            return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build());
+        }
+        
+        log.info("GET /api/votes/recent - Fetching {} recent votes", limit);
+        
+        return voteService.getRecentVotes(limit)
+            .map(recentVotes -> ResponseEntity.ok()
+                .eTag(eTag)
+                .body(Response.success(recentVotes)));
+    }
+
+    @Operation(summary = "Get last evaluated character")
+    @GetMapping("/last")
+    public Mono<ResponseEntity<Response<VoteResponseDTO>>> getLastEvaluated(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        String eTag = responseFormats.eTag(accept, ETags.strong("last", "v" + dataVersion.current()));
+        
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            log.debug("GET /api/votes/last - Not modified ({})", eTag);
+            return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build());
+        }
+        
+        log.info("GET /api/votes/last - Fetching last evaluated character");
+        
+        return voteService.getLastEvaluated()
+            .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("No evaluations have been made yet")))
+            .map(lastVote -> ResponseEntity.ok()
+                .eTag(eTag)
+                .body(Response.success(lastVote)));
+    }
+}
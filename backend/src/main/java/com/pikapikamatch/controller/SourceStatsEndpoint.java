@@ -0,0 +1,54 @@
+package com.pikapikamatch.controller;
+
+import com.pikapikamatch.model.dto.SourceStatsDTO;
+import com.pikapikamatch.service.SourceStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint for maintaining the per-source statistics.
+ * Rebuilding scans every character, so it is an operator action rather than part of
+ * the public API: the endpoint is not exposed over HTTP unless "sourcestats" is added
+ * to management.endpoints.web.exposure.include, which should only be done on a
+ * management port that is not reachable by clients.
+ */
+@Component
+@Endpoint(id = "sourcestats")
+@Slf4j
+@RequiredArgsConstructor
+public class SourceStatsEndpoint {
+
+    private final SourceStatsService sourceStatsService;
+
+    /**
+     * Gets the stored per-source statistics.
+     *
+     * @return List of SourceStatsDTO sorted by source name
+     */
+    @ReadOperation
+    public List<SourceStatsDTO> sourceStats() {
+        return sourceStatsService.getSourceStats();
+    }
+
+    /**
+     * Recomputes the per-source statistics from the characters collection.
+     *
+     * @return List of rebuilt SourceStatsDTO sorted by source name
+     */
+    @WriteOperation
+    public List<SourceStatsDTO> rebuild() {
+        log.info("Actuator sourcestats - Rebuilding per-source statistics");
+
+        List<SourceStatsDTO> sources = sourceStatsService.rebuild();
+
+        log.info("Successfully rebuilt statistics for {} sources", sources.size());
+
+        return sources;
+    }
+}
@@ -2,20 +2,37 @@ package com.pikapikamatch.controller;
 
 import com.pikapikamatch.model.dto.Response;
 import com.pikapikamatch.model.dto.CharacterStatsDTO;
+import com.pikapikamatch.model.dto.RankingPageDTO;
+import com.pikapikamatch.model.dto.StatsSummaryDTO;
+import com.pikapikamatch.model.dto.TrendingCharacterDTO;
+import com.pikapikamatch.model.dto.SourceStatsDTO;
+import com.pikapikamatch.service.SourceStatsService;
 import com.pikapikamatch.service.StatsService;
+import com.pikapikamatch.service.StatsSummaryService;
+import com.pikapikamatch.service.cache.DataVersion;
+import com.pikapikamatch.service.cache.ResponseFormats;
+import com.pikapikamatch.service.cache.ResponseBytesCache;
+import com.pikapikamatch.service.cache.StatsCache;
+import com.pikapikamatch.service.trending.TrendingService;
+import com.pikapikamatch.util.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -25,8 +42,11 @@ import java.util.List;
 /**
  * REST controller for statistics-related endpoints.
  * Provides endpoints to query character rankings and statistics based on likes and dislikes.
+ * Responses are served through {@link StatsCache}; the hottest ones are also kept
+ * encoded in {@link ResponseBytesCache} and written as is.
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/stats")
 @Tag(name = "Statistics", description = "Statistics endpoints")
 @RequiredArgsConstructor
@@ -34,12 +54,21 @@ import java.util.List;
 @Validated
 public class StatsController {
 
+    private final StatsCache statsCache;
     private final StatsService statsService;
+    private final StatsSummaryService statsSummaryService;
+    private final SourceStatsService sourceStatsService;
+    private final TrendingService trendingService;
+    private final DataVersion dataVersion;
+    private final ResponseFormats responseFormats;
+    private final ResponseBytesCache responseBytesCache;
 
     /**
      * Gets the character with the most likes.
      *
-     * @return ResponseEntity with Response containing CharacterStatsDTO
+     * @param ifNoneMatch The ETag(s) the client already holds, if any
+     * @param request The request, for the negotiated encoding of the cached body
+     * @return ResponseEntity with the encoded Response containing CharacterStatsDTO, or 304 Not Modified
      */
     @Operation(
         summary = "Get most liked character",
@@ -52,6 +81,10 @@ public class StatsController {
             description = "Most liked character retrieved successfully",
             content = @Content(schema = @Schema(implementation = CharacterStatsDTO.class))
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Not modified since the version identified by If-None-Match"
+        ),
         @ApiResponse(
             responseCode = "404",
             description = "No characters available in the database",
@@ -59,21 +92,28 @@ public class StatsController {
         )
     })
     @GetMapping("/most-liked")
-    public ResponseEntity<Response<CharacterStatsDTO>> getMostLiked() {
-        log.info("GET /api/stats/most-liked - Fetching most liked character");
+    public ResponseEntity<byte[]> getMostLiked(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            HttpServletRequest request) {
+        String eTag = responseFormats.eTag(request.getHeader(HttpHeaders.ACCEPT),
+            ETags.strong("most-liked", "v" + dataVersion.current()));
         
-        CharacterStatsDTO mostLiked = statsService.getMostLiked();
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            log.debug("GET /api/stats/most-liked - Not modified ({})", eTag);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
         
-        log.info("Successfully retrieved most liked character: {} with {} likes", 
-            mostLiked.getName(), mostLiked.getTotalLikes());
+        log.info("GET /api/stats/most-liked - Fetching most liked character");
         
-        return ResponseEntity.ok(Response.success(mostLiked));
+        return responseBytesCache.ok(request, eTag, () -> Response.success(statsCache.getMostLiked()));
     }
 
     /**
      * Gets the character with the most dislikes.
      *
-     * @return ResponseEntity with Response containing CharacterStatsDTO
+     * @param ifNoneMatch The ETag(s) the client already holds, if any
+     * @param request The request, for the negotiated encoding of the cached body
+     * @return ResponseEntity with the encoded Response containing CharacterStatsDTO, or 304 Not Modified
      */
     @Operation(
         summary = "Get most disliked character",
@@ -86,6 +126,10 @@ public class StatsController {
             description = "Most disliked character retrieved successfully",
             content = @Content(schema = @Schema(implementation = CharacterStatsDTO.class))
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Not modified since the version identified by If-None-Match"
+        ),
         @ApiResponse(
             responseCode = "404",
             description = "No characters available in the database",
@@ -93,22 +137,29 @@ public class StatsController {
         )
     })
     @GetMapping("/most-disliked")
-    public ResponseEntity<Response<CharacterStatsDTO>> getMostDisliked() {
-        log.info("GET /api/stats/most-disliked - Fetching most disliked character");
+    public ResponseEntity<byte[]> getMostDisliked(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            HttpServletRequest request) {
+        String eTag = responseFormats.eTag(request.getHeader(HttpHeaders.ACCEPT),
+            ETags.strong("most-disliked", "v" + dataVersion.current()));
         
-        CharacterStatsDTO mostDisliked = statsService.getMostDisliked();
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            log.debug("GET /api/stats/most-disliked - Not modified ({})", eTag);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
         
-        log.info("Successfully retrieved most disliked character: {} with {} dislikes", 
-            mostDisliked.getName(), mostDisliked.getTotalDislikes());
+        log.info("GET /api/stats/most-disliked - Fetching most disliked character");
         
-        return ResponseEntity.ok(Response.success(mostDisliked));
+        return responseBytesCache.ok(request, eTag, () -> Response.success(statsCache.getMostDisliked()));
     }
 
     /**
      * Gets the top N characters with the most likes.
      *
      * @param limit The maximum number of characters to return (default: 5, min: 1, max: 50)
-     * @return ResponseEntity with Response containing list of CharacterStatsDTO
+     * @param ifNoneMatch The ETag(s) the client already holds, if any
+     * @param request The request, for the negotiated encoding of the cached body
+     * @return ResponseEntity with the encoded Response containing list of CharacterStatsDTO, or 304 Not Modified
      */
     @Operation(
         summary = "Get top liked characters",
@@ -121,6 +172,10 @@ public class StatsController {
             description = "Top liked characters retrieved successfully",
             content = @Content(schema = @Schema(implementation = CharacterStatsDTO.class))
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Not modified since the version identified by If-None-Match"
+        ),
         @ApiResponse(
             responseCode = "400",
             description = "Invalid limit parameter (must be between 1 and 50)",
@@ -128,25 +183,33 @@ public class StatsController {
         )
     })
     @GetMapping("/top-liked")
-    public ResponseEntity<Response<List<CharacterStatsDTO>>> getTopLiked(
+    public ResponseEntity<byte[]> getTopLiked(
             @RequestParam(defaultValue = "5") 
             @Min(value = 1, message = "Limit must be at least 1")
             @Max(value = 50, message = "Limit must not exceed 50")
-            Integer limit) {
-        log.info("GET /api/stats/top-liked - Fetching top {} liked characters", limit);
+            Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            HttpServletRequest request) {
+        String eTag = responseFormats.eTag(request.getHeader(HttpHeaders.ACCEPT),
+            ETags.strong("top-liked", "v" + dataVersion.current(), "l" + limit));
         
-        List<CharacterStatsDTO> topLiked = statsService.getTopLiked(limit);
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            log.debug("GET /api/stats/top-liked - Not modified ({})", eTag);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
         
-        log.info("Successfully retrieved {} top liked characters", topLiked.size());
+        log.info("GET /api/stats/top-liked - Fetching top {} liked characters", limit);
         
-        return ResponseEntity.ok(Response.success(topLiked));
+        return responseBytesCache.ok(request, eTag, () -> Response.success(statsCache.getTopLiked(limit)));
     }
 
     /**
      * Gets the top N characters with the most dislikes.
      *
      * @param limit The maximum number of characters to return (default: 5, min: 1, max: 50)
-     * @return ResponseEntity with Response containing list of CharacterStatsDTO
+     * @param ifNoneMatch The ETag(s) the client already holds, if any
+     * @param request The request, for the negotiated encoding of the cached body
+     * @return ResponseEntity with the encoded Response containing list of CharacterStatsDTO, or 304 Not Modified
      */
     @Operation(
         summary = "Get top disliked characters",
@@ -159,6 +222,10 @@ public class StatsController {
             description = "Top disliked characters retrieved successfully",
             content = @Content(schema = @Schema(implementation = CharacterStatsDTO.class))
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Not modified since the version identified by If-None-Match"
+        ),
         @ApiResponse(
             responseCode = "400",
             description = "Invalid limit parameter (must be between 1 and 50)",
@@ -166,17 +233,380 @@ public class StatsController {
         )
     })
     @GetMapping("/top-disliked")
-    public ResponseEntity<Response<List<CharacterStatsDTO>>> getTopDisliked(
+    public ResponseEntity<byte[]> getTopDisliked(
             @RequestParam(defaultValue = "5") 
             @Min(value = 1, message = "Limit must be at least 1")
             @Max(value = 50, message = "Limit must not exceed 50")
-            Integer limit) {
+            Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            HttpServletRequest request) {
+        String eTag = responseFormats.eTag(request.getHeader(HttpHeaders.ACCEPT),
+            ETags.strong("top-disliked", "v" + dataVersion.current(), "l" + limit));
+        
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            log.debug("GET /api/stats/top-disliked - Not modified ({})", eTag);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        
         log.info("GET /api/stats/top-disliked - Fetching top {} disliked characters", limit);
         
-        List<CharacterStatsDTO> topDisliked = statsService.getTopDisliked(limit);
+        return responseBytesCache.ok(request, eTag, () -> Response.success(statsCache.getTopDisliked(limit)));
+    }
+
+    /**
+     * Gets the top N characters by rating score.
+     *
+     * @param limit The maximum number of characters to return (default: 5, min: 1, max: 50)
+     * @param ifNoneMatch The ETag(s) the client already holds, if any
+     * @param request The request, for the negotiated encoding of the cached body
+     * @return ResponseEntity with the encoded Response containing list of CharacterStatsDTO, or 304 Not Modified
+     */
+    @Operation(
+        summary = "Get top rated characters",
+        description = "Returns the top N characters sorted by rating score: the lower bound of the " +
+                     "95% Wilson confidence interval of their like ratio. Characters without likes are excluded."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Top rated characters retrieved successfully",
+            content = @Content(schema = @Schema(implementation = CharacterStatsDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Not modified since the version identified by If-None-Match"
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid limit parameter (must be between 1 and 50)",
+            content = @Content(schema = @Schema(implementation = Response.class))
+        )
+    })
+    @GetMapping("/top-rated")
+    public ResponseEntity<byte[]> getTopRated(
+            @RequestParam(defaultValue = "5") 
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 50, message = "Limit must not exceed 50")
+            Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            HttpServletRequest request) {
+        String eTag = responseFormats.eTag(request.getHeader(HttpHeaders.ACCEPT),
+            ETags.strong("top-rated", "v" + dataVersion.current(), "l" + limit));
+        
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            log.debug("GET /api/stats/top-rated - Not modified ({})", eTag);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        
+        log.info("GET /api/stats/top-rated - Fetching top {} rated characters", limit);
+        
+        return responseBytesCache.ok(request, eTag, () -> Response.success(statsCache.getTopRated(limit)));
+    }
+
+    /**
+     * Gets the top N most controversial characters.
+     *
+     * @param limit The maximum number of characters to return (default: 5, min: 1, max: 50)
+     * @param ifNoneMatch The ETag(s) the client already holds, if any
+     * @param request The request, for the negotiated encoding of the cached body
+     * @return ResponseEntity with the encoded Response containing list of CharacterStatsDTO, or 304 Not Modified
+     */
+    @Operation(
+        summary = "Get most controversial characters",
+        description = "Returns the top N characters sorted by controversy score: the lower bound of the " +
+                     "95% Wilson confidence interval of their minority vote share. Characters with one-sided votes are excluded."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Most controversial characters retrieved successfully",
+            content = @Content(schema = @Schema(implementation = CharacterStatsDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Not modified since the version identified by If-None-Match"
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid limit parameter (must be between 1 and 50)",
+            content = @Content(schema = @Schema(implementation = Response.class))
+        )
+    })
+    @GetMapping("/most-controversial")
+    public ResponseEntity<byte[]> getMostControversial(
+            @RequestParam(defaultValue = "5") 
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 50, message = "Limit must not exceed 50")
+            Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            HttpServletRequest request) {
+        String eTag = responseFormats.eTag(request.getHeader(HttpHeaders.ACCEPT),
+            ETags.strong("most-controversial", "v" + dataVersion.current(), "l" + limit));
+        
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            log.debug("GET /api/stats/most-controversial - Not modified ({})", eTag);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        
+        log.info("GET /api/stats/most-controversial - Fetching top {} controversial characters", limit);
+        
+        return responseBytesCache.ok(request, eTag, () -> Response.success(statsCache.getMostControversial(limit)));
+    }
+
+    /**
+     * Gets the characters receiving the most votes right now.
+     *
+     * @param window The decay window, e.g. "15m" (default: 15m)
+     * @param limit The maximum number of characters to return (default: 10, min: 1, max: 50)
+     * @return ResponseEntity with Response containing list of TrendingCharacterDTO
+     */
+    @Operation(
+        summary = "Get trending characters",
+        description = "Returns the characters with the highest time-decayed vote count. Each vote weighs 1 when cast " +
+                     "and decays exponentially with the given window as time constant. Served from memory without " +
+                     "any database query; configured windows are 5m, 15m, 1h and 24h."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Trending characters retrieved successfully",
+            content = @Content(schema = @Schema(implementation = TrendingCharacterDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid or unsupported window, or invalid limit (must be between 1 and 50)",
+            content = @Content(schema = @Schema(implementation = Response.class))
+        )
+    })
+    @GetMapping("/trending")
+    public ResponseEntity<Response<List<TrendingCharacterDTO>>> getTrending(
+            @RequestParam(defaultValue = "15m") String window,
+            @RequestParam(defaultValue = "10") 
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 50, message = "Limit must not exceed 50")
+            Integer limit) {
+        log.info("GET /api/stats/trending - Fetching top {} trending characters over {}", limit, window);
+        
+        List<TrendingCharacterDTO> trending = trendingService.getTrending(window, limit);
+        
+        log.info("Successfully retrieved {} trending characters", trending.size());
+        
+        return ResponseEntity.ok(Response.success(trending));
+    }
+
+    /**
+     * Gets the aggregate statistics of every character source.
+     *
+     * @param ifNoneMatch The ETag(s) the client already holds, if any
+     * @param accept The Accept header, for the ETag of the negotiated representation
+     * @return ResponseEntity with Response containing list of SourceStatsDTO, or 304 Not Modified
+     */
+    @Operation(
+        summary = "Get per-source statistics",
+        description = "Returns character count, likes, dislikes, total votes and percentages for each source. " +
+                     "Totals are maintained incrementally, so this reads one document per source."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Source statistics retrieved successfully",
+            content = @Content(schema = @Schema(implementation = SourceStatsDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Not modified since the version identified by If-None-Match"
+        )
+    })
+    @GetMapping("/sources")
+    public ResponseEntity<Response<List<SourceStatsDTO>>> getSourceStats(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        String eTag = responseFormats.eTag(accept, ETags.strong("sources", "v" + dataVersion.current()));
+        
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            log.debug("GET /api/stats/sources - Not modified ({})", eTag);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        
+        log.info("GET /api/stats/sources - Fetching per-source statistics");
+        
+        List<SourceStatsDTO> sources = sourceStatsService.getSourceStats();
+        
+        log.info("Successfully retrieved statistics for {} sources", sources.size());
+        
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .body(Response.success(sources));
+    }
+
+    /**
+     * Gets the combined dashboard statistics in a single response.
+     * The response carries a strong ETag derived from the global data version, so
+     * clients revalidating with If-None-Match get a 304 without any query being run.
+     *
+     * @param limit The maximum number of characters in each ranking (default: 5, min: 1, max: 50)
+     * @param ifNoneMatch The ETag(s) the client already holds, if any
+     * @param accept The Accept header, for the ETag of the negotiated representation
+     * @return ResponseEntity with Response containing StatsSummaryDTO, or 304 Not Modified
+     */
+    @Operation(
+        summary = "Get dashboard summary",
+        description = "Returns most liked, most disliked, top liked, top disliked and the last vote " +
+                     "in one payload. Supports conditional requests via ETag / If-None-Match."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Summary retrieved successfully",
+            content = @Content(schema = @Schema(implementation = StatsSummaryDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Summary has not changed since the version identified by If-None-Match"
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid limit parameter (must be between 1 and 50)",
+            content = @Content(schema = @Schema(implementation = Response.class))
+        )
+    })
+    @GetMapping("/summary")
+    public ResponseEntity<Response<StatsSummaryDTO>> getSummary(
+            @RequestParam(defaultValue = "5") 
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 50, message = "Limit must not exceed 50")
+            Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        String eTag = responseFormats.eTag(accept, ETags.strong("summary", "v" + dataVersion.current(), "l" + limit));
+        
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            log.debug("GET /api/stats/summary - Not modified ({})", eTag);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        
+        log.info("GET /api/stats/summary - Fetching dashboard summary with top {}", limit);
+        
+        StatsSummaryDTO summary = statsSummaryService.getSummary(limit);
+        
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .body(Response.success(summary));
+    }
+
+    /**
+     * Gets one page of the full likes ranking.
+     *
+     * @param limit The page size (default: 20, min: 1, max: 100)
+     * @param cursor The continuation token returned by the previous page, if any
+     * @param ifNoneMatch The ETag(s) the client already holds, if any
+     * @param accept The Accept header, for the ETag of the negotiated representation
+     * @return ResponseEntity with Response containing RankingPageDTO, or 304 Not Modified
+     */
+    @Operation(
+        summary = "Get likes ranking page",
+        description = "Returns one page of all characters sorted by likes (descending). " +
+                     "Pass the nextCursor of a page to fetch the following one; deep pages cost the same as the first."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Ranking page retrieved successfully",
+            content = @Content(schema = @Schema(implementation = RankingPageDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Not modified since the version identified by If-None-Match"
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid limit (must be between 1 and 100) or invalid cursor",
+            content = @Content(schema = @Schema(implementation = Response.class))
+        )
+    })
+    @GetMapping("/rankings/liked")
+    public ResponseEntity<Response<RankingPageDTO>> getLikesRanking(
+            @RequestParam(defaultValue = "20") 
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 100, message = "Limit must not exceed 100")
+            Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        String eTag = responseFormats.eTag(accept, ETags.strong("liked", "v" + dataVersion.current(), "l" + limit,
+            cursor != null ? "c" + cursor : "first"));
+        
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            log.debug("GET /api/stats/rankings/liked - Not modified ({})", eTag);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        
+        log.info("GET /api/stats/rankings/liked - Fetching likes ranking page of {}", limit);
+        
+        RankingPageDTO page = statsService.getLikesRanking(limit, cursor);
+        
+        log.info("Successfully retrieved {} characters of likes ranking", page.getItems().size());
+        
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .body(Response.success(page));
+    }
+
+    /**
+     * Gets one page of the full dislikes ranking.
+     *
+     * @param limit The page size (default: 20, min: 1, max: 100)
+     * @param cursor The continuation token returned by the previous page, if any
+     * @param ifNoneMatch The ETag(s) the client already holds, if any
+     * @param accept The Accept header, for the ETag of the negotiated representation
+     * @return ResponseEntity with Response containing RankingPageDTO, or 304 Not Modified
+     */
+    @Operation(
+        summary = "Get dislikes ranking page",
+        description = "Returns one page of all characters sorted by dislikes (descending). " +
+                     "Pass the nextCursor of a page to fetch the following one; deep pages cost the same as the first."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Ranking page retrieved successfully",
+            content = @Content(schema = @Schema(implementation = RankingPageDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Not modified since the version identified by If-None-Match"
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid limit (must be between 1 and 100) or invalid cursor",
+            content = @Content(schema = @Schema(implementation = Response.class))
+        )
+    })
+    @GetMapping("/rankings/disliked")
+    public ResponseEntity<Response<RankingPageDTO>> getDislikesRanking(
+            @RequestParam(defaultValue = "20") 
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 100, message = "Limit must not exceed 100")
+            Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        String eTag = responseFormats.eTag(accept, ETags.strong("disliked", "v" + dataVersion.current(), "l" + limit,
+            cursor != null ? "c" + cursor : "first"));
+        
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            log.debug("GET /api/stats/rankings/disliked - Not modified ({})", eTag);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        
+        log.info("GET /api/stats/rankings/disliked - Fetching dislikes ranking page of {}", limit);
+        
+        RankingPageDTO page = statsService.getDislikesRanking(limit, cursor);
         
-        log.info("Successfully retrieved {} top disliked characters", topDisliked.size());
+        log.info("Successfully retrieved {} characters of dislikes ranking", page.getItems().size());
         
-        return ResponseEntity.ok(Response.success(topDisliked));
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .body(Response.success(page));
     }
 }
@@ -0,0 +1,71 @@
+package com.pikapikamatch.controller;
+
+import com.pikapikamatch.model.dto.LeaderboardDeltaDTO;
+import com.pikapikamatch.model.dto.Response;
+import com.pikapikamatch.model.dto.VoteResponseDTO;
+import com.pikapikamatch.service.stream.EventStreamService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST controller for live event streaming.
+ * Provides a Server-Sent Events endpoint that pushes new votes and leaderboard changes.
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/stream")
+@Tag(name = "Stream", description = "Live event streaming endpoints")
+@RequiredArgsConstructor
+@Slf4j
+public class StreamController {
+
+    private final EventStreamService eventStreamService;
+
+    /**
+     * Opens a Server-Sent Events stream.
+     * Emits "vote" events with a VoteResponseDTO payload for every new vote and
+     * "leaderboard" events with a LeaderboardDeltaDTO payload when a ranked character changes.
+     *
+     * @return SseEmitter bound to the client connection
+     */
+    @Operation(
+        summary = "Subscribe to live events",
+        description = "Opens a text/event-stream connection. Emits 'vote' events (VoteResponseDTO) for every new vote " +
+                     "and 'leaderboard' events (LeaderboardDeltaDTO) when a character in the top rankings changes."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Stream opened",
+            content = {
+                @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                    schema = @Schema(implementation = VoteResponseDTO.class)),
+                @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                    schema = @Schema(implementation = LeaderboardDeltaDTO.class))
+            }
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Too many open streams",
+            content = @Content(schema = @Schema(implementation = Response.class))
+        )
+    })
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        log.info("GET /api/stream - Opening event stream");
+        
+        return eventStreamService.subscribe();
+    }
+}
@@ -5,6 +5,9 @@ import com.pikapikamatch.model.dto.Response;
 import com.pikapikamatch.model.dto.VoteRequestDTO;
 import com.pikapikamatch.model.dto.VoteResponseDTO;
 import com.pikapikamatch.service.VoteService;
+import com.pikapikamatch.service.cache.DataVersion;
+import com.pikapikamatch.service.cache.ResponseFormats;
+import com.pikapikamatch.util.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -16,6 +19,8 @@ import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -28,6 +33,7 @@ import java.util.List;
  * Provides endpoints to create votes, query recent votes, and get the last evaluated character.
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/votes")
 @Tag(name = "Votes", description = "Vote management endpoints")
 @RequiredArgsConstructor
@@ -36,6 +42,8 @@ import java.util.List;
 public class VoteController {
 
     private final VoteService voteService;
+    private final DataVersion dataVersion;
+    private final ResponseFormats responseFormats;
 
     /**
      * Creates a new vote for a character.
@@ -88,7 +96,9 @@ public class VoteController {
      * Gets the most recent N votes with complete character information.
      *
      * @param limit The maximum number of votes to return (default: 10, min: 1, max: 50)
-     * @return ResponseEntity with Response containing list of VoteResponseDTO
+     * @param ifNoneMatch The ETag(s) the client already holds, if any
+     * @param accept The Accept header, for the ETag of the negotiated representation
+     * @return ResponseEntity with Response containing list of VoteResponseDTO, or 304 Not Modified
      */
     @Operation(
         summary = "Get recent votes",
@@ -101,6 +111,10 @@ public class VoteController {
             description = "Recent votes retrieved successfully",
             content = @Content(schema = @Schema(implementation = VoteResponseDTO.class))
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Not modified since the version identified by If-None-Match"
+        ),
         @ApiResponse(
             responseCode = "400",
             description = "Invalid limit parameter (must be between 1 and 50)",
@@ -112,20 +126,33 @@ public class VoteController {
             @RequestParam(defaultValue = "10") 
             @Min(value = 1, message = "Limit must be at least 1")
             @Max(value = 50, message = "Limit must not exceed 50")
-            Integer limit) {
+            Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        String eTag = responseFormats.eTag(accept, ETags.strong("recent", "v" + dataVersion.current(), "l" + limit));
+        
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            log.debug("GET /api/votes/recent - Not modified ({})", eTag);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        
         log.info("GET /api/votes/recent - Fetching {} recent votes", limit);
         
         List<VoteResponseDTO> recentVotes = voteService.getRecentVotes(limit);
         
         log.info("Successfully retrieved {} recent votes", recentVotes.size());
         
-        return ResponseEntity.ok(Response.success(recentVotes));
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .body(Response.success(recentVotes));
     }
 
     /**
      * Gets the last evaluated character (most recent vote).
      *
-     * @return ResponseEntity with Response containing VoteResponseDTO
+     * @param ifNoneMatch The ETag(s) the client already holds, if any
+     * @param accept The Accept header, for the ETag of the negotiated representation
+     * @return ResponseEntity with Response containing VoteResponseDTO, or 304 Not Modified
      */
     @Operation(
         summary = "Get last evaluated character",
@@ -138,6 +165,10 @@ public class VoteController {
             description = "Last evaluated character retrieved successfully",
             content = @Content(schema = @Schema(implementation = VoteResponseDTO.class))
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Not modified since the version identified by If-None-Match"
+        ),
         @ApiResponse(
             responseCode = "404",
             description = "No evaluations have been made yet",
@@ -145,7 +176,16 @@ public class VoteController {
         )
     })
     @GetMapping("/last")
-    public ResponseEntity<Response<VoteResponseDTO>> getLastEvaluated() {
+    public ResponseEntity<Response<VoteResponseDTO>> getLastEvaluated(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        String eTag = responseFormats.eTag(accept, ETags.strong("last", "v" + dataVersion.current()));
+        
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            log.debug("GET /api/votes/last - Not modified ({})", eTag);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        
         log.info("GET /api/votes/last - Fetching last evaluated character");
         
         VoteResponseDTO lastVote = voteService.getLastEvaluated();
@@ -158,6 +198,8 @@ public class VoteController {
         log.info("Successfully retrieved last evaluated character: {}", 
             lastVote.getCharacterName());
         
-        return ResponseEntity.ok(Response.success(lastVote));
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .body(Response.success(lastVote));
     }
 }
@@ -0,0 +1,20 @@
+package com.pikapikamatch.event;
+
+import com.pikapikamatch.model.dto.CharacterStatsDTO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Application event published whenever a character's vote counters change.
+ * Carries an immutable-by-convention snapshot of the character statistics
+ * taken right after the counters were saved.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CharacterUpdatedEvent {
+
+    /**
+     * Snapshot of the character statistics after the update
+     */
+    private final CharacterStatsDTO character;
+}
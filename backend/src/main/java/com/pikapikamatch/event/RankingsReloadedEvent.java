@@ -0,0 +1,10 @@
+package com.pikapikamatch.event;
+
+/**
+ * Application event published when a reconcile finds data changed outside this
+ * instance, e.g. votes served by another replica. Unlike {@link CharacterUpdatedEvent}
+ * there is no single character to patch in: every cached ranking must be dropped
+ * and every ETag built from the current data version invalidated.
+ */
+public class RankingsReloadedEvent {
+}
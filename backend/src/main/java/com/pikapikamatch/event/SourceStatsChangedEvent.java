@@ -0,0 +1,34 @@
+package com.pikapikamatch.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Application event published when characters or votes are added to a source.
+ * The per-source counters are incremented once the change has committed, so the
+ * few hot per-source documents are never written inside a vote transaction.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SourceStatsChangedEvent {
+
+    /**
+     * The character source
+     */
+    private final String source;
+
+    /**
+     * The number of characters added
+     */
+    private final long characters;
+
+    /**
+     * The number of likes added
+     */
+    private final long likes;
+
+    /**
+     * The number of dislikes added
+     */
+    private final long dislikes;
+}
@@ -0,0 +1,18 @@
+package com.pikapikamatch.event;
+
+import com.pikapikamatch.model.dto.VoteResponseDTO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Application event published after a vote has been saved.
+ */
+@Getter
+@RequiredArgsConstructor
+public class VoteCreatedEvent {
+
+    /**
+     * The vote as returned to the client that cast it
+     */
+    private final VoteResponseDTO vote;
+}
@@ -2,13 +2,19 @@ package com.pikapikamatch.exception;
 
 import com.pikapikamatch.model.dto.Response;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -20,6 +26,15 @@ import java.util.Map;
 @Slf4j
 public class GlobalExceptionHandler {
     
+    private final long retryAfterSeconds;
+    
+    /**
+     * @param retryAfter The Retry-After delay of 503 responses, shared with the load-shedding filter
+     */
+    public GlobalExceptionHandler(@Value("${concurrency-limit.retry-after:5s}") Duration retryAfter) {
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+    }
+    
     /**
      * Handle ResourceNotFoundException - returns 404 Not Found
      */
@@ -48,24 +63,26 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Response<Map<String, String>>> handleMethodArgumentNotValid(
             MethodArgumentNotValidException ex) {
-        Map<String, String> errors = new HashMap<>();
-        ex.getBindingResult().getAllErrors().forEach(error -> {
-            String fieldName = ((FieldError) error).getField();
-            String errorMessage = error.getDefaultMessage();
-            errors.put(fieldName, errorMessage);
-        });
-        log.warn("Validation errors: {}", errors);
-        
-        Response<Map<String, String>> response = new Response<>(
-            false,
-            "Validation failed",
-            errors,
-            java.time.LocalDateTime.now()
-        );
-        
+        return validationFailed(ex.getBindingResult());
+    }
+    
+    /**
+     * Handle WebExchangeBindException (Bean Validation on the reactive stack) - returns 400 Bad Request
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<Response<Map<String, String>>> handleWebExchangeBind(WebExchangeBindException ex) {
+        return validationFailed(ex.getBindingResult());
+    }
+    
+    /**
+     * Handle MethodArgumentTypeMismatchException (unparseable request parameter) - returns 400 Bad Request
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<Response<Void>> handleMethodArgumentTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        log.warn("Invalid value for parameter {}: {}", ex.getName(), ex.getValue());
         return ResponseEntity
             .status(HttpStatus.BAD_REQUEST)
-            .body(response);
+            .body(Response.error("Invalid value for parameter '" + ex.getName() + "'"));
     }
     
     /**
@@ -79,6 +96,18 @@ public class GlobalExceptionHandler {
             .body(Response.error("External service temporarily unavailable"));
     }
     
+    /**
+     * Handle ServiceOverloadedException - returns 503 Service Unavailable
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<Response<Void>> handleServiceOverloaded(ServiceOverloadedException ex) {
+        log.warn("Service overloaded: {}", ex.getMessage());
+        return ResponseEntity
+            .status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+            .body(Response.error(ex.getMessage()));
+    }
+    
     /**
      * Handle generic Exception - returns 500 Internal Server Error
      */
@@ -89,4 +118,25 @@ public class GlobalExceptionHandler {
             .status(HttpStatus.INTERNAL_SERVER_ERROR)
             .body(Response.error("An unexpected error occurred"));
     }
+    
+    private ResponseEntity<Response<Map<String, String>>> validationFailed(BindingResult bindingResult) {
+        Map<String, String> errors = new HashMap<>();
+        bindingResult.getAllErrors().forEach(error -> {
+            String fieldName = ((FieldError) error).getField();
+            String errorMessage = error.getDefaultMessage();
+            errors.put(fieldName, errorMessage);
+        });
+        log.warn("Validation errors: {}", errors);
+        
+        Response<Map<String, String>> response = new Response<>(
+            false,
+            "Validation failed",
+            errors,
+            java.time.LocalDateTime.now()
+        );
+        
+        return ResponseEntity
+            .status(HttpStatus.BAD_REQUEST)
+            .body(response);
+    }
 }
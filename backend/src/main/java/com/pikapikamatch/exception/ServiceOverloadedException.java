@@ -0,0 +1,16 @@
+package com.pikapikamatch.exception;
+
+/**
+ * Exception thrown when the service refuses work because a capacity limit has been reached.
+ * This exception indicates that the client should retry later.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+    
+    public ServiceOverloadedException(String message) {
+        super(message);
+    }
+    
+    public ServiceOverloadedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
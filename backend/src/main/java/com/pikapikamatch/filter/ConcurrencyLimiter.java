@@ -0,0 +1,155 @@
+package com.pikapikamatch.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adaptive limit on the number of requests in flight, in the style of the gradient
+ * algorithm of Netflix's concurrency-limits.
+ * Every completed request compares its latency with the long-term average latency of
+ * its priority class: while latency stays within {@code tolerance} of the average the
+ * limit grows by about its square root (only when the limit is actually used), and once
+ * latency rises, i.e. requests queue up somewhere, it shrinks in proportion.
+ * <p>
+ * Lower priorities may only use part of the limit, so they are shed first:
+ * {@link Priority#HIGH} requests are admitted up to the limit, {@link Priority#NORMAL}
+ * ones up to {@code normal-share} of it and {@link Priority#LOW} ones up to {@code low-share}.
+ */
+@Component
+public class ConcurrencyLimiter {
+
+    public static final String LIMIT = "pikapikamatch.concurrency.limit";
+    public static final String IN_FLIGHT = "pikapikamatch.concurrency.inflight";
+    public static final String SHED = "pikapikamatch.concurrency.shed";
+
+    // Long-term average over about this many samples
+    private static final double LONG_WINDOW = 600;
+
+    /**
+     * Priority of a request when shedding load, lowest shed first.
+     */
+    public enum Priority { HIGH, NORMAL, LOW }
+
+    private final double minLimit;
+    private final double maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final Map<Priority, Double> shares = new EnumMap<>(Priority.class);
+    private final Map<Priority, Double> longRtts = new EnumMap<>(Priority.class);
+    private final Map<Priority, Counter> shed = new EnumMap<>(Priority.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+
+    public ConcurrencyLimiter(@Value("${concurrency-limit.initial-limit:100}") int initialLimit,
+                              @Value("${concurrency-limit.min-limit:10}") int minLimit,
+                              @Value("${concurrency-limit.max-limit:1000}") int maxLimit,
+                              @Value("${concurrency-limit.tolerance:1.5}") double tolerance,
+                              @Value("${concurrency-limit.smoothing:0.2}") double smoothing,
+                              @Value("${concurrency-limit.normal-share:0.9}") double normalShare,
+                              @Value("${concurrency-limit.low-share:0.5}") double lowShare,
+                              MeterRegistry registry) {
+        if (minLimit < 1 || initialLimit < minLimit || maxLimit < initialLimit) {
+            throw new IllegalArgumentException("concurrency-limit must satisfy 1 <= min-limit <= initial-limit <= max-limit");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        shares.put(Priority.HIGH, 1.0);
+        shares.put(Priority.NORMAL, normalShare);
+        shares.put(Priority.LOW, lowShare);
+
+        Gauge.builder(LIMIT, this, ConcurrencyLimiter::getLimit)
+            .description("Adaptive limit of requests in flight")
+            .register(registry);
+        Gauge.builder(IN_FLIGHT, inFlight, AtomicInteger::get)
+            .description("Requests in flight under the concurrency limit")
+            .register(registry);
+        for (Priority priority : Priority.values()) {
+            shed.put(priority, Counter.builder(SHED)
+                .description("Requests shed by the concurrency limit")
+                .tag("priority", priority.name().toLowerCase())
+                .register(registry));
+        }
+    }
+
+    /**
+     * Admits a request if its priority's share of the limit is not used up.
+     *
+     * @param priority The priority of the request
+     * @return The number of requests in flight including this one, or 0 if the request is shed
+     */
+    public int tryAcquire(Priority priority) {
+        int allowed = Math.max(1, (int) (limit * shares.get(priority)));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                shed.get(priority).increment();
+                return 0;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * Releases an admitted request and adjusts the limit to its latency.
+     *
+     * @param priority The priority of the request
+     * @param inFlightAtStart The value returned by {@link #tryAcquire}
+     * @param rttNanos The time the request took
+     */
+    public void onComplete(Priority priority, int inFlightAtStart, long rttNanos) {
+        inFlight.decrementAndGet();
+        if (rttNanos > 0) {
+            update(priority, inFlightAtStart, rttNanos);
+        }
+    }
+
+    /**
+     * Releases an admitted request whose latency says nothing about load,
+     * e.g. one continuing asynchronously.
+     */
+    public void onIgnore() {
+        inFlight.decrementAndGet();
+    }
+
+    public double getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void update(Priority priority, int inFlightAtStart, long rttNanos) {
+        double rtt = rttNanos;
+        Double previous = longRtts.get(priority);
+        double longRtt = previous == null ? rtt : previous + (rtt - previous) / LONG_WINDOW;
+        if (longRtt / rtt > 2) {
+            // Latency is back well below a long-term average inflated by an overload
+            longRtt *= 0.95;
+        }
+        longRtts.put(priority, longRtt);
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / rtt));
+        double current = limit;
+        if (gradient == 1.0 && inFlightAtStart < current / 2) {
+            // Not limited by the limit, so no evidence that a higher one would be sustained
+            return;
+        }
+
+        double target = current * gradient + Math.sqrt(current);
+        limit = Math.max(minLimit, Math.min(maxLimit, current * (1 - smoothing) + target * smoothing));
+    }
+}
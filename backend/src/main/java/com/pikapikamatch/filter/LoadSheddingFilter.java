@@ -0,0 +1,109 @@
+package com.pikapikamatch.filter;
+
+import com.pikapikamatch.filter.ConcurrencyLimiter.Priority;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Filter that sheds API requests beyond the adaptive limit of {@link ConcurrencyLimiter},
+ * answering 503 Service Unavailable with a Retry-After header instead of letting them
+ * queue in Tomcat until they time out.
+ * Writes (votes, likes, dislikes) have the highest priority and cheap reads come next;
+ * requests to the low-priority paths, by default the random character that waits on
+ * the external APIs, are shed first.
+ * Runs after {@link RateLimitFilter}, so rate-limited requests never take a slot.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@Slf4j
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    private final ConcurrencyLimiter limiter;
+    private final RejectedRequestWriter rejectedRequestWriter;
+    private final boolean enabled;
+    private final long retryAfterSeconds;
+    private final List<PathPattern> lowPriorityPaths;
+
+    public LoadSheddingFilter(ConcurrencyLimiter limiter,
+                              RejectedRequestWriter rejectedRequestWriter,
+                              @Value("${concurrency-limit.enabled:true}") boolean enabled,
+                              @Value("${concurrency-limit.retry-after:5s}") Duration retryAfter,
+                              @Value("${concurrency-limit.low-priority-paths:/api/characters/random}") String[] lowPriorityPaths) {
+        this.limiter = limiter;
+        this.rejectedRequestWriter = rejectedRequestWriter;
+        this.enabled = enabled;
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+        this.lowPriorityPaths = Arrays.stream(lowPriorityPaths)
+            .map(String::trim)
+            .map(PathPatternParser.defaultInstance::parse)
+            .toList();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Priority priority = priority(request);
+        int inFlight = limiter.tryAcquire(priority);
+
+        if (inFlight == 0) {
+            log.debug("Shedding {} {} ({} priority, limit {})",
+                request.getMethod(), request.getRequestURI(), priority, (int) limiter.getLimit());
+            rejectedRequestWriter.write(request, response, HttpStatus.SERVICE_UNAVAILABLE, retryAfterSeconds,
+                "Service is overloaded, please try again later");
+            return;
+        }
+
+        long startTime = System.nanoTime();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            if (completed && !request.isAsyncStarted()) {
+                limiter.onComplete(priority, inFlight, System.nanoTime() - startTime);
+            } else {
+                // Failed with an exception, or streaming (SSE): the latency says nothing about load
+                limiter.onIgnore();
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/") || CorsUtils.isPreFlightRequest(request);
+    }
+
+    private Priority priority(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return Priority.HIGH;
+        }
+
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (PathPattern pattern : lowPriorityPaths) {
+            if (pattern.matches(path)) {
+                return Priority.LOW;
+            }
+        }
+        return Priority.NORMAL;
+    }
+}
@@ -0,0 +1,91 @@
+package com.pikapikamatch.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Filter that enforces the per-client rate limits of {@link RequestRateLimiter} on
+ * the API endpoints, answering 429 Too Many Requests with a Retry-After header.
+ * Clients are identified by their address; behind a proxy, forwarded headers must be
+ * enabled ({@code server.forward-headers-strategy}) for it to be the real client's.
+ * Runs before {@link RequestLoggingFilter}, so rejected requests cost almost nothing;
+ * they are counted in {@value RequestRateLimiter#REJECTED}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final RequestRateLimiter rateLimiter;
+    private final RejectedRequestWriter rejectedRequestWriter;
+    private final boolean enabled;
+    private final List<PathPattern> upstreamPaths;
+
+    public RateLimitFilter(RequestRateLimiter rateLimiter,
+                           RejectedRequestWriter rejectedRequestWriter,
+                           @Value("${rate-limit.enabled:true}") boolean enabled,
+                           @Value("${rate-limit.upstream.paths:/api/characters/random}") String[] upstreamPaths) {
+        this.rateLimiter = rateLimiter;
+        this.rejectedRequestWriter = rejectedRequestWriter;
+        this.enabled = enabled;
+        this.upstreamPaths = Arrays.stream(upstreamPaths)
+            .map(String::trim)
+            .map(PathPatternParser.defaultInstance::parse)
+            .toList();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String client = request.getRemoteAddr();
+        long waitNanos = rateLimiter.tryAcquire(client, isUpstream(request));
+
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // Whole seconds, rounded up so a client retrying on time is never rejected again
+        long retryAfter = (waitNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND;
+        log.debug("Rate limit exceeded for {} on {} {}, retry in {}s",
+            client, request.getMethod(), request.getRequestURI(), retryAfter);
+        rejectedRequestWriter.write(request, response, HttpStatus.TOO_MANY_REQUESTS, retryAfter,
+            "Too many requests, retry in " + retryAfter + " seconds");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // CORS preflights are not counted, the actual request is
+        return !enabled || !request.getRequestURI().startsWith("/api/") || CorsUtils.isPreFlightRequest(request);
+    }
+
+    private boolean isUpstream(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (PathPattern pattern : upstreamPaths) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
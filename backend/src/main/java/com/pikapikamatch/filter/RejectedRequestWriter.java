@@ -0,0 +1,50 @@
+package com.pikapikamatch.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pikapikamatch.model.dto.Response;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.CorsProcessor;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.cors.DefaultCorsProcessor;
+
+import java.io.IOException;
+
+/**
+ * Writes the responses of requests rejected by a filter, before they reach Spring MVC:
+ * the usual error envelope, a Retry-After header and the API's CORS headers, without
+ * which the frontend could not read the rejection.
+ */
+@Component
+@RequiredArgsConstructor
+public class RejectedRequestWriter {
+
+    private final ObjectMapper objectMapper;
+    private final CorsConfiguration apiCorsConfiguration;
+    private final CorsProcessor corsProcessor = new DefaultCorsProcessor();
+
+    /**
+     * @param request The rejected request
+     * @param response The response to write
+     * @param status The rejection status (429 or 503)
+     * @param retryAfterSeconds The Retry-After delay in seconds
+     * @param message The error message of the envelope
+     * @throws IOException if the response cannot be written
+     */
+    public void write(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                      long retryAfterSeconds, String message) throws IOException {
+        if (CorsUtils.isCorsRequest(request)) {
+            corsProcessor.processRequest(apiCorsConfiguration, request, response);
+        }
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Response.<Void>error(message));
+    }
+}
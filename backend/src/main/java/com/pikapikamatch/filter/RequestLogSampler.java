@@ -0,0 +1,55 @@
+package com.pikapikamatch.filter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides which successful requests are logged.
+ * Keeps one request in N per endpoint, so rarely called endpoints are not drowned
+ * out by hot ones. Failed and slow requests are always logged by {@link RequestLoggingFilter};
+ * a zero slow threshold, the default, turns slow-request logging off.
+ */
+@Component
+public class RequestLogSampler {
+
+    private final int sampleRate;
+    private final long slowThresholdMillis;
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    public RequestLogSampler(@Value("${request-log.sample-rate:1}") int sampleRate,
+                             @Value("${request-log.slow-threshold:0s}") Duration slowThreshold) {
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("request-log.sample-rate must be at least 1");
+        }
+        this.sampleRate = sampleRate;
+        this.slowThresholdMillis = slowThreshold.toMillis();
+    }
+
+    /**
+     * Decides whether the next request to an endpoint is logged.
+     * The first request of every endpoint is always sampled.
+     *
+     * @param endpoint The endpoint key (method and path pattern, never a raw path)
+     * @return true if the request's success logs should be kept
+     */
+    public boolean sample(String endpoint) {
+        if (sampleRate == 1) {
+            return true;
+        }
+        return counters.computeIfAbsent(endpoint, key -> new AtomicLong())
+            .getAndIncrement() % sampleRate == 0;
+    }
+
+    /**
+     * @param durationMillis The request duration in milliseconds
+     * @return true if the request is slow enough to be logged regardless of sampling
+     */
+    public boolean isSlow(long durationMillis) {
+        return slowThresholdMillis > 0 && durationMillis >= slowThresholdMillis;
+    }
+}
@@ -1,25 +1,40 @@
 package com.pikapikamatch.filter;
 
+import com.pikapikamatch.util.ServerTiming;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import java.io.IOException;
 
 /**
  * Filter that logs HTTP request and response information.
  * Logs method, path, status code, and duration for each request.
+ * Successful requests are logged as sampled by {@link RequestSamplingInterceptor};
+ * failed requests are always logged, and so are slow ones, with their {@link ServerTiming}
+ * breakdown when it is enabled, once request-log.slow-threshold is set.
+ * The incoming line is logged at INFO unless request-log.log-incoming is turned off,
+ * as the "prod" profile does since it is written before any sampling decision.
  */
 @Component
 @Slf4j
 public class RequestLoggingFilter extends OncePerRequestFilter {
 
+    private final RequestLogSampler sampler;
+    private final boolean logIncoming;
+
+    public RequestLoggingFilter(RequestLogSampler sampler,
+                                @Value("${request-log.log-incoming:true}") boolean logIncoming) {
+        this.sampler = sampler;
+        this.logIncoming = logIncoming;
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
                                     HttpServletResponse response, 
@@ -27,33 +42,35 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
         
         long startTime = System.currentTimeMillis();
         
-        String method = request.getMethod();
-        String path = request.getRequestURI();
-        String queryString = request.getQueryString();
-        
-        // Build full path with query string if present
-        String fullPath = queryString != null ? path + "?" + queryString : path;
-        
-        log.info("Incoming request: {} {}", method, fullPath);
+        if (logIncoming && log.isInfoEnabled()) {
+            log.info("Incoming request: {} {}", request.getMethod(), fullPath(request));
+        } else if (log.isDebugEnabled()) {
+            log.debug("Incoming request: {} {}", request.getMethod(), fullPath(request));
+        }
         
         try {
             // Continue with the filter chain
             filterChain.doFilter(request, response);
         } finally {
+            MDC.remove(SampledLogTurboFilter.MDC_KEY);
+            
             // Calculate duration
             long duration = System.currentTimeMillis() - startTime;
             int status = response.getStatus();
             
-            // Log response information
+            // Log response information; the path is only built for requests actually logged
             if (status >= 500) {
                 log.error("Completed request: {} {} - Status: {} - Duration: {}ms", 
-                    method, fullPath, status, duration);
+                    request.getMethod(), fullPath(request), status, duration);
             } else if (status >= 400) {
                 log.warn("Completed request: {} {} - Status: {} - Duration: {}ms", 
-                    method, fullPath, status, duration);
-            } else {
+                    request.getMethod(), fullPath(request), status, duration);
+            } else if (sampler.isSlow(duration)) {
+                log.warn("Slow request: {} {} - Status: {} - Duration: {}ms{}", 
+                    request.getMethod(), fullPath(request), status, duration, timingBreakdown());
+            } else if (log.isInfoEnabled() && isSampled(request)) {
                 log.info("Completed request: {} {} - Status: {} - Duration: {}ms", 
-                    method, fullPath, status, duration);
+                    request.getMethod(), fullPath(request), status, duration);
             }
         }
     }
@@ -67,4 +84,19 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
                path.startsWith("/api-docs") ||
                path.startsWith("/v3/api-docs");
     }
+
+    private static boolean isSampled(HttpServletRequest request) {
+        // Requests outside /api/** get no sampling decision and are always logged
+        return !Boolean.FALSE.equals(request.getAttribute(RequestSamplingInterceptor.SAMPLED_ATTRIBUTE));
+    }
+    
+    private static String timingBreakdown() {
+        ServerTiming timing = ServerTiming.current();
+        return timing != null ? " - Timing: " + timing.toHeaderValue() : "";
+    }
+    
+    private static String fullPath(HttpServletRequest request) {
+        String queryString = request.getQueryString();
+        return queryString != null ? request.getRequestURI() + "?" + queryString : request.getRequestURI();
+    }
 }
@@ -0,0 +1,82 @@
+package com.pikapikamatch.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Per-client token buckets with two budgets: a small one for endpoints calling the
+ * external character APIs, whose quotas are shared by all clients, and a larger one
+ * for all other API endpoints.
+ * Buckets are dropped once they have been idle long enough to be full again, so
+ * forgetting a client never grants it more than a fresh bucket would; the number of
+ * tracked clients is also capped.
+ */
+@Component
+public class RequestRateLimiter {
+
+    public static final String REJECTED = "pikapikamatch.ratelimit.rejected";
+
+    private final Budget upstream;
+    private final Budget standard;
+
+    public RequestRateLimiter(@Value("${rate-limit.upstream.capacity:10}") long upstreamCapacity,
+                              @Value("${rate-limit.upstream.per-minute:30}") long upstreamPerMinute,
+                              @Value("${rate-limit.standard.capacity:200}") long standardCapacity,
+                              @Value("${rate-limit.standard.per-minute:1200}") long standardPerMinute,
+                              @Value("${rate-limit.max-clients:100000}") long maxClients,
+                              MeterRegistry registry) {
+        this.upstream = new Budget("upstream", upstreamCapacity, upstreamPerMinute, maxClients, registry);
+        this.standard = new Budget("standard", standardCapacity, standardPerMinute, maxClients, registry);
+    }
+
+    /**
+     * Takes one token from a client's bucket.
+     *
+     * @param client The client key (its address)
+     * @param upstreamEndpoint Whether the request uses the budget of endpoints calling external APIs
+     * @return 0 if the request may proceed, otherwise the nanoseconds until the client may retry
+     */
+    public long tryAcquire(String client, boolean upstreamEndpoint) {
+        return (upstreamEndpoint ? upstream : standard).tryAcquire(client);
+    }
+
+    private static final class Budget {
+
+        private final long capacity;
+        private final long refillIntervalNanos;
+        private final Cache<String, TokenBucket> buckets;
+        private final Counter rejected;
+
+        Budget(String name, long capacity, long perMinute, long maxClients, MeterRegistry registry) {
+            if (capacity < 1 || perMinute < 1) {
+                throw new IllegalArgumentException("rate-limit." + name + " capacity and per-minute must be at least 1");
+            }
+            this.capacity = capacity;
+            this.refillIntervalNanos = Duration.ofMinutes(1).toNanos() / perMinute;
+            this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(Duration.ofNanos(capacity * refillIntervalNanos))
+                .build();
+            this.rejected = Counter.builder(REJECTED)
+                .description("Requests rejected by the per-client rate limit")
+                .tag("budget", name)
+                .register(registry);
+        }
+
+        long tryAcquire(String client) {
+            long now = System.nanoTime();
+            long wait = buckets.get(client, key -> new TokenBucket(capacity, refillIntervalNanos, now))
+                .tryAcquire(now);
+            if (wait > 0) {
+                rejected.increment();
+            }
+            return wait;
+        }
+    }
+}
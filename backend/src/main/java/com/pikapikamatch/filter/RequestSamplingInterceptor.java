@@ -0,0 +1,47 @@
+package com.pikapikamatch.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Takes the sampling decision of a request once its handler is known.
+ * Runs after handler mapping so the endpoint key is the path pattern
+ * (e.g. /api/characters/{name}) rather than the raw path.
+ * The decision is published in the MDC for {@link SampledLogTurboFilter} and as a
+ * request attribute for {@link RequestLoggingFilter}.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestSamplingInterceptor implements AsyncHandlerInterceptor {
+
+    static final String SAMPLED_ATTRIBUTE = RequestSamplingInterceptor.class.getName() + ".sampled";
+
+    private final RequestLogSampler sampler;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        boolean sampled = sampler.sample(request.getMethod() + " " + (pattern != null ? pattern : "unmapped"));
+
+        request.setAttribute(SAMPLED_ATTRIBUTE, sampled);
+        MDC.put(SampledLogTurboFilter.MDC_KEY, String.valueOf(sampled));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        MDC.remove(SampledLogTurboFilter.MDC_KEY);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        MDC.remove(SampledLogTurboFilter.MDC_KEY);
+    }
+}
@@ -0,0 +1,43 @@
+package com.pikapikamatch.filter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket holding up to {@code capacity} tokens, refilled at one token
+ * per {@code refillIntervalNanos}.
+ * The whole state is a single timestamp, the time at which the bucket is full again,
+ * so an acquisition is one compare-and-set: at time {@code now} the bucket holds
+ * {@code capacity - (fullAt - now) / refillInterval} tokens.
+ */
+class TokenBucket {
+
+    private final long refillIntervalNanos;
+    private final long capacityNanos;
+    private final AtomicLong fullAt;
+
+    TokenBucket(long capacity, long refillIntervalNanos, long now) {
+        this.refillIntervalNanos = refillIntervalNanos;
+        this.capacityNanos = capacity * refillIntervalNanos;
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * Takes one token if there is one.
+     *
+     * @param now The current {@link System#nanoTime()}
+     * @return 0 if a token was taken, otherwise the nanoseconds until one is available
+     */
+    long tryAcquire(long now) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + refillIntervalNanos;
+            long wait = next - now - capacityNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -45,4 +45,10 @@ public class CharacterStatsDTO {
     
     @Schema(description = "Dislike percentage", example = "25.0")
     private Double dislikePercentage;
+    
+    @Schema(description = "Wilson lower bound of the like ratio (95% confidence)", example = "0.69")
+    private Double ratingScore;
+    
+    @Schema(description = "Wilson lower bound of the minority vote share (95% confidence)", example = "0.19")
+    private Double controversyScore;
 }
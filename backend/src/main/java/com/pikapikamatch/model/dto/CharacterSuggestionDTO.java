@@ -0,0 +1,30 @@
+package com.pikapikamatch.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Character name suggestion")
+public class CharacterSuggestionDTO {
+    
+    @Schema(description = "Character ID", example = "507f1f77bcf86cd799439011")
+    private String id;
+    
+    @Schema(description = "Character name", example = "Pikachu")
+    private String name;
+    
+    @Schema(description = "Character source", example = "pokemon")
+    private String source;
+    
+    @Schema(description = "Character image URL", example = "https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/other/official-artwork/25.png")
+    private String imageUrl;
+    
+    @Schema(description = "Total votes count", example = "200")
+    private Integer totalVotes;
+}
@@ -0,0 +1,24 @@
+package com.pikapikamatch.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Leaderboard change pushed to stream subscribers")
+public class LeaderboardDeltaDTO {
+    
+    @Schema(description = "Updated character statistics")
+    private CharacterStatsDTO character;
+    
+    @Schema(description = "1-based rank in the top liked leaderboard, or null if not ranked", example = "1")
+    private Integer likedRank;
+    
+    @Schema(description = "1-based rank in the top disliked leaderboard, or null if not ranked", example = "12")
+    private Integer dislikedRank;
+}
@@ -0,0 +1,27 @@
+package com.pikapikamatch.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "One page of a full character ranking")
+public class RankingPageDTO {
+    
+    @Schema(description = "Characters on this page in ranking order")
+    private List<CharacterStatsDTO> items;
+    
+    @Schema(description = "Opaque token to fetch the next page, or null if this is the last page",
+            example = "bGlrZXM6MTA6NjVhYjEyMzQ1Njc4OTBhYmNkZWYxMjM0")
+    private String nextCursor;
+    
+    @Schema(description = "Whether more pages are available", example = "true")
+    private boolean hasMore;
+}
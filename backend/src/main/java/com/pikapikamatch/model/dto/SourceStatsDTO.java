@@ -0,0 +1,36 @@
+package com.pikapikamatch.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Aggregated statistics of a character source")
+public class SourceStatsDTO {
+    
+    @Schema(description = "Character source", example = "pokemon")
+    private String source;
+    
+    @Schema(description = "Number of characters stored for the source", example = "42")
+    private Long characterCount;
+    
+    @Schema(description = "Total likes count", example = "1500")
+    private Long totalLikes;
+    
+    @Schema(description = "Total dislikes count", example = "500")
+    private Long totalDislikes;
+    
+    @Schema(description = "Total votes count", example = "2000")
+    private Long totalVotes;
+    
+    @Schema(description = "Like percentage", example = "75.0")
+    private Double likePercentage;
+    
+    @Schema(description = "Dislike percentage", example = "25.0")
+    private Double dislikePercentage;
+}
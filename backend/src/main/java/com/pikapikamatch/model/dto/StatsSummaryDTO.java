@@ -0,0 +1,32 @@
+package com.pikapikamatch.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Combined statistics for the dashboard")
+public class StatsSummaryDTO {
+    
+    @Schema(description = "Character with the most likes, or null if there are no characters")
+    private CharacterStatsDTO mostLiked;
+    
+    @Schema(description = "Character with the most dislikes, or null if there are no characters")
+    private CharacterStatsDTO mostDisliked;
+    
+    @Schema(description = "Top characters sorted by likes in descending order")
+    private List<CharacterStatsDTO> topLiked;
+    
+    @Schema(description = "Top characters sorted by dislikes in descending order")
+    private List<CharacterStatsDTO> topDisliked;
+    
+    @Schema(description = "Most recent vote, or null if no votes have been made")
+    private VoteResponseDTO lastVote;
+}
@@ -0,0 +1,29 @@
+package com.pikapikamatch.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Vote export record, one NDJSON line per vote")
+public class VoteExportDTO {
+
+    @Schema(description = "Vote ID", example = "65ba1f77bcf86cd799439011")
+    private String voteId;
+
+    @Schema(description = "Character ID", example = "507f1f77bcf86cd799439011")
+    private String characterId;
+
+    @Schema(description = "Vote type", example = "like", allowableValues = {"like", "dislike"})
+    private String voteType;
+
+    @Schema(description = "Vote timestamp", example = "2024-01-31T10:30:00")
+    private LocalDateTime timestamp;
+}
@@ -1,5 +1,7 @@
 package com.pikapikamatch.model.entity;
 
+import com.pikapikamatch.util.NameNormalizer;
+import com.pikapikamatch.util.WilsonScore;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -7,6 +9,7 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -20,7 +23,15 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@CompoundIndex(name = "externalId_source_idx", def = "{'externalId': 1, 'source': 1}", unique = true)
+@CompoundIndexes({
+    @CompoundIndex(name = "externalId_source_idx", def = "{'externalId': 1, 'source': 1}", unique = true),
+    @CompoundIndex(name = "likes_ranking_idx", def = "{'totalLikes': -1, '_id': 1, 'totalDislikes': 1, " +
+        "'externalId': 1, 'name': 1, 'source': 1, 'imageUrl': 1}"),
+    @CompoundIndex(name = "dislikes_ranking_idx", def = "{'totalDislikes': -1, '_id': 1, 'totalLikes': 1, " +
+        "'externalId': 1, 'name': 1, 'source': 1, 'imageUrl': 1}"),
+    @CompoundIndex(name = "rating_score_idx", def = "{'ratingScore': -1, '_id': 1}"),
+    @CompoundIndex(name = "controversy_score_idx", def = "{'controversyScore': -1, '_id': 1}")
+})
 public class Character {
 
     /**
@@ -41,6 +52,13 @@ public class Character {
     @Indexed
     private String name;
 
+    /**
+     * Lowercased, accent-folded name used for exact lookups by name.
+     * Kept in sync by {@link #setName(String)}
+     */
+    @Indexed
+    private String nameNormalized;
+
     /**
      * Source of the character: "pokemon", "rickandmorty", or "superhero"
      */
@@ -58,15 +76,13 @@ public class Character {
     private String description;
 
     /**
-     * Total number of likes received
+     * Total number of likes received (indexed through likes_ranking_idx)
      */
-    @Indexed
     private Integer totalLikes = 0;
 
     /**
-     * Total number of dislikes received
+     * Total number of dislikes received (indexed through dislikes_ranking_idx)
      */
-    @Indexed
     private Integer totalDislikes = 0;
 
     /**
@@ -74,6 +90,18 @@ public class Character {
      */
     private Integer totalVotes = 0;
 
+    /**
+     * Wilson lower bound of the like ratio, recomputed whenever the counters change
+     * (indexed through rating_score_idx)
+     */
+    private Double ratingScore = 0.0;
+
+    /**
+     * Wilson lower bound of the minority vote share, recomputed whenever the counters change
+     * (indexed through controversy_score_idx)
+     */
+    private Double controversyScore = 0.0;
+
     /**
      * Timestamp when the character was first created
      */
@@ -87,6 +115,16 @@ public class Character {
     @Indexed
     private LocalDateTime lastUpdated;
 
+    /**
+     * Sets the character name and its normalized form.
+     *
+     * @param name Character name
+     */
+    public void setName(String name) {
+        this.name = name;
+        this.nameNormalized = NameNormalizer.normalize(name);
+    }
+
     /**
      * Calculates the percentage of likes relative to total votes.
      *
@@ -110,4 +148,16 @@ public class Character {
         }
         return (totalDislikes * 100.0) / totalVotes;
     }
+
+    /**
+     * Recomputes totalVotes and the precomputed ranking scores from the like and dislike counters.
+     * Must be called after every counter change, before the character is saved.
+     */
+    public void updateScores() {
+        int likes = totalLikes != null ? totalLikes : 0;
+        int dislikes = totalDislikes != null ? totalDislikes : 0;
+        totalVotes = likes + dislikes;
+        ratingScore = WilsonScore.lowerBound(likes, totalVotes);
+        controversyScore = WilsonScore.controversy(likes, dislikes);
+    }
 }
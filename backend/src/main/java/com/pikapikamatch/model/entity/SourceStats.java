@@ -0,0 +1,76 @@
+package com.pikapikamatch.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Aggregated voting statistics of one character source.
+ * One small document per source, kept up to date with atomic increments on every
+ * counter change so that per-source totals never require scanning the characters.
+ */
+@Document(collection = "source_stats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SourceStats {
+
+    /**
+     * Source name: "pokemon", "rickandmorty", or "superhero"
+     */
+    @Id
+    private String source;
+
+    /**
+     * Number of characters stored for this source
+     */
+    private Long characterCount = 0L;
+
+    /**
+     * Total number of likes received by characters of this source
+     */
+    private Long totalLikes = 0L;
+
+    /**
+     * Total number of dislikes received by characters of this source
+     */
+    private Long totalDislikes = 0L;
+
+    /**
+     * Total number of votes (likes + dislikes)
+     */
+    private Long totalVotes = 0L;
+
+    /**
+     * Timestamp of the last increment or rebuild
+     */
+    private LocalDateTime lastUpdated;
+
+    /**
+     * Calculates the percentage of likes relative to total votes.
+     *
+     * @return Like percentage (0.0 to 100.0), or 0.0 if no votes exist
+     */
+    public Double getLikePercentage() {
+        if (totalVotes == null || totalVotes == 0) {
+            return 0.0;
+        }
+        return (totalLikes * 100.0) / totalVotes;
+    }
+
+    /**
+     * Calculates the percentage of dislikes relative to total votes.
+     *
+     * @return Dislike percentage (0.0 to 100.0), or 0.0 if no votes exist
+     */
+    public Double getDislikePercentage() {
+        if (totalVotes == null || totalVotes == 0) {
+            return 0.0;
+        }
+        return (totalDislikes * 100.0) / totalVotes;
+    }
+}
@@ -0,0 +1,51 @@
+package com.pikapikamatch.model.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Read model for ranking queries.
+ * Holds only the fields stored in the ranking compound indexes, so queries
+ * projecting into this type are answered from the index without fetching documents.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CharacterSummary {
+
+    /**
+     * MongoDB document ID
+     */
+    private String id;
+
+    /**
+     * External ID from the source API
+     */
+    private String externalId;
+
+    /**
+     * Character name
+     */
+    private String name;
+
+    /**
+     * Source of the character: "pokemon", "rickandmorty", or "superhero"
+     */
+    private String source;
+
+    /**
+     * URL to character image
+     */
+    private String imageUrl;
+
+    /**
+     * Total number of likes received
+     */
+    private Integer totalLikes;
+
+    /**
+     * Total number of dislikes received
+     */
+    private Integer totalDislikes;
+}
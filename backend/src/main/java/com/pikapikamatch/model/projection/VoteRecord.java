@@ -0,0 +1,47 @@
+package com.pikapikamatch.model.projection;
+
+import com.mongodb.DBRef;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read model of a vote document for the reactive stack and for exports.
+ * The reactive driver cannot resolve {@code @DBRef} associations, so the character
+ * is kept as the raw reference and loaded separately, in one batch per query.
+ * Exports only need the character ID, which the reference already holds.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VoteRecord {
+
+    /**
+     * MongoDB document ID
+     */
+    private String id;
+
+    /**
+     * Unresolved reference to the Character that was voted on
+     */
+    private DBRef character;
+
+    /**
+     * Type of vote: "like" or "dislike"
+     */
+    private String voteType;
+
+    /**
+     * Timestamp when the vote was cast
+     */
+    private LocalDateTime timestamp;
+
+    /**
+     * @return The ID of the character that was voted on, or null if the reference is missing
+     */
+    public String getCharacterId() {
+        return character != null ? character.getId().toString() : null;
+    }
+}
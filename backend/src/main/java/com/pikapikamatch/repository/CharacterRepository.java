@@ -1,19 +1,54 @@
 package com.pikapikamatch.repository;
 
 import com.pikapikamatch.model.entity.Character;
+import com.pikapikamatch.model.projection.CharacterSummary;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Character entity operations.
  * Provides CRUD operations and custom query methods for character data access.
  */
 @Repository
-public interface CharacterRepository extends MongoRepository<Character, String> {
+public interface CharacterRepository extends MongoRepository<Character, String>, CharacterRepositoryCustom {
+
+    /**
+     * Fields returned by ranking queries. All of them are part of the ranking
+     * compound indexes declared on {@link Character}, which makes those queries covered.
+     */
+    String RANKING_FIELDS = "{ '_id': 1, 'externalId': 1, 'name': 1, 'source': 1, 'imageUrl': 1, " +
+        "'totalLikes': 1, 'totalDislikes': 1 }";
+
+    /**
+     * Sort order of the likes ranking, matching the totalLikes ranking index
+     */
+    Sort LIKES_RANKING_SORT = Sort.by(Sort.Direction.DESC, "totalLikes").and(Sort.by(Sort.Direction.ASC, "id"));
+
+    /**
+     * Sort order of the dislikes ranking, matching the totalDislikes ranking index
+     */
+    Sort DISLIKES_RANKING_SORT = Sort.by(Sort.Direction.DESC, "totalDislikes").and(Sort.by(Sort.Direction.ASC, "id"));
+
+    /**
+     * Sort order of the top rated ranking, matching rating_score_idx
+     */
+    Sort RATING_SORT = Sort.by(Sort.Direction.DESC, "ratingScore").and(Sort.by(Sort.Direction.ASC, "id"));
+
+    /**
+     * Sort order of the most controversial ranking, matching controversy_score_idx
+     */
+    Sort CONTROVERSY_SORT = Sort.by(Sort.Direction.DESC, "controversyScore").and(Sort.by(Sort.Direction.ASC, "id"));
 
     /**
      * Finds a character by external ID and source.
@@ -26,45 +61,169 @@ public interface CharacterRepository extends MongoRepository<Character, String>
     Optional<Character> findByExternalIdAndSource(String externalId, String source);
 
     /**
-     * Finds a character by name (case-insensitive).
-     * Used for searching characters like Pikachu.
+     * Finds a character by normalized name.
+     * An exact match on the nameNormalized index, used for searching characters like Pikachu
+     * regardless of case and accents.
      *
-     * @param name The character name to search for
-     * @return Optional containing the character if found
+     * @param nameNormalized The name normalized with {@link com.pikapikamatch.util.NameNormalizer}
+     * @return Optional containing the first character found
      */
-    Optional<Character> findByNameIgnoreCase(String name);
+    Optional<Character> findFirstByNameNormalized(String nameNormalized);
 
     /**
-     * Finds the character with the most likes.
-     * Returns the single character with the highest totalLikes count.
+     * Finds named characters stored before the normalized name existed.
+     * Callers fill the field in and request the first page again until it is empty.
      *
-     * @return The character with the most likes, or null if no characters exist
+     * @param pageable Pageable object containing the batch size
+     * @return Slice of characters without a normalized name
      */
-    Character findTopByOrderByTotalLikesDesc();
+    @Query("{ 'nameNormalized': { $exists: false }, 'name': { $ne: null } }")
+    Slice<Character> findWithoutNameNormalized(Pageable pageable);
 
     /**
-     * Finds the character with the most dislikes.
-     * Returns the single character with the highest totalDislikes count.
+     * Finds characters for the likes ranking as index-only summaries.
+     * The pageable must use {@link #LIKES_RANKING_SORT}.
      *
-     * @return The character with the most dislikes, or null if no characters exist
+     * @param pageable Pageable object containing limit and sort information
+     * @return List of character summaries sorted by totalLikes in descending order
      */
-    Character findTopByOrderByTotalDislikesDesc();
+    @Query(value = "{}", fields = RANKING_FIELDS)
+    List<CharacterSummary> findLikesRanking(Pageable pageable);
 
     /**
-     * Finds the top N characters ordered by total likes (descending).
-     * Used for getting rankings of most liked characters.
+     * Finds characters for the dislikes ranking as index-only summaries.
+     * The pageable must use {@link #DISLIKES_RANKING_SORT}.
      *
      * @param pageable Pageable object containing limit and sort information
-     * @return List of characters sorted by totalLikes in descending order
+     * @return List of character summaries sorted by totalDislikes in descending order
      */
-    List<Character> findByOrderByTotalLikesDesc(Pageable pageable);
+    @Query(value = "{}", fields = RANKING_FIELDS)
+    List<CharacterSummary> findDislikesRanking(Pageable pageable);
 
     /**
-     * Finds the top N characters ordered by total dislikes (descending).
-     * Used for getting rankings of most disliked characters.
+     * Streams every character as a summary, for building in-memory indexes.
+     * The stream holds a server cursor and must be closed.
+     *
+     * @return Stream of all character summaries
+     */
+    @Query(value = "{}", fields = RANKING_FIELDS)
+    Stream<CharacterSummary> streamAllSummaries();
+
+    /**
+     * Streams every character, for exports. The stream holds a server cursor and must be closed.
+     *
+     * @param sort The order of the characters
+     * @return Stream of all characters
+     */
+    @Query("{}")
+    Stream<Character> streamAll(Sort sort);
+
+    /**
+     * Streams the characters updated at or after a given time, for incremental exports.
+     * A range scan on the lastUpdated index; the stream holds a server cursor and must be closed.
+     *
+     * @param since The earliest update time to include
+     * @param sort The order of the characters
+     * @return Stream of the characters updated since the given time
+     */
+    @Query("{ 'lastUpdated': { $gte: ?0 } }")
+    Stream<Character> streamUpdatedSince(LocalDateTime since, Sort sort);
+
+    /**
+     * Finds the characters ranked after a given (totalLikes, id) position.
+     * Seeks on the totalLikes ranking index, so every page costs the same
+     * regardless of how deep it is. The pageable must use {@link #LIKES_RANKING_SORT}.
+     *
+     * @param totalLikes The like count of the last character of the previous page
+     * @param id The ID of the last character of the previous page
+     * @param pageable Pageable object containing limit and sort information
+     * @return List of character summaries following the given position
+     */
+    @Query(value = "{ $or: [ { 'totalLikes': { $lt: ?0 } }, { 'totalLikes': ?0, '_id': { $gt: ?1 } } ] }",
+           fields = RANKING_FIELDS)
+    List<CharacterSummary> findLikesRankingAfter(int totalLikes, ObjectId id, Pageable pageable);
+
+    /**
+     * Finds the characters ranked after a given (totalDislikes, id) position.
+     * Seeks on the totalDislikes ranking index, so every page costs the same
+     * regardless of how deep it is. The pageable must use {@link #DISLIKES_RANKING_SORT}.
      *
+     * @param totalDislikes The dislike count of the last character of the previous page
+     * @param id The ID of the last character of the previous page
      * @param pageable Pageable object containing limit and sort information
-     * @return List of characters sorted by totalDislikes in descending order
+     * @return List of character summaries following the given position
+     */
+    @Query(value = "{ $or: [ { 'totalDislikes': { $lt: ?0 } }, { 'totalDislikes': ?0, '_id': { $gt: ?1 } } ] }",
+           fields = RANKING_FIELDS)
+    List<CharacterSummary> findDislikesRankingAfter(int totalDislikes, ObjectId id, Pageable pageable);
+
+    /**
+     * Finds the top N characters ordered by total likes (descending).
+     *
+     * @param limit The maximum number of characters to return
+     * @return List of character summaries sorted by totalLikes in descending order
+     */
+    default List<CharacterSummary> findTopLiked(int limit) {
+        return findLikesRanking(PageRequest.of(0, limit, LIKES_RANKING_SORT));
+    }
+
+    /**
+     * Finds the top N characters ordered by total dislikes (descending).
+     *
+     * @param limit The maximum number of characters to return
+     * @return List of character summaries sorted by totalDislikes in descending order
+     */
+    default List<CharacterSummary> findTopDisliked(int limit) {
+        return findDislikesRanking(PageRequest.of(0, limit, DISLIKES_RANKING_SORT));
+    }
+
+    /**
+     * Finds the characters with a positive rating score, best first.
+     * A range scan on rating_score_idx; characters without likes are left out.
+     *
+     * @param pageable Pageable object containing the limit and {@link #RATING_SORT}
+     * @return List of characters sorted by ratingScore in descending order
+     */
+    @Query("{ 'ratingScore': { $gt: 0 } }")
+    List<Character> findRated(Pageable pageable);
+
+    /**
+     * Finds the characters with a positive controversy score, most controversial first.
+     * A range scan on controversy_score_idx; one-sided characters are left out.
+     *
+     * @param pageable Pageable object containing the limit and {@link #CONTROVERSY_SORT}
+     * @return List of characters sorted by controversyScore in descending order
+     */
+    @Query("{ 'controversyScore': { $gt: 0 } }")
+    List<Character> findControversial(Pageable pageable);
+
+    /**
+     * Finds characters stored before the ranking scores existed.
+     * Callers compute the scores and request the first page again until it is empty.
+     *
+     * @param pageable Pageable object containing the batch size
+     * @return Slice of characters without a rating score
+     */
+    @Query("{ 'ratingScore': { $exists: false } }")
+    Slice<Character> findWithoutScores(Pageable pageable);
+
+    /**
+     * Finds the top N characters by rating score (descending).
+     *
+     * @param limit The maximum number of characters to return
+     * @return List of characters sorted by ratingScore in descending order
+     */
+    default List<Character> findTopRated(int limit) {
+        return findRated(PageRequest.of(0, limit, RATING_SORT));
+    }
+
+    /**
+     * Finds the top N characters by controversy score (descending).
+     *
+     * @param limit The maximum number of characters to return
+     * @return List of characters sorted by controversyScore in descending order
      */
-    List<Character> findByOrderByTotalDislikesDesc(Pageable pageable);
+    default List<Character> findMostControversial(int limit) {
+        return findControversial(PageRequest.of(0, limit, CONTROVERSY_SORT));
+    }
 }
@@ -0,0 +1,30 @@
+package com.pikapikamatch.repository;
+
+import com.pikapikamatch.model.entity.Character;
+
+import java.util.List;
+
+/**
+ * Custom Character operations that cannot be expressed as derived queries.
+ */
+public interface CharacterRepositoryCustom {
+
+    /**
+     * Sets the derived totalVotes, ratingScore and controversyScore of characters in one bulk write.
+     * Only those fields are written, and only to documents that are still unscored and whose
+     * counters still match the given ones, so a concurrent vote is never overwritten.
+     *
+     * @param characters Characters whose scores have been computed from their counters
+     * @return The number of documents updated
+     */
+    int setScores(List<Character> characters);
+
+    /**
+     * Sets the nameNormalized field of characters in one bulk write.
+     * Only that field is written, and only to documents that still lack it.
+     *
+     * @param characters Characters whose normalized name has been computed
+     * @return The number of documents updated
+     */
+    int setNormalizedNames(List<Character> characters);
+}
@@ -0,0 +1,59 @@
+package com.pikapikamatch.repository;
+
+import com.pikapikamatch.model.entity.Character;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+
+/**
+ * MongoTemplate implementation of {@link CharacterRepositoryCustom}.
+ * Backfills $set the derived fields only, so they neither replace the vote counters
+ * nor move lastUpdated.
+ */
+@RequiredArgsConstructor
+public class CharacterRepositoryImpl implements CharacterRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public int setScores(List<Character> characters) {
+        if (characters.isEmpty()) {
+            return 0;
+        }
+
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Character.class);
+        for (Character character : characters) {
+            // Scores computed from counters a vote has since changed are skipped; the document
+            // is scored by that vote, or matches the next batch again if it is still unscored
+            Query query = Query.query(Criteria.where("_id").is(character.getId())
+                .and("ratingScore").exists(false)
+                .and("totalLikes").is(character.getTotalLikes())
+                .and("totalDislikes").is(character.getTotalDislikes()));
+            operations.updateOne(query, new Update()
+                .set("totalVotes", character.getTotalVotes())
+                .set("ratingScore", character.getRatingScore())
+                .set("controversyScore", character.getControversyScore()));
+        }
+        return operations.execute().getModifiedCount();
+    }
+
+    @Override
+    public int setNormalizedNames(List<Character> characters) {
+        if (characters.isEmpty()) {
+            return 0;
+        }
+
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Character.class);
+        for (Character character : characters) {
+            Query query = Query.query(Criteria.where("_id").is(character.getId())
+                .and("nameNormalized").exists(false));
+            operations.updateOne(query, Update.update("nameNormalized", character.getNameNormalized()));
+        }
+        return operations.execute().getModifiedCount();
+    }
+}
@@ -0,0 +1,148 @@
+package com.pikapikamatch.repository;
+
+import com.pikapikamatch.model.entity.Character;
+import com.pikapikamatch.model.projection.CharacterSummary;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static com.pikapikamatch.repository.CharacterRepository.CONTROVERSY_SORT;
+import static com.pikapikamatch.repository.CharacterRepository.DISLIKES_RANKING_SORT;
+import static com.pikapikamatch.repository.CharacterRepository.LIKES_RANKING_SORT;
+import static com.pikapikamatch.repository.CharacterRepository.RANKING_FIELDS;
+import static com.pikapikamatch.repository.CharacterRepository.RATING_SORT;
+
+/**
+ * Reactive repository for Character entity operations, used by the "reactive" profile.
+ * Mirrors the queries of {@link CharacterRepository}, including its covered ranking
+ * queries and sort orders.
+ */
+@Repository
+public interface ReactiveCharacterRepository extends ReactiveMongoRepository<Character, String> {
+
+    /**
+     * Finds a character by external ID and source.
+     *
+     * @param externalId The external ID from the source API
+     * @param source The source API name ("pokemon", "rickandmorty", "superhero")
+     * @return Mono emitting the character, or empty if not found
+     */
+    Mono<Character> findByExternalIdAndSource(String externalId, String source);
+
+    /**
+     * Finds a character by normalized name, through the nameNormalized index.
+     *
+     * @param nameNormalized The name normalized with {@link com.pikapikamatch.util.NameNormalizer}
+     * @return Mono emitting the first character found, or empty if not found
+     */
+    Mono<Character> findFirstByNameNormalized(String nameNormalized);
+
+    /**
+     * Finds characters for the likes ranking as index-only summaries.
+     * The pageable must use {@link CharacterRepository#LIKES_RANKING_SORT}.
+     *
+     * @param pageable Pageable object containing limit and sort information
+     * @return Flux of character summaries sorted by totalLikes in descending order
+     */
+    @Query(value = "{}", fields = RANKING_FIELDS)
+    Flux<CharacterSummary> findLikesRanking(Pageable pageable);
+
+    /**
+     * Finds characters for the dislikes ranking as index-only summaries.
+     * The pageable must use {@link CharacterRepository#DISLIKES_RANKING_SORT}.
+     *
+     * @param pageable Pageable object containing limit and sort information
+     * @return Flux of character summaries sorted by totalDislikes in descending order
+     */
+    @Query(value = "{}", fields = RANKING_FIELDS)
+    Flux<CharacterSummary> findDislikesRanking(Pageable pageable);
+
+    /**
+     * Finds the characters ranked after a given (totalLikes, id) position.
+     * The pageable must use {@link CharacterRepository#LIKES_RANKING_SORT}.
+     *
+     * @param totalLikes The like count of the last character of the previous page
+     * @param id The ID of the last character of the previous page
+     * @param pageable Pageable object containing limit and sort information
+     * @return Flux of character summaries following the given position
+     */
+    @Query(value = "{ $or: [ { 'totalLikes': { $lt: ?0 } }, { 'totalLikes': ?0, '_id': { $gt: ?1 } } ] }",
+           fields = RANKING_FIELDS)
+    Flux<CharacterSummary> findLikesRankingAfter(int totalLikes, ObjectId id, Pageable pageable);
+
+    /**
+     * Finds the characters ranked after a given (totalDislikes, id) position.
+     * The pageable must use {@link CharacterRepository#DISLIKES_RANKING_SORT}.
+     *
+     * @param totalDislikes The dislike count of the last character of the previous page
+     * @param id The ID of the last character of the previous page
+     * @param pageable Pageable object containing limit and sort information
+     * @return Flux of character summaries following the given position
+     */
+    @Query(value = "{ $or: [ { 'totalDislikes': { $lt: ?0 } }, { 'totalDislikes': ?0, '_id': { $gt: ?1 } } ] }",
+           fields = RANKING_FIELDS)
+    Flux<CharacterSummary> findDislikesRankingAfter(int totalDislikes, ObjectId id, Pageable pageable);
+
+    /**
+     * Finds the characters with a positive rating score, best first.
+     *
+     * @param pageable Pageable object containing the limit and {@link CharacterRepository#RATING_SORT}
+     * @return Flux of characters sorted by ratingScore in descending order
+     */
+    @Query("{ 'ratingScore': { $gt: 0 } }")
+    Flux<Character> findRated(Pageable pageable);
+
+    /**
+     * Finds the characters with a positive controversy score, most controversial first.
+     *
+     * @param pageable Pageable object containing the limit and {@link CharacterRepository#CONTROVERSY_SORT}
+     * @return Flux of characters sorted by controversyScore in descending order
+     */
+    @Query("{ 'controversyScore': { $gt: 0 } }")
+    Flux<Character> findControversial(Pageable pageable);
+
+    /**
+     * Finds the top N characters ordered by total likes (descending).
+     *
+     * @param limit The maximum number of characters to return
+     * @return Flux of character summaries sorted by totalLikes in descending order
+     */
+    default Flux<CharacterSummary> findTopLiked(int limit) {
+        return findLikesRanking(PageRequest.of(0, limit, LIKES_RANKING_SORT));
+    }
+
+    /**
+     * Finds the top N characters ordered by total dislikes (descending).
+     *
+     * @param limit The maximum number of characters to return
+     * @return Flux of character summaries sorted by totalDislikes in descending order
+     */
+    default Flux<CharacterSummary> findTopDisliked(int limit) {
+        return findDislikesRanking(PageRequest.of(0, limit, DISLIKES_RANKING_SORT));
+    }
+
+    /**
+     * Finds the top N characters by rating score (descending).
+     *
+     * @param limit The maximum number of characters to return
+     * @return Flux of characters sorted by ratingScore in descending order
+     */
+    default Flux<Character> findTopRated(int limit) {
+        return findRated(PageRequest.of(0, limit, RATING_SORT));
+    }
+
+    /**
+     * Finds the top N characters by controversy score (descending).
+     *
+     * @param limit The maximum number of characters to return
+     * @return Flux of characters sorted by controversyScore in descending order
+     */
+    default Flux<Character> findMostControversial(int limit) {
+        return findControversial(PageRequest.of(0, limit, CONTROVERSY_SORT));
+    }
+}
@@ -0,0 +1,14 @@
+package com.pikapikamatch.repository;
+
+import com.pikapikamatch.model.entity.SourceStats;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reactive repository for SourceStats entity operations, used by the "reactive" profile.
+ * Atomic counter updates live in {@link ReactiveSourceStatsRepositoryCustom}.
+ */
+@Repository
+public interface ReactiveSourceStatsRepository
+        extends ReactiveMongoRepository<SourceStats, String>, ReactiveSourceStatsRepositoryCustom {
+}
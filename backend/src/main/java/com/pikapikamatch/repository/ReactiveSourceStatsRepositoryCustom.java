@@ -0,0 +1,21 @@
+package com.pikapikamatch.repository;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Custom reactive SourceStats operations that cannot be expressed as derived queries.
+ */
+public interface ReactiveSourceStatsRepositoryCustom {
+
+    /**
+     * Atomically adds deltas to the counters of a source with a single upserting $inc,
+     * creating the document on the first change of that source.
+     *
+     * @param source The source name
+     * @param characters The number of characters to add
+     * @param likes The number of likes to add
+     * @param dislikes The number of dislikes to add
+     * @return Mono completing once the update is acknowledged
+     */
+    Mono<Void> increment(String source, long characters, long likes, long dislikes);
+}
@@ -0,0 +1,32 @@
+package com.pikapikamatch.repository;
+
+import com.pikapikamatch.model.entity.SourceStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+/**
+ * ReactiveMongoTemplate implementation of {@link ReactiveSourceStatsRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class ReactiveSourceStatsRepositoryImpl implements ReactiveSourceStatsRepositoryCustom {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Override
+    public Mono<Void> increment(String source, long characters, long likes, long dislikes) {
+        Update update = new Update()
+            .inc("characterCount", characters)
+            .inc("totalLikes", likes)
+            .inc("totalDislikes", dislikes)
+            .inc("totalVotes", likes + dislikes)
+            .currentDate("lastUpdated");
+
+        return reactiveMongoTemplate
+            .upsert(Query.query(Criteria.where("_id").is(source)), update, SourceStats.class)
+            .then();
+    }
+}
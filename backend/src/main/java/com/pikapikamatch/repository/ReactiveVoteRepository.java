@@ -0,0 +1,14 @@
+package com.pikapikamatch.repository;
+
+import com.pikapikamatch.model.entity.Vote;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reactive repository for Vote entity operations, used by the "reactive" profile.
+ * Reads go through {@link ReactiveVoteRepositoryCustom}, since the reactive driver
+ * cannot resolve the character DBRef of a {@link Vote}.
+ */
+@Repository
+public interface ReactiveVoteRepository extends ReactiveMongoRepository<Vote, String>, ReactiveVoteRepositoryCustom {
+}
@@ -0,0 +1,19 @@
+package com.pikapikamatch.repository;
+
+import com.pikapikamatch.model.projection.VoteRecord;
+import reactor.core.publisher.Flux;
+
+/**
+ * Custom reactive Vote reads that keep the character reference unresolved.
+ */
+public interface ReactiveVoteRepositoryCustom {
+
+    /**
+     * Finds the most recent votes, most recent first.
+     * Uses the timestamp index.
+     *
+     * @param limit The maximum number of votes to return
+     * @return Flux of votes sorted by timestamp in descending order
+     */
+    Flux<VoteRecord> findRecent(int limit);
+}
@@ -0,0 +1,27 @@
+package com.pikapikamatch.repository;
+
+import com.pikapikamatch.model.entity.Vote;
+import com.pikapikamatch.model.projection.VoteRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+
+/**
+ * ReactiveMongoTemplate implementation of {@link ReactiveVoteRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class ReactiveVoteRepositoryImpl implements ReactiveVoteRepositoryCustom {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Override
+    public Flux<VoteRecord> findRecent(int limit) {
+        Query query = new Query()
+            .with(Sort.by(Sort.Direction.DESC, "timestamp"))
+            .limit(limit);
+
+        return reactiveMongoTemplate.find(query, VoteRecord.class, reactiveMongoTemplate.getCollectionName(Vote.class));
+    }
+}
@@ -0,0 +1,13 @@
+package com.pikapikamatch.repository;
+
+import com.pikapikamatch.model.entity.SourceStats;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for SourceStats entity operations.
+ * Atomic counter updates and the full rebuild live in {@link SourceStatsRepositoryCustom}.
+ */
+@Repository
+public interface SourceStatsRepository extends MongoRepository<SourceStats, String>, SourceStatsRepositoryCustom {
+}
@@ -0,0 +1,31 @@
+package com.pikapikamatch.repository;
+
+import com.pikapikamatch.model.entity.SourceStats;
+
+import java.util.List;
+
+/**
+ * Custom SourceStats operations that cannot be expressed as derived queries.
+ */
+public interface SourceStatsRepositoryCustom {
+
+    /**
+     * Atomically adds deltas to the counters of a source with a single upserting $inc,
+     * creating the document on the first change of that source.
+     *
+     * @param source The source name
+     * @param characters The number of characters to add
+     * @param likes The number of likes to add
+     * @param dislikes The number of dislikes to add
+     */
+    void increment(String source, long characters, long likes, long dislikes);
+
+    /**
+     * Recomputes the statistics of every source from the characters collection
+     * and sets the stored counters to the result.
+     * Must run in a transaction, so the aggregation and the writes share one snapshot.
+     *
+     * @return The rebuilt statistics
+     */
+    List<SourceStats> rebuild();
+}
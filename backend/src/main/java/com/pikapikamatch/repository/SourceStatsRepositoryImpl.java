@@ -0,0 +1,64 @@
+package com.pikapikamatch.repository;
+
+import com.pikapikamatch.model.entity.Character;
+import com.pikapikamatch.model.entity.SourceStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+
+/**
+ * MongoTemplate implementation of {@link SourceStatsRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class SourceStatsRepositoryImpl implements SourceStatsRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void increment(String source, long characters, long likes, long dislikes) {
+        Update update = new Update()
+            .inc("characterCount", characters)
+            .inc("totalLikes", likes)
+            .inc("totalDislikes", dislikes)
+            .inc("totalVotes", likes + dislikes)
+            .currentDate("lastUpdated");
+
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(source)), update, SourceStats.class);
+    }
+
+    @Override
+    public List<SourceStats> rebuild() {
+        Aggregation aggregation = Aggregation.newAggregation(
+            Aggregation.match(Criteria.where("source").ne(null)),
+            Aggregation.group("source")
+                .count().as("characterCount")
+                .sum("totalLikes").as("totalLikes")
+                .sum("totalDislikes").as("totalDislikes")
+        );
+
+        List<SourceStats> rebuilt = mongoTemplate
+            .aggregate(aggregation, Character.class, SourceStats.class)
+            .getMappedResults();
+
+        // Absolute values from the transaction's snapshot: running it twice gives the same counters,
+        // and an increment committed after the snapshot makes the transaction conflict instead of being lost
+        for (SourceStats stats : rebuilt) {
+            mongoTemplate.upsert(Query.query(Criteria.where("_id").is(stats.getSource())), new Update()
+                .set("characterCount", stats.getCharacterCount())
+                .set("totalLikes", stats.getTotalLikes())
+                .set("totalDislikes", stats.getTotalDislikes())
+                .set("totalVotes", stats.getTotalLikes() + stats.getTotalDislikes())
+                .currentDate("lastUpdated"), SourceStats.class);
+        }
+
+        List<String> sources = rebuilt.stream().map(SourceStats::getSource).toList();
+        mongoTemplate.remove(Query.query(Criteria.where("_id").nin(sources)), SourceStats.class);
+
+        return rebuilt;
+    }
+}
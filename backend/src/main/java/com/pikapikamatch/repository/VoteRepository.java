@@ -12,7 +12,7 @@ import java.util.List;
  * Provides CRUD operations and custom query methods for vote data access.
  */
 @Repository
-public interface VoteRepository extends MongoRepository<Vote, String> {
+public interface VoteRepository extends MongoRepository<Vote, String>, VoteRepositoryCustom {
 
     /**
      * Finds the most recent vote by timestamp.
@@ -0,0 +1,21 @@
+package com.pikapikamatch.repository;
+
+import com.pikapikamatch.model.projection.VoteRecord;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+/**
+ * Custom Vote reads that keep the character reference unresolved.
+ */
+public interface VoteRepositoryCustom {
+
+    /**
+     * Streams the votes cast at or after a given time, oldest first.
+     * Uses the timestamp index; the stream holds a server cursor and must be closed.
+     *
+     * @param since The earliest vote timestamp to include, or null for all votes
+     * @return Stream of votes sorted by timestamp in ascending order
+     */
+    Stream<VoteRecord> streamSince(LocalDateTime since);
+}
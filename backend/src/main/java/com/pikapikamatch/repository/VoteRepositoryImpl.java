@@ -0,0 +1,29 @@
+package com.pikapikamatch.repository;
+
+import com.pikapikamatch.model.entity.Vote;
+import com.pikapikamatch.model.projection.VoteRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+/**
+ * MongoTemplate implementation of {@link VoteRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class VoteRepositoryImpl implements VoteRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Stream<VoteRecord> streamSince(LocalDateTime since) {
+        Query query = since != null ? Query.query(Criteria.where("timestamp").gte(since)) : new Query();
+        query.with(Sort.by(Sort.Direction.ASC, "timestamp"));
+
+        return mongoTemplate.stream(query, VoteRecord.class, mongoTemplate.getCollectionName(Vote.class));
+    }
+}
@@ -1,5 +1,7 @@
 package com.pikapikamatch.service;
 
+import com.pikapikamatch.event.CharacterUpdatedEvent;
+import com.pikapikamatch.event.SourceStatsChangedEvent;
 import com.pikapikamatch.exception.ExternalApiException;
 import com.pikapikamatch.exception.ResourceNotFoundException;
 import com.pikapikamatch.model.dto.CharacterDTO;
@@ -7,12 +9,23 @@ import com.pikapikamatch.model.dto.CharacterStatsDTO;
 import com.pikapikamatch.model.dto.VoteRequestDTO;
 import com.pikapikamatch.model.entity.Character;
 import com.pikapikamatch.repository.CharacterRepository;
+import com.pikapikamatch.service.cache.CharacterNameCache;
+import com.pikapikamatch.service.external.ExternalApiBulkheads;
+import com.pikapikamatch.service.external.ExternalApiMetrics;
 import com.pikapikamatch.service.external.PokeApiService;
 import com.pikapikamatch.service.external.RickAndMortyApiService;
 import com.pikapikamatch.service.external.SuperHeroApiService;
+import com.pikapikamatch.service.search.CharacterSearchService;
 import com.pikapikamatch.util.CharacterMapper;
+import com.pikapikamatch.util.NameNormalizer;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,17 +45,25 @@ import java.util.Random;
 @RequiredArgsConstructor
 public class CharacterService {
 
+    private static final int BACKFILL_BATCH_SIZE = 1000;
+
     private final CharacterRepository characterRepository;
     private final PokeApiService pokeApiService;
     private final RickAndMortyApiService rickAndMortyApiService;
     private final SuperHeroApiService superHeroApiService;
     private final RetryService retryService;
+    private final ExternalApiMetrics externalApiMetrics;
+    private final ExternalApiBulkheads externalApiBulkheads;
+    private final CharacterSearchService characterSearchService;
+    private final CharacterNameCache characterNameCache;
+    private final ApplicationEventPublisher eventPublisher;
     
     private final Random random = new Random();
 
     /**
      * Gets a random character from one of the external APIs.
-     * Implements failover logic to try different APIs if one fails.
+     * Implements failover logic to try different APIs if one fails,
+     * including a source whose bulkhead is full.
      * Uses retry service for resilience.
      *
      * @return CharacterDTO from a random external API
@@ -58,13 +79,19 @@ public class CharacterService {
         Exception lastException = null;
         
         // Try each API source with failover
-        for (String source : apiSources) {
+        for (int i = 0; i < apiSources.size(); i++) {
+            String source = apiSources.get(i);
+            Timer.Sample sample = externalApiMetrics.start();
             try {
                 log.debug("Attempting to fetch character from: {}", source);
                 CharacterDTO character = fetchFromApi(source);
+                externalApiMetrics.recordCall(sample, source, ExternalApiMetrics.SUCCESS);
                 log.info("Successfully fetched character from {}: {}", source, character.getName());
                 return character;
             } catch (Exception e) {
+                boolean lastSource = i == apiSources.size() - 1;
+                externalApiMetrics.recordCall(sample, source,
+                    lastSource ? ExternalApiMetrics.FAILURE : ExternalApiMetrics.FAILOVER);
                 log.warn("Failed to fetch character from {}: {}", source, e.getMessage());
                 lastException = e;
                 // Continue to next API source
@@ -78,29 +105,35 @@ public class CharacterService {
 
     /**
      * Gets a character's status by name from the database.
+     * When no character has that exact name, falls back to the closest known name
+     * so that small typos ("Pikchu", "Rick Sanches") still resolve.
      *
-     * @param name The character name to search for (case-insensitive)
+     * @param name The character name to search for (case and accent insensitive)
      * @return CharacterStatsDTO with the character's statistics
      * @throws com.pikapikamatch.exception.ResourceNotFoundException if character not found
      */
     public CharacterStatsDTO getCharacterByName(String name) {
         log.debug("Fetching character status for: {}", name);
         
-        // Search for character in the database (case-insensitive)
-        Optional<Character> characterOpt = characterRepository.findByNameIgnoreCase(name);
+        // Search for character by normalized name (case and accent insensitive), through the cache
+        CharacterStatsDTO stats = characterNameCache.get(NameNormalizer.normalize(name), this::loadByNormalizedName);
         
-        if (characterOpt.isEmpty()) {
+        if (stats == null) {
+            stats = characterSearchService.closestName(name)
+                .map(closest -> characterNameCache.get(closest, this::loadByNormalizedName))
+                .orElse(null);
+        }
+        
+        if (stats == null) {
             log.warn("Character not found in database: {}", name);
             throw new com.pikapikamatch.exception.ResourceNotFoundException(
                 "Character not found: " + name
             );
         }
         
-        Character character = characterOpt.get();
-        log.info("Found character '{}' in database with {} votes", 
-            character.getName(), character.getTotalVotes());
+        log.info("Found character '{}' with {} votes", stats.getName(), stats.getTotalVotes());
         
-        return CharacterMapper.toStatsDTO(character);
+        return stats;
     }
 
     /**
@@ -115,8 +148,8 @@ public class CharacterService {
     public CharacterStatsDTO addLikesByName(String name, Integer amount) {
         log.debug("Adding {} likes to character: {}", amount, name);
         
-        // Search for character in the database (case-insensitive)
-        Optional<Character> characterOpt = characterRepository.findByNameIgnoreCase(name);
+        // Search for character in the database (case and accent insensitive)
+        Optional<Character> characterOpt = findByName(name);
         
         if (characterOpt.isEmpty()) {
             log.warn("Character not found in database: {}", name);
@@ -129,7 +162,7 @@ public class CharacterService {
         
         // Increment like counter by the specified amount
         character.setTotalLikes(character.getTotalLikes() + amount);
-        character.setTotalVotes(character.getTotalLikes() + character.getTotalDislikes());
+        character.updateScores();
         
         Character updatedCharacter = characterRepository.save(character);
         log.info("Added {} likes to '{}': {} total likes, {} total votes", 
@@ -138,7 +171,11 @@ public class CharacterService {
             updatedCharacter.getTotalLikes(),
             updatedCharacter.getTotalVotes());
         
-        return CharacterMapper.toStatsDTO(updatedCharacter);
+        CharacterStatsDTO stats = CharacterMapper.toStatsDTO(updatedCharacter);
+        eventPublisher.publishEvent(new SourceStatsChangedEvent(updatedCharacter.getSource(), 0, amount, 0));
+        eventPublisher.publishEvent(new CharacterUpdatedEvent(stats));
+        
+        return stats;
     }
 
     /**
@@ -153,8 +190,8 @@ public class CharacterService {
     public CharacterStatsDTO addDislikesByName(String name, Integer amount) {
         log.debug("Adding {} dislikes to character: {}", amount, name);
         
-        // Search for character in the database (case-insensitive)
-        Optional<Character> characterOpt = characterRepository.findByNameIgnoreCase(name);
+        // Search for character in the database (case and accent insensitive)
+        Optional<Character> characterOpt = findByName(name);
         
         if (characterOpt.isEmpty()) {
             log.warn("Character not found in database: {}", name);
@@ -167,7 +204,7 @@ public class CharacterService {
         
         // Increment dislike counter by the specified amount
         character.setTotalDislikes(character.getTotalDislikes() + amount);
-        character.setTotalVotes(character.getTotalLikes() + character.getTotalDislikes());
+        character.updateScores();
         
         Character updatedCharacter = characterRepository.save(character);
         log.info("Added {} dislikes to '{}': {} total dislikes, {} total votes", 
@@ -176,7 +213,55 @@ public class CharacterService {
             updatedCharacter.getTotalDislikes(),
             updatedCharacter.getTotalVotes());
         
-        return CharacterMapper.toStatsDTO(updatedCharacter);
+        CharacterStatsDTO stats = CharacterMapper.toStatsDTO(updatedCharacter);
+        eventPublisher.publishEvent(new SourceStatsChangedEvent(updatedCharacter.getSource(), 0, 0, amount));
+        eventPublisher.publishEvent(new CharacterUpdatedEvent(stats));
+        
+        return stats;
+    }
+
+    /**
+     * Computes the ranking scores of characters stored before those scores existed, in batches,
+     * so the top rated and most controversial rankings include them. Only the derived fields
+     * are written, so votes recorded meanwhile are kept and lastUpdated does not move.
+     * Runs once at startup and is a no-op when every character already has a score.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillScores() {
+        long migrated = 0;
+        Slice<Character> batch;
+        do {
+            // Scored documents no longer match, so every batch is read from the first page
+            batch = characterRepository.findWithoutScores(PageRequest.of(0, BACKFILL_BATCH_SIZE));
+            batch.forEach(Character::updateScores);
+            migrated += characterRepository.setScores(batch.getContent());
+        } while (batch.hasNext());
+        
+        if (migrated > 0) {
+            log.info("Backfilled ranking scores for {} characters", migrated);
+        }
+    }
+
+    /**
+     * Fills in the normalized name of characters stored before it existed, in batches,
+     * so name lookups can rely on the nameNormalized index. Only that field is written,
+     * so votes recorded meanwhile are kept and lastUpdated does not move.
+     * Runs once at startup and is a no-op when every character is already migrated.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillNormalizedNames() {
+        long migrated = 0;
+        Slice<Character> batch;
+        do {
+            // Migrated documents no longer match, so every batch is read from the first page
+            batch = characterRepository.findWithoutNameNormalized(PageRequest.of(0, BACKFILL_BATCH_SIZE));
+            batch.forEach(character -> character.setName(character.getName()));
+            migrated += characterRepository.setNormalizedNames(batch.getContent());
+        } while (batch.hasNext());
+        
+        if (migrated > 0) {
+            log.info("Backfilled normalized names for {} characters", migrated);
+        }
     }
 
     /**
@@ -218,18 +303,45 @@ public class CharacterService {
         Character savedCharacter = characterRepository.save(newCharacter);
         log.info("Successfully created new character with ID: {}", savedCharacter.getId());
         
+        // Indexed for search by the CharacterUpdatedEvent of the vote, once it has committed
+        eventPublisher.publishEvent(new SourceStatsChangedEvent(savedCharacter.getSource(), 1, 0, 0));
+        
         return savedCharacter;
     }
 
     /**
-     * Fetches a character from a specific API source with retry logic.
+     * Finds a character by name, ignoring case and accents, through the nameNormalized index.
+     *
+     * @param name The character name as typed by the user
+     * @return Optional containing the character if found
+     */
+    private Optional<Character> findByName(String name) {
+        return characterRepository.findFirstByNameNormalized(NameNormalizer.normalize(name));
+    }
+
+    /**
+     * Loads the statistics of a character from the database, for the name cache.
+     *
+     * @param normalizedName The normalized character name
+     * @return CharacterStatsDTO, or null if no character has that name
+     */
+    private CharacterStatsDTO loadByNormalizedName(String normalizedName) {
+        return characterRepository.findFirstByNameNormalized(normalizedName)
+            .map(CharacterMapper::toStatsDTO)
+            .orElse(null);
+    }
+
+    /**
+     * Fetches a character from a specific API source with retry logic, inside the
+     * source's bulkhead so a hung API cannot take every request thread.
      *
      * @param source The API source ("pokemon", "rickandmorty", or "superhero")
      * @return CharacterDTO from the specified API
      * @throws ExternalApiException if the API call fails after retries
+     * @throws com.pikapikamatch.exception.ServiceOverloadedException if the source's bulkhead is full
      */
     private CharacterDTO fetchFromApi(String source) {
-        return switch (source) {
+        return externalApiBulkheads.execute(source, () -> switch (source) {
             case "pokemon" -> retryService.executeWithRetry(
                 pokeApiService::getRandomPokemon,
                 "PokeAPI"
@@ -243,6 +355,6 @@ public class CharacterService {
                 "SuperHeroAPI"
             );
             default -> throw new IllegalArgumentException("Unknown API source: " + source);
-        };
+        });
     }
 }
@@ -0,0 +1,220 @@
+package com.pikapikamatch.service;
+
+import com.pikapikamatch.event.CharacterUpdatedEvent;
+import com.pikapikamatch.exception.ExternalApiException;
+import com.pikapikamatch.exception.ResourceNotFoundException;
+import com.pikapikamatch.model.dto.CharacterDTO;
+import com.pikapikamatch.model.dto.CharacterStatsDTO;
+import com.pikapikamatch.model.dto.VoteRequestDTO;
+import com.pikapikamatch.model.entity.Character;
+import com.pikapikamatch.repository.ReactiveCharacterRepository;
+import com.pikapikamatch.service.cache.CharacterNameCache;
+import com.pikapikamatch.service.external.ExternalApiMetrics;
+import com.pikapikamatch.service.external.ReactivePokeApiService;
+import com.pikapikamatch.service.external.ReactiveRickAndMortyApiService;
+import com.pikapikamatch.service.external.ReactiveSuperHeroApiService;
+import com.pikapikamatch.service.search.CharacterSearchService;
+import com.pikapikamatch.util.CharacterMapper;
+import com.pikapikamatch.util.NameNormalizer;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reactive variant of {@link CharacterService}, used by the "reactive" profile.
+ * External APIs are called through WebClient and MongoDB through the reactive driver,
+ * so no request thread ever blocks on I/O.
+ */
+@Service
+@Profile("reactive")
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveCharacterService {
+
+    private final ReactiveCharacterRepository characterRepository;
+    private final ReactivePokeApiService pokeApiService;
+    private final ReactiveRickAndMortyApiService rickAndMortyApiService;
+    private final ReactiveSuperHeroApiService superHeroApiService;
+    private final RetryService retryService;
+    private final ExternalApiMetrics externalApiMetrics;
+    private final ReactiveSourceStatsService sourceStatsService;
+    private final CharacterSearchService characterSearchService;
+    private final CharacterNameCache characterNameCache;
+    private final TransactionalOperator transactionalOperator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Gets a random character from one of the external APIs.
+     * Tries the APIs one after the other in random order until one succeeds.
+     *
+     * @return Mono emitting a CharacterDTO, or failing with ExternalApiException if all APIs fail
+     */
+    public Mono<CharacterDTO> getRandomCharacter() {
+        return Mono.defer(() -> {
+            log.debug("Fetching random character from external APIs");
+
+            List<String> apiSources = new ArrayList<>(List.of("pokemon", "rickandmorty", "superhero"));
+            Collections.shuffle(apiSources);
+            List<Throwable> failures = new ArrayList<>();
+
+            return Flux.fromIterable(apiSources)
+                .concatMap(source -> Mono.defer(() -> {
+                    Timer.Sample sample = externalApiMetrics.start();
+                    String failed = apiSources.indexOf(source) == apiSources.size() - 1
+                        ? ExternalApiMetrics.FAILURE : ExternalApiMetrics.FAILOVER;
+                    return fetchFromApi(source)
+                        .doOnSuccess(character -> externalApiMetrics.recordCall(sample, source,
+                            character != null ? ExternalApiMetrics.SUCCESS : failed))
+                        .doOnNext(character -> log.info("Successfully fetched character from {}: {}", source, character.getName()))
+                        .onErrorResume(e -> {
+                            externalApiMetrics.recordCall(sample, source, failed);
+                            log.warn("Failed to fetch character from {}: {}", source, e.getMessage());
+                            failures.add(e);
+                            return Mono.empty();
+                        });
+                }))
+                .next()
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.error("All external APIs failed to provide a character");
+                    Throwable lastFailure = failures.isEmpty() ? null : failures.get(failures.size() - 1);
+                    return Mono.error(new ExternalApiException("All external APIs are unavailable", lastFailure));
+                }));
+        });
+    }
+
+    /**
+     * Gets a character's status by name, through the name cache, falling back to the
+     * closest known name when there is no exact match.
+     *
+     * @param name The character name to search for (case and accent insensitive)
+     * @return Mono emitting the CharacterStatsDTO, or failing with ResourceNotFoundException
+     */
+    public Mono<CharacterStatsDTO> getCharacterByName(String name) {
+        log.debug("Fetching character status for: {}", name);
+
+        return findCachedByNormalizedName(NameNormalizer.normalize(name))
+            .switchIfEmpty(Mono.defer(() -> Mono.justOrEmpty(characterSearchService.closestName(name))
+                .flatMap(this::findCachedByNormalizedName)))
+            .switchIfEmpty(notFound(name))
+            .doOnNext(stats -> log.info("Found character '{}' with {} votes", stats.getName(), stats.getTotalVotes()));
+    }
+
+    /**
+     * Adds likes to a character by name.
+     *
+     * @param name The character name to search for (case and accent insensitive)
+     * @param amount The amount of likes to add
+     * @return Mono emitting the updated CharacterStatsDTO, or failing with ResourceNotFoundException
+     */
+    public Mono<CharacterStatsDTO> addLikesByName(String name, Integer amount) {
+        log.debug("Adding {} likes to character: {}", amount, name);
+
+        return addVotesByName(name, character -> character.setTotalLikes(character.getTotalLikes() + amount), amount, 0)
+            .doOnNext(stats -> log.info("Added {} likes to '{}': {} total likes, {} total votes",
+                amount, stats.getName(), stats.getTotalLikes(), stats.getTotalVotes()));
+    }
+
+    /**
+     * Adds dislikes to a character by name.
+     *
+     * @param name The character name to search for (case and accent insensitive)
+     * @param amount The amount of dislikes to add
+     * @return Mono emitting the updated CharacterStatsDTO, or failing with ResourceNotFoundException
+     */
+    public Mono<CharacterStatsDTO> addDislikesByName(String name, Integer amount) {
+        log.debug("Adding {} dislikes to character: {}", amount, name);
+
+        return addVotesByName(name, character -> character.setTotalDislikes(character.getTotalDislikes() + amount), 0, amount)
+            .doOnNext(stats -> log.info("Added {} dislikes to '{}': {} total dislikes, {} total votes",
+                amount, stats.getName(), stats.getTotalDislikes(), stats.getTotalVotes()));
+    }
+
+    /**
+     * Finds an existing character or creates a new one based on vote request data.
+     * Must run inside the caller's transaction.
+     *
+     * @param voteRequest The vote request containing character information
+     * @return Mono emitting the existing or newly created Character entity
+     */
+    public Mono<Character> findOrCreateCharacter(VoteRequestDTO voteRequest) {
+        log.debug("Finding or creating character: {} from {}",
+            voteRequest.getCharacterName(), voteRequest.getCharacterSource());
+
+        return characterRepository.findByExternalIdAndSource(voteRequest.getCharacterId(), voteRequest.getCharacterSource())
+            .doOnNext(existing -> log.debug("Found existing character: {}", existing.getName()))
+            .switchIfEmpty(Mono.defer(() -> createCharacter(voteRequest)));
+    }
+
+    private Mono<Character> createCharacter(VoteRequestDTO voteRequest) {
+        log.info("Creating new character: {} from {}",
+            voteRequest.getCharacterName(), voteRequest.getCharacterSource());
+
+        Character newCharacter = new Character();
+        newCharacter.setExternalId(voteRequest.getCharacterId());
+        newCharacter.setName(voteRequest.getCharacterName());
+        newCharacter.setSource(voteRequest.getCharacterSource());
+        newCharacter.setImageUrl(voteRequest.getImageUrl());
+        newCharacter.setDescription(voteRequest.getDescription());
+        newCharacter.setTotalLikes(0);
+        newCharacter.setTotalDislikes(0);
+        newCharacter.setTotalVotes(0);
+
+        return characterRepository.save(newCharacter)
+            .flatMap(saved -> sourceStatsService.recordCharacter(saved.getSource()).thenReturn(saved))
+            // Indexed for search by the CharacterUpdatedEvent the vote publishes after its transaction
+            .doOnNext(saved -> log.info("Successfully created new character with ID: {}", saved.getId()));
+    }
+
+    private Mono<CharacterStatsDTO> addVotesByName(String name, Consumer<Character> increment, int likes, int dislikes) {
+        return characterRepository.findFirstByNameNormalized(NameNormalizer.normalize(name))
+            .switchIfEmpty(notFound(name))
+            .flatMap(character -> {
+                increment.accept(character);
+                character.updateScores();
+                return characterRepository.save(character);
+            })
+            .flatMap(updated -> sourceStatsService.recordVotes(updated.getSource(), likes, dislikes).thenReturn(updated))
+            .as(transactionalOperator::transactional)
+            .map(CharacterMapper::toStatsDTO)
+            // Published once the transaction has committed, like the @TransactionalEventListener path
+            .doOnNext(stats -> eventPublisher.publishEvent(new CharacterUpdatedEvent(stats)));
+    }
+
+    private Mono<CharacterStatsDTO> findCachedByNormalizedName(String normalizedName) {
+        if (normalizedName == null) {
+            return Mono.empty();
+        }
+        // The future is shared by concurrent lookups, so a cancelled request must not cancel it
+        return Mono.fromFuture(() -> characterNameCache.getAsync(normalizedName, key ->
+            characterRepository.findFirstByNameNormalized(key)
+                .map(CharacterMapper::toStatsDTO)
+                .toFuture()), true);
+    }
+
+    private <T> Mono<T> notFound(String name) {
+        return Mono.defer(() -> {
+            log.warn("Character not found in database: {}", name);
+            return Mono.error(new ResourceNotFoundException("Character not found: " + name));
+        });
+    }
+
+    private Mono<CharacterDTO> fetchFromApi(String source) {
+        return switch (source) {
+            case "pokemon" -> retryService.withRetry(pokeApiService.getRandomPokemon(), "PokeAPI");
+            case "rickandmorty" -> retryService.withRetry(rickAndMortyApiService.getRandomCharacter(), "RickAndMortyAPI");
+            case "superhero" -> retryService.withRetry(superHeroApiService.getRandomSuperhero(), "SuperHeroAPI");
+            default -> Mono.error(new IllegalArgumentException("Unknown API source: " + source));
+        };
+    }
+}
@@ -0,0 +1,96 @@
+package com.pikapikamatch.service;
+
+import com.pikapikamatch.model.dto.SourceStatsDTO;
+import com.pikapikamatch.repository.ReactiveSourceStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Reactive variant of {@link SourceStatsService}, used by the "reactive" profile.
+ * Like there, increments requested inside a transaction are applied once it has
+ * committed, so the few per-source documents are never written by vote transactions.
+ */
+@Service
+@Profile("reactive")
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveSourceStatsService {
+
+    private final ReactiveSourceStatsRepository sourceStatsRepository;
+
+    /**
+     * Records a newly stored character for its source.
+     *
+     * @param source The character source
+     * @return Mono completing once the counters are updated, or the update is registered to run after commit
+     */
+    public Mono<Void> recordCharacter(String source) {
+        if (source == null) {
+            return Mono.empty();
+        }
+        return afterCommit(source, 1, 0, 0);
+    }
+
+    /**
+     * Records likes and dislikes received by a character of the given source.
+     *
+     * @param source The character source
+     * @param likes The number of likes added
+     * @param dislikes The number of dislikes added
+     * @return Mono completing once the counters are updated, or the update is registered to run after commit
+     */
+    public Mono<Void> recordVotes(String source, long likes, long dislikes) {
+        if (source == null || (likes == 0 && dislikes == 0)) {
+            return Mono.empty();
+        }
+        return afterCommit(source, 0, likes, dislikes);
+    }
+
+    /**
+     * Gets the aggregate statistics of every source.
+     *
+     * @return Mono emitting the SourceStatsDTO list sorted by source name
+     */
+    public Mono<List<SourceStatsDTO>> getSourceStats() {
+        log.debug("Fetching per-source statistics");
+        
+        return sourceStatsRepository.findAll(Sort.by("source"))
+            .map(SourceStatsService::toDTO)
+            .collectList()
+            .doOnNext(stats -> log.info("Found statistics for {} sources", stats.size()));
+    }
+
+    private Mono<Void> afterCommit(String source, long characters, long likes, long dislikes) {
+        Mono<Void> increment = Mono.defer(() -> sourceStatsRepository.increment(source, characters, likes, dislikes))
+            // The change itself is committed, only the aggregate drifts until the next rebuild
+            .onErrorResume(DataAccessException.class, e -> {
+                log.warn("Failed to update statistics of source {}: {}", source, e.getMessage());
+                return Mono.empty();
+            });
+
+        return TransactionSynchronizationManager.forCurrentTransaction()
+            .filter(TransactionSynchronizationManager::isSynchronizationActive)
+            .map(synchronizationManager -> {
+                synchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public Mono<Void> afterCommit() {
+                        return increment;
+                    }
+                });
+                return true;
+            })
+            .onErrorResume(NoTransactionException.class, e -> Mono.empty())
+            .switchIfEmpty(increment.thenReturn(true))
+            .then();
+    }
+}
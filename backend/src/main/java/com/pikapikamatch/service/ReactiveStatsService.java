@@ -0,0 +1,212 @@
+package com.pikapikamatch.service;
+
+import com.pikapikamatch.exception.ExternalApiException;
+import com.pikapikamatch.model.dto.CharacterStatsDTO;
+import com.pikapikamatch.model.dto.RankingPageDTO;
+import com.pikapikamatch.model.dto.StatsSummaryDTO;
+import com.pikapikamatch.model.projection.CharacterSummary;
+import com.pikapikamatch.repository.CharacterRepository;
+import com.pikapikamatch.repository.ReactiveCharacterRepository;
+import com.pikapikamatch.service.leaderboard.LeaderboardService;
+import com.pikapikamatch.util.CharacterMapper;
+import com.pikapikamatch.util.RankingCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reactive variant of {@link StatsService} and {@link StatsSummaryService}, used by the
+ * "reactive" profile.
+ * Rankings are served from the in-memory leaderboards when they are loaded, without
+ * touching MongoDB, and from the reactive driver otherwise. The Caffeine statistics
+ * cache is bypassed: its loaders are blocking.
+ */
+@Service
+@Profile("reactive")
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveStatsService {
+
+    private final ReactiveCharacterRepository characterRepository;
+    private final LeaderboardService leaderboardService;
+    private final ReactiveVoteService voteService;
+
+    /**
+     * Gets the character with the most likes.
+     *
+     * @return Mono emitting the most liked character, or failing with ExternalApiException if there is none
+     */
+    public Mono<CharacterStatsDTO> getMostLiked() {
+        log.debug("Fetching most liked character");
+
+        return getTopLiked(1)
+            .flatMap(ReactiveStatsService::first)
+            .doOnNext(mostLiked -> log.info("Most liked character: {} with {} likes",
+                mostLiked.getName(), mostLiked.getTotalLikes()));
+    }
+
+    /**
+     * Gets the character with the most dislikes.
+     *
+     * @return Mono emitting the most disliked character, or failing with ExternalApiException if there is none
+     */
+    public Mono<CharacterStatsDTO> getMostDisliked() {
+        log.debug("Fetching most disliked character");
+
+        return getTopDisliked(1)
+            .flatMap(ReactiveStatsService::first)
+            .doOnNext(mostDisliked -> log.info("Most disliked character: {} with {} dislikes",
+                mostDisliked.getName(), mostDisliked.getTotalDislikes()));
+    }
+
+    /**
+     * Gets the top N characters with the most likes.
+     *
+     * @param limit The maximum number of characters to return
+     * @return Mono emitting the characters sorted by likes in descending order
+     */
+    public Mono<List<CharacterStatsDTO>> getTopLiked(Integer limit) {
+        log.debug("Fetching top {} liked characters", limit);
+
+        if (servedFromMemory(limit)) {
+            return Mono.fromSupplier(() -> leaderboardService.getTopLiked(limit));
+        }
+
+        return characterRepository.findTopLiked(limit)
+            .map(CharacterMapper::toStatsDTO)
+            .collectList();
+    }
+
+    /**
+     * Gets the top N characters with the most dislikes.
+     *
+     * @param limit The maximum number of characters to return
+     * @return Mono emitting the characters sorted by dislikes in descending order
+     */
+    public Mono<List<CharacterStatsDTO>> getTopDisliked(Integer limit) {
+        log.debug("Fetching top {} disliked characters", limit);
+
+        if (servedFromMemory(limit)) {
+            return Mono.fromSupplier(() -> leaderboardService.getTopDisliked(limit));
+        }
+
+        return characterRepository.findTopDisliked(limit)
+            .map(CharacterMapper::toStatsDTO)
+            .collectList();
+    }
+
+    /**
+     * Gets the top N characters by rating score.
+     *
+     * @param limit The maximum number of characters to return
+     * @return Mono emitting the characters sorted by rating score in descending order
+     */
+    public Mono<List<CharacterStatsDTO>> getTopRated(Integer limit) {
+        log.debug("Fetching top {} rated characters", limit);
+
+        return characterRepository.findTopRated(limit)
+            .map(CharacterMapper::toStatsDTO)
+            .collectList();
+    }
+
+    /**
+     * Gets the top N most controversial characters.
+     *
+     * @param limit The maximum number of characters to return
+     * @return Mono emitting the characters sorted by controversy score in descending order
+     */
+    public Mono<List<CharacterStatsDTO>> getMostControversial(Integer limit) {
+        log.debug("Fetching top {} controversial characters", limit);
+
+        return characterRepository.findMostControversial(limit)
+            .map(CharacterMapper::toStatsDTO)
+            .collectList();
+    }
+
+    /**
+     * Gets one page of the full likes ranking using keyset pagination.
+     *
+     * @param limit The maximum number of characters to return
+     * @param cursor The continuation token from the previous page, or null for the first page
+     * @return Mono emitting the page, or failing with ValidationException if the cursor is invalid
+     */
+    public Mono<RankingPageDTO> getLikesRanking(Integer limit, String cursor) {
+        return Mono.defer(() -> {
+            log.debug("Fetching likes ranking page of {} (cursor: {})", limit, cursor);
+
+            PageRequest pageRequest = StatsService.rankingPage(limit, CharacterRepository.LIKES_RANKING_SORT);
+            RankingCursor after = cursor != null ? RankingCursor.decode(cursor, "likes") : null;
+
+            return (after == null
+                    ? characterRepository.findLikesRanking(pageRequest)
+                    : characterRepository.findLikesRankingAfter(after.count(), after.id(), pageRequest))
+                .collectList()
+                .map(characters -> StatsService.toRankingPage(characters, limit, "likes", CharacterSummary::getTotalLikes));
+        });
+    }
+
+    /**
+     * Gets one page of the full dislikes ranking using keyset pagination.
+     *
+     * @param limit The maximum number of characters to return
+     * @param cursor The continuation token from the previous page, or null for the first page
+     * @return Mono emitting the page, or failing with ValidationException if the cursor is invalid
+     */
+    public Mono<RankingPageDTO> getDislikesRanking(Integer limit, String cursor) {
+        return Mono.defer(() -> {
+            log.debug("Fetching dislikes ranking page of {} (cursor: {})", limit, cursor);
+
+            PageRequest pageRequest = StatsService.rankingPage(limit, CharacterRepository.DISLIKES_RANKING_SORT);
+            RankingCursor after = cursor != null ? RankingCursor.decode(cursor, "dislikes") : null;
+
+            return (after == null
+                    ? characterRepository.findDislikesRanking(pageRequest)
+                    : characterRepository.findDislikesRankingAfter(after.count(), after.id(), pageRequest))
+                .collectList()
+                .map(characters -> StatsService.toRankingPage(characters, limit, "dislikes", CharacterSummary::getTotalDislikes));
+        });
+    }
+
+    /**
+     * Gets the dashboard summary, running its queries concurrently.
+     * Missing data (no characters or no votes yet) is returned as null fields.
+     *
+     * @param limit The maximum number of characters in each ranking
+     * @return Mono emitting the summary
+     */
+    public Mono<StatsSummaryDTO> getSummary(Integer limit) {
+        log.debug("Fetching stats summary with top {} rankings", limit);
+
+        return Mono.zip(
+                getMostLiked().map(Optional::of).onErrorReturn(ExternalApiException.class, Optional.empty()),
+                getMostDisliked().map(Optional::of).onErrorReturn(ExternalApiException.class, Optional.empty()),
+                getTopLiked(limit),
+                getTopDisliked(limit),
+                voteService.getLastEvaluated().map(Optional::of).defaultIfEmpty(Optional.empty()))
+            .map(results -> StatsSummaryDTO.builder()
+                .mostLiked(results.getT1().orElse(null))
+                .mostDisliked(results.getT2().orElse(null))
+                .topLiked(results.getT3())
+                .topDisliked(results.getT4())
+                .lastVote(results.getT5().orElse(null))
+                .build());
+    }
+
+    private boolean servedFromMemory(Integer limit) {
+        return leaderboardService.isReady() && limit <= leaderboardService.capacity();
+    }
+
+    private static Mono<CharacterStatsDTO> first(List<CharacterStatsDTO> characters) {
+        if (characters.isEmpty()) {
+            log.warn("No characters found in database");
+            return Mono.error(new ExternalApiException("No characters available"));
+        }
+        return Mono.just(characters.get(0));
+    }
+}
@@ -0,0 +1,167 @@
+package com.pikapikamatch.service;
+
+import com.pikapikamatch.event.CharacterUpdatedEvent;
+import com.pikapikamatch.event.VoteCreatedEvent;
+import com.pikapikamatch.model.dto.VoteRequestDTO;
+import com.pikapikamatch.model.dto.VoteResponseDTO;
+import com.pikapikamatch.model.entity.Character;
+import com.pikapikamatch.model.entity.Vote;
+import com.pikapikamatch.model.projection.VoteRecord;
+import com.pikapikamatch.repository.ReactiveCharacterRepository;
+import com.pikapikamatch.repository.ReactiveVoteRepository;
+import com.pikapikamatch.util.CharacterMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Reactive variant of {@link VoteService}, used by the "reactive" profile.
+ * Votes are read as {@link VoteRecord}s and their characters loaded in one batch,
+ * since the reactive driver cannot resolve the DBRef of a {@link Vote}.
+ */
+@Service
+@Profile("reactive")
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveVoteService {
+
+    private final ReactiveVoteRepository voteRepository;
+    private final ReactiveCharacterRepository characterRepository;
+    private final ReactiveCharacterService characterService;
+    private final ReactiveSourceStatsService sourceStatsService;
+    private final TransactionalOperator transactionalOperator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Creates a vote, creating the character first if needed, in a single transaction.
+     *
+     * @param request The vote request containing character and vote information
+     * @return Mono emitting the created vote
+     */
+    public Mono<VoteResponseDTO> createVote(VoteRequestDTO request) {
+        return Mono.defer(() -> {
+            log.debug("Creating vote for character: {} ({})",
+                request.getCharacterName(), request.getVoteType());
+
+            boolean like = "like".equals(request.getVoteType());
+            boolean dislike = "dislike".equals(request.getVoteType());
+
+            return characterService.findOrCreateCharacter(request)
+                .flatMap(character -> {
+                    if (like) {
+                        character.setTotalLikes(character.getTotalLikes() + 1);
+                    } else if (dislike) {
+                        character.setTotalDislikes(character.getTotalDislikes() + 1);
+                    }
+                    character.updateScores();
+                    return characterRepository.save(character);
+                })
+                .flatMap(updatedCharacter -> {
+                    log.info("Updated character counters for {}: {} likes, {} dislikes, {} total",
+                        updatedCharacter.getName(),
+                        updatedCharacter.getTotalLikes(),
+                        updatedCharacter.getTotalDislikes(),
+                        updatedCharacter.getTotalVotes());
+
+                    Vote vote = new Vote();
+                    vote.setCharacter(updatedCharacter);
+                    vote.setVoteType(request.getVoteType());
+                    vote.setTimestamp(LocalDateTime.now());
+
+                    return sourceStatsService.recordVotes(updatedCharacter.getSource(), like ? 1 : 0, dislike ? 1 : 0)
+                        .then(voteRepository.save(vote));
+                })
+                .as(transactionalOperator::transactional)
+                .map(savedVote -> {
+                    log.info("Successfully created vote with ID: {} for character: {}",
+                        savedVote.getId(), savedVote.getCharacter().getName());
+
+                    VoteResponseDTO response = toResponseDTO(savedVote.getId(), savedVote.getVoteType(),
+                        savedVote.getTimestamp(), savedVote.getCharacter());
+
+                    // Published once the transaction has committed, like the @TransactionalEventListener path
+                    eventPublisher.publishEvent(new CharacterUpdatedEvent(CharacterMapper.toStatsDTO(savedVote.getCharacter())));
+                    eventPublisher.publishEvent(new VoteCreatedEvent(response));
+
+                    return response;
+                });
+        });
+    }
+
+    /**
+     * Gets the most recent votes with their character information.
+     *
+     * @param limit The maximum number of votes to return
+     * @return Mono emitting the votes sorted by timestamp in descending order
+     */
+    public Mono<List<VoteResponseDTO>> getRecentVotes(Integer limit) {
+        log.debug("Fetching {} most recent votes", limit);
+
+        return voteRepository.findRecent(limit)
+            .collectList()
+            .flatMap(this::withCharacters)
+            .doOnNext(votes -> log.info("Found {} recent votes", votes.size()));
+    }
+
+    /**
+     * Gets the last evaluated character (most recent vote).
+     *
+     * @return Mono emitting the most recent vote, or empty if no votes exist
+     */
+    public Mono<VoteResponseDTO> getLastEvaluated() {
+        log.debug("Fetching last evaluated character");
+
+        return getRecentVotes(1)
+            .flatMap(votes -> Mono.justOrEmpty(votes.stream().findFirst()))
+            .doOnNext(vote -> log.info("Found last evaluated character: {}", vote.getCharacterName()));
+    }
+
+    /**
+     * Loads the characters of the given votes with a single query and joins them.
+     * Votes whose character no longer exists are left out.
+     */
+    private Mono<List<VoteResponseDTO>> withCharacters(List<VoteRecord> votes) {
+        List<String> characterIds = votes.stream()
+            .map(VoteRecord::getCharacterId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+
+        return characterRepository.findAllById(characterIds)
+            .collectMap(Character::getId, Function.identity())
+            .map(characters -> join(votes, characters));
+    }
+
+    private static List<VoteResponseDTO> join(List<VoteRecord> votes, Map<String, Character> characters) {
+        return votes.stream()
+            .filter(vote -> characters.containsKey(vote.getCharacterId()))
+            .map(vote -> toResponseDTO(vote.getId(), vote.getVoteType(), vote.getTimestamp(),
+                characters.get(vote.getCharacterId())))
+            .collect(Collectors.toList());
+    }
+
+    private static VoteResponseDTO toResponseDTO(String voteId, String voteType, LocalDateTime timestamp,
+                                                 Character character) {
+        return VoteResponseDTO.builder()
+            .voteId(voteId)
+            .characterId(character.getId())
+            .characterName(character.getName())
+            .characterSource(character.getSource())
+            .imageUrl(character.getImageUrl())
+            .description(character.getDescription())
+            .voteType(voteType)
+            .timestamp(timestamp)
+            .build();
+    }
+}
@@ -1,23 +1,37 @@
 package com.pikapikamatch.service;
 
 import com.pikapikamatch.exception.ExternalApiException;
+import com.pikapikamatch.service.external.ExternalApiMetrics;
+import com.pikapikamatch.util.ServerTiming;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClientException;
+import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 /**
  * Service that provides retry logic with exponential backoff for external API calls.
  * Implements resilience patterns to handle temporary failures in external services.
+ * Every attempt and backoff is timed in {@link ExternalApiMetrics}; blocking backoffs
+ * also show up as "retry-wait" in the request's {@link ServerTiming}.
  */
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class RetryService {
     
     private static final int MAX_RETRIES = 3;
     private static final long INITIAL_BACKOFF = 1000; // 1 second
     
+    private final ExternalApiMetrics metrics;
+    
     /**
      * Executes an API call with retry logic and exponential backoff.
      * 
@@ -32,20 +46,29 @@ public class RetryService {
         Exception lastException = null;
         
         while (attempt < MAX_RETRIES) {
+            Timer.Sample sample = metrics.start();
             try {
                 log.debug("Attempting API call to {} (attempt {}/{})", apiName, attempt + 1, MAX_RETRIES);
-                return apiCall.get();
+                T result = apiCall.get();
+                metrics.recordAttempt(sample, apiName, ExternalApiMetrics.SUCCESS);
+                return result;
             } catch (RestClientException e) {
                 lastException = e;
                 attempt++;
+                metrics.recordAttempt(sample, apiName,
+                    attempt < MAX_RETRIES ? ExternalApiMetrics.RETRY : ExternalApiMetrics.FAILURE);
                 
                 if (attempt < MAX_RETRIES) {
                     long backoff = INITIAL_BACKOFF * (long) Math.pow(2, attempt - 1);
                     log.warn("API call to {} failed (attempt {}/{}). Retrying in {}ms. Error: {}",
                         apiName, attempt, MAX_RETRIES, backoff, e.getMessage());
                     
+                    long sleepStart = System.nanoTime();
                     try {
                         Thread.sleep(backoff);
+                        long slept = System.nanoTime() - sleepStart;
+                        metrics.recordBackoff(apiName, Duration.ofNanos(slept));
+                        ServerTiming.record("retry-wait", slept);
                     } catch (InterruptedException ie) {
                         Thread.currentThread().interrupt();
                         log.error("Retry interrupted for {}", apiName, ie);
@@ -55,6 +78,10 @@ public class RetryService {
                     log.error("API call to {} failed after {} attempts. Error: {}", 
                         apiName, MAX_RETRIES, e.getMessage());
                 }
+            } catch (RuntimeException e) {
+                // Not retried (e.g. an unexpected payload)
+                metrics.recordAttempt(sample, apiName, ExternalApiMetrics.FAILURE);
+                throw e;
             }
         }
         
@@ -64,4 +91,47 @@ public class RetryService {
             lastException
         );
     }
+
+    /**
+     * Non-blocking variant of {@link #executeWithRetry(Supplier, String)}, with the same
+     * attempts and backoff, for WebClient calls.
+     * 
+     * @param apiCall The API call to execute, subscribed again on every attempt
+     * @param apiName The name of the API for logging purposes
+     * @param <T> The return type of the API call
+     * @return Mono emitting the result of the successful API call, or failing with
+     *         ExternalApiException once all retry attempts fail
+     */
+    public <T> Mono<T> withRetry(Mono<T> apiCall, String apiName) {
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<T> timedCall = Mono.defer(() -> {
+            int attempt = attempts.incrementAndGet();
+            Timer.Sample sample = metrics.start();
+            return apiCall
+                .doOnSuccess(result -> metrics.recordAttempt(sample, apiName, ExternalApiMetrics.SUCCESS))
+                .doOnError(e -> metrics.recordAttempt(sample, apiName, attempt < MAX_RETRIES && isRetryable(e)
+                    ? ExternalApiMetrics.RETRY : ExternalApiMetrics.FAILURE));
+        });
+        
+        return timedCall.retryWhen(Retry.backoff(MAX_RETRIES - 1, Duration.ofMillis(INITIAL_BACKOFF))
+            .jitter(0)
+            .filter(RetryService::isRetryable)
+            .doBeforeRetry(signal -> {
+                log.warn("API call to {} failed (attempt {}/{}). Retrying. Error: {}",
+                    apiName, signal.totalRetries() + 1, MAX_RETRIES, signal.failure().getMessage());
+                // Without jitter the delay is exactly the exponential backoff of the blocking variant
+                metrics.recordBackoff(apiName, Duration.ofMillis(INITIAL_BACKOFF << signal.totalRetries()));
+            })
+            .onRetryExhaustedThrow((spec, signal) -> {
+                log.error("All {} retry attempts failed for {}", MAX_RETRIES, apiName);
+                return new ExternalApiException(
+                    String.format("Failed to call %s after %d attempts", apiName, MAX_RETRIES),
+                    signal.failure()
+                );
+            }));
+    }
+
+    private static boolean isRetryable(Throwable e) {
+        return e instanceof WebClientException || e instanceof RestClientException;
+    }
 }
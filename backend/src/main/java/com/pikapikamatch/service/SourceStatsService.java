@@ -0,0 +1,180 @@
+package com.pikapikamatch.service;
+
+import com.mongodb.MongoException;
+import com.pikapikamatch.event.SourceStatsChangedEvent;
+import com.pikapikamatch.model.dto.SourceStatsDTO;
+import com.pikapikamatch.model.entity.SourceStats;
+import com.pikapikamatch.repository.SourceStatsRepository;
+import com.pikapikamatch.service.cache.DataVersion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Service for per-source aggregate statistics.
+ * Counters are maintained incrementally on every character change, so reading
+ * them costs one small document per source regardless of how many characters exist.
+ * Increments are applied once the change has committed: there are only a few source
+ * documents, and writing them inside vote transactions would make concurrent votes
+ * of a source conflict. A failed increment leaves the counters slightly off until
+ * the next {@link #rebuild()}.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SourceStatsService {
+
+    /**
+     * Attempts of a rebuild whose transaction conflicts with concurrent increments
+     */
+    private static final int REBUILD_ATTEMPTS = 3;
+
+    private final SourceStatsRepository sourceStatsRepository;
+    private final DataVersion dataVersion;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Builds the statistics from the characters collection on first start,
+     * so counters are never incremented from zero on an existing database.
+     * Several instances starting together may all rebuild; the rebuild sets absolute
+     * totals, so they converge on the same counters.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (sourceStatsRepository.count() == 0) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Applies the counter changes of a committed transaction.
+     * Runs before {@link DataVersion} is bumped, so the new version describes the new counters.
+     *
+     * @param event The event carrying the counter changes
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(1)
+    public void onSourceStatsChanged(SourceStatsChangedEvent event) {
+        try {
+            if (event.getCharacters() > 0) {
+                recordCharacter(event.getSource());
+            }
+            recordVotes(event.getSource(), event.getLikes(), event.getDislikes());
+        } catch (DataAccessException e) {
+            // The change itself is committed, only the aggregate drifts until the next rebuild
+            log.warn("Failed to update statistics of source {}: {}", event.getSource(), e.getMessage());
+        }
+    }
+
+    /**
+     * Records a newly stored character for its source.
+     *
+     * @param source The character source
+     */
+    public void recordCharacter(String source) {
+        if (source == null) {
+            return;
+        }
+        sourceStatsRepository.increment(source, 1, 0, 0);
+    }
+
+    /**
+     * Records likes and dislikes received by a character of the given source.
+     *
+     * @param source The character source
+     * @param likes The number of likes added
+     * @param dislikes The number of dislikes added
+     */
+    public void recordVotes(String source, long likes, long dislikes) {
+        if (source == null || (likes == 0 && dislikes == 0)) {
+            return;
+        }
+        sourceStatsRepository.increment(source, 0, likes, dislikes);
+    }
+
+    /**
+     * Gets the aggregate statistics of every source.
+     *
+     * @return List of SourceStatsDTO sorted by source name
+     */
+    public List<SourceStatsDTO> getSourceStats() {
+        log.debug("Fetching per-source statistics");
+        
+        List<SourceStats> stats = sourceStatsRepository.findAll(Sort.by("source"));
+        
+        log.info("Found statistics for {} sources", stats.size());
+        
+        return stats.stream()
+            .map(SourceStatsService::toDTO)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Recomputes the statistics of every source from the characters collection.
+     * Use it to repair the counters after manual data changes or a failed increment;
+     * it is exposed to operators through the "sourcestats" actuator endpoint only.
+     * <p>
+     * The aggregation and the writes run in one transaction, so the totals come from a
+     * single snapshot; an increment applied in the meantime makes the transaction
+     * conflict, and the rebuild is retried on a fresh snapshot. Only an increment whose
+     * vote committed before the snapshot but which lands after the rebuild commits is
+     * counted twice, in the short gap between a commit and its after-commit callback.
+     *
+     * @return List of rebuilt SourceStatsDTO sorted by source name
+     */
+    public List<SourceStatsDTO> rebuild() {
+        log.info("Rebuilding per-source statistics from characters");
+        
+        List<SourceStats> rebuilt = rebuildInTransaction();
+        dataVersion.bump();
+        
+        log.info("Rebuilt statistics for {} sources", rebuilt.size());
+        
+        return rebuilt.stream()
+            .map(SourceStatsService::toDTO)
+            .sorted(Comparator.comparing(SourceStatsDTO::getSource))
+            .collect(Collectors.toList());
+    }
+
+    private List<SourceStats> rebuildInTransaction() {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> sourceStatsRepository.rebuild());
+            } catch (DataAccessException e) {
+                if (attempt == REBUILD_ATTEMPTS || !isTransient(e)) {
+                    throw e;
+                }
+                log.warn("Rebuild of per-source statistics conflicted (attempt {}/{}), retrying: {}",
+                    attempt, REBUILD_ATTEMPTS, e.getMessage());
+            }
+        }
+    }
+
+    private static boolean isTransient(DataAccessException e) {
+        return e.getMostSpecificCause() instanceof MongoException mongo
+            && mongo.hasErrorLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+    }
+
+    static SourceStatsDTO toDTO(SourceStats stats) {
+        return SourceStatsDTO.builder()
+            .source(stats.getSource())
+            .characterCount(stats.getCharacterCount())
+            .totalLikes(stats.getTotalLikes())
+            .totalDislikes(stats.getTotalDislikes())
+            .totalVotes(stats.getTotalVotes())
+            .likePercentage(stats.getLikePercentage())
+            .dislikePercentage(stats.getDislikePercentage())
+            .build();
+    }
+}
@@ -2,22 +2,30 @@ package com.pikapikamatch.service;
 
 import com.pikapikamatch.exception.ExternalApiException;
 import com.pikapikamatch.model.dto.CharacterStatsDTO;
+import com.pikapikamatch.model.dto.RankingPageDTO;
 import com.pikapikamatch.model.entity.Character;
+import com.pikapikamatch.model.projection.CharacterSummary;
 import com.pikapikamatch.repository.CharacterRepository;
+import com.pikapikamatch.service.leaderboard.LeaderboardService;
 import com.pikapikamatch.util.CharacterMapper;
+import com.pikapikamatch.util.RankingCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Service for managing character statistics operations.
  * Provides methods to query rankings and statistics of characters
  * based on likes and dislikes.
+ * Rankings are served from the in-memory leaderboards when they are loaded,
+ * falling back to covered MongoDB queries on {@link CharacterSummary} otherwise.
  */
 @Service
 @Slf4j
@@ -25,6 +33,7 @@ import java.util.stream.Collectors;
 public class StatsService {
 
     private final CharacterRepository characterRepository;
+    private final LeaderboardService leaderboardService;
 
     /**
      * Gets the character with the most likes.
@@ -35,7 +44,9 @@ public class StatsService {
     public CharacterStatsDTO getMostLiked() {
         log.debug("Fetching most liked character");
         
-        Character mostLiked = characterRepository.findTopByOrderByTotalLikesDesc();
+        CharacterStatsDTO mostLiked = leaderboardService.isReady()
+            ? first(leaderboardService.getTopLiked(1))
+            : firstSummary(characterRepository.findTopLiked(1));
         
         if (mostLiked == null) {
             log.warn("No characters found in database");
@@ -45,7 +56,7 @@ public class StatsService {
         log.info("Most liked character: {} with {} likes", 
             mostLiked.getName(), mostLiked.getTotalLikes());
         
-        return CharacterMapper.toStatsDTO(mostLiked);
+        return mostLiked;
     }
 
     /**
@@ -57,7 +68,9 @@ public class StatsService {
     public CharacterStatsDTO getMostDisliked() {
         log.debug("Fetching most disliked character");
         
-        Character mostDisliked = characterRepository.findTopByOrderByTotalDislikesDesc();
+        CharacterStatsDTO mostDisliked = leaderboardService.isReady()
+            ? first(leaderboardService.getTopDisliked(1))
+            : firstSummary(characterRepository.findTopDisliked(1));
         
         if (mostDisliked == null) {
             log.warn("No characters found in database");
@@ -67,7 +80,7 @@ public class StatsService {
         log.info("Most disliked character: {} with {} dislikes", 
             mostDisliked.getName(), mostDisliked.getTotalDislikes());
         
-        return CharacterMapper.toStatsDTO(mostDisliked);
+        return mostDisliked;
     }
 
     /**
@@ -79,8 +92,13 @@ public class StatsService {
     public List<CharacterStatsDTO> getTopLiked(Integer limit) {
         log.debug("Fetching top {} liked characters", limit);
         
-        PageRequest pageRequest = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "totalLikes"));
-        List<Character> topLiked = characterRepository.findByOrderByTotalLikesDesc(pageRequest);
+        if (servedFromMemory(limit)) {
+            List<CharacterStatsDTO> topLiked = leaderboardService.getTopLiked(limit);
+            log.info("Found {} top liked characters (in-memory)", topLiked.size());
+            return topLiked;
+        }
+        
+        List<CharacterSummary> topLiked = characterRepository.findTopLiked(limit);
         
         log.info("Found {} top liked characters", topLiked.size());
         
@@ -98,8 +116,13 @@ public class StatsService {
     public List<CharacterStatsDTO> getTopDisliked(Integer limit) {
         log.debug("Fetching top {} disliked characters", limit);
         
-        PageRequest pageRequest = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "totalDislikes"));
-        List<Character> topDisliked = characterRepository.findByOrderByTotalDislikesDesc(pageRequest);
+        if (servedFromMemory(limit)) {
+            List<CharacterStatsDTO> topDisliked = leaderboardService.getTopDisliked(limit);
+            log.info("Found {} top disliked characters (in-memory)", topDisliked.size());
+            return topDisliked;
+        }
+        
+        List<CharacterSummary> topDisliked = characterRepository.findTopDisliked(limit);
         
         log.info("Found {} top disliked characters", topDisliked.size());
         
@@ -107,4 +130,131 @@ public class StatsService {
             .map(CharacterMapper::toStatsDTO)
             .collect(Collectors.toList());
     }
+
+    /**
+     * Gets the top N characters by rating score, the Wilson lower bound of their like ratio.
+     * Unlike raw like counts this favours characters that are liked consistently, and
+     * is served by a range scan on the precomputed, indexed score.
+     *
+     * @param limit The maximum number of characters to return
+     * @return List of CharacterStatsDTO sorted by rating score in descending order
+     */
+    public List<CharacterStatsDTO> getTopRated(Integer limit) {
+        log.debug("Fetching top {} rated characters", limit);
+        
+        List<Character> topRated = characterRepository.findTopRated(limit);
+        
+        log.info("Found {} top rated characters", topRated.size());
+        
+        return topRated.stream()
+            .map(CharacterMapper::toStatsDTO)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the top N most controversial characters: those with a close split between
+     * likes and dislikes over enough votes to be confident about it.
+     * Served by a range scan on the precomputed, indexed controversy score.
+     *
+     * @param limit The maximum number of characters to return
+     * @return List of CharacterStatsDTO sorted by controversy score in descending order
+     */
+    public List<CharacterStatsDTO> getMostControversial(Integer limit) {
+        log.debug("Fetching top {} controversial characters", limit);
+        
+        List<Character> controversial = characterRepository.findMostControversial(limit);
+        
+        log.info("Found {} controversial characters", controversial.size());
+        
+        return controversial.stream()
+            .map(CharacterMapper::toStatsDTO)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets one page of the full likes ranking using keyset pagination.
+     * Each page seeks directly to the position encoded in the cursor, so deep pages
+     * cost the same as the first one.
+     *
+     * @param limit The maximum number of characters to return
+     * @param cursor The continuation token from the previous page, or null for the first page
+     * @return RankingPageDTO with the characters and the next cursor
+     * @throws com.pikapikamatch.exception.ValidationException if the cursor is invalid
+     */
+    public RankingPageDTO getLikesRanking(Integer limit, String cursor) {
+        log.debug("Fetching likes ranking page of {} (cursor: {})", limit, cursor);
+        
+        PageRequest pageRequest = rankingPage(limit, CharacterRepository.LIKES_RANKING_SORT);
+        List<CharacterSummary> characters;
+        if (cursor == null) {
+            characters = characterRepository.findLikesRanking(pageRequest);
+        } else {
+            RankingCursor after = RankingCursor.decode(cursor, "likes");
+            characters = characterRepository.findLikesRankingAfter(after.count(), after.id(), pageRequest);
+        }
+        
+        return toRankingPage(characters, limit, "likes", CharacterSummary::getTotalLikes);
+    }
+
+    /**
+     * Gets one page of the full dislikes ranking using keyset pagination.
+     * Each page seeks directly to the position encoded in the cursor, so deep pages
+     * cost the same as the first one.
+     *
+     * @param limit The maximum number of characters to return
+     * @param cursor The continuation token from the previous page, or null for the first page
+     * @return RankingPageDTO with the characters and the next cursor
+     * @throws com.pikapikamatch.exception.ValidationException if the cursor is invalid
+     */
+    public RankingPageDTO getDislikesRanking(Integer limit, String cursor) {
+        log.debug("Fetching dislikes ranking page of {} (cursor: {})", limit, cursor);
+        
+        PageRequest pageRequest = rankingPage(limit, CharacterRepository.DISLIKES_RANKING_SORT);
+        List<CharacterSummary> characters;
+        if (cursor == null) {
+            characters = characterRepository.findDislikesRanking(pageRequest);
+        } else {
+            RankingCursor after = RankingCursor.decode(cursor, "dislikes");
+            characters = characterRepository.findDislikesRankingAfter(after.count(), after.id(), pageRequest);
+        }
+        
+        return toRankingPage(characters, limit, "dislikes", CharacterSummary::getTotalDislikes);
+    }
+
+    static PageRequest rankingPage(Integer limit, Sort sort) {
+        // Fetch one extra row to know whether another page exists
+        return PageRequest.of(0, limit + 1, sort);
+    }
+
+    static RankingPageDTO toRankingPage(List<CharacterSummary> characters, Integer limit, String ranking,
+                                       Function<CharacterSummary, Integer> count) {
+        boolean hasMore = characters.size() > limit;
+        List<CharacterSummary> page = hasMore ? characters.subList(0, limit) : characters;
+        
+        String nextCursor = null;
+        if (hasMore) {
+            CharacterSummary last = page.get(page.size() - 1);
+            nextCursor = new RankingCursor(ranking, count.apply(last), new ObjectId(last.getId())).encode();
+        }
+        
+        log.info("Found {} characters for {} ranking page (more: {})", page.size(), ranking, hasMore);
+        
+        return RankingPageDTO.builder()
+            .items(page.stream().map(CharacterMapper::toStatsDTO).collect(Collectors.toList()))
+            .nextCursor(nextCursor)
+            .hasMore(hasMore)
+            .build();
+    }
+
+    private boolean servedFromMemory(Integer limit) {
+        return leaderboardService.isReady() && limit <= leaderboardService.capacity();
+    }
+
+    private static CharacterStatsDTO first(List<CharacterStatsDTO> characters) {
+        return characters.isEmpty() ? null : characters.get(0);
+    }
+
+    private static CharacterStatsDTO firstSummary(List<CharacterSummary> characters) {
+        return characters.isEmpty() ? null : CharacterMapper.toStatsDTO(characters.get(0));
+    }
 }
@@ -0,0 +1,74 @@
+package com.pikapikamatch.service;
+
+import com.pikapikamatch.exception.ExternalApiException;
+import com.pikapikamatch.model.dto.CharacterStatsDTO;
+import com.pikapikamatch.model.dto.StatsSummaryDTO;
+import com.pikapikamatch.service.cache.StatsCache;
+import com.pikapikamatch.util.SubtaskScope;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Supplier;
+
+/**
+ * Service that assembles the dashboard summary.
+ * Runs the independent statistics queries concurrently, as subtasks of a
+ * {@link SubtaskScope}, and combines them into a single payload.
+ */
+@Service
+@Slf4j
+public class StatsSummaryService {
+
+    private final StatsCache statsCache;
+    private final VoteService voteService;
+    private final TaskExecutor executor;
+
+    public StatsSummaryService(StatsCache statsCache,
+                               VoteService voteService,
+                               @Qualifier("statsQueryExecutor") TaskExecutor executor) {
+        this.statsCache = statsCache;
+        this.voteService = voteService;
+        this.executor = executor;
+    }
+
+    /**
+     * Gets the dashboard summary.
+     * Missing data (no characters or no votes yet) is returned as null fields
+     * instead of failing the whole summary.
+     *
+     * @param limit The maximum number of characters in each ranking
+     * @return StatsSummaryDTO with rankings and the last vote
+     */
+    public StatsSummaryDTO getSummary(Integer limit) {
+        log.debug("Fetching stats summary with top {} rankings", limit);
+        
+        // A failed query cancels the others instead of leaving them running
+        try (SubtaskScope scope = new SubtaskScope(executor)) {
+            var mostLiked = scope.fork(() -> orNull(statsCache::getMostLiked));
+            var mostDisliked = scope.fork(() -> orNull(statsCache::getMostDisliked));
+            var topLiked = scope.fork(() -> statsCache.getTopLiked(limit));
+            var topDisliked = scope.fork(() -> statsCache.getTopDisliked(limit));
+            var lastVote = scope.fork(voteService::getLastEvaluated);
+            
+            scope.join();
+            
+            return StatsSummaryDTO.builder()
+                .mostLiked(mostLiked.get())
+                .mostDisliked(mostDisliked.get())
+                .topLiked(topLiked.get())
+                .topDisliked(topDisliked.get())
+                .lastVote(lastVote.get())
+                .build();
+        }
+    }
+
+    private static CharacterStatsDTO orNull(Supplier<CharacterStatsDTO> query) {
+        try {
+            return query.get();
+        } catch (ExternalApiException e) {
+            return null;
+        }
+    }
+}
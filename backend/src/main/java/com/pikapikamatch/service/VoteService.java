@@ -1,13 +1,18 @@
 package com.pikapikamatch.service;
 
+import com.pikapikamatch.event.CharacterUpdatedEvent;
+import com.pikapikamatch.event.SourceStatsChangedEvent;
+import com.pikapikamatch.event.VoteCreatedEvent;
 import com.pikapikamatch.model.dto.VoteRequestDTO;
 import com.pikapikamatch.model.dto.VoteResponseDTO;
 import com.pikapikamatch.model.entity.Character;
 import com.pikapikamatch.model.entity.Vote;
 import com.pikapikamatch.repository.CharacterRepository;
 import com.pikapikamatch.repository.VoteRepository;
+import com.pikapikamatch.util.CharacterMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
@@ -25,6 +30,7 @@ public class VoteService {
     private final VoteRepository voteRepository;
     private final CharacterRepository characterRepository;
     private final CharacterService characterService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public VoteResponseDTO createVote(VoteRequestDTO request) {
@@ -41,7 +47,7 @@ public class VoteService {
             log.debug("Incremented dislikes for {}: {}", character.getName(), character.getTotalDislikes());
         }
         
-        character.setTotalVotes(character.getTotalLikes() + character.getTotalDislikes());
+        character.updateScores();
         
         Character updatedCharacter = characterRepository.save(character);
         log.info("Updated character counters for {}: {} likes, {} dislikes, {} total",
@@ -59,7 +65,7 @@ public class VoteService {
         log.info("Successfully created vote with ID: {} for character: {}", 
             savedVote.getId(), updatedCharacter.getName());
         
-        return VoteResponseDTO.builder()
+        VoteResponseDTO response = VoteResponseDTO.builder()
             .voteId(savedVote.getId())
             .characterId(updatedCharacter.getId())
             .characterName(updatedCharacter.getName())
@@ -69,6 +75,14 @@ public class VoteService {
             .voteType(savedVote.getVoteType())
             .timestamp(savedVote.getTimestamp())
             .build();
+        
+        eventPublisher.publishEvent(new SourceStatsChangedEvent(updatedCharacter.getSource(), 0,
+            "like".equals(request.getVoteType()) ? 1 : 0,
+            "dislike".equals(request.getVoteType()) ? 1 : 0));
+        eventPublisher.publishEvent(new CharacterUpdatedEvent(CharacterMapper.toStatsDTO(updatedCharacter)));
+        eventPublisher.publishEvent(new VoteCreatedEvent(response));
+        
+        return response;
     }
 
     public List<VoteResponseDTO> getRecentVotes(Integer limit) {
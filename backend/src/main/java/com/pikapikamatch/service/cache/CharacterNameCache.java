@@ -0,0 +1,143 @@
+package com.pikapikamatch.service.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.pikapikamatch.event.CharacterUpdatedEvent;
+import com.pikapikamatch.model.dto.CharacterStatsDTO;
+import com.pikapikamatch.util.NameNormalizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of character statistics keyed by normalized name.
+ * Popular names are looked up far more often than they change, so entries are
+ * updated in place from every committed counter change instead of being evicted,
+ * and hot lookups never reach MongoDB. The TTL only bounds staleness for writes
+ * made by other instances.
+ * <p>
+ * Loads run on their own virtual threads rather than inside the cache's map
+ * compute (a synchronized block), so a request thread waiting on MongoDB never
+ * pins its carrier when requests are served on virtual threads.
+ */
+@Component
+@Slf4j
+public class CharacterNameCache {
+
+    private final AsyncCache<String, CharacterStatsDTO> cache;
+
+    public CharacterNameCache(@Value("${characters.name-cache.maximum-size:10000}") long maximumSize,
+                              @Value("${characters.name-cache.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .executor(new VirtualThreadTaskExecutor("name-cache-load-"))
+            .buildAsync();
+    }
+
+    /**
+     * Returns the cached statistics for a name, loading them on a miss.
+     * Concurrent misses on the same name share a single load; a loader returning
+     * null is not cached.
+     *
+     * @param normalizedName The normalized character name
+     * @param loader Loads the statistics for the name, or returns null if there is no such character
+     * @return The character statistics, or null if the loader found nothing
+     */
+    public CharacterStatsDTO get(String normalizedName, Function<String, CharacterStatsDTO> loader) {
+        try {
+            return cache.get(normalizedName, loader).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #get(String, Function)} for the reactive stack.
+     * The loader's future is cached as is, so a miss never blocks the calling thread.
+     *
+     * @param normalizedName The normalized character name
+     * @param loader Starts loading the statistics for the name; completes with null if there is no such character
+     * @return Future of the character statistics, completing with null if the loader found nothing
+     */
+    public CompletableFuture<CharacterStatsDTO> getAsync(String normalizedName,
+                                                         Function<String, CompletableFuture<CharacterStatsDTO>> loader) {
+        return cache.get(normalizedName, (name, executor) -> loader.apply(name));
+    }
+
+    /**
+     * Replaces the cached statistics of an updated character once the change has committed.
+     * Names that are not cached stay uncached, older snapshots never replace newer ones, and
+     * loads still in flight are evicted rather than cached with counters from before the change.
+     *
+     * @param event The event carrying the updated character snapshot
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(2)
+    public void onCharacterUpdated(CharacterUpdatedEvent event) {
+        CharacterStatsDTO updated = event.getCharacter();
+        String key = NameNormalizer.normalize(updated.getName());
+        if (key == null) {
+            return;
+        }
+
+        cache.asMap().computeIfPresent(key, (name, future) -> {
+            if (!future.isDone()) {
+                // A load in flight may have read the counters before this commit: drop it so the
+                // next lookup reloads, while callers already waiting on it still get its result
+                return null;
+            }
+            CharacterStatsDTO cached = future.isCompletedExceptionally() ? null : future.join();
+            return cached != null && replaces(updated, cached) ? CompletableFuture.completedFuture(updated) : future;
+        });
+    }
+
+    /**
+     * @return Caffeine statistics of the cache (hits, misses, evictions, load times)
+     */
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    /**
+     * Periodically logs hit ratio and eviction count.
+     */
+    @Scheduled(
+        initialDelayString = "${stats.cache.report-interval:300000}",
+        fixedDelayString = "${stats.cache.report-interval:300000}"
+    )
+    public void report() {
+        CacheStats stats = stats();
+        log.info("Character name cache: {} entries, {} requests, hit ratio {}%, {} misses, {} evictions",
+            cache.synchronous().estimatedSize(),
+            stats.requestCount(),
+            String.format("%.1f", stats.hitRate() * 100),
+            stats.missCount(),
+            stats.evictionCount());
+    }
+
+    private static boolean replaces(CharacterStatsDTO updated, CharacterStatsDTO cached) {
+        // Several characters can share a name: only the cached one may replace itself
+        return updated.getId() != null
+            && updated.getId().equals(cached.getId())
+            && totalVotes(updated) >= totalVotes(cached);
+    }
+
+    private static int totalVotes(CharacterStatsDTO character) {
+        return character.getTotalVotes() != null ? character.getTotalVotes() : 0;
+    }
+}
@@ -0,0 +1,69 @@
+package com.pikapikamatch.service.cache;
+
+import com.pikapikamatch.event.CharacterUpdatedEvent;
+import com.pikapikamatch.event.RankingsReloadedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Global data version counter.
+ * Bumped after every committed counter change, once the in-memory rankings and
+ * caches have been updated, so a version number never describes older data, and
+ * after any other write served by the versioned endpoints.
+ * Used to build ETags that can be validated without running any query.
+ * <p>
+ * The counter starts at a random value on every boot: versions are only comparable
+ * within one process, and a restarted or different instance must never reuse a
+ * version that named other data, or clients would get a 304 for a stale body.
+ */
+@Component
+public class DataVersion {
+
+    // Far below Long.MAX_VALUE, so bumps never overflow
+    private final AtomicLong version = new AtomicLong(ThreadLocalRandom.current().nextLong(Long.MAX_VALUE >> 1));
+
+    /**
+     * @return The current data version
+     */
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * Invalidates every ETag built from an older version.
+     * Call it once the write is visible to readers.
+     *
+     * @return The new data version
+     */
+    public long bump() {
+        return version.incrementAndGet();
+    }
+
+    /**
+     * Bumps the version after all other listeners have processed the change.
+     *
+     * @param event The event carrying the updated character snapshot
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onCharacterUpdated(CharacterUpdatedEvent event) {
+        bump();
+    }
+
+    /**
+     * Bumps the version once the caches have dropped data changed by another instance.
+     *
+     * @param event The reload event
+     */
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onRankingsReloaded(RankingsReloadedEvent event) {
+        bump();
+    }
+}
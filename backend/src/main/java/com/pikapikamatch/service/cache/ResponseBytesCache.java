@@ -0,0 +1,155 @@
+package com.pikapikamatch.service.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pikapikamatch.event.CharacterUpdatedEvent;
+import com.pikapikamatch.event.RankingsReloadedEvent;
+import com.pikapikamatch.util.ContentCodings;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache of encoded response bodies for hot, rarely changing endpoints.
+ * Bodies are cached per ETag, which identifies the endpoint, its parameters, the
+ * data version and the representation, and per negotiated media type (JSON, CBOR or
+ * Smile, see {@link ResponseFormats}). Bodies over
+ * {@code server.compression.min-response-size} are also kept gzipped, and sent as is
+ * to clients accepting gzip; Tomcat leaves responses with a Content-Encoding alone.
+ * <p>
+ * A counter change moves the data version, so newer requests miss on their new ETag;
+ * entries of older versions are dropped at the same time. The TTL bounds staleness
+ * for writes made by other instances, like {@link StatsCache}'s.
+ */
+@Component
+@Profile("!reactive")
+public class ResponseBytesCache {
+
+    private final Map<MediaType, ObjectMapper> encoders = new LinkedHashMap<>();
+    private final ResponseFormats responseFormats;
+    private final Cache<Key, Encoded> cache;
+    private final boolean compress;
+    private final long minCompressSize;
+
+    public ResponseBytesCache(List<AbstractJackson2HttpMessageConverter> converters,
+                              ResponseFormats responseFormats,
+                              @Value("${stats.response-cache.maximum-size:500}") long maximumSize,
+                              @Value("${stats.response-cache.ttl:10s}") Duration ttl,
+                              @Value("${server.compression.enabled:false}") boolean compress,
+                              @Value("${server.compression.min-response-size:2KB}") DataSize minCompressSize) {
+        for (MediaType mediaType : responseFormats.getMediaTypes()) {
+            // The first converter able to write the type, as Spring MVC would pick it
+            converters.stream()
+                .filter(converter -> converter.getSupportedMediaTypes().contains(mediaType))
+                .findFirst()
+                .map(AbstractJackson2HttpMessageConverter::getObjectMapper)
+                .ifPresentOrElse(mapper -> encoders.put(mediaType, mapper), () -> {
+                    throw new IllegalStateException("No message converter to encode cached " + mediaType + " responses");
+                });
+        }
+        this.responseFormats = responseFormats;
+
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .build();
+        this.compress = compress;
+        this.minCompressSize = minCompressSize.toBytes();
+    }
+
+    /**
+     * Builds a 200 response from the cached body for the ETag and the media type
+     * accepted by the client, encoding the body on a miss.
+     *
+     * @param request The request, for its Accept and Accept-Encoding headers
+     * @param eTag The strong ETag of the negotiated representation, see {@link ResponseFormats#eTag}
+     * @param body Supplies the response body on a miss; exceptions are propagated and nothing is cached
+     * @return ResponseEntity with the encoded body
+     */
+    public ResponseEntity<byte[]> ok(HttpServletRequest request, String eTag, Supplier<?> body) {
+        MediaType mediaType = responseFormats.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        Encoded encoded = cache.get(new Key(eTag, mediaType), key -> encode(encoders.get(mediaType), body.get()));
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(mediaType)
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (encoded.gzipped() != null && ContentCodings.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            // Different bytes than the identity encoding, so only a weak validator
+            return response
+                .eTag("W/" + eTag)
+                .header(HttpHeaders.CONTENT_ENCODING, ContentCodings.GZIP)
+                .body(encoded.gzipped());
+        }
+        return response
+            .eTag(eTag)
+            .body(encoded.body());
+    }
+
+    /**
+     * Drops the bodies of the previous data version once a counter change has committed.
+     *
+     * @param event The event carrying the updated character snapshot
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(2)
+    public void onCharacterUpdated(CharacterUpdatedEvent event) {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Drops every cached body when a reconcile found data changed by another instance.
+     *
+     * @param event The reload event
+     */
+    @EventListener
+    @Order(2)
+    public void onRankingsReloaded(RankingsReloadedEvent event) {
+        cache.invalidateAll();
+    }
+
+    private Encoded encode(ObjectMapper mapper, Object body) {
+        try {
+            byte[] bytes = mapper.writeValueAsBytes(body);
+            return new Encoded(bytes, compress && bytes.length >= minCompressSize ? gzip(bytes) : null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode response body", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private record Key(String eTag, MediaType mediaType) {
+    }
+
+    private record Encoded(byte[] body, byte[] gzipped) {
+    }
+}
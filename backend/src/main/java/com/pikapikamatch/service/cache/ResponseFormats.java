@@ -0,0 +1,81 @@
+package com.pikapikamatch.service.cache;
+
+import com.pikapikamatch.util.ETags;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The media types API responses can be encoded in, negotiated with the Accept header.
+ * Declared by {@code BinaryContentConfig} and {@code ReactiveConfig}, which know what each
+ * web stack can encode. Versioned endpoints use it to give every representation its own
+ * ETag, so a client holding the CBOR body never gets a 304 for the JSON one.
+ */
+public class ResponseFormats {
+
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    private final List<MediaType> mediaTypes;
+
+    /**
+     * @param mediaTypes The supported media types; JSON must come first, it answers clients without a preference
+     */
+    public ResponseFormats(List<MediaType> mediaTypes) {
+        if (mediaTypes.isEmpty() || !MediaType.APPLICATION_JSON.equals(mediaTypes.get(0))) {
+            throw new IllegalArgumentException("JSON must be the first response format");
+        }
+        this.mediaTypes = List.copyOf(mediaTypes);
+    }
+
+    /**
+     * @return The supported media types, JSON first
+     */
+    public List<MediaType> getMediaTypes() {
+        return mediaTypes;
+    }
+
+    /**
+     * Picks the media type of the response, as message converters and codecs do:
+     * the supported type best matching the Accept header, JSON when none is requested.
+     *
+     * @param accept The Accept header value (may be null)
+     * @return The negotiated media type
+     */
+    public MediaType negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+
+        List<MediaType> acceptable;
+        try {
+            acceptable = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (IllegalArgumentException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        acceptable.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType candidate : acceptable) {
+            if (candidate.getQualityValue() == 0) {
+                break;
+            }
+            for (MediaType supported : mediaTypes) {
+                if (candidate.includes(supported)) {
+                    return supported;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    /**
+     * Builds the ETag of the representation the client will get.
+     *
+     * @param accept The Accept header value (may be null)
+     * @param eTag The quoted ETag of the resource data
+     * @return The quoted ETag of the negotiated representation
+     */
+    public String eTag(String accept, String eTag) {
+        return ETags.forRepresentation(eTag, negotiate(accept));
+    }
+}
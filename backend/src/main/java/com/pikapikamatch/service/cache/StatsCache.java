@@ -0,0 +1,247 @@
+package com.pikapikamatch.service.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.pikapikamatch.event.CharacterUpdatedEvent;
+import com.pikapikamatch.event.RankingsReloadedEvent;
+import com.pikapikamatch.model.dto.CharacterStatsDTO;
+import com.pikapikamatch.service.StatsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Read-through cache in front of {@link StatsService}.
+ * Each statistics query has its own bounded cache with a TTL and refresh-ahead,
+ * concurrent misses on the same key collapse into a single load, and a character
+ * counter change only evicts the cached rankings that character is in or can now enter.
+ * Votes on characters far from the top of a ranking leave it cached.
+ */
+@Component
+@Slf4j
+public class StatsCache {
+
+    private static final String SINGLE_KEY = "current";
+
+    private final LoadingCache<String, CharacterStatsDTO> mostLiked;
+    private final LoadingCache<String, CharacterStatsDTO> mostDisliked;
+    private final LoadingCache<Integer, List<CharacterStatsDTO>> topLiked;
+    private final LoadingCache<Integer, List<CharacterStatsDTO>> topDisliked;
+    private final LoadingCache<Integer, List<CharacterStatsDTO>> topRated;
+    private final LoadingCache<Integer, List<CharacterStatsDTO>> mostControversial;
+
+    public StatsCache(StatsService statsService,
+                      @Value("${stats.cache.maximum-size:200}") long maximumSize,
+                      @Value("${stats.cache.ttl:30s}") Duration ttl,
+                      @Value("${stats.cache.refresh-after:10s}") Duration refreshAfter) {
+        this.mostLiked = build(maximumSize, ttl, refreshAfter, key -> statsService.getMostLiked());
+        this.mostDisliked = build(maximumSize, ttl, refreshAfter, key -> statsService.getMostDisliked());
+        this.topLiked = build(maximumSize, ttl, refreshAfter, limit -> List.copyOf(statsService.getTopLiked(limit)));
+        this.topDisliked = build(maximumSize, ttl, refreshAfter, limit -> List.copyOf(statsService.getTopDisliked(limit)));
+        this.topRated = build(maximumSize, ttl, refreshAfter, limit -> List.copyOf(statsService.getTopRated(limit)));
+        this.mostControversial = build(maximumSize, ttl, refreshAfter,
+            limit -> List.copyOf(statsService.getMostControversial(limit)));
+    }
+
+    /**
+     * @return The most liked character (cached)
+     * @see StatsService#getMostLiked()
+     */
+    public CharacterStatsDTO getMostLiked() {
+        return mostLiked.get(SINGLE_KEY);
+    }
+
+    /**
+     * @return The most disliked character (cached)
+     * @see StatsService#getMostDisliked()
+     */
+    public CharacterStatsDTO getMostDisliked() {
+        return mostDisliked.get(SINGLE_KEY);
+    }
+
+    /**
+     * @param limit The maximum number of characters to return
+     * @return The top liked characters (cached per limit)
+     * @see StatsService#getTopLiked(Integer)
+     */
+    public List<CharacterStatsDTO> getTopLiked(Integer limit) {
+        return topLiked.get(limit);
+    }
+
+    /**
+     * @param limit The maximum number of characters to return
+     * @return The top disliked characters (cached per limit)
+     * @see StatsService#getTopDisliked(Integer)
+     */
+    public List<CharacterStatsDTO> getTopDisliked(Integer limit) {
+        return topDisliked.get(limit);
+    }
+
+    /**
+     * @param limit The maximum number of characters to return
+     * @return The top rated characters (cached per limit)
+     * @see StatsService#getTopRated(Integer)
+     */
+    public List<CharacterStatsDTO> getTopRated(Integer limit) {
+        return topRated.get(limit);
+    }
+
+    /**
+     * @param limit The maximum number of characters to return
+     * @return The most controversial characters (cached per limit)
+     * @see StatsService#getMostControversial(Integer)
+     */
+    public List<CharacterStatsDTO> getMostControversial(Integer limit) {
+        return mostControversial.get(limit);
+    }
+
+    /**
+     * Evicts the cached rankings a counter change can alter once it has committed.
+     * A ranking changes if it lists the character, or if the character now scores at
+     * least as high as its last entry or the ranking still has room; rankings are
+     * evicted rather than patched since the character may push another one out.
+     *
+     * @param event The event carrying the updated character snapshot
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(2)
+    public void onCharacterUpdated(CharacterUpdatedEvent event) {
+        CharacterStatsDTO updated = event.getCharacter();
+        evict(mostLiked, updated, StatsCache::likes);
+        evict(mostDisliked, updated, StatsCache::dislikes);
+        evictRankings(topLiked, updated, StatsCache::likes);
+        evictRankings(topDisliked, updated, StatsCache::dislikes);
+        evictRankings(topRated, updated, StatsCache::ratingScore);
+        evictRankings(mostControversial, updated, StatsCache::controversyScore);
+    }
+
+    /**
+     * Drops every cached ranking when a reconcile found data changed by another instance.
+     *
+     * @param event The reload event
+     */
+    @EventListener
+    @Order(2)
+    public void onRankingsReloaded(RankingsReloadedEvent event) {
+        invalidateAll();
+    }
+
+    /**
+     * Removes all cached entries.
+     */
+    public void invalidateAll() {
+        mostLiked.invalidateAll();
+        mostDisliked.invalidateAll();
+        topLiked.invalidateAll();
+        topDisliked.invalidateAll();
+        topRated.invalidateAll();
+        mostControversial.invalidateAll();
+    }
+
+    /**
+     * Returns the statistics of each cache, keyed by cache name.
+     *
+     * @return Map of cache name to Caffeine statistics
+     */
+    public Map<String, CacheStats> stats() {
+        Map<String, CacheStats> stats = new LinkedHashMap<>();
+        stats.put("most-liked", mostLiked.stats());
+        stats.put("most-disliked", mostDisliked.stats());
+        stats.put("top-liked", topLiked.stats());
+        stats.put("top-disliked", topDisliked.stats());
+        stats.put("top-rated", topRated.stats());
+        stats.put("most-controversial", mostControversial.stats());
+        return stats;
+    }
+
+    /**
+     * Periodically logs hit ratio and average load time for each cache.
+     */
+    @Scheduled(
+        initialDelayString = "${stats.cache.report-interval:300000}",
+        fixedDelayString = "${stats.cache.report-interval:300000}"
+    )
+    public void report() {
+        stats().forEach((name, stats) -> log.info(
+            "Stats cache '{}': {} requests, hit ratio {}%, {} loads, avg load time {}ms, {} evictions",
+            name,
+            stats.requestCount(),
+            String.format("%.1f", stats.hitRate() * 100),
+            stats.loadCount(),
+            String.format("%.2f", stats.averageLoadPenalty() / 1_000_000.0),
+            stats.evictionCount()));
+    }
+
+    private static void evict(LoadingCache<String, CharacterStatsDTO> cache, CharacterStatsDTO updated,
+                              ToDoubleFunction<CharacterStatsDTO> score) {
+        // Read through asMap() so the check is not counted as a cache request
+        CharacterStatsDTO cached = cache.asMap().get(SINGLE_KEY);
+        if (cached != null && (sameCharacter(cached, updated)
+                || score.applyAsDouble(updated) >= score.applyAsDouble(cached))) {
+            cache.invalidate(SINGLE_KEY);
+        }
+    }
+
+    private static void evictRankings(LoadingCache<Integer, List<CharacterStatsDTO>> cache,
+                                      CharacterStatsDTO updated, ToDoubleFunction<CharacterStatsDTO> score) {
+        cache.asMap().forEach((limit, ranking) -> {
+            if (affects(ranking, limit, updated, score)) {
+                cache.invalidate(limit);
+            }
+        });
+    }
+
+    private static boolean affects(List<CharacterStatsDTO> ranking, int limit, CharacterStatsDTO updated,
+                                   ToDoubleFunction<CharacterStatsDTO> score) {
+        for (CharacterStatsDTO character : ranking) {
+            if (sameCharacter(character, updated)) {
+                return true;
+            }
+        }
+        // Ties are ordered by id, so an equal score may still enter
+        return ranking.size() < limit
+            || score.applyAsDouble(updated) >= score.applyAsDouble(ranking.get(ranking.size() - 1));
+    }
+
+    private static boolean sameCharacter(CharacterStatsDTO cached, CharacterStatsDTO updated) {
+        return cached.getId() != null && cached.getId().equals(updated.getId());
+    }
+
+    private static double likes(CharacterStatsDTO character) {
+        return character.getTotalLikes() != null ? character.getTotalLikes() : 0;
+    }
+
+    private static double dislikes(CharacterStatsDTO character) {
+        return character.getTotalDislikes() != null ? character.getTotalDislikes() : 0;
+    }
+
+    private static double ratingScore(CharacterStatsDTO character) {
+        return character.getRatingScore() != null ? character.getRatingScore() : 0.0;
+    }
+
+    private static double controversyScore(CharacterStatsDTO character) {
+        return character.getControversyScore() != null ? character.getControversyScore() : 0.0;
+    }
+
+    private static <K, V> LoadingCache<K, V> build(long maximumSize, Duration ttl, Duration refreshAfter,
+                                                   Function<K, V> loader) {
+        return Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .refreshAfterWrite(refreshAfter)
+            .recordStats()
+            .build(loader::apply);
+    }
+}
@@ -0,0 +1,176 @@
+package com.pikapikamatch.service.diagnostics;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Detects virtual threads pinned to their carrier thread.
+ * A virtual thread that blocks inside a synchronized block or below a native frame
+ * cannot unmount, so it holds one of the few carrier threads for the whole wait.
+ * The JVM reports these waits as {@code jdk.VirtualThreadPinned} JFR events; this
+ * monitor streams them, logs the stack of every new pinning site once and
+ * periodically reports how often each site pinned.
+ * Only active when requests are served on virtual threads.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.pikapikamatch.";
+
+    private final Duration threshold;
+    private final int stackDepth;
+    private final Map<String, LongAdder> sites = new ConcurrentHashMap<>();
+    private final LongAdder pinned = new LongAdder();
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(@Value("${threads.pinning.threshold:20ms}") Duration threshold,
+                                       @Value("${threads.pinning.stack-depth:8}") int stackDepth) {
+        this.threshold = threshold;
+        this.stackDepth = stackDepth;
+    }
+
+    /**
+     * Starts streaming pinning events once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (stream != null) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Monitoring virtual threads pinned for more than {}ms", threshold.toMillis());
+    }
+
+    /**
+     * Stops the event stream.
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    /**
+     * @return The number of pinning events seen since startup
+     */
+    public long pinnedCount() {
+        return pinned.sum();
+    }
+
+    /**
+     * @return Number of pinning events per site (stack summary), most frequent first
+     */
+    public Map<String, Long> pinnedSites() {
+        Map<String, Long> snapshot = new LinkedHashMap<>();
+        sites.entrySet().stream()
+            .sorted((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()))
+            .forEach(entry -> snapshot.put(entry.getKey(), entry.getValue().sum()));
+        return snapshot;
+    }
+
+    /**
+     * Periodically logs the pinning sites seen so far.
+     */
+    @Scheduled(
+        initialDelayString = "${threads.pinning.report-interval:300000}",
+        fixedDelayString = "${threads.pinning.report-interval:300000}"
+    )
+    public void report() {
+        if (pinned.sum() == 0) {
+            return;
+        }
+        log.warn("Virtual threads pinned {} times at {} sites", pinned.sum(), sites.size());
+        pinnedSites().forEach((site, count) -> log.warn("{} pinning events at:\n{}", count, site));
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.increment();
+        String site = describe(event.getStackTrace());
+        LongAdder count = new LongAdder();
+        LongAdder existing = sites.putIfAbsent(site, count);
+        (existing != null ? existing : count).increment();
+
+        if (existing == null) {
+            log.warn("Virtual thread pinned for {}ms on thread '{}' at:\n{}",
+                event.getDuration().toMillis(),
+                event.getThread() != null ? event.getThread().getJavaName() : "unknown",
+                site);
+        }
+    }
+
+    /**
+     * Summarizes a stack: its top frames, plus the first application frame when it is
+     * deeper. Synchronized and native methods are flagged since they are what pins.
+     */
+    private String describe(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t(no stack trace)";
+        }
+
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        StringBuilder site = new StringBuilder();
+        int shown = Math.min(stackDepth, frames.size());
+        boolean applicationFrameShown = false;
+        for (int i = 0; i < shown; i++) {
+            applicationFrameShown |= isApplicationFrame(frames.get(i));
+            appendFrame(site, frames.get(i));
+        }
+
+        if (!applicationFrameShown) {
+            frames.stream()
+                .skip(shown)
+                .filter(VirtualThreadPinningMonitor::isApplicationFrame)
+                .findFirst()
+                .ifPresent(frame -> appendFrame(site.append("\t...\n"), frame));
+        }
+        return site.toString().stripTrailing();
+    }
+
+    private static void appendFrame(StringBuilder site, RecordedFrame frame) {
+        int modifiers = frame.getMethod().getModifiers();
+        site.append("\tat ")
+            .append(frame.getMethod().getType().getName())
+            .append('.')
+            .append(frame.getMethod().getName())
+            .append(frame.getLineNumber() > 0 ? ":" + frame.getLineNumber() : "");
+        if (Modifier.isSynchronized(modifiers)) {
+            site.append(" [synchronized]");
+        }
+        if (Modifier.isNative(modifiers)) {
+            site.append(" [native]");
+        }
+        site.append('\n');
+    }
+
+    private static boolean isApplicationFrame(RecordedFrame frame) {
+        return frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE);
+    }
+}
@@ -0,0 +1,103 @@
+package com.pikapikamatch.service.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.pikapikamatch.model.dto.CharacterStatsDTO;
+import com.pikapikamatch.model.dto.VoteExportDTO;
+import com.pikapikamatch.model.entity.Character;
+import com.pikapikamatch.repository.CharacterRepository;
+import com.pikapikamatch.repository.VoteRepository;
+import com.pikapikamatch.util.CharacterMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Service that exports votes and characters as NDJSON (one JSON document per line).
+ * Rows are read from a MongoDB cursor and written to the output as they arrive, so
+ * memory use does not depend on the size of the export.
+ * <p>
+ * Incremental exports pass the time the previous export started as {@code since};
+ * the bound is inclusive, so rows at exactly that time may be exported twice and
+ * consumers should deduplicate on the ID.
+ */
+@Service
+@Slf4j
+public class ExportService {
+
+    private final VoteRepository voteRepository;
+    private final CharacterRepository characterRepository;
+    private final ObjectWriter writer;
+
+    public ExportService(VoteRepository voteRepository,
+                         CharacterRepository characterRepository,
+                         ObjectMapper objectMapper) {
+        this.voteRepository = voteRepository;
+        this.characterRepository = characterRepository;
+        // Lines are buffered by the generator, flushing them one by one would defeat it
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Opens a cursor over the votes cast at or after a given time, oldest first.
+     * The query runs right away, so failures surface before anything is written.
+     *
+     * @param since The earliest vote timestamp to include, or null for all votes
+     * @return Stream of export records, holding a server cursor until written or closed
+     */
+    public Stream<VoteExportDTO> streamVotes(LocalDateTime since) {
+        return voteRepository.streamSince(since)
+            .map(vote -> VoteExportDTO.builder()
+                .voteId(vote.getId())
+                .characterId(vote.getCharacterId())
+                .voteType(vote.getVoteType())
+                .timestamp(vote.getTimestamp())
+                .build());
+    }
+
+    /**
+     * Opens a cursor over the characters updated at or after a given time, least recently
+     * updated first, or over every character in insertion order when no time is given.
+     * The query runs right away, so failures surface before anything is written.
+     *
+     * @param since The earliest update time to include, or null for all characters
+     * @return Stream of character statistics, holding a server cursor until written or closed
+     */
+    public Stream<CharacterStatsDTO> streamCharacters(LocalDateTime since) {
+        Stream<Character> characters = since != null
+            ? characterRepository.streamUpdatedSince(since, Sort.by(Sort.Direction.ASC, "lastUpdated"))
+            : characterRepository.streamAll(Sort.by(Sort.Direction.ASC, "id"));
+        return characters.map(CharacterMapper::toStatsDTO);
+    }
+
+    /**
+     * Writes rows as NDJSON lines, then closes both the rows and the output.
+     *
+     * @param rows The rows to write, as opened by {@link #streamVotes} or {@link #streamCharacters}
+     * @param out The stream to write the lines to
+     * @return The number of rows written
+     * @throws IOException if writing fails, e.g. because the client went away
+     */
+    public long writeNdjson(Stream<?> rows, OutputStream out) throws IOException {
+        long start = System.currentTimeMillis();
+        long count = 0;
+        try (rows; JsonGenerator generator = writer.createGenerator(out)) {
+            // Lines are separated by the newline written after each row, not by a space
+            generator.setRootValueSeparator(null);
+            for (Iterator<?> iterator = rows.iterator(); iterator.hasNext(); count++) {
+                writer.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+            }
+        }
+        log.info("Exported {} rows in {}ms", count, System.currentTimeMillis() - start);
+        return count;
+    }
+}
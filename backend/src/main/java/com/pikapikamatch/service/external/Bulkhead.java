@@ -0,0 +1,93 @@
+package com.pikapikamatch.service.external;
+
+import com.pikapikamatch.exception.ServiceOverloadedException;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of permits isolating the calls to one external API, so a hung API can
+ * only hold its own permits instead of every request thread.
+ * A call runs when a permit is free; otherwise it waits in a bounded queue for at most
+ * {@code maxWait}. Calls beyond the queue, or still waiting after {@code maxWait}, are
+ * rejected immediately.
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    public Bulkhead(String name, int maxConcurrent, int maxQueue, Duration maxWait) {
+        if (maxConcurrent < 1 || maxQueue < 0) {
+            throw new IllegalArgumentException("Bulkhead " + name + " needs max-concurrent >= 1 and max-queue >= 0");
+        }
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueue = maxQueue;
+        this.maxWaitNanos = maxWait.toNanos();
+        // Fair, so queued calls get permits in arrival order
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * Runs a call holding one of the bulkhead's permits.
+     *
+     * @param call The call to run
+     * @param <T> The return type of the call
+     * @return The result of the call
+     * @throws ServiceOverloadedException if no permit could be obtained
+     */
+    public <T> T execute(Supplier<T> call) {
+        acquire();
+        try {
+            return call.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+    private void acquire() {
+        try {
+            // Timed even without waiting: the untimed tryAcquire barges ahead of queued callers of the fair semaphore
+            if (permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                return;
+            }
+
+            if (waiting.incrementAndGet() > maxQueue) {
+                waiting.decrementAndGet();
+                throw new ServiceOverloadedException(
+                    String.format("%s bulkhead is full (%d calls running, %d waiting)", name, maxConcurrent, maxQueue));
+            }
+            try {
+                if (!permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                    throw new ServiceOverloadedException(
+                        String.format("%s bulkhead: no permit within %dms", name, TimeUnit.NANOSECONDS.toMillis(maxWaitNanos)));
+                }
+            } finally {
+                waiting.decrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException("Interrupted while waiting for the " + name + " bulkhead", e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.pikapikamatch.service.external;
+
+import com.pikapikamatch.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * One {@link Bulkhead} per character source, configured under
+ * {@code external.apis.<api>.bulkhead} (max-concurrent, max-queue, max-wait).
+ * <ul>
+ *   <li>{@value #AVAILABLE}: free permits, by source</li>
+ *   <li>{@value #REJECTED}: calls rejected by a full bulkhead, by source</li>
+ * </ul>
+ */
+@Component
+public class ExternalApiBulkheads {
+
+    public static final String AVAILABLE = "pikapikamatch.external.bulkhead.available";
+    public static final String REJECTED = "pikapikamatch.external.bulkhead.rejected";
+
+    // Character source -> configuration key of its API
+    private static final Map<String, String> APIS = Map.of(
+        "pokemon", "pokeapi",
+        "rickandmorty", "rickandmorty",
+        "superhero", "superhero"
+    );
+
+    private final Map<String, Bulkhead> bulkheads = new HashMap<>();
+    private final Map<String, Counter> rejections = new HashMap<>();
+
+    public ExternalApiBulkheads(Environment environment, MeterRegistry registry) {
+        APIS.forEach((source, api) -> {
+            String prefix = "external.apis." + api + ".bulkhead.";
+            Bulkhead bulkhead = new Bulkhead(source,
+                environment.getProperty(prefix + "max-concurrent", Integer.class, 20),
+                environment.getProperty(prefix + "max-queue", Integer.class, 20),
+                environment.getProperty(prefix + "max-wait", Duration.class, Duration.ofMillis(500)));
+            bulkheads.put(source, bulkhead);
+
+            Gauge.builder(AVAILABLE, bulkhead, Bulkhead::getAvailablePermits)
+                .description("Free permits of the external API bulkhead")
+                .tag("source", source)
+                .register(registry);
+            rejections.put(source, Counter.builder(REJECTED)
+                .description("Calls rejected by a full external API bulkhead")
+                .tag("source", source)
+                .register(registry));
+        });
+    }
+
+    /**
+     * Runs a call to a character source inside the source's bulkhead.
+     *
+     * @param source The character source (pokemon, rickandmorty, superhero)
+     * @param call The call to run
+     * @param <T> The return type of the call
+     * @return The result of the call
+     * @throws ServiceOverloadedException if the source's bulkhead is full
+     */
+    public <T> T execute(String source, Supplier<T> call) {
+        Bulkhead bulkhead = bulkheads.get(source);
+        if (bulkhead == null) {
+            throw new IllegalArgumentException("Unknown API source: " + source);
+        }
+
+        try {
+            return bulkhead.execute(call);
+        } catch (ServiceOverloadedException e) {
+            rejections.get(source).increment();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.pikapikamatch.service.external;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Latency metrics of the external character APIs, published with percentile histograms.
+ * <ul>
+ *   <li>{@value #CALLS}: one fetch from a source, retries included, by source and
+ *       outcome (success, failover to the next source, or failure of the last one)</li>
+ *   <li>{@value #ATTEMPTS}: one HTTP attempt, by API and outcome (success, retry, failure)</li>
+ *   <li>{@value #BACKOFF}: time spent waiting between two attempts, by API</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class ExternalApiMetrics {
+
+    public static final String CALLS = "pikapikamatch.external.calls";
+    public static final String ATTEMPTS = "pikapikamatch.external.attempts";
+    public static final String BACKOFF = "pikapikamatch.external.retry.backoff";
+
+    public static final String SUCCESS = "success";
+    public static final String RETRY = "retry";
+    public static final String FAILOVER = "failover";
+    public static final String FAILURE = "failure";
+
+    private final MeterRegistry registry;
+
+    /**
+     * @return A sample to pass to {@link #recordCall} or {@link #recordAttempt} once done
+     */
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    /**
+     * Records a fetch from one character source, retries included.
+     *
+     * @param sample The sample started before the fetch
+     * @param source The character source (pokemon, rickandmorty, superhero)
+     * @param outcome {@link #SUCCESS}, {@link #FAILOVER} or {@link #FAILURE}
+     */
+    public void recordCall(Timer.Sample sample, String source, String outcome) {
+        sample.stop(timer(CALLS, "External character API fetches, retries included", "source", source, outcome));
+    }
+
+    /**
+     * Records a single attempt of an external API call.
+     *
+     * @param sample The sample started before the attempt
+     * @param api The API name used by RetryService
+     * @param outcome {@link #SUCCESS}, {@link #RETRY} or {@link #FAILURE}
+     */
+    public void recordAttempt(Timer.Sample sample, String api, String outcome) {
+        sample.stop(timer(ATTEMPTS, "Single external API attempts", "api", api, outcome));
+    }
+
+    /**
+     * Records the wait before a retry.
+     *
+     * @param api The API name used by RetryService
+     * @param backoff The time waited
+     */
+    public void recordBackoff(String api, Duration backoff) {
+        Timer.builder(BACKOFF)
+            .description("Backoff waited between external API attempts")
+            .tag("api", api)
+            .register(registry)
+            .record(backoff);
+    }
+
+    private Timer timer(String name, String description, String key, String value, String outcome) {
+        return Timer.builder(name)
+            .description(description)
+            .tag(key, value)
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+}
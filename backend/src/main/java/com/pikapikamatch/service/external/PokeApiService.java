@@ -20,7 +20,7 @@ public class PokeApiService {
     private final RestTemplate restTemplate;
     
     private final Random random = new Random();
-    private static final int MAX_POKEMON_ID = 898; // Gen 1-8
+    static final int MAX_POKEMON_ID = 898; // Gen 1-8
 
     public PokeApiService(@Qualifier("pokeApiRestTemplate") RestTemplate restTemplate) {
         this.restTemplate = restTemplate;
@@ -62,7 +62,21 @@ public class PokeApiService {
         if (pokemonData == null) {
             throw new RestClientException("Pokemon data is null");
         }
+        
+        // Fetch species data for description
+        String description = fetchPokemonDescription(pokemonData);
+        
+        CharacterDTO character = toCharacter(pokemonData, description);
+        log.info("Successfully fetched Pokemon: {}", character.getName());
+        
+        return character;
+    }
 
+    /**
+     * Maps a PokeAPI pokemon payload to a character.
+     * Shared with {@link ReactivePokeApiService}.
+     */
+    static CharacterDTO toCharacter(Map<String, Object> pokemonData, String description) {
         // Extract basic info
         Integer id = (Integer) pokemonData.get("id");
         String name = capitalize((String) pokemonData.get("name"));
@@ -70,11 +84,6 @@ public class PokeApiService {
         // Extract image URL
         String imageUrl = extractImageUrl(pokemonData);
         
-        // Fetch species data for description
-        String description = fetchPokemonDescription(pokemonData);
-        
-        log.info("Successfully fetched Pokemon: {}", name);
-        
         CharacterDTO character = CharacterDTO.builder()
                 .id(String.valueOf(id))
                 .externalId(String.valueOf(id))
@@ -88,7 +97,7 @@ public class PokeApiService {
     }
 
     @SuppressWarnings("unchecked")
-    private String extractImageUrl(Map<String, Object> pokemonData) {
+    private static String extractImageUrl(Map<String, Object> pokemonData) {
         try {
             Map<String, Object> sprites = (Map<String, Object>) pokemonData.get("sprites");
             if (sprites != null) {
@@ -109,22 +118,14 @@ public class PokeApiService {
         return null;
     }
 
-    @SuppressWarnings("unchecked")
     private String fetchPokemonDescription(Map<String, Object> pokemonData) {
         try {
-            Map<String, Object> species = (Map<String, Object>) pokemonData.get("species");
-            if (species == null) {
-                return null;
-            }
-            
-            String speciesUrl = (String) species.get("url");
-            if (speciesUrl == null) {
+            String path = speciesPath(pokemonData);
+            if (path == null) {
                 return null;
             }
             
-            // Extract the path from the full URL
-            String path = speciesUrl.replace("https://pokeapi.co/api/v2", "");
-            
+            @SuppressWarnings("unchecked")
             Map<String, Object> speciesData = restTemplate.getForObject(path, Map.class);
             if (speciesData == null) {
                 return null;
@@ -137,8 +138,27 @@ public class PokeApiService {
         }
     }
 
+    /**
+     * Returns the API path of the species of a pokemon, or null if the payload has none.
+     */
+    @SuppressWarnings("unchecked")
+    static String speciesPath(Map<String, Object> pokemonData) {
+        Map<String, Object> species = (Map<String, Object>) pokemonData.get("species");
+        if (species == null) {
+            return null;
+        }
+        
+        String speciesUrl = (String) species.get("url");
+        if (speciesUrl == null) {
+            return null;
+        }
+        
+        // Extract the path from the full URL
+        return speciesUrl.replace("https://pokeapi.co/api/v2", "");
+    }
+
     @SuppressWarnings("unchecked")
-    private String extractEnglishDescription(Map<String, Object> speciesData) {
+    static String extractEnglishDescription(Map<String, Object> speciesData) {
         try {
             List<Map<String, Object>> flavorTextEntries = 
                     (List<Map<String, Object>>) speciesData.get("flavor_text_entries");
@@ -164,7 +184,7 @@ public class PokeApiService {
         return null;
     }
 
-    private String capitalize(String str) {
+    private static String capitalize(String str) {
         if (str == null || str.isEmpty()) {
             return str;
         }
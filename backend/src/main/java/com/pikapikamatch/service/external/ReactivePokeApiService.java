@@ -0,0 +1,72 @@
+package com.pikapikamatch.service.external;
+
+import com.pikapikamatch.model.dto.CharacterDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Non-blocking PokeAPI client, used by the "reactive" profile.
+ * Payloads are mapped exactly like {@link PokeApiService} does.
+ */
+@Service
+@Profile("reactive")
+@Slf4j
+public class ReactivePokeApiService {
+
+    private static final ParameterizedTypeReference<Map<String, Object>> JSON_OBJECT =
+            new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+    
+    private final Random random = new Random();
+
+    public ReactivePokeApiService(@Qualifier("pokeApiWebClient") WebClient webClient) {
+        this.webClient = webClient;
+    }
+
+    public Mono<CharacterDTO> getRandomPokemon() {
+        return Mono.defer(() -> {
+            int pokemonId = random.nextInt(PokeApiService.MAX_POKEMON_ID) + 1;
+            log.debug("Fetching Pokemon with ID: {}", pokemonId);
+            
+            return getPokemonByNameOrId(String.valueOf(pokemonId))
+                .doOnError(e -> log.error("Failed to fetch Pokemon with ID: {}", pokemonId, e));
+        });
+    }
+
+    private Mono<CharacterDTO> getPokemonByNameOrId(String nameOrId) {
+        return webClient.get()
+            .uri("/pokemon/{nameOrId}", nameOrId)
+            .retrieve()
+            .bodyToMono(JSON_OBJECT)
+            .flatMap(pokemonData -> fetchPokemonDescription(pokemonData)
+                .map(description -> PokeApiService.toCharacter(pokemonData, description))
+                .defaultIfEmpty(PokeApiService.toCharacter(pokemonData, null)))
+            .doOnNext(character -> log.info("Successfully fetched Pokemon: {}", character.getName()));
+    }
+
+    private Mono<String> fetchPokemonDescription(Map<String, Object> pokemonData) {
+        String path = PokeApiService.speciesPath(pokemonData);
+        if (path == null) {
+            return Mono.empty();
+        }
+        
+        return webClient.get()
+            .uri(path)
+            .retrieve()
+            .bodyToMono(JSON_OBJECT)
+            .mapNotNull(PokeApiService::extractEnglishDescription)
+            .onErrorResume(e -> {
+                log.warn("Failed to fetch Pokemon description", e);
+                return Mono.empty();
+            });
+    }
+}
@@ -0,0 +1,49 @@
+package com.pikapikamatch.service.external;
+
+import com.pikapikamatch.model.dto.CharacterDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Non-blocking Rick and Morty API client, used by the "reactive" profile.
+ * Payloads are mapped exactly like {@link RickAndMortyApiService} does.
+ */
+@Service
+@Profile("reactive")
+@Slf4j
+public class ReactiveRickAndMortyApiService {
+
+    private static final ParameterizedTypeReference<Map<String, Object>> JSON_OBJECT =
+            new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+    
+    private final Random random = new Random();
+
+    public ReactiveRickAndMortyApiService(@Qualifier("rickAndMortyWebClient") WebClient webClient) {
+        this.webClient = webClient;
+    }
+
+    public Mono<CharacterDTO> getRandomCharacter() {
+        return Mono.defer(() -> {
+            int characterId = random.nextInt(RickAndMortyApiService.MAX_CHARACTER_ID) + 1;
+            log.debug("Fetching Rick and Morty character with ID: {}", characterId);
+            
+            return webClient.get()
+                .uri("/character/{id}", characterId)
+                .retrieve()
+                .bodyToMono(JSON_OBJECT)
+                .map(RickAndMortyApiService::toCharacter)
+                .doOnNext(character -> log.info("Successfully fetched Rick and Morty character: {}", character.getName()))
+                .doOnError(e -> log.error("Failed to fetch Rick and Morty character with ID: {}", characterId, e));
+        });
+    }
+}
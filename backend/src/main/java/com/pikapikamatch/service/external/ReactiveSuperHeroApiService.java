@@ -0,0 +1,49 @@
+package com.pikapikamatch.service.external;
+
+import com.pikapikamatch.model.dto.CharacterDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Non-blocking SuperHero API client, used by the "reactive" profile.
+ * Payloads are mapped exactly like {@link SuperHeroApiService} does.
+ */
+@Service
+@Profile("reactive")
+@Slf4j
+public class ReactiveSuperHeroApiService {
+
+    private static final ParameterizedTypeReference<Map<String, Object>> JSON_OBJECT =
+            new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+    
+    private final Random random = new Random();
+
+    public ReactiveSuperHeroApiService(@Qualifier("superheroWebClient") WebClient webClient) {
+        this.webClient = webClient;
+    }
+
+    public Mono<CharacterDTO> getRandomSuperhero() {
+        return Mono.defer(() -> {
+            int superheroId = random.nextInt(SuperHeroApiService.MAX_SUPERHERO_ID) + 1;
+            log.debug("Fetching Superhero with ID: {}", superheroId);
+            
+            return webClient.get()
+                .uri("/{id}", superheroId)
+                .retrieve()
+                .bodyToMono(JSON_OBJECT)
+                .map(SuperHeroApiService::toCharacter)
+                .doOnNext(character -> log.info("Successfully fetched Superhero: {}", character.getName()))
+                .doOnError(e -> log.error("Failed to fetch Superhero with ID: {}", superheroId, e));
+        });
+    }
+}
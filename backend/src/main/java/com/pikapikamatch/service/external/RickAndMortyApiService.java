@@ -19,7 +19,7 @@ public class RickAndMortyApiService {
     private final RestTemplate restTemplate;
     
     private final Random random = new Random();
-    private static final int MAX_CHARACTER_ID = 826;
+    static final int MAX_CHARACTER_ID = 826;
 
     public RickAndMortyApiService(@Qualifier("rickAndMortyRestTemplate") RestTemplate restTemplate) {
         this.restTemplate = restTemplate;
@@ -46,6 +46,17 @@ public class RickAndMortyApiService {
             throw new RestClientException("Character data is null");
         }
 
+        CharacterDTO character = toCharacter(characterData);
+        log.info("Successfully fetched Rick and Morty character: {}", character.getName());
+        
+        return character;
+    }
+
+    /**
+     * Maps a Rick and Morty API character payload to a character.
+     * Shared with {@link ReactiveRickAndMortyApiService}.
+     */
+    static CharacterDTO toCharacter(Map<String, Object> characterData) {
         // Extract basic info
         Integer characterId = (Integer) characterData.get("id");
         String name = (String) characterData.get("name");
@@ -54,8 +65,6 @@ public class RickAndMortyApiService {
         // Build description from species, status, and origin
         String description = buildDescription(characterData);
         
-        log.info("Successfully fetched Rick and Morty character: {}", name);
-        
         CharacterDTO character = CharacterDTO.builder()
                 .id(String.valueOf(characterId))
                 .externalId(String.valueOf(characterId))
@@ -69,7 +78,7 @@ public class RickAndMortyApiService {
     }
 
     @SuppressWarnings("unchecked")
-    private String buildDescription(Map<String, Object> characterData) {
+    private static String buildDescription(Map<String, Object> characterData) {
         try {
             String species = (String) characterData.get("species");
             String status = (String) characterData.get("status");
@@ -19,7 +19,7 @@ public class SuperHeroApiService {
     private final RestTemplate restTemplate;
     
     private final Random random = new Random();
-    private static final int MAX_SUPERHERO_ID = 731;
+    static final int MAX_SUPERHERO_ID = 731;
 
     public SuperHeroApiService(@Qualifier("superheroRestTemplate") RestTemplate restTemplate) {
         this.restTemplate = restTemplate;
@@ -46,6 +46,19 @@ public class SuperHeroApiService {
             throw new RestClientException("Superhero data is null");
         }
 
+        CharacterDTO character = toCharacter(superheroData);
+        log.info("Successfully fetched Superhero: {}", character.getName());
+        
+        return character;
+    }
+
+    /**
+     * Maps a SuperHero API payload to a character.
+     * Shared with {@link ReactiveSuperHeroApiService}.
+     *
+     * @throws RestClientException if the payload is an API error response
+     */
+    static CharacterDTO toCharacter(Map<String, Object> superheroData) {
         // Check for error response
         String response = (String) superheroData.get("response");
         if ("error".equals(response)) {
@@ -62,8 +75,6 @@ public class SuperHeroApiService {
         // Build description from biography and work
         String description = buildDescription(superheroData);
         
-        log.info("Successfully fetched Superhero: {}", name);
-        
         CharacterDTO character = CharacterDTO.builder()
                 .id(superheroId)
                 .externalId(superheroId)
@@ -77,7 +88,7 @@ public class SuperHeroApiService {
     }
 
     @SuppressWarnings("unchecked")
-    private String extractImageUrl(Map<String, Object> superheroData) {
+    private static String extractImageUrl(Map<String, Object> superheroData) {
         try {
             Map<String, Object> image = (Map<String, Object>) superheroData.get("image");
             if (image != null) {
@@ -90,7 +101,7 @@ public class SuperHeroApiService {
     }
 
     @SuppressWarnings("unchecked")
-    private String buildDescription(Map<String, Object> superheroData) {
+    private static String buildDescription(Map<String, Object> superheroData) {
         try {
             StringBuilder description = new StringBuilder();
             
@@ -0,0 +1,194 @@
+package com.pikapikamatch.service.leaderboard;
+
+import com.pikapikamatch.model.dto.CharacterStatsDTO;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntFunction;
+
+/**
+ * Bounded in-memory top-K ranking of characters.
+ * Entries are kept in a skip list ordered by (score desc, id asc), so reads
+ * walk the first N entries without locking. Writes are serialized by a lock
+ * and only ever touch the K entries held by the board.
+ */
+public class Leaderboard {
+
+    private static final Comparator<Entry> ORDER = Comparator
+        .comparingInt(Entry::score).reversed()
+        .thenComparing(Entry::id);
+
+    private final int capacity;
+    private final ToIntFunction<CharacterStatsDTO> scoreFunction;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile State state = new State();
+
+    /**
+     * Creates an empty leaderboard.
+     *
+     * @param capacity The maximum number of characters kept on the board
+     * @param scoreFunction Extracts the ranking score from a character snapshot
+     */
+    public Leaderboard(int capacity, ToIntFunction<CharacterStatsDTO> scoreFunction) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Leaderboard capacity must be at least 1");
+        }
+        this.capacity = capacity;
+        this.scoreFunction = scoreFunction;
+    }
+
+    /**
+     * Applies a new snapshot of a character to the board.
+     * Snapshots older than the one already on the board (fewer total votes) are ignored,
+     * so out-of-order updates cannot move a character backwards.
+     *
+     * @param character The updated character statistics
+     */
+    public void update(CharacterStatsDTO character) {
+        if (character == null || character.getId() == null) {
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            State current = state;
+            Entry existing = current.index.get(character.getId());
+
+            if (existing != null && totalVotes(existing.stats()) > totalVotes(character)) {
+                return;
+            }
+
+            Entry entry = new Entry(score(character), character.getId(), character);
+
+            if (existing != null) {
+                current.ranking.remove(existing);
+            } else if (current.ranking.size() >= capacity
+                    && ORDER.compare(entry, current.ranking.last()) > 0) {
+                // Not good enough to enter a full board
+                return;
+            }
+
+            current.ranking.add(entry);
+            current.index.put(entry.id(), entry);
+
+            while (current.ranking.size() > capacity) {
+                Entry evicted = current.ranking.pollLast();
+                if (evicted != null) {
+                    current.index.remove(evicted.id());
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Replaces the whole board with a fresh ranking, typically loaded from the database.
+     * Readers switch over to the new contents atomically.
+     *
+     * @param characters The characters to load (only the best {@code capacity} are kept)
+     */
+    public void replaceAll(Collection<CharacterStatsDTO> characters) {
+        State rebuilt = new State();
+        for (CharacterStatsDTO character : characters) {
+            if (character == null || character.getId() == null) {
+                continue;
+            }
+            Entry entry = new Entry(score(character), character.getId(), character);
+            Entry previous = rebuilt.index.put(entry.id(), entry);
+            if (previous != null) {
+                rebuilt.ranking.remove(previous);
+            }
+            rebuilt.ranking.add(entry);
+        }
+        while (rebuilt.ranking.size() > capacity) {
+            Entry evicted = rebuilt.ranking.pollLast();
+            if (evicted != null) {
+                rebuilt.index.remove(evicted.id());
+            }
+        }
+
+        writeLock.lock();
+        try {
+            state = rebuilt;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the best N characters on the board in ranking order.
+     * Reads are lock-free and weakly consistent with concurrent updates.
+     *
+     * @param limit The maximum number of characters to return
+     * @return List of character snapshots, best first
+     */
+    public List<CharacterStatsDTO> top(int limit) {
+        List<CharacterStatsDTO> result = new ArrayList<>(Math.min(limit, capacity));
+        Iterator<Entry> iterator = state.ranking.iterator();
+        while (result.size() < limit && iterator.hasNext()) {
+            result.add(iterator.next().stats());
+        }
+        return result;
+    }
+
+    /**
+     * Finds the position of a character on the board.
+     *
+     * @param id The character ID
+     * @return 1-based rank, or 0 if the character is not on the board
+     */
+    public int rankOf(String id) {
+        State current = state;
+        if (id == null || !current.index.containsKey(id)) {
+            return 0;
+        }
+        int rank = 1;
+        for (Entry entry : current.ranking) {
+            if (entry.id().equals(id)) {
+                return rank;
+            }
+            rank++;
+        }
+        return 0;
+    }
+
+    /**
+     * @return The ids currently on the board, best first
+     */
+    public List<String> ids() {
+        List<String> ids = new ArrayList<>(capacity);
+        for (Entry entry : state.ranking) {
+            ids.add(entry.id());
+        }
+        return ids;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private int score(CharacterStatsDTO character) {
+        return scoreFunction.applyAsInt(character);
+    }
+
+    private static int totalVotes(CharacterStatsDTO character) {
+        return character.getTotalVotes() != null ? character.getTotalVotes() : 0;
+    }
+
+    private record Entry(int score, String id, CharacterStatsDTO stats) {
+    }
+
+    private static final class State {
+        private final ConcurrentSkipListSet<Entry> ranking = new ConcurrentSkipListSet<>(ORDER);
+        private final Map<String, Entry> index = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,195 @@
+package com.pikapikamatch.service.leaderboard;
+
+import com.pikapikamatch.event.CharacterUpdatedEvent;
+import com.pikapikamatch.event.RankingsReloadedEvent;
+import com.pikapikamatch.model.dto.CharacterStatsDTO;
+import com.pikapikamatch.model.entity.SourceStats;
+import com.pikapikamatch.model.projection.CharacterSummary;
+import com.pikapikamatch.repository.CharacterRepository;
+import com.pikapikamatch.repository.SourceStatsRepository;
+import com.pikapikamatch.util.CharacterMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Service that keeps the top liked and top disliked rankings in memory.
+ * Boards are seeded from MongoDB at startup, updated on every counter change
+ * and periodically reconciled against the database to repair any drift.
+ * Writes served by other replicas never reach this instance's listeners, so a
+ * reconcile that finds the boards or the global vote totals changed publishes a
+ * {@link RankingsReloadedEvent}: caches are dropped and the data version moves,
+ * which bounds how long clients can revalidate a stale body to one interval.
+ */
+@Service
+@Slf4j
+public class LeaderboardService {
+
+    private final CharacterRepository characterRepository;
+    private final SourceStatsRepository sourceStatsRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Leaderboard likesBoard;
+    private final Leaderboard dislikesBoard;
+
+    private volatile boolean ready = false;
+    private long totals;
+
+    public LeaderboardService(CharacterRepository characterRepository,
+                              SourceStatsRepository sourceStatsRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${stats.leaderboard.size:50}") int size) {
+        this.characterRepository = characterRepository;
+        this.sourceStatsRepository = sourceStatsRepository;
+        this.eventPublisher = eventPublisher;
+        this.likesBoard = new Leaderboard(size, c -> valueOf(c.getTotalLikes()));
+        this.dislikesBoard = new Leaderboard(size, c -> valueOf(c.getTotalDislikes()));
+    }
+
+    /**
+     * Whether the boards have been loaded from the database at least once.
+     * Until then callers should query the repository directly.
+     *
+     * @return true if the in-memory rankings can be served
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Gets the top N characters by likes from memory.
+     *
+     * @param limit The maximum number of characters to return
+     * @return List of CharacterStatsDTO sorted by likes in descending order
+     */
+    public List<CharacterStatsDTO> getTopLiked(int limit) {
+        return likesBoard.top(limit);
+    }
+
+    /**
+     * Gets the top N characters by dislikes from memory.
+     *
+     * @param limit The maximum number of characters to return
+     * @return List of CharacterStatsDTO sorted by dislikes in descending order
+     */
+    public List<CharacterStatsDTO> getTopDisliked(int limit) {
+        return dislikesBoard.top(limit);
+    }
+
+    /**
+     * @param characterId The character ID
+     * @return 1-based rank on the likes board, or 0 if not ranked
+     */
+    public int likedRankOf(String characterId) {
+        return likesBoard.rankOf(characterId);
+    }
+
+    /**
+     * @param characterId The character ID
+     * @return 1-based rank on the dislikes board, or 0 if not ranked
+     */
+    public int dislikedRankOf(String characterId) {
+        return dislikesBoard.rankOf(characterId);
+    }
+
+    /**
+     * @return The number of characters each board can serve without touching the database
+     */
+    public int capacity() {
+        return likesBoard.capacity();
+    }
+
+    /**
+     * Applies a character counter change to both boards once the write has committed.
+     *
+     * @param event The event carrying the updated character snapshot
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(1)
+    public void onCharacterUpdated(CharacterUpdatedEvent event) {
+        likesBoard.update(event.getCharacter());
+        dislikesBoard.update(event.getCharacter());
+    }
+
+    /**
+     * Seeds the boards from the database once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reload("seed");
+    }
+
+    /**
+     * Periodically reloads the boards from the database to fix drift caused by
+     * writes that bypassed this instance (other replicas, manual edits).
+     */
+    @Scheduled(
+        initialDelayString = "${stats.leaderboard.reconcile-interval:300000}",
+        fixedDelayString = "${stats.leaderboard.reconcile-interval:300000}"
+    )
+    public void reconcile() {
+        reload("reconcile");
+    }
+
+    private synchronized void reload(String reason) {
+        try {
+            List<CharacterStatsDTO> likedBefore = likesBoard.top(likesBoard.capacity());
+            List<CharacterStatsDTO> dislikedBefore = dislikesBoard.top(dislikesBoard.capacity());
+            long totalsBefore = totals;
+
+            likesBoard.replaceAll(toStats(characterRepository.findTopLiked(likesBoard.capacity())));
+            dislikesBoard.replaceAll(toStats(characterRepository.findTopDisliked(dislikesBoard.capacity())));
+            totals = totals();
+
+            boolean boardsChanged = !likedBefore.equals(likesBoard.top(likesBoard.capacity()))
+                || !dislikedBefore.equals(dislikesBoard.top(dislikesBoard.capacity()));
+            if (ready && boardsChanged) {
+                log.warn("Leaderboard drift detected and corrected during {}", reason);
+            }
+            if (ready && (boardsChanged || totalsBefore != totals)) {
+                eventPublisher.publishEvent(new RankingsReloadedEvent());
+            }
+            ready = true;
+
+            log.info("Leaderboards loaded from database ({}): {} liked, {} disliked",
+                reason, likesBoard.ids().size(), dislikesBoard.ids().size());
+        } catch (Exception e) {
+            log.error("Failed to load leaderboards from database ({}): {}", reason, e.getMessage());
+        }
+    }
+
+    /**
+     * Sums the per-source counters. Every instance increments them on every write and
+     * they only grow, so a vote or a new character anywhere changes the sum even when
+     * no board does.
+     */
+    private long totals() {
+        long sum = 0;
+        for (SourceStats stats : sourceStatsRepository.findAll()) {
+            sum += valueOf(stats.getCharacterCount()) + valueOf(stats.getTotalVotes());
+        }
+        return sum;
+    }
+
+    private static List<CharacterStatsDTO> toStats(List<CharacterSummary> characters) {
+        return characters.stream()
+            .map(CharacterMapper::toStatsDTO)
+            .collect(Collectors.toList());
+    }
+
+    private static int valueOf(Integer count) {
+        return count != null ? count : 0;
+    }
+
+    private static long valueOf(Long count) {
+        return count != null ? count : 0L;
+    }
+}
@@ -0,0 +1,138 @@
+package com.pikapikamatch.service.search;
+
+import com.pikapikamatch.event.CharacterUpdatedEvent;
+import com.pikapikamatch.model.dto.CharacterStatsDTO;
+import com.pikapikamatch.model.dto.CharacterSuggestionDTO;
+import com.pikapikamatch.model.projection.CharacterSummary;
+import com.pikapikamatch.repository.CharacterRepository;
+import com.pikapikamatch.util.NameNormalizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Service for search-as-you-type and typo-tolerant lookups over character names.
+ * All names are held in an in-memory {@link NameTrie} and {@link TrigramIndex} loaded
+ * at startup and kept current from committed counter changes, which include the first
+ * vote of a newly created character, so searches never query MongoDB.
+ */
+@Service
+@Slf4j
+public class CharacterSearchService {
+
+    /**
+     * Largest number of suggestions a single search can return
+     */
+    public static final int MAX_LIMIT = 20;
+
+    private final CharacterRepository characterRepository;
+    private final NameTrie trie = new NameTrie(MAX_LIMIT);
+    private final TrigramIndex trigrams = new TrigramIndex();
+
+    public CharacterSearchService(CharacterRepository characterRepository) {
+        this.characterRepository = characterRepository;
+    }
+
+    /**
+     * Loads every stored character name into the trie.
+     * Until it completes, searches only see characters created or updated since startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        try (Stream<CharacterSummary> characters = characterRepository.streamAllSummaries()) {
+            characters.forEach(character -> index(character.getName(), CharacterSuggestionDTO.builder()
+                .id(character.getId())
+                .name(character.getName())
+                .source(character.getSource())
+                .imageUrl(character.getImageUrl())
+                .totalVotes(total(character.getTotalLikes()) + total(character.getTotalDislikes()))
+                .build()));
+        }
+        log.info("Loaded {} character names into the search index in {}ms",
+            trie.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Adds a character or updates its vote total once a counter change has committed.
+     *
+     * @param event The event carrying the updated character snapshot
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCharacterUpdated(CharacterUpdatedEvent event) {
+        CharacterStatsDTO character = event.getCharacter();
+        index(character.getName(), CharacterSuggestionDTO.builder()
+            .id(character.getId())
+            .name(character.getName())
+            .source(character.getSource())
+            .imageUrl(character.getImageUrl())
+            .totalVotes(total(character.getTotalVotes()))
+            .build());
+    }
+
+    /**
+     * Suggests characters whose name starts with a prefix, ignoring case and accents.
+     *
+     * @param prefix The text typed so far
+     * @param limit The maximum number of suggestions (at most {@link #MAX_LIMIT})
+     * @return List of CharacterSuggestionDTO, most voted first
+     */
+    public List<CharacterSuggestionDTO> search(String prefix, Integer limit) {
+        log.debug("Searching characters with prefix '{}' (limit {})", prefix, limit);
+        
+        List<CharacterSuggestionDTO> suggestions = trie.search(NameNormalizer.normalize(prefix),
+            Math.min(limit, MAX_LIMIT));
+        
+        log.debug("Found {} suggestions for prefix '{}'", suggestions.size(), prefix);
+        
+        return suggestions;
+    }
+
+    /**
+     * Finds the indexed name closest to a possibly misspelled one, e.g. "pikachu" for "Pikchu".
+     * The allowed number of edits grows with the length of the name.
+     *
+     * @param name The name as typed by the user
+     * @return The closest normalized name, or empty if none is close enough
+     */
+    public Optional<String> closestName(String name) {
+        String normalized = NameNormalizer.normalize(name);
+        if (normalized == null) {
+            return Optional.empty();
+        }
+        
+        List<TrigramIndex.Match> matches = trigrams.closest(normalized, 1);
+        if (matches.isEmpty() || matches.get(0).distance() > maxEdits(normalized.length())) {
+            return Optional.empty();
+        }
+        
+        log.debug("Closest name to '{}' is '{}' ({} edits)", name, matches.get(0).name(), matches.get(0).distance());
+        return Optional.of(matches.get(0).name());
+    }
+
+    private void index(String name, CharacterSuggestionDTO suggestion) {
+        String normalized = NameNormalizer.normalize(name);
+        trie.put(normalized, suggestion);
+        trigrams.add(normalized);
+    }
+
+    private static int maxEdits(int length) {
+        if (length <= 2) {
+            return 0;
+        }
+        if (length <= 5) {
+            return 1;
+        }
+        return length <= 10 ? 2 : 3;
+    }
+
+    private static int total(Integer count) {
+        return count != null ? count : 0;
+    }
+}
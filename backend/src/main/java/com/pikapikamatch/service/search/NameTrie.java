@@ -0,0 +1,250 @@
+package com.pikapikamatch.service.search;
+
+import com.pikapikamatch.model.dto.CharacterSuggestionDTO;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compressed (radix) trie over normalized character names.
+ * Every node caches the {@code topK} most voted characters of its subtree, so a
+ * prefix lookup is a walk of at most {@code prefix.length()} nodes plus a copy of
+ * that cache, whatever the number of names below it. Vote totals only grow, which
+ * keeps the incremental cache maintenance exact.
+ */
+public class NameTrie {
+
+    private static final Comparator<Entry> ORDER = Comparator
+        .comparingInt(Entry::votes).reversed()
+        .thenComparing(Entry::name, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(Entry::id);
+
+    private final int topK;
+    private final Node root = new Node("");
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Creates an empty trie.
+     *
+     * @param topK The number of characters cached per node (the largest supported result size)
+     */
+    public NameTrie(int topK) {
+        if (topK < 1) {
+            throw new IllegalArgumentException("Trie top-K must be at least 1");
+        }
+        this.topK = topK;
+    }
+
+    /**
+     * Adds a character, or updates its vote total if it is already indexed.
+     * Lower vote totals than the indexed one are ignored.
+     *
+     * @param key The normalized name
+     * @param character The character to suggest for this name
+     */
+    public void put(String key, CharacterSuggestionDTO character) {
+        if (key == null || key.isEmpty() || character == null || character.getId() == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Entry existing = entries.get(character.getId());
+            Entry entry = new Entry(character, votes(character));
+            if (existing != null && existing.votes() >= entry.votes()) {
+                return;
+            }
+            entries.put(entry.id(), entry);
+
+            List<Node> path = pathTo(existing != null ? existing.key : key);
+            Node terminal = path.get(path.size() - 1);
+            if (existing != null) {
+                terminal.terminals.remove(existing);
+            }
+            terminal.terminals.add(entry);
+            entry.key = existing != null ? existing.key : key;
+
+            for (Node node : path) {
+                node.offer(entry, existing, topK);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the most voted characters whose normalized name starts with a prefix.
+     *
+     * @param prefix The normalized prefix
+     * @param limit The maximum number of characters to return (capped at {@code topK})
+     * @return List of characters, most voted first
+     */
+    public List<CharacterSuggestionDTO> search(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            Node node = find(prefix == null ? "" : prefix);
+            if (node == null) {
+                return List.of();
+            }
+
+            List<CharacterSuggestionDTO> result = new ArrayList<>(Math.min(limit, node.top.size()));
+            for (Entry entry : node.top) {
+                if (result.size() >= limit) {
+                    break;
+                }
+                result.add(entry.character());
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return The number of indexed characters
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Node find(String prefix) {
+        Node node = root;
+        int position = 0;
+        while (position < prefix.length()) {
+            Node child = node.children.get(prefix.charAt(position));
+            if (child == null) {
+                return null;
+            }
+            int matched = commonPrefix(child.label, prefix, position);
+            if (position + matched == prefix.length()) {
+                // The prefix ends inside (or at the end of) this edge
+                return child;
+            }
+            if (matched < child.label.length()) {
+                return null;
+            }
+            position += matched;
+            node = child;
+        }
+        return node;
+    }
+
+    /**
+     * Returns the nodes from the root to the node of {@code key}, creating and
+     * splitting nodes as needed.
+     */
+    private List<Node> pathTo(String key) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            char next = key.charAt(position);
+            Node child = node.children.get(next);
+
+            if (child == null) {
+                child = new Node(key.substring(position));
+                node.children.put(next, child);
+                path.add(child);
+                return path;
+            }
+
+            int matched = commonPrefix(child.label, key, position);
+            if (matched < child.label.length()) {
+                child = split(node, child, matched);
+            }
+            path.add(child);
+            position += matched;
+            node = child;
+        }
+        return path;
+    }
+
+    private static Node split(Node parent, Node child, int at) {
+        Node middle = new Node(child.label.substring(0, at));
+        child.label = child.label.substring(at);
+        middle.children.put(child.label.charAt(0), child);
+        middle.top.addAll(child.top);
+        parent.children.put(middle.label.charAt(0), middle);
+        return middle;
+    }
+
+    private static int commonPrefix(String label, String key, int offset) {
+        int length = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < length && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int votes(CharacterSuggestionDTO character) {
+        return character.getTotalVotes() != null ? character.getTotalVotes() : 0;
+    }
+
+    private static final class Node {
+        private String label;
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private final List<Entry> terminals = new ArrayList<>(1);
+        private final List<Entry> top = new ArrayList<>();
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Offers a new or improved entry to this node's top-K cache.
+         */
+        private void offer(Entry entry, Entry previous, int topK) {
+            if (previous != null && top.remove(previous)) {
+                top.add(entry);
+            } else if (top.size() < topK) {
+                top.add(entry);
+            } else if (ORDER.compare(entry, top.get(top.size() - 1)) < 0) {
+                top.set(top.size() - 1, entry);
+            } else {
+                return;
+            }
+            top.sort(ORDER);
+        }
+    }
+
+    private static final class Entry {
+        private final CharacterSuggestionDTO character;
+        private final int votes;
+        private String key;
+
+        private Entry(CharacterSuggestionDTO character, int votes) {
+            this.character = character;
+            this.votes = votes;
+        }
+
+        private CharacterSuggestionDTO character() {
+            return character;
+        }
+
+        private String id() {
+            return character.getId();
+        }
+
+        private String name() {
+            return character.getName();
+        }
+
+        private int votes() {
+            return votes;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.pikapikamatch.service.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index from character trigrams to normalized names, for typo-tolerant lookups.
+ * A query counts the trigrams it shares with each name by walking the posting lists
+ * of its own trigrams, keeps the names with the best overlap and re-ranks those few
+ * by edit distance. Names are padded so that word boundaries produce their own
+ * trigrams, which lets short names match.
+ */
+public class TrigramIndex {
+
+    /**
+     * Number of best-overlapping names re-ranked by edit distance
+     */
+    private static final int CANDIDATES = 50;
+
+    /**
+     * Number of idle counter arrays kept for reuse
+     */
+    private static final int POOL_SIZE = 16;
+
+    private final List<String> names = new ArrayList<>();
+    private final Set<String> known = new HashSet<>();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Counter arrays reused across queries rather than tied to a thread, so at most
+    // POOL_SIZE index-sized arrays are retained however many virtual threads search
+    private final BlockingQueue<Counts> pool = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    /**
+     * Adds a normalized name to the index. Adding a known name has no effect.
+     *
+     * @param name The normalized name
+     */
+    public void add(String name) {
+        if (name == null || name.isEmpty()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (!known.add(name)) {
+                return;
+            }
+            int id = names.size();
+            names.add(name);
+            for (String trigram : trigrams(name)) {
+                postings.computeIfAbsent(trigram, key -> new Postings()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the indexed names closest to a query.
+     *
+     * @param query The normalized query
+     * @param limit The maximum number of names to return
+     * @return Matches sorted by edit distance, then by trigram overlap
+     */
+    public List<Match> closest(String query, int limit) {
+        if (query == null || query.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> queryTrigrams = trigrams(query);
+
+        lock.readLock().lock();
+        try {
+            Counts shared = acquire();
+            try {
+                for (String trigram : queryTrigrams) {
+                    Postings list = postings.get(trigram);
+                    if (list == null) {
+                        continue;
+                    }
+                    for (int i = 0; i < list.size; i++) {
+                        shared.increment(list.ids[i]);
+                    }
+                }
+
+                // Keep the best-overlapping names in a bounded min-heap
+                PriorityQueue<int[]> best = new PriorityQueue<>(CANDIDATES,
+                    Comparator.comparingInt((int[] candidate) -> candidate[1]));
+                for (int i = 0; i < shared.touchedSize; i++) {
+                    int id = shared.touched[i];
+                    int count = shared.counts[id];
+                    if (best.size() < CANDIDATES) {
+                        best.add(new int[] {id, count});
+                    } else if (count > best.peek()[1]) {
+                        best.poll();
+                        best.add(new int[] {id, count});
+                    }
+                }
+
+                List<Match> matches = new ArrayList<>(best.size());
+                for (int[] candidate : best) {
+                    String name = names.get(candidate[0]);
+                    matches.add(new Match(name, distance(query, name), candidate[1]));
+                }
+
+                matches.sort(Comparator.comparingInt(Match::distance)
+                    .thenComparing(Comparator.comparingInt(Match::sharedTrigrams).reversed())
+                    .thenComparing(Match::name));
+                return matches.size() > limit ? List.copyOf(matches.subList(0, limit)) : matches;
+            } finally {
+                release(shared);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return The number of indexed names
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return names.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Takes a pooled counter array, grown to the current number of names.
+     * Must be called with the read lock held.
+     */
+    private Counts acquire() {
+        Counts counts = pool.poll();
+        if (counts == null) {
+            counts = new Counts();
+        }
+        counts.ensureCapacity(names.size());
+        return counts;
+    }
+
+    /**
+     * Clears the slots a query touched and returns the counters to the pool,
+     * or drops them when the pool already holds enough for the usual concurrency.
+     */
+    private void release(Counts counts) {
+        counts.reset();
+        pool.offer(counts);
+    }
+
+    private static Set<String> trigrams(String name) {
+        String padded = "  " + name + " ";
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Levenshtein distance with two rolling rows.
+     */
+    static int distance(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    /**
+     * A name close to the query.
+     *
+     * @param name The normalized name
+     * @param distance The edit distance between the query and the name
+     * @param sharedTrigrams The number of trigrams shared with the query
+     */
+    public record Match(String name, int distance, int sharedTrigrams) {
+    }
+
+    /**
+     * Trigram overlap per name id, with the ids touched by the current query so
+     * that resetting costs as much as counting rather than a pass over every name.
+     */
+    private static final class Counts {
+        private int[] counts = new int[0];
+        private int[] touched = new int[16];
+        private int touchedSize;
+
+        private void ensureCapacity(int size) {
+            if (counts.length < size) {
+                counts = Arrays.copyOf(counts, Math.max(size, counts.length * 2));
+            }
+        }
+
+        private void increment(int id) {
+            if (counts[id]++ == 0) {
+                if (touchedSize == touched.length) {
+                    touched = Arrays.copyOf(touched, touchedSize * 2);
+                }
+                touched[touchedSize++] = id;
+            }
+        }
+
+        private void reset() {
+            for (int i = 0; i < touchedSize; i++) {
+                counts[touched[i]] = 0;
+            }
+            touchedSize = 0;
+        }
+    }
+
+    private static final class Postings {
+        private int[] ids = new int[4];
+        private int size;
+
+        private void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+    }
+}
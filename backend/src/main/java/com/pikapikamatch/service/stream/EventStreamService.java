@@ -0,0 +1,271 @@
+package com.pikapikamatch.service.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pikapikamatch.event.CharacterUpdatedEvent;
+import com.pikapikamatch.event.VoteCreatedEvent;
+import com.pikapikamatch.exception.ServiceOverloadedException;
+import com.pikapikamatch.model.dto.CharacterStatsDTO;
+import com.pikapikamatch.model.dto.LeaderboardDeltaDTO;
+import com.pikapikamatch.service.leaderboard.LeaderboardService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service that pushes live votes and leaderboard changes to Server-Sent Events subscribers.
+ * Subscribers are asynchronous servlet responses, so an open stream holds no request thread.
+ * Each event is serialized once into a ready-to-write SSE frame and queued in every
+ * subscriber's small bounded buffer, which a virtual thread of its own drains to the
+ * client whenever frames are pending. A write blocked on a slow connection parks only
+ * that virtual thread, so it never holds up the delivery to other subscribers.
+ * <p>
+ * Queuing never blocks, so a slow or stalled client only delays its own events: once its
+ * buffer is full it is disconnected (it may reconnect) instead of holding up the others,
+ * and memory per subscriber stays bounded under a burst of votes.
+ */
+@Service
+@Slf4j
+public class EventStreamService {
+
+    private final ObjectMapper objectMapper;
+    private final LeaderboardService leaderboardService;
+    private final long timeout;
+    private final int maxSubscribers;
+    private final int bufferSize;
+    private final Executor dispatcher;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // Slots reserved by subscribe(), so concurrent subscribers cannot exceed the limit
+    private final AtomicInteger reserved = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Autowired
+    public EventStreamService(ObjectMapper objectMapper,
+                              LeaderboardService leaderboardService,
+                              @Value("${stream.timeout:1800000}") long timeout,
+                              @Value("${stream.max-subscribers:10000}") int maxSubscribers,
+                              @Value("${stream.buffer-size:32}") int bufferSize) {
+        this(objectMapper, leaderboardService, timeout, maxSubscribers, bufferSize,
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sse-dispatcher-", 0).factory()));
+    }
+
+    EventStreamService(ObjectMapper objectMapper,
+                       LeaderboardService leaderboardService,
+                       long timeout,
+                       int maxSubscribers,
+                       int bufferSize,
+                       Executor dispatcher) {
+        this.objectMapper = objectMapper;
+        this.leaderboardService = leaderboardService;
+        this.timeout = timeout;
+        this.maxSubscribers = maxSubscribers;
+        this.bufferSize = bufferSize;
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * Registers a new subscriber.
+     *
+     * @return The emitter to return from the controller
+     * @throws ServiceOverloadedException if the subscriber limit has been reached
+     */
+    public SseEmitter subscribe() {
+        if (reserved.incrementAndGet() > maxSubscribers) {
+            reserved.decrementAndGet();
+            log.warn("Rejecting stream subscriber: limit of {} reached", maxSubscribers);
+            throw new ServiceOverloadedException("Too many stream subscribers, try again later");
+        }
+
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeout));
+        subscribers.add(subscriber);
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onTimeout(() -> remove(subscriber));
+        subscriber.emitter.onError(e -> remove(subscriber));
+
+        subscriber.enqueue(SseEmitter.event().comment("connected").reconnectTime(3000).build());
+        log.debug("Stream subscriber added ({} active)", subscribers.size());
+        return subscriber.emitter;
+    }
+
+    /**
+     * @return The number of open streams
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Pushes every new vote to subscribers once it has been committed.
+     *
+     * @param event The event carrying the created vote
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVoteCreated(VoteCreatedEvent event) {
+        broadcast("vote", event.getVote());
+    }
+
+    /**
+     * Pushes the new rank of a character after the leaderboards have been updated.
+     * Characters outside both leaderboards do not produce an event.
+     *
+     * @param event The event carrying the updated character snapshot
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(3)
+    public void onCharacterUpdated(CharacterUpdatedEvent event) {
+        CharacterStatsDTO character = event.getCharacter();
+        int likedRank = leaderboardService.likedRankOf(character.getId());
+        int dislikedRank = leaderboardService.dislikedRankOf(character.getId());
+
+        if (likedRank == 0 && dislikedRank == 0) {
+            return;
+        }
+
+        broadcast("leaderboard", LeaderboardDeltaDTO.builder()
+            .character(character)
+            .likedRank(likedRank > 0 ? likedRank : null)
+            .dislikedRank(dislikedRank > 0 ? dislikedRank : null)
+            .build());
+    }
+
+    /**
+     * Sends a comment frame to keep idle connections open through proxies
+     * and to detect clients that have gone away.
+     */
+    @Scheduled(fixedDelayString = "${stream.heartbeat-interval:15000}")
+    public void heartbeat() {
+        if (!subscribers.isEmpty()) {
+            dispatch(SseEmitter.event().comment("heartbeat").build());
+        }
+    }
+
+    /**
+     * Serializes a payload once and queues it for delivery to all subscribers.
+     *
+     * @param name The SSE event name
+     * @param payload The payload to send as JSON
+     */
+    public void broadcast(String name, Object payload) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize {} stream event", name, e);
+            return;
+        }
+
+        dispatch(SseEmitter.event()
+            .id(String.valueOf(sequence.incrementAndGet()))
+            .name(name)
+            .data(json)
+            .build());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (dispatcher instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    private void dispatch(Set<DataWithMediaType> frame) {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.enqueue(frame);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            reserved.decrementAndGet();
+        }
+    }
+
+    /**
+     * An open stream with its pending frames.
+     * At most one dispatcher task drains a subscriber at a time, which keeps its frames in order.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Queue<Set<DataWithMediaType>> frames = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean closed;
+        // Only read and written by the dispatcher task, which never runs twice at once
+        private boolean completed;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void enqueue(Set<DataWithMediaType> frame) {
+            if (closed) {
+                return;
+            }
+            if (!frames.offer(frame)) {
+                // Too slow to keep up: disconnect it, its dispatcher task completes the emitter
+                log.debug("Dropping stream subscriber: buffer of {} events full", bufferSize);
+                closed = true;
+                frames.clear();
+                remove(this);
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> frame;
+                while (!closed && (frame = frames.poll()) != null) {
+                    emitter.send(frame);
+                }
+                if (closed && !completed) {
+                    completed = true;
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                closed = true;
+                completed = true;
+                frames.clear();
+                remove(this);
+                log.debug("Dropping stream subscriber: {}", e.getMessage());
+            } finally {
+                scheduled.set(false);
+                // Frames queued, or a disconnect requested, while the task was finishing
+                if (!completed && (closed || !frames.isEmpty())) {
+                    schedule();
+                }
+            }
+        }
+    }
+}
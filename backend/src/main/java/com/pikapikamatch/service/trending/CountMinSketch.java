@@ -0,0 +1,99 @@
+package com.pikapikamatch.service.trending;
+
+/**
+ * Count-Min Sketch with real-valued counters.
+ * Estimates the weight accumulated by each key in a fixed {@code depth x width}
+ * table, so memory does not grow with the number of distinct keys. Estimates
+ * never undercount; they may overcount by a small fraction of the total weight.
+ * Not thread-safe.
+ */
+public class CountMinSketch {
+
+    private final int width;
+    private final double[][] counters;
+
+    /**
+     * Creates an empty sketch.
+     *
+     * @param width The number of counters per row (accuracy)
+     * @param depth The number of rows (confidence)
+     */
+    public CountMinSketch(int width, int depth) {
+        if (width < 1 || depth < 1) {
+            throw new IllegalArgumentException("Sketch width and depth must be at least 1");
+        }
+        this.width = width;
+        this.counters = new double[depth][width];
+    }
+
+    /**
+     * Adds weight to a key using conservative update: only the counters holding
+     * the current minimum are raised, which reduces overcounting.
+     *
+     * @param key The key
+     * @param weight The weight to add (positive)
+     * @return The new estimate for the key
+     */
+    public double add(String key, double weight) {
+        int[] slots = slots(key);
+        double estimate = estimate(slots) + weight;
+        for (int row = 0; row < counters.length; row++) {
+            if (counters[row][slots[row]] < estimate) {
+                counters[row][slots[row]] = estimate;
+            }
+        }
+        return estimate;
+    }
+
+    /**
+     * @param key The key
+     * @return The estimated weight of the key
+     */
+    public double estimate(String key) {
+        return estimate(slots(key));
+    }
+
+    /**
+     * Multiplies every counter by the same factor.
+     *
+     * @param factor The scaling factor
+     */
+    public void scale(double factor) {
+        for (double[] row : counters) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] *= factor;
+            }
+        }
+    }
+
+    private double estimate(int[] slots) {
+        double min = Double.MAX_VALUE;
+        for (int row = 0; row < counters.length; row++) {
+            min = Math.min(min, counters[row][slots[row]]);
+        }
+        return min;
+    }
+
+    private int[] slots(String key) {
+        // Double hashing: row i uses h1 + i * h2
+        long hash = mix(key.hashCode());
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+
+        int[] slots = new int[counters.length];
+        for (int row = 0; row < counters.length; row++) {
+            slots[row] = Math.floorMod(h1 + row * h2, width);
+        }
+        return slots;
+    }
+
+    private static long mix(long value) {
+        // MurmurHash3 finalizer
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,94 @@
+package com.pikapikamatch.service.trending;
+
+import com.pikapikamatch.event.VoteCreatedEvent;
+import com.pikapikamatch.exception.ValidationException;
+import com.pikapikamatch.model.dto.TrendingCharacterDTO;
+import com.pikapikamatch.model.dto.VoteResponseDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service answering "what's hot right now" entirely from memory.
+ * Every committed vote feeds one {@link TrendingWindow} per configured window.
+ * State is local to the instance and starts empty after a restart.
+ */
+@Service
+@Slf4j
+public class TrendingService {
+
+    private final Map<Duration, TrendingWindow> windows = new LinkedHashMap<>();
+    private final String supportedWindows;
+
+    public TrendingService(@Value("${stats.trending.windows:5m,15m,1h,24h}") List<String> windows,
+                           @Value("${stats.trending.capacity:100}") int capacity,
+                           @Value("${stats.trending.sketch-width:2048}") int sketchWidth,
+                           @Value("${stats.trending.sketch-depth:4}") int sketchDepth) {
+        for (String window : windows) {
+            Duration duration = DurationStyle.detectAndParse(window.trim());
+            this.windows.put(duration, new TrendingWindow(duration, capacity,
+                new CountMinSketch(sketchWidth, sketchDepth), System::currentTimeMillis));
+        }
+        this.supportedWindows = String.join(", ", windows);
+    }
+
+    /**
+     * Records every committed vote in all windows.
+     *
+     * @param event The event carrying the created vote
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVoteCreated(VoteCreatedEvent event) {
+        VoteResponseDTO vote = event.getVote();
+        if (vote.getCharacterId() == null) {
+            return;
+        }
+
+        TrendingCharacterDTO character = TrendingCharacterDTO.builder()
+            .id(vote.getCharacterId())
+            .name(vote.getCharacterName())
+            .source(vote.getCharacterSource())
+            .imageUrl(vote.getImageUrl())
+            .build();
+        windows.values().forEach(window -> window.record(character));
+    }
+
+    /**
+     * Gets the hottest characters within a window.
+     *
+     * @param window The window, e.g. "15m" or "1h"
+     * @param limit The maximum number of characters to return
+     * @return List of TrendingCharacterDTO, hottest first
+     * @throws ValidationException if the window is malformed or not configured
+     */
+    public List<TrendingCharacterDTO> getTrending(String window, Integer limit) {
+        log.debug("Fetching top {} trending characters over {}", limit, window);
+
+        TrendingWindow trendingWindow = windows.get(parse(window));
+        if (trendingWindow == null) {
+            throw new ValidationException("Unsupported trending window: " + window
+                + " (supported: " + supportedWindows + ")");
+        }
+
+        List<TrendingCharacterDTO> trending = trendingWindow.top(limit);
+
+        log.info("Found {} trending characters over {}", trending.size(), window);
+
+        return trending;
+    }
+
+    private static Duration parse(String window) {
+        try {
+            return DurationStyle.detectAndParse(window);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid trending window: " + window, e);
+        }
+    }
+}
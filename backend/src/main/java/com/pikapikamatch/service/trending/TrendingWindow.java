@@ -0,0 +1,157 @@
+package com.pikapikamatch.service.trending;
+
+import com.pikapikamatch.model.dto.TrendingCharacterDTO;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Exponentially time-decayed heavy hitters over one window.
+ * A vote weighs 1 when it is cast and decays by a factor e every {@code window}.
+ * Weights are stored relative to a landmark time (forward decay), so aging never
+ * touches stored values and all scores keep their relative order. Per-character
+ * weights live in a {@link CountMinSketch}; only the {@code capacity} heaviest
+ * characters are kept in a min-heap, so memory is bounded whatever the catalog size.
+ */
+public class TrendingWindow {
+
+    /**
+     * Stored weights are rescaled once they exceed e^RESCALE_EXPONENT, far below double overflow
+     */
+    private static final double RESCALE_EXPONENT = 64;
+
+    private final Duration window;
+    private final double lifetimeMillis;
+    private final int capacity;
+    private final LongSupplier clock;
+    private final CountMinSketch sketch;
+    private final Map<String, Candidate> candidates = new HashMap<>();
+    private final PriorityQueue<Candidate> heap = new PriorityQueue<>(Comparator.comparingDouble(Candidate::weight));
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long landmark;
+
+    /**
+     * Creates an empty window.
+     *
+     * @param window The decay time constant
+     * @param capacity The maximum number of characters tracked as heavy hitters
+     * @param sketch The sketch holding per-character weights
+     * @param clock Supplies the current time in milliseconds
+     */
+    public TrendingWindow(Duration window, int capacity, CountMinSketch sketch, LongSupplier clock) {
+        if (window.isZero() || window.isNegative()) {
+            throw new IllegalArgumentException("Trending window must be positive");
+        }
+        this.window = window;
+        this.lifetimeMillis = window.toMillis();
+        this.capacity = capacity;
+        this.sketch = sketch;
+        this.clock = clock;
+        this.landmark = clock.getAsLong();
+    }
+
+    public Duration window() {
+        return window;
+    }
+
+    /**
+     * Records one vote for a character.
+     *
+     * @param character The voted character (id, name, source, image)
+     */
+    public void record(TrendingCharacterDTO character) {
+        lock.lock();
+        try {
+            long now = clock.getAsLong();
+            rescaleIfNeeded(now);
+
+            String id = character.getId();
+            double weight = sketch.add(id, Math.exp((now - landmark) / lifetimeMillis));
+
+            Candidate existing = candidates.get(id);
+            if (existing != null) {
+                heap.remove(existing);
+            } else if (candidates.size() >= capacity) {
+                if (weight <= heap.peek().weight()) {
+                    return;
+                }
+                candidates.remove(heap.poll().character().getId());
+            }
+
+            Candidate candidate = new Candidate(character, weight);
+            candidates.put(id, candidate);
+            heap.add(candidate);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the characters with the highest decayed score.
+     *
+     * @param limit The maximum number of characters to return
+     * @return List of trending characters, hottest first
+     */
+    public List<TrendingCharacterDTO> top(int limit) {
+        List<Candidate> snapshot;
+        double decay;
+        lock.lock();
+        try {
+            snapshot = new ArrayList<>(candidates.values());
+            decay = Math.exp(-(clock.getAsLong() - landmark) / lifetimeMillis);
+        } finally {
+            lock.unlock();
+        }
+
+        snapshot.sort(Comparator.comparingDouble(Candidate::weight).reversed());
+
+        List<TrendingCharacterDTO> result = new ArrayList<>(Math.min(limit, snapshot.size()));
+        for (Candidate candidate : snapshot) {
+            if (result.size() >= limit) {
+                break;
+            }
+            TrendingCharacterDTO character = candidate.character();
+            result.add(TrendingCharacterDTO.builder()
+                .id(character.getId())
+                .name(character.getName())
+                .source(character.getSource())
+                .imageUrl(character.getImageUrl())
+                .score(candidate.weight() * decay)
+                .build());
+        }
+        return result;
+    }
+
+    private void rescaleIfNeeded(long now) {
+        double exponent = (now - landmark) / lifetimeMillis;
+        if (exponent < RESCALE_EXPONENT) {
+            return;
+        }
+
+        // Uniform scaling keeps the heap order, so entries can be replaced in place
+        double factor = Math.exp(-exponent);
+        sketch.scale(factor);
+        List<Candidate> rescaled = new ArrayList<>(heap.size());
+        for (Candidate candidate : heap) {
+            rescaled.add(new Candidate(candidate.character(), candidate.weight() * factor));
+        }
+        heap.clear();
+        candidates.clear();
+        for (Candidate candidate : rescaled) {
+            heap.add(candidate);
+            candidates.put(candidate.character().getId(), candidate);
+        }
+        landmark = now;
+    }
+
+    private record Candidate(TrendingCharacterDTO character, double weight) {
+    }
+}
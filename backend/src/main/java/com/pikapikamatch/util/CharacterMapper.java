@@ -3,6 +3,7 @@ package com.pikapikamatch.util;
 import com.pikapikamatch.model.dto.CharacterDTO;
 import com.pikapikamatch.model.dto.CharacterStatsDTO;
 import com.pikapikamatch.model.entity.Character;
+import com.pikapikamatch.model.projection.CharacterSummary;
 
 public class CharacterMapper {
     
@@ -85,6 +86,40 @@ public class CharacterMapper {
             .totalVotes(character.getTotalVotes())
             .likePercentage(character.getLikePercentage())
             .dislikePercentage(character.getDislikePercentage())
+            .ratingScore(character.getRatingScore())
+            .controversyScore(character.getControversyScore())
+            .build();
+    }
+    
+    /**
+     * Converts a ranking summary to a CharacterStatsDTO with calculated totals and percentages.
+     * The description is not part of the summary and is left empty.
+     * 
+     * @param summary the CharacterSummary read model
+     * @return the CharacterStatsDTO
+     */
+    public static CharacterStatsDTO toStatsDTO(CharacterSummary summary) {
+        if (summary == null) {
+            return null;
+        }
+        
+        int likes = summary.getTotalLikes() != null ? summary.getTotalLikes() : 0;
+        int dislikes = summary.getTotalDislikes() != null ? summary.getTotalDislikes() : 0;
+        int votes = likes + dislikes;
+        
+        return CharacterStatsDTO.builder()
+            .id(summary.getId())
+            .externalId(summary.getExternalId())
+            .name(summary.getName())
+            .source(summary.getSource())
+            .imageUrl(summary.getImageUrl())
+            .totalLikes(likes)
+            .totalDislikes(dislikes)
+            .totalVotes(votes)
+            .likePercentage(votes == 0 ? 0.0 : (likes * 100.0) / votes)
+            .dislikePercentage(votes == 0 ? 0.0 : (dislikes * 100.0) / votes)
+            .ratingScore(WilsonScore.lowerBound(likes, votes))
+            .controversyScore(WilsonScore.controversy(likes, dislikes))
             .build();
     }
     
@@ -0,0 +1,29 @@
+package com.pikapikamatch.util;
+
+public class ContentCodings {
+
+    public static final String GZIP = "gzip";
+
+    private ContentCodings() {
+    }
+
+    /**
+     * Checks whether an Accept-Encoding header allows a gzip-encoded response.
+     *
+     * @param acceptEncoding the Accept-Encoding header value (may be null)
+     * @return true if gzip is listed without a zero quality value
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase(GZIP)) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,69 @@
+package com.pikapikamatch.util;
+
+import org.springframework.http.MediaType;
+
+public class ETags {
+    
+    private ETags() {
+    }
+    
+    /**
+     * Builds a strong ETag value (quoted) from its parts
+     * 
+     * @param parts the values identifying the representation
+     * @return the quoted ETag
+     */
+    public static String strong(Object... parts) {
+        StringBuilder value = new StringBuilder("\"");
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                value.append('-');
+            }
+            value.append(parts[i]);
+        }
+        return value.append('"').toString();
+    }
+    
+    /**
+     * Derives the ETag of one representation of a resource from the ETag of its data.
+     * JSON keeps the plain ETag; other encodings (CBOR, Smile) carry different bytes
+     * for the same data, so their media subtype is appended to stay strong validators.
+     * 
+     * @param eTag the quoted ETag of the resource data
+     * @param mediaType the negotiated media type of the response
+     * @return the quoted ETag of that representation
+     */
+    public static String forRepresentation(String eTag, MediaType mediaType) {
+        if (mediaType == null || MediaType.APPLICATION_JSON.isCompatibleWith(mediaType)) {
+            return eTag;
+        }
+        return eTag.substring(0, eTag.length() - 1) + '-' + mediaType.getSubtype() + '"';
+    }
+    
+    /**
+     * Checks whether an If-None-Match header matches the given ETag.
+     * Uses the weak comparison required for If-None-Match, and accepts lists and "*".
+     * 
+     * @param ifNoneMatch the If-None-Match header value (may be null)
+     * @param eTag the current ETag of the resource
+     * @return true if the client already has the current representation
+     */
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank() || eTag == null) {
+            return false;
+        }
+        
+        String current = opaque(eTag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if ("*".equals(trimmed) || opaque(trimmed).equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static String opaque(String eTag) {
+        return eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+    }
+}
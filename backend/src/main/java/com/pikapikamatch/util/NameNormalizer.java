@@ -0,0 +1,32 @@
+package com.pikapikamatch.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public class NameNormalizer {
+    
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    
+    private NameNormalizer() {
+    }
+    
+    /**
+     * Normalizes a character name for exact, index-friendly lookups:
+     * accents are folded ("Flabébé" becomes "flabebe"), case is lowered and
+     * surrounding or repeated whitespace is collapsed
+     * 
+     * @param name the name to normalize (may be null)
+     * @return the normalized name, or null if the name is null
+     */
+    public static String normalize(String name) {
+        if (name == null) {
+            return null;
+        }
+        
+        String decomposed = Normalizer.normalize(name, Normalizer.Form.NFKD);
+        String folded = DIACRITICS.matcher(decomposed).replaceAll("");
+        return WHITESPACE.matcher(folded.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,45 @@
+package com.pikapikamatch.util;
+
+import com.pikapikamatch.exception.ValidationException;
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for keyset-paginated rankings.
+ * Encodes the ranking name and the (count, id) of the last item of a page.
+ */
+public record RankingCursor(String ranking, int count, ObjectId id) {
+    
+    /**
+     * Encodes the cursor as a URL-safe token
+     * 
+     * @return the opaque token
+     */
+    public String encode() {
+        String raw = ranking + ":" + count + ":" + id.toHexString();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Decodes a token produced by {@link #encode()}
+     * 
+     * @param token the opaque token
+     * @param expectedRanking the ranking the token must belong to
+     * @return the decoded cursor
+     * @throws ValidationException if the token is malformed or belongs to another ranking
+     */
+    public static RankingCursor decode(String token, String expectedRanking) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 3 || !parts[0].equals(expectedRanking) || !ObjectId.isValid(parts[2])) {
+                throw new ValidationException("Invalid cursor");
+            }
+            return new RankingCursor(parts[0], Integer.parseInt(parts[1]), new ObjectId(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.pikapikamatch.util;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Per-request latency breakdown, emitted as a {@code Server-Timing} header.
+ * A context is bound to the request thread between {@link #begin()} and {@link #end()};
+ * outside of it (timing disabled, background and reactive threads) recording is a no-op.
+ *
+ * <pre>{@code
+ * long start = System.nanoTime();
+ * try {
+ *     return execution.execute(request, body);
+ * } finally {
+ *     ServerTiming.record("pokeapi", System.nanoTime() - start);
+ * }
+ * }</pre>
+ *
+ * A context is owned by the request thread and is not thread-safe.
+ */
+public final class ServerTiming {
+
+    public static final String HEADER = "Server-Timing";
+
+    private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final Map<String, Metric> metrics = new LinkedHashMap<>();
+
+    private ServerTiming() {
+    }
+
+    /**
+     * Binds a new context to the current thread.
+     *
+     * @return the new context
+     */
+    public static ServerTiming begin() {
+        ServerTiming timing = new ServerTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    /**
+     * Unbinds the context of the current thread, if any.
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return the context bound to the current thread, or null if there is none
+     */
+    public static ServerTiming current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Records a duration in the context of the current thread, if any.
+     *
+     * @param name the metric name (a header token, e.g. "db" or "pokeapi")
+     * @param durationNanos the duration in nanoseconds
+     */
+    public static void record(String name, long durationNanos) {
+        ServerTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.add(name, durationNanos);
+        }
+    }
+
+    /**
+     * Adds a duration to a metric; repeated names are summed and counted.
+     *
+     * @param name the metric name
+     * @param durationNanos the duration in nanoseconds
+     */
+    public void add(String name, long durationNanos) {
+        Metric metric = metrics.computeIfAbsent(name, key -> new Metric());
+        metric.count++;
+        metric.nanos += durationNanos;
+    }
+
+    /**
+     * Formats the metrics recorded so far, followed by the total time since the
+     * context began, e.g. {@code db;desc="3 calls";dur=12.4, pokeapi;dur=210.0, total;dur=231.7}.
+     *
+     * @return the Server-Timing header value
+     */
+    public String toHeaderValue() {
+        StringBuilder value = new StringBuilder();
+        metrics.forEach((name, metric) -> {
+            value.append(name);
+            if (metric.count > 1) {
+                value.append(";desc=\"").append(metric.count).append(" calls\"");
+            }
+            value.append(";dur=").append(millis(metric.nanos)).append(", ");
+        });
+        return value.append("total;dur=").append(millis(System.nanoTime() - startNanos)).toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+
+    private static final class Metric {
+        private int count;
+        private long nanos;
+    }
+}
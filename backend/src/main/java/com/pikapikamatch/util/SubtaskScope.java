@@ -0,0 +1,110 @@
+package com.pikapikamatch.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * Structured fan-out of subtasks, with the semantics of
+ * {@code StructuredTaskScope.ShutdownOnFailure} (still a preview API in Java 21).
+ * Subtasks never outlive the scope that forked them: the first failure cancels
+ * the remaining subtasks and is rethrown by {@link #join()}, and closing the
+ * scope cancels anything still running.
+ *
+ * <pre>{@code
+ * try (SubtaskScope scope = new SubtaskScope(executor)) {
+ *     Supplier<A> a = scope.fork(this::queryA);
+ *     Supplier<B> b = scope.fork(this::queryB);
+ *     scope.join();
+ *     return combine(a.get(), b.get());
+ * }
+ * }</pre>
+ *
+ * A scope is owned by the thread that created it and is not thread-safe.
+ */
+public class SubtaskScope implements AutoCloseable {
+
+    private final Executor executor;
+    private final List<FutureTask<?>> subtasks = new ArrayList<>();
+    private final BlockingQueue<FutureTask<?>> completed = new LinkedBlockingQueue<>();
+
+    /**
+     * @param executor Runs the subtasks, typically one virtual thread per subtask
+     */
+    public SubtaskScope(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Starts a subtask.
+     *
+     * @param task The subtask
+     * @param <T> The result type
+     * @return Supplier of the result, only valid once {@link #join()} has returned
+     */
+    public <T> Supplier<T> fork(Callable<T> task) {
+        FutureTask<T> subtask = new FutureTask<>(task) {
+            @Override
+            protected void done() {
+                completed.add(this);
+            }
+        };
+        subtasks.add(subtask);
+        executor.execute(subtask);
+        return subtask::resultNow;
+    }
+
+    /**
+     * Waits for all subtasks to complete, or for the first one to fail.
+     *
+     * @throws RuntimeException the failure of the first failed subtask (checked exceptions
+     *                          are wrapped in a {@link CompletionException})
+     * @throws CancellationException if the calling thread is interrupted while waiting
+     */
+    public void join() {
+        for (int i = 0; i < subtasks.size(); i++) {
+            FutureTask<?> subtask;
+            try {
+                subtask = completed.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelAll();
+                throw new CancellationException("Interrupted while waiting for subtasks");
+            }
+
+            if (subtask.state() == Future.State.FAILED) {
+                cancelAll();
+                Throwable failure = subtask.exceptionNow();
+                if (failure instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (failure instanceof Error error) {
+                    throw error;
+                }
+                throw new CompletionException(failure);
+            }
+        }
+    }
+
+    /**
+     * Cancels (interrupts) the subtasks that are still running.
+     */
+    @Override
+    public void close() {
+        cancelAll();
+    }
+
+    private void cancelAll() {
+        for (FutureTask<?> subtask : subtasks) {
+            subtask.cancel(true);
+        }
+    }
+}
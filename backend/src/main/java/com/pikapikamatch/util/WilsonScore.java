@@ -0,0 +1,49 @@
+package com.pikapikamatch.util;
+
+public class WilsonScore {
+
+    /**
+     * z-score for a 95% confidence level
+     */
+    private static final double Z = 1.96;
+
+    private WilsonScore() {
+    }
+
+    /**
+     * Computes the lower bound of the Wilson score interval for a proportion.
+     * A small sample gets a low bound even with a perfect ratio, so ranking by this
+     * value rewards characters that are consistently liked rather than lucky ones.
+     *
+     * @param positive the number of positive outcomes
+     * @param total the total number of outcomes
+     * @return the lower bound (0.0 to 1.0), or 0.0 if there are no outcomes
+     */
+    public static double lowerBound(int positive, int total) {
+        if (total <= 0) {
+            return 0.0;
+        }
+
+        double n = total;
+        double p = positive / n;
+        double z2 = Z * Z;
+
+        double centre = p + z2 / (2 * n);
+        double margin = Z * Math.sqrt((p * (1 - p) + z2 / (4 * n)) / n);
+
+        return Math.max(0.0, (centre - margin) / (1 + z2 / n));
+    }
+
+    /**
+     * Computes a controversy score: the Wilson lower bound of the minority share.
+     * It grows when likes and dislikes are close to even and there are enough votes
+     * to trust that split, and peaks just below 0.5.
+     *
+     * @param likes the number of likes
+     * @param dislikes the number of dislikes
+     * @return the controversy score (0.0 to 0.5)
+     */
+    public static double controversy(int likes, int dislikes) {
+        return lowerBound(Math.min(likes, dislikes), likes + dislikes);
+    }
+}
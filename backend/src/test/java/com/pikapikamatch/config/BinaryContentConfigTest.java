@@ -0,0 +1,117 @@
+package com.pikapikamatch.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.pikapikamatch.controller.VoteController;
+import com.pikapikamatch.model.dto.VoteResponseDTO;
+import com.pikapikamatch.service.VoteService;
+import com.pikapikamatch.service.cache.DataVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+class BinaryContentConfigTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        VoteService voteService = mock(VoteService.class);
+        when(voteService.getRecentVotes(10)).thenReturn(List.of(VoteResponseDTO.builder()
+            .characterName("Pikachu")
+            .voteType("like")
+            .timestamp(LocalDateTime.of(2024, 1, 31, 10, 30))
+            .build()));
+
+        BinaryContentConfig config = new BinaryContentConfig();
+        mockMvc = MockMvcBuilders.standaloneSetup(new VoteController(voteService, mock(DataVersion.class), config.responseFormats()))
+            .setMessageConverters(
+                new MappingJackson2HttpMessageConverter(builder().build()),
+                config.smileHttpMessageConverter(builder()),
+                config.cborHttpMessageConverter(builder()))
+            .addInterceptors(interceptors(config))
+            .build();
+    }
+
+    @Test
+    void shouldEncodeCbor_whenAccepted() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/votes/recent").accept(MediaType.APPLICATION_CBOR)).andReturn();
+
+        assertThat(result.getResponse().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR_VALUE);
+        assertThat(result.getResponse().getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT);
+        JsonNode body = new ObjectMapper(new CBORFactory()).readTree(result.getResponse().getContentAsByteArray());
+        assertThat(body.at("/data/0/characterName").asText()).isEqualTo("Pikachu");
+        assertThat(body.at("/data/0/timestamp").asText()).isEqualTo("2024-01-31T10:30:00");
+    }
+
+    @Test
+    void shouldEncodeSmile_whenAccepted() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/votes/recent").accept(SMILE)).andReturn();
+
+        assertThat(result.getResponse().getContentType()).isEqualTo(SMILE.toString());
+        JsonNode body = new ObjectMapper(new SmileFactory()).readTree(result.getResponse().getContentAsByteArray());
+        assertThat(body.at("/data/0/characterName").asText()).isEqualTo("Pikachu");
+    }
+
+    @Test
+    void shouldTagEachEncodingWithItsOwnETag() throws Exception {
+        MvcResult json = mockMvc.perform(get("/api/votes/recent")).andReturn();
+        MvcResult cbor = mockMvc.perform(get("/api/votes/recent").accept(MediaType.APPLICATION_CBOR)
+            .header(HttpHeaders.IF_NONE_MATCH, json.getResponse().getHeader(HttpHeaders.ETAG))).andReturn();
+        MvcResult smile = mockMvc.perform(get("/api/votes/recent").accept(SMILE)).andReturn();
+
+        assertThat(cbor.getResponse().getStatus()).isEqualTo(200);
+        assertThat(cbor.getResponse().getHeader(HttpHeaders.ETAG)).isEqualTo("\"recent-v0-l10-cbor\"");
+        assertThat(smile.getResponse().getHeader(HttpHeaders.ETAG)).isEqualTo("\"recent-v0-l10-x-jackson-smile\"");
+        assertThat(json.getResponse().getHeader(HttpHeaders.ETAG)).isEqualTo("\"recent-v0-l10\"");
+    }
+
+    @Test
+    void shouldKeepJson_forAnyOrMissingAccept() throws Exception {
+        MvcResult any = mockMvc.perform(get("/api/votes/recent").accept(MediaType.ALL)).andReturn();
+        MvcResult none = mockMvc.perform(get("/api/votes/recent")).andReturn();
+
+        assertThat(any.getResponse().getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(none.getResponse().getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    private static Jackson2ObjectMapperBuilder builder() {
+        // As configured in application.yml
+        return new Jackson2ObjectMapperBuilder()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private static HandlerInterceptor[] interceptors(BinaryContentConfig config) {
+        CollectingInterceptorRegistry registry = new CollectingInterceptorRegistry();
+        config.addInterceptors(registry);
+        return registry.interceptors();
+    }
+
+    private static final class CollectingInterceptorRegistry extends InterceptorRegistry {
+
+        HandlerInterceptor[] interceptors() {
+            return getInterceptors().toArray(HandlerInterceptor[]::new);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.pikapikamatch.controller;
+
+import com.pikapikamatch.model.dto.CharacterStatsDTO;
+import com.pikapikamatch.model.dto.VoteExportDTO;
+import com.pikapikamatch.service.export.ExportService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExportControllerTest {
+
+    private static final LocalDateTime SINCE = LocalDateTime.of(2024, 1, 31, 0, 0);
+
+    @Mock
+    private ExportService exportService;
+
+    @InjectMocks
+    private ExportController exportController;
+
+    @Test
+    void exportVotes_shouldStreamPlainNdjson_whenGzipNotAccepted() throws IOException {
+        // Given
+        Stream<VoteExportDTO> votes = Stream.of(VoteExportDTO.builder().voteId("v1").build());
+        when(exportService.streamVotes(SINCE)).thenReturn(votes);
+        when(exportService.writeNdjson(eq(votes), any())).thenAnswer(invocation -> write(invocation.getArgument(1)));
+
+        // When
+        var response = exportController.exportVotes(SINCE, null);
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        response.getBody().writeTo(body);
+
+        // Then
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getHeaders().getContentDisposition().getFilename()).isEqualTo("votes.ndjson");
+        assertThat(body.toString(StandardCharsets.UTF_8)).isEqualTo("{\"voteId\":\"v1\"}\n");
+    }
+
+    @Test
+    void exportCharacters_shouldStreamGzippedNdjson_whenGzipAccepted() throws IOException {
+        // Given
+        Stream<CharacterStatsDTO> characters = Stream.empty();
+        when(exportService.streamCharacters(null)).thenReturn(characters);
+        when(exportService.writeNdjson(eq(characters), any())).thenAnswer(invocation -> write(invocation.getArgument(1)));
+
+        // When
+        var response = exportController.exportCharacters(null, "gzip, deflate");
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        response.getBody().writeTo(body);
+
+        // Then
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeaders().getVary()).contains(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(response.getHeaders().getContentDisposition().getFilename()).isEqualTo("characters.ndjson");
+        assertThat(new String(new GZIPInputStream(new ByteArrayInputStream(body.toByteArray())).readAllBytes(),
+                StandardCharsets.UTF_8)).isEqualTo("{\"voteId\":\"v1\"}\n");
+    }
+
+    @Test
+    void exportVotes_shouldOpenTheCursorBeforeStreaming_soQueryFailuresGetAnErrorResponse() {
+        // Given
+        when(exportService.streamVotes(null)).thenThrow(new IllegalStateException("Database unavailable"));
+
+        // When / Then
+        assertThatThrownBy(() -> exportController.exportVotes(null, "gzip"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static long write(OutputStream out) throws IOException {
+        try (out) {
+            out.write("{\"voteId\":\"v1\"}\n".getBytes(StandardCharsets.UTF_8));
+        }
+        return 1;
+    }
+}
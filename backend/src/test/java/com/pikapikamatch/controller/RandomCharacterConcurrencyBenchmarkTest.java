@@ -0,0 +1,143 @@
+package com.pikapikamatch.controller;
+
+import com.pikapikamatch.PikaPikaMatchApplication;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares how many GET /api/characters/random requests are served concurrently on
+ * platform threads (Tomcat's 200 workers) and on virtual threads.
+ * The external APIs are replaced by a local stub answering after a fixed latency, and
+ * the stub's peak number of in-flight calls is the server's effective concurrency.
+ * Requires a real MongoDB server for application startup: set MONGODB_BENCHMARK_URI
+ * to run it, with a fixed heap for a fair comparison, e.g.
+ * {@code mvn test -Dtest=RandomCharacterConcurrencyBenchmarkTest -DargLine=-Xmx256m}.
+ */
+@Slf4j
+@EnabledIfEnvironmentVariable(named = "MONGODB_BENCHMARK_URI", matches = ".+")
+class RandomCharacterConcurrencyBenchmarkTest {
+
+    private static final int REQUESTS = 2_000;
+    private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(300);
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final byte[] CHARACTER_JSON =
+            "{\"id\":25,\"name\":\"pikachu\",\"response\":\"success\"}".getBytes(StandardCharsets.UTF_8);
+
+    private static final AtomicInteger inFlight = new AtomicInteger();
+    private static final AtomicInteger peak = new AtomicInteger();
+
+    private static ExecutorService stubExecutor;
+    private static HttpServer upstream;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        stubExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        upstream = HttpServer.create(new InetSocketAddress("localhost", 0), 4096);
+        upstream.setExecutor(stubExecutor);
+        upstream.createContext("/", RandomCharacterConcurrencyBenchmarkTest::answer);
+        upstream.start();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (upstream != null) {
+            upstream.stop(0);
+            stubExecutor.close();
+        }
+    }
+
+    @Test
+    void virtualThreads_shouldServeMoreConcurrentRequests_thanPlatformThreads() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        log.info("{} concurrent /random requests, {}ms upstream latency, {} MB max heap",
+                REQUESTS, UPSTREAM_LATENCY.toMillis(), Runtime.getRuntime().maxMemory() / (1024 * 1024));
+        log.info("Platform threads: peak {} concurrent, {} ok, {} ms total", platform.peak, platform.ok, platform.millis);
+        log.info("Virtual threads: peak {} concurrent, {} ok, {} ms total", virtual.peak, virtual.ok, virtual.millis);
+
+        assertThat(platform.ok).isEqualTo(REQUESTS);
+        assertThat(virtual.ok).isEqualTo(REQUESTS);
+        assertThat(platform.peak).isLessThanOrEqualTo(TOMCAT_MAX_THREADS);
+        assertThat(virtual.peak).isGreaterThan(platform.peak);
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        String stubUrl = "http://localhost:" + upstream.getAddress().getPort();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(PikaPikaMatchApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.data.mongodb.uri=" + System.getenv("MONGODB_BENCHMARK_URI"),
+                        "external.apis.pokeapi.base-url=" + stubUrl,
+                        "external.apis.rickandmorty.base-url=" + stubUrl,
+                        "external.apis.superhero.base-url=" + stubUrl,
+                        "external.apis.superhero.api-key=benchmark",
+                        "rate-limit.enabled=false",
+                        "concurrency-limit.enabled=false",
+                        "logging.level.com.pikapikamatch=WARN")
+                .run();
+             ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            URI uri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/api/characters/random");
+            HttpClient client = HttpClient.newBuilder().executor(clientExecutor).build();
+            peak.set(0);
+
+            long start = System.nanoTime();
+            List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(REQUESTS);
+            for (int i = 0; i < REQUESTS; i++) {
+                HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofMinutes(1)).GET().build();
+                responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+            }
+            long ok = responses.stream().map(CompletableFuture::join).filter(response -> response.statusCode() == 200).count();
+
+            return new Result(peak.get(), ok, Duration.ofNanos(System.nanoTime() - start).toMillis());
+        }
+    }
+
+    private static void answer(HttpExchange exchange) throws IOException {
+        peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(UPSTREAM_LATENCY);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, CHARACTER_JSON.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(CHARACTER_JSON);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private record Result(int peak, long ok, long millis) {
+    }
+}
@@ -0,0 +1,101 @@
+package com.pikapikamatch.controller;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.pikapikamatch.model.dto.Response;
+import com.pikapikamatch.model.dto.VoteResponseDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the payload size (raw and gzipped, as served with compression) and the
+ * encode time of JSON, Smile and CBOR for GET /api/votes/recent?limit=50, i.e.
+ * {@code Response<List<VoteResponseDTO>>} with 50 votes.
+ * Set SERIALIZATION_BENCHMARK=true to run it.
+ */
+@Slf4j
+@EnabledIfEnvironmentVariable(named = "SERIALIZATION_BENCHMARK", matches = "true")
+class ResponseEncodingBenchmarkTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 50_000;
+
+    @Test
+    void compareEncodings() throws IOException {
+        Response<List<VoteResponseDTO>> payload = Response.success(recentVotes(50));
+        Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+        mappers.put("JSON", mapper(new JsonFactory()));
+        mappers.put("Smile", mapper(new SmileFactory()));
+        mappers.put("CBOR", mapper(new CBORFactory()));
+
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        for (Map.Entry<String, ObjectMapper> entry : mappers.entrySet()) {
+            ObjectMapper mapper = entry.getValue();
+            byte[] encoded = mapper.writeValueAsBytes(payload);
+            sizes.put(entry.getKey(), encoded.length);
+
+            for (int i = 0; i < WARMUP; i++) {
+                mapper.writeValueAsBytes(payload);
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                mapper.writeValueAsBytes(payload);
+            }
+            double micros = (System.nanoTime() - start) / 1000.0 / ITERATIONS;
+
+            log.info("{}: {} bytes, {} bytes gzipped, {} us per encode",
+                entry.getKey(), encoded.length, gzip(encoded).length, String.format("%.1f", micros));
+        }
+
+        assertThat(sizes.get("Smile")).isLessThan(sizes.get("JSON"));
+        assertThat(sizes.get("CBOR")).isLessThan(sizes.get("JSON"));
+    }
+
+    private static ObjectMapper mapper(JsonFactory factory) {
+        // The application's settings, as BinaryContentConfig builds its mappers
+        return new Jackson2ObjectMapperBuilder()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .factory(factory)
+            .build();
+    }
+
+    private static List<VoteResponseDTO> recentVotes(int limit) {
+        String[] sources = {"pokemon", "rickandmorty", "superhero"};
+        return IntStream.range(0, limit)
+            .mapToObj(i -> VoteResponseDTO.builder()
+                .voteId(String.format("65b9f1c2a4e3d2%010d", i))
+                .characterId(sources[i % 3] + "-" + (i + 1))
+                .characterName("Character " + (i + 1))
+                .characterSource(sources[i % 3])
+                .imageUrl("https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/other/official-artwork/" + (i + 1) + ".png")
+                .description("A character fetched from the " + sources[i % 3] + " API, with a short description of its abilities.")
+                .voteType(i % 4 == 0 ? "dislike" : "like")
+                .timestamp(LocalDateTime.of(2024, 1, 31, 10, 30).minusMinutes(i))
+                .build())
+            .toList();
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,192 @@
+package com.pikapikamatch.controller;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.pikapikamatch.model.dto.CharacterStatsDTO;
+import com.pikapikamatch.model.dto.RankingPageDTO;
+import com.pikapikamatch.model.dto.StatsSummaryDTO;
+import com.pikapikamatch.service.StatsService;
+import com.pikapikamatch.service.StatsSummaryService;
+import com.pikapikamatch.service.cache.DataVersion;
+import com.pikapikamatch.service.cache.ResponseBytesCache;
+import com.pikapikamatch.service.cache.ResponseFormats;
+import com.pikapikamatch.service.cache.StatsCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StatsControllerTest {
+
+    @Mock
+    private StatsCache statsCache;
+
+    @Mock
+    private StatsService statsService;
+
+    @Mock
+    private StatsSummaryService statsSummaryService;
+
+    @Mock
+    private DataVersion dataVersion;
+
+    @Spy
+    private ResponseFormats responseFormats = new ResponseFormats(List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR));
+
+    @Spy
+    private ResponseBytesCache responseBytesCache = new ResponseBytesCache(
+            List.of(new MappingJackson2HttpMessageConverter(new Jackson2ObjectMapperBuilder().build()),
+                    new MappingJackson2CborHttpMessageConverter(new Jackson2ObjectMapperBuilder().factory(new CBORFactory()).build())),
+            responseFormats,
+            100, Duration.ofSeconds(10), true, DataSize.ofKilobytes(1));
+
+    @InjectMocks
+    private StatsController statsController;
+
+    @Test
+    void getSummary_shouldReturnSummaryWithETag_whenNoIfNoneMatch() {
+        // Given
+        when(dataVersion.current()).thenReturn(7L);
+        when(statsSummaryService.getSummary(5)).thenReturn(
+                StatsSummaryDTO.builder().topLiked(List.of()).topDisliked(List.of()).build());
+
+        // When
+        var response = statsController.getSummary(5, null, null);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"summary-v7-l5\"");
+        assertThat(response.getBody()).isNotNull();
+    }
+
+    @Test
+    void getSummary_shouldReturnNotModified_whenETagMatches() {
+        // Given
+        when(dataVersion.current()).thenReturn(7L);
+
+        // When
+        var response = statsController.getSummary(5, "\"summary-v7-l5\"", null);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        verifyNoInteractions(statsSummaryService);
+    }
+
+    @Test
+    void getTopLiked_shouldReturnNotModified_withoutReadingTheCache_whenETagMatches() {
+        // Given
+        when(dataVersion.current()).thenReturn(3L);
+
+        // When
+        var response = statsController.getTopLiked(10, "W/\"top-liked-v3-l10\"", new MockHttpServletRequest());
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"top-liked-v3-l10\"");
+        verifyNoInteractions(statsCache);
+    }
+
+    @Test
+    void getTopLiked_shouldReturnFreshBody_whenDataVersionChanged() {
+        // Given
+        when(dataVersion.current()).thenReturn(4L);
+        when(statsCache.getTopLiked(10)).thenReturn(List.of());
+
+        // When
+        var response = statsController.getTopLiked(10, "\"top-liked-v3-l10\"", new MockHttpServletRequest());
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"top-liked-v4-l10\"");
+    }
+
+    @Test
+    void getMostLiked_shouldEncodeOnce_andServeCachedBytes_untilDataVersionChanges() {
+        // Given
+        when(dataVersion.current()).thenReturn(5L, 5L, 6L);
+        when(statsCache.getMostLiked()).thenReturn(
+                CharacterStatsDTO.builder().name("Pikachu").totalLikes(42).build());
+
+        // When
+        var first = statsController.getMostLiked(null, new MockHttpServletRequest());
+        var second = statsController.getMostLiked(null, new MockHttpServletRequest());
+        var afterVote = statsController.getMostLiked(null, new MockHttpServletRequest());
+
+        // Then
+        assertThat(first.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(new String(first.getBody(), StandardCharsets.UTF_8)).contains("\"name\":\"Pikachu\"");
+        assertThat(second.getBody()).isSameAs(first.getBody());
+        assertThat(afterVote.getHeaders().getETag()).isEqualTo("\"most-liked-v6\"");
+        verify(statsCache, times(2)).getMostLiked();
+    }
+
+    @Test
+    void getLikesRanking_shouldTagEachPageSeparately() {
+        // Given
+        when(dataVersion.current()).thenReturn(7L);
+        when(statsService.getLikesRanking(20, "abc")).thenReturn(
+                RankingPageDTO.builder().items(List.of()).hasMore(false).build());
+
+        // When
+        var response = statsController.getLikesRanking(20, "abc", "\"liked-v7-l20-first\"", null);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"liked-v7-l20-cabc\"");
+    }
+
+    @Test
+    void getSummary_shouldTagEachRepresentationSeparately() {
+        // Given
+        when(dataVersion.current()).thenReturn(7L);
+        when(statsSummaryService.getSummary(5)).thenReturn(
+                StatsSummaryDTO.builder().topLiked(List.of()).topDisliked(List.of()).build());
+
+        // When
+        var response = statsController.getSummary(5, "\"summary-v7-l5\"", MediaType.APPLICATION_CBOR_VALUE);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"summary-v7-l5-cbor\"");
+    }
+
+    @Test
+    void getMostLiked_shouldReturnNotModified_onlyForTheSameRepresentation() {
+        // Given
+        when(dataVersion.current()).thenReturn(5L);
+        when(statsCache.getMostLiked()).thenReturn(CharacterStatsDTO.builder().name("Pikachu").build());
+        MockHttpServletRequest cbor = new MockHttpServletRequest();
+        cbor.addHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_CBOR_VALUE);
+
+        // When
+        var jsonETagForCbor = statsController.getMostLiked("\"most-liked-v5\"", cbor);
+        var cborETagForCbor = statsController.getMostLiked("\"most-liked-v5-cbor\"", cbor);
+
+        // Then
+        assertThat(jsonETagForCbor.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(jsonETagForCbor.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+        assertThat(jsonETagForCbor.getHeaders().getETag()).isEqualTo("\"most-liked-v5-cbor\"");
+        assertThat(cborETagForCbor.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+}
@@ -0,0 +1,94 @@
+package com.pikapikamatch.controller;
+
+import com.pikapikamatch.model.dto.VoteResponseDTO;
+import com.pikapikamatch.service.VoteService;
+import com.pikapikamatch.service.cache.DataVersion;
+import com.pikapikamatch.service.cache.ResponseFormats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VoteControllerTest {
+
+    @Mock
+    private VoteService voteService;
+
+    @Mock
+    private DataVersion dataVersion;
+
+    @Spy
+    private ResponseFormats responseFormats = new ResponseFormats(List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR));
+
+    @InjectMocks
+    private VoteController voteController;
+
+    @Test
+    void getRecentVotes_shouldReturnVotesWithETag_whenNoIfNoneMatch() {
+        // Given
+        when(dataVersion.current()).thenReturn(12L);
+        when(voteService.getRecentVotes(10)).thenReturn(List.of(
+                VoteResponseDTO.builder().characterName("Pikachu").voteType("like").build()));
+
+        // When
+        var response = voteController.getRecentVotes(10, null, null);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"recent-v12-l10\"");
+        assertThat(response.getBody().getData()).hasSize(1);
+    }
+
+    @Test
+    void getRecentVotes_shouldReturnNotModified_withoutQuerying_whenETagMatches() {
+        // Given
+        when(dataVersion.current()).thenReturn(12L);
+
+        // When
+        var response = voteController.getRecentVotes(10, "\"recent-v11-l10\", \"recent-v12-l10\"", null);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        verifyNoInteractions(voteService);
+    }
+
+    @Test
+    void getLastEvaluated_shouldReturnNotModified_whenETagMatches() {
+        // Given
+        when(dataVersion.current()).thenReturn(12L);
+
+        // When
+        var response = voteController.getLastEvaluated("\"last-v12\"", null);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        verifyNoInteractions(voteService);
+    }
+
+    @Test
+    void getLastEvaluated_shouldNotMatchTheJsonETag_forCbor() {
+        // Given
+        when(dataVersion.current()).thenReturn(12L);
+        when(voteService.getLastEvaluated()).thenReturn(
+                VoteResponseDTO.builder().characterName("Pikachu").voteType("like").build());
+
+        // When
+        var response = voteController.getLastEvaluated("\"last-v12\"", MediaType.APPLICATION_CBOR_VALUE);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"last-v12-cbor\"");
+    }
+}
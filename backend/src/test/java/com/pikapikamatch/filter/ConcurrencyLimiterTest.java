@@ -0,0 +1,91 @@
+package com.pikapikamatch.filter;
+
+import com.pikapikamatch.filter.ConcurrencyLimiter.Priority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimiterTest {
+
+    private static final long MILLIS = 1_000_000;
+
+    private SimpleMeterRegistry registry;
+    private ConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        limiter = new ConcurrencyLimiter(20, 10, 100, 1.5, 0.2, 0.9, 0.5, registry);
+    }
+
+    @Test
+    void tryAcquire_shouldShedLowerPrioritiesFirst() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire(Priority.LOW)).isPositive();
+        }
+        assertThat(limiter.tryAcquire(Priority.LOW)).isZero();
+
+        for (int i = 0; i < 8; i++) {
+            assertThat(limiter.tryAcquire(Priority.NORMAL)).isPositive();
+        }
+        assertThat(limiter.tryAcquire(Priority.NORMAL)).isZero();
+
+        assertThat(limiter.tryAcquire(Priority.HIGH)).isEqualTo(19);
+        assertThat(limiter.tryAcquire(Priority.HIGH)).isEqualTo(20);
+        assertThat(limiter.tryAcquire(Priority.HIGH)).isZero();
+        assertThat(registry.get(ConcurrencyLimiter.SHED).tag("priority", "low").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void onComplete_shouldReleaseSlot() {
+        int inFlight = limiter.tryAcquire(Priority.NORMAL);
+
+        limiter.onComplete(Priority.NORMAL, inFlight, 5 * MILLIS);
+
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void onComplete_shouldGrowLimit_whileSaturatedAndLatencyStable() {
+        for (int i = 0; i < 20; i++) {
+            limiter.onComplete(Priority.NORMAL, limiter.tryAcquire(Priority.NORMAL) + 15, 5 * MILLIS);
+        }
+
+        assertThat(limiter.getLimit()).isGreaterThan(20);
+    }
+
+    @Test
+    void onComplete_shouldNotGrowLimit_whenMostlyUnused() {
+        for (int i = 0; i < 20; i++) {
+            limiter.onComplete(Priority.NORMAL, limiter.tryAcquire(Priority.NORMAL), 5 * MILLIS);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void onComplete_shouldShrinkLimit_downToMinimum_whenLatencyRises() {
+        limiter.onComplete(Priority.NORMAL, limiter.tryAcquire(Priority.NORMAL), 5 * MILLIS);
+
+        limiter.onComplete(Priority.NORMAL, limiter.tryAcquire(Priority.NORMAL), 50 * MILLIS);
+        double afterFirstSlowRequest = limiter.getLimit();
+        for (int i = 0; i < 50; i++) {
+            limiter.onComplete(Priority.NORMAL, limiter.tryAcquire(Priority.NORMAL), 50 * MILLIS);
+        }
+
+        assertThat(afterFirstSlowRequest).isLessThan(20);
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void onComplete_shouldCompareLatency_perPriority() {
+        // A slow low-priority request is not a slowdown of fast normal-priority ones
+        limiter.onComplete(Priority.NORMAL, limiter.tryAcquire(Priority.NORMAL), 5 * MILLIS);
+        limiter.onComplete(Priority.LOW, limiter.tryAcquire(Priority.LOW), 300 * MILLIS);
+        limiter.onComplete(Priority.NORMAL, limiter.tryAcquire(Priority.NORMAL), 5 * MILLIS);
+
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+}
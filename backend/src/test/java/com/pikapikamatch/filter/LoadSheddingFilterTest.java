@@ -0,0 +1,71 @@
+package com.pikapikamatch.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pikapikamatch.filter.ConcurrencyLimiter.Priority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.cors.CorsConfiguration;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadSheddingFilterTest {
+
+    private ConcurrencyLimiter limiter;
+    private LoadSheddingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new ConcurrencyLimiter(10, 10, 10, 1.5, 0.2, 0.9, 0.5, new SimpleMeterRegistry());
+        filter = new LoadSheddingFilter(limiter,
+            new RejectedRequestWriter(new ObjectMapper().registerModule(new JavaTimeModule()), new CorsConfiguration()),
+            true, Duration.ofSeconds(5), new String[] {"/api/characters/random"});
+    }
+
+    @Test
+    void doFilter_shouldShedRandomCharacter_whileReadsAndVotesStillFlow() throws Exception {
+        // Half of the limit is busy with slow requests
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire(Priority.NORMAL);
+        }
+
+        MockHttpServletResponse random = send("GET", "/api/characters/random");
+
+        assertThat(random.getStatus()).isEqualTo(503);
+        assertThat(random.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("5");
+        assertThat(random.getContentAsString()).contains("\"success\":false");
+        assertThat(send("GET", "/api/stats/sources").getStatus()).isEqualTo(200);
+        assertThat(send("POST", "/api/votes").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void doFilter_shouldReleaseSlot_afterRequest() throws Exception {
+        send("GET", "/api/stats/sources");
+
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void doFilter_shouldReleaseSlot_withoutSample_whenRequestContinuesAsynchronously() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/stream");
+        request.setAsyncSupported(true);
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    private MockHttpServletResponse send(String method, String path) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(method, path), response, new MockFilterChain());
+        return response;
+    }
+}
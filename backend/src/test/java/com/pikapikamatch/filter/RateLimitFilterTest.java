@@ -0,0 +1,115 @@
+package com.pikapikamatch.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.cors.CorsConfiguration;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private SimpleMeterRegistry registry;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        // Upstream: 2 requests then 1 per minute; standard: 5 requests then 1 per minute
+        RequestRateLimiter rateLimiter = new RequestRateLimiter(2, 1, 5, 1, 1000, registry);
+        filter = new RateLimitFilter(rateLimiter, new RejectedRequestWriter(new ObjectMapper().registerModule(new JavaTimeModule()), cors()),
+            true, new String[] {"/api/characters/random"});
+    }
+
+    @Test
+    void doFilter_shouldReject_withRetryAfter_onceUpstreamBudgetIsSpent() throws Exception {
+        assertThat(send("1.1.1.1", "/api/characters/random").getStatus()).isEqualTo(200);
+        assertThat(send("1.1.1.1", "/api/characters/random").getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse rejected = send("1.1.1.1", "/api/characters/random");
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(Long.parseLong(rejected.getHeader(HttpHeaders.RETRY_AFTER))).isBetween(1L, 60L);
+        assertThat(rejected.getContentAsString()).contains("\"success\":false");
+        assertThat(registry.get(RequestRateLimiter.REJECTED).tag("budget", "upstream").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void doFilter_shouldKeepBudgetsSeparate_perClientAndEndpointKind() throws Exception {
+        send("1.1.1.1", "/api/characters/random");
+        send("1.1.1.1", "/api/characters/random");
+
+        assertThat(send("1.1.1.1", "/api/stats/sources").getStatus()).isEqualTo(200);
+        assertThat(send("2.2.2.2", "/api/characters/random").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void doFilter_shouldIgnoreNonApiPaths() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            assertThat(send("1.1.1.1", "/actuator/health").getStatus()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    void doFilter_shouldPassEverything_whenDisabled() throws Exception {
+        filter = new RateLimitFilter(new RequestRateLimiter(1, 1, 1, 1, 1000, registry), new RejectedRequestWriter(new ObjectMapper(), cors()),
+            false, new String[] {"/api/characters/random"});
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(send("1.1.1.1", "/api/characters/random").getStatus()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    void doFilter_shouldAddCorsHeaders_toRejections_andNotCountPreflights() throws Exception {
+        MockHttpServletRequest preflight = new MockHttpServletRequest("OPTIONS", "/api/characters/random");
+        preflight.addHeader(HttpHeaders.ORIGIN, "http://localhost:3000");
+        preflight.addHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "GET");
+        for (int i = 0; i < 5; i++) {
+            filter.doFilter(preflight, new MockHttpServletResponse(), new MockFilterChain());
+        }
+
+        assertThat(send("1.1.1.1", "/api/characters/random").getStatus()).isEqualTo(200);
+        assertThat(send("1.1.1.1", "/api/characters/random").getStatus()).isEqualTo(200);
+        MockHttpServletRequest request = request("1.1.1.1", "/api/characters/random");
+        request.addHeader(HttpHeaders.ORIGIN, "http://localhost:3000");
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(request, rejected, new MockFilterChain());
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN)).isEqualTo("http://localhost:3000");
+        assertThat(rejected.getHeader(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS)).contains(HttpHeaders.RETRY_AFTER);
+    }
+
+    private static CorsConfiguration cors() {
+        CorsConfiguration configuration = new CorsConfiguration();
+        configuration.setAllowedOrigins(List.of("http://localhost:3000"));
+        configuration.setAllowedMethods(List.of("GET"));
+        configuration.setExposedHeaders(List.of(HttpHeaders.RETRY_AFTER));
+        return configuration;
+    }
+
+    private static MockHttpServletRequest request(String client, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setRemoteAddr(client);
+        return request;
+    }
+
+    private MockHttpServletResponse send(String client, String path) throws Exception {
+        MockHttpServletRequest request = request(client, path);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
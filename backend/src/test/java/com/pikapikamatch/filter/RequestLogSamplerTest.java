@@ -0,0 +1,51 @@
+package com.pikapikamatch.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestLogSamplerTest {
+
+    @Test
+    void sample_shouldKeepEveryRequest_whenRateIsOne() {
+        RequestLogSampler sampler = new RequestLogSampler(1, Duration.ofSeconds(1));
+
+        assertThat(IntStream.range(0, 10).allMatch(i -> sampler.sample("GET /api/votes/recent"))).isTrue();
+    }
+
+    @Test
+    void sample_shouldKeepOneRequestInN_perEndpoint() {
+        RequestLogSampler sampler = new RequestLogSampler(5, Duration.ofSeconds(1));
+
+        long hot = IntStream.range(0, 100).filter(i -> sampler.sample("GET /api/votes/recent")).count();
+        boolean coldFirst = sampler.sample("GET /api/stats/sources");
+
+        assertThat(hot).isEqualTo(20);
+        assertThat(coldFirst).isTrue();
+    }
+
+    @Test
+    void isSlow_shouldCompareWithThreshold() {
+        RequestLogSampler sampler = new RequestLogSampler(5, Duration.ofMillis(500));
+
+        assertThat(sampler.isSlow(499)).isFalse();
+        assertThat(sampler.isSlow(500)).isTrue();
+    }
+
+    @Test
+    void isSlow_shouldBeDisabled_whenThresholdIsZero() {
+        RequestLogSampler sampler = new RequestLogSampler(1, Duration.ZERO);
+
+        assertThat(sampler.isSlow(60_000)).isFalse();
+    }
+
+    @Test
+    void constructor_shouldRejectRateBelowOne() {
+        assertThatThrownBy(() -> new RequestLogSampler(0, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,222 @@
+package com.pikapikamatch.filter;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.filter.ThresholdFilter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.ContextInitializer;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.pikapikamatch.controller.VoteController;
+import com.pikapikamatch.model.entity.Character;
+import com.pikapikamatch.model.entity.Vote;
+import com.pikapikamatch.repository.VoteRepository;
+import com.pikapikamatch.service.VoteService;
+import com.pikapikamatch.service.cache.DataVersion;
+import com.pikapikamatch.service.cache.ResponseFormats;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Measures the request-throughput cost of logging on GET /api/votes/recent, going through
+ * RequestLoggingFilter, RequestSamplingInterceptor, VoteController and VoteService with an
+ * in-memory repository.
+ * Compares no logging, the development setup (synchronous file appenders, DEBUG) and the
+ * production setup (asynchronous appenders, INFO, 1 in 20 success logs kept).
+ * Writes a few hundred MB of logs to a temporary directory: set LOGGING_BENCHMARK=true to run it.
+ */
+@Slf4j
+@EnabledIfEnvironmentVariable(named = "LOGGING_BENCHMARK", matches = "true")
+class RequestLoggingBenchmarkTest {
+
+    private static final int THREADS = 8;
+    private static final int REQUESTS = 400_000;
+    private static final int WARMUP_REQUESTS = 200_000;
+    private static final String PATTERN = "%d{yyyy-MM-dd HH:mm:ss.SSS} [%thread] %-5level %logger{36} - %msg%n";
+
+    private final LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+
+    @TempDir
+    Path logDir;
+
+    @Test
+    void productionLogging_shouldServeMoreRequests_thanDevelopmentLogging() throws Exception {
+        double off;
+        double development;
+        double production;
+        try {
+            // Warms the JIT up on the whole request path before any measurement
+            measure("warmup", this::configureNoLogging);
+            off = measure("off", this::configureNoLogging);
+            development = measure("development", this::configureDevelopmentLogging);
+            production = measure("production", this::configureProductionLogging);
+        } finally {
+            context.reset();
+            new ContextInitializer(context).autoConfig();
+        }
+
+        log.info("GET /api/votes/recent on {} threads, {} CPUs: no logging {} req/s",
+                THREADS, Runtime.getRuntime().availableProcessors(), Math.round(off));
+        log.info("Development logging: {} req/s ({}% cost)", Math.round(development), Math.round(100 * (1 - development / off)));
+        log.info("Production logging: {} req/s ({}% cost)", Math.round(production), Math.round(100 * (1 - production / off)));
+
+        assertThat(production).isGreaterThan(development);
+    }
+
+    private double measure(String name, Runnable configureLogging) throws Exception {
+        boolean production = "production".equals(name);
+        RequestLogSampler sampler = new RequestLogSampler(production ? 20 : 1, production ? Duration.ofSeconds(1) : Duration.ZERO);
+        RequestLoggingFilter filter = new RequestLoggingFilter(sampler, !production);
+        RequestSamplingInterceptor interceptor = new RequestSamplingInterceptor(sampler);
+        VoteController controller = new VoteController(voteService(), mock(DataVersion.class, withSettings().stubOnly()),
+            new ResponseFormats(List.of(MediaType.APPLICATION_JSON)));
+
+        // The servlet filter, sampling interceptor, controller and service of a real request,
+        // without the DispatcherServlet overhead that would hide the logging cost
+        FilterChain handler = (request, response) -> {
+            interceptor.preHandle((HttpServletRequest) request, (HttpServletResponse) response, controller);
+            controller.getRecentVotes(10, null, null);
+            interceptor.afterCompletion((HttpServletRequest) request, (HttpServletResponse) response, controller, null);
+        };
+
+        configureLogging.run();
+        run(filter, handler, WARMUP_REQUESTS);
+
+        long start = System.nanoTime();
+        run(filter, handler, REQUESTS);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        context.stop();
+        return REQUESTS / seconds;
+    }
+
+    private void run(RequestLoggingFilter filter, FilterChain handler, int requests) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < requests / THREADS; i++) {
+                        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/votes/recent");
+                        request.setQueryString("limit=10");
+                        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/votes/recent");
+                        filter.doFilter(request, new MockHttpServletResponse(), handler);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void configureNoLogging() {
+        context.reset();
+        context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME).setLevel(Level.OFF);
+    }
+
+    private void configureDevelopmentLogging() {
+        context.reset();
+        Appender<ILoggingEvent> file = fileAppender("development.log", null);
+        Appender<ILoggingEvent> errorFile = fileAppender("development-error.log", Level.ERROR);
+
+        ch.qos.logback.classic.Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(file);
+        root.addAppender(errorFile);
+        context.getLogger("com.pikapikamatch").setLevel(Level.DEBUG);
+    }
+
+    private void configureProductionLogging() {
+        context.reset();
+        SampledLogTurboFilter turboFilter = new SampledLogTurboFilter();
+        turboFilter.setContext(context);
+        turboFilter.start();
+        context.addTurboFilter(turboFilter);
+
+        AsyncAppender asyncFile = new AsyncAppender();
+        asyncFile.setContext(context);
+        asyncFile.setQueueSize(8192);
+        asyncFile.setNeverBlock(true);
+        asyncFile.addAppender(fileAppender("production.log", null));
+        asyncFile.start();
+
+        ch.qos.logback.classic.Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(asyncFile);
+        root.addAppender(fileAppender("production-error.log", Level.ERROR));
+    }
+
+    private Appender<ILoggingEvent> fileAppender(String fileName, Level threshold) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(context);
+        appender.setFile(logDir.resolve(fileName).toString());
+        appender.setEncoder(encoder);
+        if (threshold != null) {
+            ThresholdFilter filter = new ThresholdFilter();
+            filter.setLevel(threshold.toString());
+            filter.start();
+            appender.addFilter(filter);
+        }
+        appender.start();
+        return appender;
+    }
+
+    private static VoteService voteService() {
+        List<Vote> votes = IntStream.range(0, 10).mapToObj(i -> {
+            Character character = new Character();
+            character.setId("character-" + i);
+            character.setName("Pikachu " + i);
+            character.setSource("pokemon");
+            Vote vote = new Vote();
+            vote.setId("vote-" + i);
+            vote.setCharacter(character);
+            vote.setVoteType("like");
+            vote.setTimestamp(LocalDateTime.now());
+            return vote;
+        }).toList();
+
+        // Stub-only: a regular mock would record every one of the benchmark's invocations
+        VoteRepository voteRepository = mock(VoteRepository.class, withSettings().stubOnly());
+        when(voteRepository.findByOrderByTimestampDesc(any(Pageable.class))).thenReturn(votes);
+
+        return new VoteService(voteRepository, null, null, null);
+    }
+}
@@ -0,0 +1,47 @@
+package com.pikapikamatch.filter;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SampledLogTurboFilterTest {
+
+    private final SampledLogTurboFilter filter = new SampledLogTurboFilter();
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    void decide_shouldDenyInfoAndDebug_ofUnsampledRequests() {
+        MDC.put(SampledLogTurboFilter.MDC_KEY, "false");
+
+        assertThat(decide(Level.INFO)).isEqualTo(FilterReply.DENY);
+        assertThat(decide(Level.DEBUG)).isEqualTo(FilterReply.DENY);
+    }
+
+    @Test
+    void decide_shouldAlwaysLetWarningsAndErrorsThrough() {
+        MDC.put(SampledLogTurboFilter.MDC_KEY, "false");
+
+        assertThat(decide(Level.WARN)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(Level.ERROR)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void decide_shouldLetLogsThrough_forSampledRequestsAndOutsideRequests() {
+        assertThat(decide(Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+
+        MDC.put(SampledLogTurboFilter.MDC_KEY, "true");
+        assertThat(decide(Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    private FilterReply decide(Level level) {
+        return filter.decide(null, null, level, "message", null, null);
+    }
+}
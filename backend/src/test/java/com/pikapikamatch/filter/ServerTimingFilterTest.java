@@ -0,0 +1,50 @@
+package com.pikapikamatch.filter;
+
+import com.pikapikamatch.util.ServerTiming;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServerTimingFilterTest {
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/stats/sources");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void doFilter_shouldAddHeader_beforeBodyIsWritten() throws Exception {
+        FilterChain chain = (req, res) -> {
+            ServerTiming.record("db", 2_000_000);
+            res.getWriter().write("{}");
+            ServerTiming.record("late", 1_000_000);
+        };
+
+        new ServerTimingFilter(true).doFilter(request, response, chain);
+
+        assertThat(response.getHeader(ServerTiming.HEADER)).startsWith("db;dur=2.0, total;dur=");
+        assertThat(ServerTiming.current()).isNull();
+    }
+
+    @Test
+    void doFilter_shouldAddHeader_toResponsesWithoutBody() throws Exception {
+        FilterChain chain = (req, res) -> ((HttpServletResponse) res)
+            .setStatus(HttpStatus.NOT_MODIFIED.value());
+
+        new ServerTimingFilter(true).doFilter(request, response, chain);
+
+        assertThat(response.getHeader(ServerTiming.HEADER)).startsWith("total;dur=");
+    }
+
+    @Test
+    void doFilter_shouldNotTime_whenDisabled() throws Exception {
+        FilterChain chain = (req, res) -> assertThat(ServerTiming.current()).isNull();
+
+        new ServerTimingFilter(false).doFilter(request, response, chain);
+
+        assertThat(response.getHeader(ServerTiming.HEADER)).isNull();
+    }
+}
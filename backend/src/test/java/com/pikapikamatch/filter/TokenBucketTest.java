@@ -0,0 +1,60 @@
+package com.pikapikamatch.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void tryAcquire_shouldAllowBurstUpToCapacity_thenReportWait() {
+        TokenBucket bucket = new TokenBucket(3, SECOND, 0);
+
+        assertThat(IntStream.range(0, 3).mapToLong(i -> bucket.tryAcquire(0))).containsOnly(0L);
+        assertThat(bucket.tryAcquire(0)).isEqualTo(SECOND);
+    }
+
+    @Test
+    void tryAcquire_shouldRefillOneTokenPerInterval_upToCapacity() {
+        TokenBucket bucket = new TokenBucket(2, SECOND, 0);
+        bucket.tryAcquire(0);
+        bucket.tryAcquire(0);
+
+        assertThat(bucket.tryAcquire(SECOND / 2)).isEqualTo(SECOND / 2);
+        assertThat(bucket.tryAcquire(SECOND)).isZero();
+        assertThat(bucket.tryAcquire(SECOND)).isEqualTo(SECOND);
+
+        // Idle far longer than needed: only refilled to capacity
+        long later = 100 * SECOND;
+        assertThat(bucket.tryAcquire(later)).isZero();
+        assertThat(bucket.tryAcquire(later)).isZero();
+        assertThat(bucket.tryAcquire(later)).isPositive();
+    }
+
+    @Test
+    void tryAcquire_shouldNeverGrantMoreThanCapacity_underContention() throws Exception {
+        TokenBucket bucket = new TokenBucket(100, TimeUnit.HOURS.toNanos(1), System.nanoTime());
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            var results = IntStream.range(0, 8)
+                .mapToObj(t -> executor.submit(() -> IntStream.range(0, 1000)
+                    .filter(i -> bucket.tryAcquire(System.nanoTime()) == 0)
+                    .count()))
+                .toList();
+
+            long total = 0;
+            for (Future<Long> result : results) {
+                total += result.get();
+            }
+            assertThat(total).isEqualTo(100);
+        }
+    }
+}
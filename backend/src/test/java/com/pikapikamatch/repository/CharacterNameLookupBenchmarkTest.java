@@ -0,0 +1,120 @@
+package com.pikapikamatch.repository;
+
+import com.mongodb.ExplainVerbosity;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.pikapikamatch.model.entity.Character;
+import com.pikapikamatch.util.NameNormalizer;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the old case-insensitive regex lookup with the nameNormalized index on 1M characters.
+ * Requires a real MongoDB server and takes a few minutes: set MONGODB_BENCHMARK_URI to run it.
+ */
+@Slf4j
+@EnabledIfEnvironmentVariable(named = "MONGODB_BENCHMARK_URI", matches = ".+")
+class CharacterNameLookupBenchmarkTest {
+
+    private static final String DATABASE = "pikapikamatch_benchmark";
+    private static final int CHARACTERS = 1_000_000;
+    private static final int BATCH_SIZE = 10_000;
+    private static final int LOOKUPS = 200;
+
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        mongoClient = MongoClients.create(System.getenv("MONGODB_BENCHMARK_URI"));
+        mongoTemplate = new MongoTemplate(mongoClient, DATABASE);
+        mongoTemplate.dropCollection(Character.class);
+
+        IndexOperations indexOps = mongoTemplate.indexOps(Character.class);
+        IndexResolver.create(new MongoMappingContext())
+                .resolveIndexFor(Character.class)
+                .forEach(indexOps::ensureIndex);
+
+        List<Document> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < CHARACTERS; i++) {
+            String name = "Character Number " + i;
+            batch.add(new Document("externalId", String.valueOf(i))
+                    .append("source", "pokemon")
+                    .append("name", name)
+                    .append("nameNormalized", NameNormalizer.normalize(name))
+                    .append("totalLikes", 0)
+                    .append("totalDislikes", 0)
+                    .append("totalVotes", 0));
+            if (batch.size() == BATCH_SIZE) {
+                characters().insertMany(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (mongoClient != null) {
+            mongoClient.getDatabase(DATABASE).drop();
+            mongoClient.close();
+        }
+    }
+
+    @Test
+    void normalizedLookup_shouldUseIndex_andOutperformRegexLookup() {
+        Random random = new Random(42);
+        List<String> names = new ArrayList<>(LOOKUPS);
+        for (int i = 0; i < LOOKUPS; i++) {
+            names.add("CHARACTER NUMBER " + random.nextInt(CHARACTERS));
+        }
+
+        long regexNanos = time(names, name -> new Document("name",
+                Pattern.compile("^" + Pattern.quote(name) + "$", Pattern.CASE_INSENSITIVE)));
+        long normalizedNanos = time(names, name -> new Document("nameNormalized", NameNormalizer.normalize(name)));
+
+        log.info("{} lookups over {} characters: regex {} ms/lookup, nameNormalized {} ms/lookup",
+                LOOKUPS, CHARACTERS,
+                String.format("%.3f", regexNanos / 1_000_000.0 / LOOKUPS),
+                String.format("%.3f", normalizedNanos / 1_000_000.0 / LOOKUPS));
+
+        Document explain = characters()
+                .find(new Document("nameNormalized", NameNormalizer.normalize(names.get(0))))
+                .limit(1)
+                .explain(ExplainVerbosity.EXECUTION_STATS);
+        Document executionStats = explain.get("executionStats", Document.class);
+
+        assertThat(explain.get("queryPlanner", Document.class).get("winningPlan", Document.class).toJson())
+                .contains("IXSCAN");
+        assertThat(executionStats.get("totalKeysExamined", Number.class).longValue()).isLessThanOrEqualTo(1);
+        assertThat(normalizedNanos).isLessThan(regexNanos);
+    }
+
+    private static long time(List<String> names, Function<String, Document> filter) {
+        long start = System.nanoTime();
+        for (String name : names) {
+            assertThat(characters().find(filter.apply(name)).limit(1).first()).isNotNull();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static MongoCollection<Document> characters() {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(Character.class));
+    }
+}
@@ -0,0 +1,122 @@
+package com.pikapikamatch.repository;
+
+import com.mongodb.ExplainVerbosity;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.pikapikamatch.model.entity.Character;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that ranking queries are covered by the ranking indexes declared on {@link Character}.
+ * Requires a real MongoDB server: set MONGODB_TEST_URI to run it.
+ */
+@EnabledIfEnvironmentVariable(named = "MONGODB_TEST_URI", matches = ".+")
+class CharacterRepositoryExplainTest {
+
+    private static final String DATABASE = "pikapikamatch_explain_test";
+
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        mongoClient = MongoClients.create(System.getenv("MONGODB_TEST_URI"));
+        mongoTemplate = new MongoTemplate(mongoClient, DATABASE);
+        mongoTemplate.dropCollection(Character.class);
+
+        IndexOperations indexOps = mongoTemplate.indexOps(Character.class);
+        IndexResolver.create(new MongoMappingContext())
+                .resolveIndexFor(Character.class)
+                .forEach(indexOps::ensureIndex);
+
+        for (int i = 0; i < 200; i++) {
+            Character character = new Character();
+            character.setExternalId(String.valueOf(i));
+            character.setName("Character " + i);
+            character.setSource(i % 2 == 0 ? "pokemon" : "superhero");
+            character.setImageUrl("http://example.com/" + i + ".png");
+            character.setDescription("A long description that ranking queries must never load ".repeat(20));
+            character.setTotalLikes(i % 37);
+            character.setTotalDislikes(i % 23);
+            character.setTotalVotes(i % 37 + i % 23);
+            mongoTemplate.insert(character);
+        }
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (mongoClient != null) {
+            mongoClient.getDatabase(DATABASE).drop();
+            mongoClient.close();
+        }
+    }
+
+    @Test
+    void likesRanking_shouldBeCoveredByIndex() {
+        Document explain = characters()
+                .find(new Document())
+                .projection(Document.parse(CharacterRepository.RANKING_FIELDS))
+                .sort(new Document("totalLikes", -1).append("_id", 1))
+                .limit(10)
+                .explain(ExplainVerbosity.EXECUTION_STATS);
+
+        assertCovered(explain, "likes_ranking_idx");
+    }
+
+    @Test
+    void dislikesRanking_shouldBeCoveredByIndex() {
+        Document explain = characters()
+                .find(new Document())
+                .projection(Document.parse(CharacterRepository.RANKING_FIELDS))
+                .sort(new Document("totalDislikes", -1).append("_id", 1))
+                .limit(10)
+                .explain(ExplainVerbosity.EXECUTION_STATS);
+
+        assertCovered(explain, "dislikes_ranking_idx");
+    }
+
+    @Test
+    void likesRankingAfterCursor_shouldBeCoveredByIndex() {
+        Document filter = new Document("$or", List.of(
+                new Document("totalLikes", new Document("$lt", 20)),
+                new Document("totalLikes", 20).append("_id", new Document("$gt", new ObjectId()))
+        ));
+
+        Document explain = characters()
+                .find(filter)
+                .projection(Document.parse(CharacterRepository.RANKING_FIELDS))
+                .sort(new Document("totalLikes", -1).append("_id", 1))
+                .limit(10)
+                .explain(ExplainVerbosity.EXECUTION_STATS);
+
+        assertCovered(explain, "likes_ranking_idx");
+    }
+
+    private static MongoCollection<Document> characters() {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(Character.class));
+    }
+
+    private static void assertCovered(Document explain, String indexName) {
+        Document queryPlanner = explain.get("queryPlanner", Document.class);
+        String winningPlan = queryPlanner.get("winningPlan", Document.class).toJson();
+        Document executionStats = explain.get("executionStats", Document.class);
+
+        assertThat(winningPlan).contains("IXSCAN").contains(indexName);
+        assertThat(winningPlan).doesNotContain("FETCH").doesNotContain("COLLSCAN");
+        assertThat(executionStats.get("totalDocsExamined", Number.class).longValue()).isZero();
+    }
+}
@@ -0,0 +1,108 @@
+package com.pikapikamatch.repository;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.pikapikamatch.model.entity.Character;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CharacterRepositoryImplTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @Mock
+    private BulkWriteResult bulkWriteResult;
+
+    @InjectMocks
+    private CharacterRepositoryImpl characterRepository;
+
+    @Test
+    void setScores_shouldSetOnlyDerivedFields_ofUnchangedUnscoredCharacters() {
+        // Given
+        Character character = createCharacter("1", "Pikachu", 10, 5);
+        character.updateScores();
+        givenBulkWrite(1);
+
+        // When
+        int updated = characterRepository.setScores(List.of(character));
+
+        // Then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations).updateOne(query.capture(), update.capture());
+        assertThat(updated).isEqualTo(1);
+        assertThat(query.getValue().getQueryObject())
+                .containsEntry("_id", "1")
+                .containsEntry("ratingScore", new Document("$exists", false))
+                .containsEntry("totalLikes", 10)
+                .containsEntry("totalDislikes", 5);
+        assertThat(update.getValue().getUpdateObject()).containsOnlyKeys("$set");
+        assertThat((Document) update.getValue().getUpdateObject().get("$set"))
+                .containsOnlyKeys("totalVotes", "ratingScore", "controversyScore")
+                .containsEntry("totalVotes", 15);
+    }
+
+    @Test
+    void setNormalizedNames_shouldSetOnlyNameNormalized_ofUnmigratedCharacters() {
+        // Given
+        Character character = createCharacter("1", "Mr. Mime", 0, 0);
+        givenBulkWrite(1);
+
+        // When
+        characterRepository.setNormalizedNames(List.of(character));
+
+        // Then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations).updateOne(query.capture(), update.capture());
+        assertThat(query.getValue().getQueryObject())
+                .containsEntry("nameNormalized", new Document("$exists", false));
+        assertThat(update.getValue().getUpdateObject())
+                .isEqualTo(new Document("$set", new Document("nameNormalized", "mr. mime")));
+    }
+
+    @Test
+    void setScores_shouldNotWrite_whenBatchIsEmpty() {
+        // When
+        int updated = characterRepository.setScores(List.of());
+
+        // Then
+        assertThat(updated).isZero();
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    private void givenBulkWrite(int modified) {
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Character.class)).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenReturn(bulkWriteResult);
+        when(bulkWriteResult.getModifiedCount()).thenReturn(modified);
+    }
+
+    private Character createCharacter(String id, String name, int likes, int dislikes) {
+        Character character = new Character();
+        character.setId(id);
+        character.setName(name);
+        character.setTotalLikes(likes);
+        character.setTotalDislikes(dislikes);
+        return character;
+    }
+}
@@ -0,0 +1,76 @@
+package com.pikapikamatch.repository;
+
+import com.pikapikamatch.model.entity.Character;
+import com.pikapikamatch.model.entity.SourceStats;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SourceStatsRepositoryImplTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private SourceStatsRepositoryImpl sourceStatsRepository;
+
+    @Test
+    void rebuild_shouldSetAggregatedTotals_withoutAddingConcurrentIncrementsAgain() {
+        // Given: a vote's increment lands while the characters are being aggregated
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(Character.class), eq(SourceStats.class)))
+                .thenAnswer(invocation -> {
+                    sourceStatsRepository.increment("pokemon", 0, 1, 0);
+                    return new AggregationResults<>(List.of(new SourceStats("pokemon", 3L, 12L, 1L, null, null)), new Document());
+                });
+
+        // When
+        sourceStatsRepository.rebuild();
+
+        // Then
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2)).upsert(any(Query.class), updates.capture(), eq(SourceStats.class));
+
+        Document increment = updates.getAllValues().get(0).getUpdateObject();
+        Document rebuild = updates.getAllValues().get(1).getUpdateObject();
+        assertThat(increment).containsKey("$inc");
+        assertThat(rebuild).doesNotContainKey("$inc");
+        assertThat((Document) rebuild.get("$set")).containsEntry("characterCount", 3L).containsEntry("totalLikes", 12L)
+                .containsEntry("totalDislikes", 1L).containsEntry("totalVotes", 13L);
+    }
+
+    @Test
+    void rebuild_shouldBeIdempotent() {
+        // Given
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(Character.class), eq(SourceStats.class)))
+                .thenReturn(new AggregationResults<>(List.of(new SourceStats("pokemon", 3L, 12L, 1L, null, null)), new Document()));
+
+        // When: two instances starting on an empty collection
+        sourceStatsRepository.rebuild();
+        sourceStatsRepository.rebuild();
+
+        // Then
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2)).upsert(any(Query.class), updates.capture(), eq(SourceStats.class));
+        assertThat(updates.getAllValues().get(0).getUpdateObject().get("$set"))
+                .isEqualTo(updates.getAllValues().get(1).getUpdateObject().get("$set"));
+    }
+}
@@ -1,24 +1,41 @@
 package com.pikapikamatch.service;
 
+import com.pikapikamatch.exception.ExternalApiException;
 import com.pikapikamatch.exception.ResourceNotFoundException;
+import com.pikapikamatch.exception.ServiceOverloadedException;
 import com.pikapikamatch.model.dto.CharacterDTO;
 import com.pikapikamatch.model.dto.CharacterStatsDTO;
+import com.pikapikamatch.model.dto.VoteRequestDTO;
 import com.pikapikamatch.model.entity.Character;
 import com.pikapikamatch.repository.CharacterRepository;
+import com.pikapikamatch.service.cache.CharacterNameCache;
+import com.pikapikamatch.service.external.ExternalApiBulkheads;
+import com.pikapikamatch.service.external.ExternalApiMetrics;
 import com.pikapikamatch.service.external.PokeApiService;
 import com.pikapikamatch.service.external.RickAndMortyApiService;
 import com.pikapikamatch.service.external.SuperHeroApiService;
+import com.pikapikamatch.service.search.CharacterSearchService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.mock.env.MockEnvironment;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -40,6 +57,22 @@ class CharacterServiceTest {
     @Mock
     private RetryService retryService;
 
+    @Mock
+    private ExternalApiMetrics externalApiMetrics;
+
+    @Mock
+    private CharacterSearchService characterSearchService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private ExternalApiBulkheads externalApiBulkheads =
+            new ExternalApiBulkheads(new MockEnvironment(), new SimpleMeterRegistry());
+
+    @Spy
+    private CharacterNameCache characterNameCache = new CharacterNameCache(100, Duration.ofMinutes(5));
+
     @InjectMocks
     private CharacterService characterService;
 
@@ -64,11 +97,70 @@ class CharacterServiceTest {
         verify(retryService, atLeastOnce()).executeWithRetry(any(), anyString());
     }
 
+    @Test
+    void findOrCreateCharacter_shouldNotIndexInsideTheVoteTransaction() {
+        // Given
+        VoteRequestDTO request = new VoteRequestDTO();
+        request.setCharacterId("25");
+        request.setCharacterName("Pikachu");
+        request.setCharacterSource("pokemon");
+        when(characterRepository.findByExternalIdAndSource("25", "pokemon")).thenReturn(Optional.empty());
+        when(characterRepository.save(any(Character.class))).thenAnswer(invocation -> {
+            Character saved = invocation.getArgument(0);
+            saved.setId("1");
+            return saved;
+        });
+
+        // When
+        Character result = characterService.findOrCreateCharacter(request);
+
+        // Then: the search index is updated from the vote's CharacterUpdatedEvent after commit
+        assertThat(result.getId()).isEqualTo("1");
+        verifyNoInteractions(characterSearchService);
+    }
+
+    @Test
+    void getRandomCharacter_shouldRecordFailoverPerSource_whenAllApisFail() {
+        // Given
+        when(retryService.executeWithRetry(any(), anyString()))
+                .thenThrow(new ExternalApiException("Failed to call API after 3 attempts"));
+
+        // When / Then
+        assertThatThrownBy(() -> characterService.getRandomCharacter())
+                .isInstanceOf(ExternalApiException.class)
+                .hasMessage("All external APIs are unavailable");
+        verify(externalApiMetrics, times(2)).recordCall(any(), anyString(), eq(ExternalApiMetrics.FAILOVER));
+        verify(externalApiMetrics).recordCall(any(), anyString(), eq(ExternalApiMetrics.FAILURE));
+    }
+
+    @Test
+    void getRandomCharacter_shouldFailOver_whenSourceBulkheadIsFull() {
+        // Given
+        CharacterDTO expectedCharacter = CharacterDTO.builder()
+                .id("1")
+                .name("Pikachu")
+                .source("pokemon")
+                .build();
+        // Lenient: the other sources reach the real bulkheads with different arguments
+        lenient().doThrow(new ServiceOverloadedException("superhero bulkhead is full"))
+                .when(externalApiBulkheads).execute(eq("superhero"), any());
+        when(retryService.executeWithRetry(any(), anyString()))
+                .thenReturn(expectedCharacter);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            assertThat(characterService.getRandomCharacter().getName()).isEqualTo("Pikachu");
+        }
+
+        // Then
+        verify(retryService, never()).executeWithRetry(any(), eq("SuperHeroAPI"));
+    }
+
     @Test
     void getCharacterByName_shouldReturnCharacter_whenExists() {
         // Given
         Character character = createCharacter("Pikachu", 10, 5);
-        when(characterRepository.findByNameIgnoreCase("Pikachu"))
+        when(characterRepository.findFirstByNameNormalized("pikachu"))
                 .thenReturn(Optional.of(character));
 
         // When
@@ -81,10 +173,27 @@ class CharacterServiceTest {
         assertThat(result.getTotalDislikes()).isEqualTo(5);
     }
 
+    @Test
+    void getCharacterByName_shouldServeRepeatedLookupsFromCache() {
+        // Given
+        Character character = createCharacter("Pikachu", 10, 5);
+        when(characterRepository.findFirstByNameNormalized("pikachu"))
+                .thenReturn(Optional.of(character));
+
+        // When
+        characterService.getCharacterByName("Pikachu");
+        CharacterStatsDTO result = characterService.getCharacterByName("PIKACHU");
+
+        // Then
+        assertThat(result.getName()).isEqualTo("Pikachu");
+        verify(characterRepository, times(1)).findFirstByNameNormalized("pikachu");
+        assertThat(characterNameCache.stats().hitCount()).isEqualTo(1);
+    }
+
     @Test
     void getCharacterByName_shouldThrowException_whenNotFound() {
         // Given
-        when(characterRepository.findByNameIgnoreCase("Unknown"))
+        when(characterRepository.findFirstByNameNormalized("unknown"))
                 .thenReturn(Optional.empty());
 
         // When/Then
@@ -93,11 +202,90 @@ class CharacterServiceTest {
                 .hasMessageContaining("Character not found: Unknown");
     }
 
+    @Test
+    void getCharacterByName_shouldIgnoreCaseAndAccents() {
+        // Given
+        Character character = createCharacter("Flabébé", 4, 1);
+        when(characterRepository.findFirstByNameNormalized("flabebe"))
+                .thenReturn(Optional.of(character));
+
+        // When
+        CharacterStatsDTO result = characterService.getCharacterByName("  FLABEBE ");
+
+        // Then
+        assertThat(result.getName()).isEqualTo("Flabébé");
+    }
+
+    @Test
+    void getCharacterByName_shouldFallBackToClosestName_whenNoExactMatch() {
+        // Given
+        Character character = createCharacter("Pikachu", 10, 5);
+        when(characterRepository.findFirstByNameNormalized("pikchu"))
+                .thenReturn(Optional.empty());
+        when(characterSearchService.closestName("Pikchu"))
+                .thenReturn(Optional.of("pikachu"));
+        when(characterRepository.findFirstByNameNormalized("pikachu"))
+                .thenReturn(Optional.of(character));
+
+        // When
+        CharacterStatsDTO result = characterService.getCharacterByName("Pikchu");
+
+        // Then
+        assertThat(result.getName()).isEqualTo("Pikachu");
+    }
+
+    @Test
+    void backfillNormalizedNames_shouldMigrateAllBatches() {
+        // Given
+        Character first = new Character();
+        first.setName("Pikachu");
+        first.setNameNormalized(null);
+        Character second = new Character();
+        second.setName("Mr. Mime");
+        second.setNameNormalized(null);
+        when(characterRepository.findWithoutNameNormalized(any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(first), PageRequest.of(0, 1), true))
+                .thenReturn(new SliceImpl<>(List.of(second), PageRequest.of(0, 1), false));
+
+        // When
+        characterService.backfillNormalizedNames();
+
+        // Then
+        assertThat(first.getNameNormalized()).isEqualTo("pikachu");
+        assertThat(second.getNameNormalized()).isEqualTo("mr. mime");
+        verify(characterRepository).setNormalizedNames(List.of(first));
+        verify(characterRepository).setNormalizedNames(List.of(second));
+        verify(characterRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void backfillScores_shouldScoreAllBatches() {
+        // Given
+        Character first = createCharacter("Pikachu", 10, 5);
+        first.setRatingScore(null);
+        Character second = createCharacter("Mr. Mime", 0, 3);
+        second.setRatingScore(null);
+        when(characterRepository.findWithoutScores(any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(first), PageRequest.of(0, 1), true))
+                .thenReturn(new SliceImpl<>(List.of(second), PageRequest.of(0, 1), false));
+
+        // When
+        characterService.backfillScores();
+
+        // Then
+        assertThat(first.getRatingScore()).isPositive();
+        assertThat(second.getRatingScore()).isZero();
+        assertThat(second.getTotalVotes()).isEqualTo(3);
+        verify(characterRepository).setScores(List.of(first));
+        verify(characterRepository).setScores(List.of(second));
+        verify(characterRepository, never()).saveAll(anyList());
+    }
+
     @Test
     void addLikesByName_shouldIncrementLikes_whenCharacterExists() {
         // Given
         Character character = createCharacter("Pikachu", 10, 5);
-        when(characterRepository.findByNameIgnoreCase("Pikachu"))
+        when(characterRepository.findFirstByNameNormalized("pikachu"))
                 .thenReturn(Optional.of(character));
         when(characterRepository.save(any(Character.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
@@ -114,7 +302,7 @@ class CharacterServiceTest {
     @Test
     void addLikesByName_shouldThrowException_whenCharacterNotFound() {
         // Given
-        when(characterRepository.findByNameIgnoreCase("Unknown"))
+        when(characterRepository.findFirstByNameNormalized("unknown"))
                 .thenReturn(Optional.empty());
 
         // When/Then
@@ -126,7 +314,7 @@ class CharacterServiceTest {
     void addDislikesByName_shouldIncrementDislikes_whenCharacterExists() {
         // Given
         Character character = createCharacter("Pikachu", 10, 5);
-        when(characterRepository.findByNameIgnoreCase("Pikachu"))
+        when(characterRepository.findFirstByNameNormalized("pikachu"))
                 .thenReturn(Optional.of(character));
         when(characterRepository.save(any(Character.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
@@ -143,7 +331,7 @@ class CharacterServiceTest {
     @Test
     void addDislikesByName_shouldThrowException_whenCharacterNotFound() {
         // Given
-        when(characterRepository.findByNameIgnoreCase("Unknown"))
+        when(characterRepository.findFirstByNameNormalized("unknown"))
                 .thenReturn(Optional.empty());
 
         // When/Then
@@ -0,0 +1,205 @@
+package com.pikapikamatch.service;
+
+import com.pikapikamatch.event.CharacterUpdatedEvent;
+import com.pikapikamatch.exception.ExternalApiException;
+import com.pikapikamatch.exception.ResourceNotFoundException;
+import com.pikapikamatch.model.dto.CharacterDTO;
+import com.pikapikamatch.model.entity.Character;
+import com.pikapikamatch.repository.ReactiveCharacterRepository;
+import com.pikapikamatch.service.cache.CharacterNameCache;
+import com.pikapikamatch.service.external.ExternalApiMetrics;
+import com.pikapikamatch.service.external.ReactivePokeApiService;
+import com.pikapikamatch.service.external.ReactiveRickAndMortyApiService;
+import com.pikapikamatch.service.external.ReactiveSuperHeroApiService;
+import com.pikapikamatch.service.search.CharacterSearchService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveCharacterServiceTest {
+
+    @Mock
+    private ReactiveCharacterRepository characterRepository;
+
+    @Mock
+    private ReactivePokeApiService pokeApiService;
+
+    @Mock
+    private ReactiveRickAndMortyApiService rickAndMortyApiService;
+
+    @Mock
+    private ReactiveSuperHeroApiService superHeroApiService;
+
+    @Mock
+    private RetryService retryService;
+
+    @Mock
+    private ExternalApiMetrics externalApiMetrics;
+
+    @Mock
+    private ReactiveSourceStatsService sourceStatsService;
+
+    @Mock
+    private CharacterSearchService characterSearchService;
+
+    @Spy
+    private CharacterNameCache characterNameCache = new CharacterNameCache(100, Duration.ofMinutes(5));
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ReactiveCharacterService characterService;
+
+    @Test
+    void getRandomCharacter_shouldFailOver_whenAnApiFails() {
+        // Given
+        CharacterDTO rick = CharacterDTO.builder().name("Rick Sanchez").source("rickandmorty").build();
+        retryPassesThrough();
+        WebClientResponseException unavailable = WebClientResponseException.create(503, "Unavailable", null, null, null);
+        // Sources are tried in random order, so the failing ones may not be reached
+        lenient().when(pokeApiService.getRandomPokemon()).thenReturn(Mono.error(unavailable));
+        when(rickAndMortyApiService.getRandomCharacter()).thenReturn(Mono.just(rick));
+        lenient().when(superHeroApiService.getRandomSuperhero()).thenReturn(Mono.error(unavailable));
+
+        // When / Then
+        StepVerifier.create(characterService.getRandomCharacter())
+            .expectNext(rick)
+            .verifyComplete();
+    }
+
+    @Test
+    void getRandomCharacter_shouldFailWithExternalApiException_whenAllApisFail() {
+        // Given
+        retryPassesThrough();
+        WebClientResponseException unavailable = WebClientResponseException.create(503, "Unavailable", null, null, null);
+        when(pokeApiService.getRandomPokemon()).thenReturn(Mono.error(unavailable));
+        when(rickAndMortyApiService.getRandomCharacter()).thenReturn(Mono.error(unavailable));
+        when(superHeroApiService.getRandomSuperhero()).thenReturn(Mono.empty());
+
+        // When / Then
+        StepVerifier.create(characterService.getRandomCharacter())
+            .expectErrorSatisfies(e -> {
+                assertThat(e).isInstanceOf(ExternalApiException.class);
+                assertThat(e.getCause()).isSameAs(unavailable);
+            })
+            .verify();
+        verify(externalApiMetrics, times(2)).recordCall(any(), anyString(), eq(ExternalApiMetrics.FAILOVER));
+        verify(externalApiMetrics).recordCall(any(), anyString(), eq(ExternalApiMetrics.FAILURE));
+    }
+
+    @Test
+    void getCharacterByName_shouldServeRepeatedLookupsFromCache() {
+        // Given
+        when(characterRepository.findFirstByNameNormalized("pikachu"))
+            .thenReturn(Mono.just(createCharacter("Pikachu", 10, 2)));
+
+        // When / Then
+        StepVerifier.create(characterService.getCharacterByName("Pikachu"))
+            .assertNext(stats -> assertThat(stats.getTotalVotes()).isEqualTo(12))
+            .verifyComplete();
+        StepVerifier.create(characterService.getCharacterByName("PIKACHU"))
+            .assertNext(stats -> assertThat(stats.getName()).isEqualTo("Pikachu"))
+            .verifyComplete();
+
+        verify(characterRepository, times(1)).findFirstByNameNormalized("pikachu");
+    }
+
+    @Test
+    void getCharacterByName_shouldFallBackToClosestName_whenThereIsNoExactMatch() {
+        // Given
+        when(characterRepository.findFirstByNameNormalized("pikchu")).thenReturn(Mono.empty());
+        when(characterSearchService.closestName("Pikchu")).thenReturn(Optional.of("pikachu"));
+        when(characterRepository.findFirstByNameNormalized("pikachu"))
+            .thenReturn(Mono.just(createCharacter("Pikachu", 10, 2)));
+
+        // When / Then
+        StepVerifier.create(characterService.getCharacterByName("Pikchu"))
+            .assertNext(stats -> assertThat(stats.getName()).isEqualTo("Pikachu"))
+            .verifyComplete();
+    }
+
+    @Test
+    void getCharacterByName_shouldFailWithResourceNotFound_whenNoNameIsClose() {
+        // Given
+        when(characterRepository.findFirstByNameNormalized("missingno")).thenReturn(Mono.empty());
+        when(characterSearchService.closestName("MissingNo")).thenReturn(Optional.empty());
+
+        // When / Then
+        StepVerifier.create(characterService.getCharacterByName("MissingNo"))
+            .expectError(ResourceNotFoundException.class)
+            .verify();
+    }
+
+    @Test
+    void addLikesByName_shouldUpdateCountersAndPublishEvent() {
+        // Given
+        Character character = createCharacter("Pikachu", 10, 2);
+        when(characterRepository.findFirstByNameNormalized("pikachu")).thenReturn(Mono.just(character));
+        when(characterRepository.save(character)).thenReturn(Mono.just(character));
+        when(sourceStatsService.recordVotes("pokemon", 5, 0)).thenReturn(Mono.empty());
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When / Then
+        StepVerifier.create(characterService.addLikesByName("pikachu", 5))
+            .assertNext(stats -> {
+                assertThat(stats.getTotalLikes()).isEqualTo(15);
+                assertThat(stats.getTotalVotes()).isEqualTo(17);
+            })
+            .verifyComplete();
+
+        verify(eventPublisher).publishEvent(any(CharacterUpdatedEvent.class));
+    }
+
+    @Test
+    void addDislikesByName_shouldFailWithResourceNotFound_whenCharacterDoesNotExist() {
+        // Given
+        when(characterRepository.findFirstByNameNormalized("missingno")).thenReturn(Mono.empty());
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When / Then
+        StepVerifier.create(characterService.addDislikesByName("MissingNo", 1))
+            .expectError(ResourceNotFoundException.class)
+            .verify();
+
+        verify(characterRepository, never()).save(any(Character.class));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void retryPassesThrough() {
+        when(retryService.withRetry(any(Mono.class), anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private Character createCharacter(String name, int likes, int dislikes) {
+        Character character = new Character();
+        character.setId("1");
+        character.setExternalId("25");
+        character.setName(name);
+        character.setSource("pokemon");
+        character.setTotalLikes(likes);
+        character.setTotalDislikes(dislikes);
+        character.updateScores();
+        return character;
+    }
+}
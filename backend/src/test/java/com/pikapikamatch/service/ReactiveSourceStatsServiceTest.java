@@ -0,0 +1,100 @@
+package com.pikapikamatch.service;
+
+import com.pikapikamatch.repository.ReactiveSourceStatsRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.AbstractReactiveTransactionManager;
+import org.springframework.transaction.reactive.GenericReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveSourceStatsServiceTest {
+
+    @Mock
+    private ReactiveSourceStatsRepository sourceStatsRepository;
+
+    @Mock
+    private SourceStatsService sourceStatsService;
+
+    @InjectMocks
+    private ReactiveSourceStatsService reactiveSourceStatsService;
+
+    @Test
+    void recordVotes_shouldIncrementImmediately_whenNoTransaction() {
+        // Given
+        when(sourceStatsRepository.increment("pokemon", 0, 1, 0)).thenReturn(Mono.empty());
+
+        // When / Then
+        StepVerifier.create(reactiveSourceStatsService.recordVotes("pokemon", 1, 0))
+            .verifyComplete();
+        verify(sourceStatsRepository).increment("pokemon", 0, 1, 0);
+    }
+
+    @Test
+    void recordVotes_shouldIncrementAfterCommit_whenInTransaction() {
+        // Given
+        when(sourceStatsRepository.increment("pokemon", 0, 0, 2)).thenReturn(Mono.empty());
+        TransactionalOperator transactionalOperator = TransactionalOperator.create(new NoOpTransactionManager());
+
+        // When
+        Mono<Void> insideTransaction = reactiveSourceStatsService.recordVotes("pokemon", 0, 2)
+            .doOnSuccess(ignored -> verify(sourceStatsRepository, never()).increment("pokemon", 0, 0, 2));
+
+        // Then
+        StepVerifier.create(transactionalOperator.transactional(insideTransaction))
+            .verifyComplete();
+        verify(sourceStatsRepository).increment("pokemon", 0, 0, 2);
+    }
+
+    @Test
+    void recordCharacter_shouldSwallowDataAccessFailures() {
+        // Given
+        when(sourceStatsRepository.increment("superhero", 1, 0, 0))
+            .thenReturn(Mono.error(new QueryTimeoutException("timeout")));
+
+        // When / Then
+        StepVerifier.create(reactiveSourceStatsService.recordCharacter("superhero"))
+            .verifyComplete();
+    }
+
+    /**
+     * Transaction manager without a resource, just enough to drive synchronizations.
+     */
+    private static class NoOpTransactionManager extends AbstractReactiveTransactionManager {
+
+        @Override
+        protected Object doGetTransaction(TransactionSynchronizationManager synchronizationManager) {
+            return new Object();
+        }
+
+        @Override
+        protected Mono<Void> doBegin(TransactionSynchronizationManager synchronizationManager,
+                                     Object transaction, TransactionDefinition definition) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doCommit(TransactionSynchronizationManager synchronizationManager,
+                                      GenericReactiveTransaction status) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doRollback(TransactionSynchronizationManager synchronizationManager,
+                                        GenericReactiveTransaction status) {
+            return Mono.empty();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.pikapikamatch.service;
+
+import com.pikapikamatch.exception.ExternalApiException;
+import com.pikapikamatch.exception.ValidationException;
+import com.pikapikamatch.model.dto.CharacterStatsDTO;
+import com.pikapikamatch.model.dto.VoteResponseDTO;
+import com.pikapikamatch.model.projection.CharacterSummary;
+import com.pikapikamatch.repository.ReactiveCharacterRepository;
+import com.pikapikamatch.service.leaderboard.LeaderboardService;
+import com.pikapikamatch.util.RankingCursor;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveStatsServiceTest {
+
+    @Mock
+    private ReactiveCharacterRepository characterRepository;
+
+    @Mock
+    private LeaderboardService leaderboardService;
+
+    @Mock
+    private ReactiveVoteService voteService;
+
+    @InjectMocks
+    private ReactiveStatsService statsService;
+
+    @Test
+    void getTopLiked_shouldServeFromLeaderboard_whenLimitFitsInMemory() {
+        // Given
+        when(leaderboardService.isReady()).thenReturn(true);
+        when(leaderboardService.capacity()).thenReturn(50);
+        when(leaderboardService.getTopLiked(2)).thenReturn(List.of(
+                CharacterStatsDTO.builder().name("Pikachu").build(),
+                CharacterStatsDTO.builder().name("Charizard").build()));
+
+        // When / Then
+        StepVerifier.create(statsService.getTopLiked(2))
+                .assertNext(top -> assertThat(top).extracting(CharacterStatsDTO::getName)
+                        .containsExactly("Pikachu", "Charizard"))
+                .verifyComplete();
+        verifyNoInteractions(characterRepository);
+    }
+
+    @Test
+    void getMostLiked_shouldQueryMongo_whenLeaderboardIsNotReady() {
+        // Given
+        when(leaderboardService.isReady()).thenReturn(false);
+        when(characterRepository.findTopLiked(1)).thenReturn(Flux.just(createSummary("Pikachu", 100, 10)));
+
+        // When / Then
+        StepVerifier.create(statsService.getMostLiked())
+                .assertNext(mostLiked -> {
+                    assertThat(mostLiked.getName()).isEqualTo("Pikachu");
+                    assertThat(mostLiked.getTotalVotes()).isEqualTo(110);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getMostDisliked_shouldFailWithExternalApiException_whenNoCharactersExist() {
+        // Given
+        when(leaderboardService.isReady()).thenReturn(false);
+        when(characterRepository.findTopDisliked(1)).thenReturn(Flux.empty());
+
+        // When / Then
+        StepVerifier.create(statsService.getMostDisliked())
+                .expectError(ExternalApiException.class)
+                .verify();
+    }
+
+    @Test
+    void getLikesRanking_shouldReturnNextCursor_whenMoreCharactersExist() {
+        // Given
+        CharacterSummary pikachu = createSummary("Pikachu", 100, 10);
+        CharacterSummary charizard = createSummary("Charizard", 90, 15);
+        CharacterSummary bulbasaur = createSummary("Bulbasaur", 80, 20);
+        when(characterRepository.findLikesRanking(any(PageRequest.class)))
+                .thenReturn(Flux.just(pikachu, charizard, bulbasaur));
+
+        // When / Then
+        StepVerifier.create(statsService.getLikesRanking(2, null))
+                .assertNext(page -> {
+                    assertThat(page.getItems()).extracting(CharacterStatsDTO::getName)
+                            .containsExactly("Pikachu", "Charizard");
+                    assertThat(page.isHasMore()).isTrue();
+                    assertThat(RankingCursor.decode(page.getNextCursor(), "likes").id().toHexString())
+                            .isEqualTo(charizard.getId());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getDislikesRanking_shouldFailWithValidationException_forCursorOfAnotherRanking() {
+        // Given
+        String cursor = new RankingCursor("likes", 90, new ObjectId()).encode();
+
+        // When / Then
+        StepVerifier.create(statsService.getDislikesRanking(2, cursor))
+                .expectError(ValidationException.class)
+                .verify();
+        verifyNoInteractions(characterRepository);
+    }
+
+    @Test
+    void getSummary_shouldReturnNullFields_whenThereAreNoCharactersOrVotes() {
+        // Given
+        when(leaderboardService.isReady()).thenReturn(false);
+        when(characterRepository.findTopLiked(1)).thenReturn(Flux.empty());
+        when(characterRepository.findTopDisliked(1)).thenReturn(Flux.empty());
+        when(characterRepository.findTopLiked(5)).thenReturn(Flux.empty());
+        when(characterRepository.findTopDisliked(5)).thenReturn(Flux.empty());
+        when(voteService.getLastEvaluated()).thenReturn(Mono.empty());
+
+        // When / Then
+        StepVerifier.create(statsService.getSummary(5))
+                .assertNext(summary -> {
+                    assertThat(summary.getMostLiked()).isNull();
+                    assertThat(summary.getMostDisliked()).isNull();
+                    assertThat(summary.getTopLiked()).isEmpty();
+                    assertThat(summary.getTopDisliked()).isEmpty();
+                    assertThat(summary.getLastVote()).isNull();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getSummary_shouldCombineRankingsAndLastVote() {
+        // Given
+        CharacterStatsDTO pikachu = CharacterStatsDTO.builder().name("Pikachu").totalLikes(100).build();
+        when(leaderboardService.isReady()).thenReturn(true);
+        when(leaderboardService.capacity()).thenReturn(50);
+        when(leaderboardService.getTopLiked(1)).thenReturn(List.of(pikachu));
+        when(leaderboardService.getTopDisliked(1)).thenReturn(List.of(pikachu));
+        when(leaderboardService.getTopLiked(3)).thenReturn(List.of(pikachu));
+        when(leaderboardService.getTopDisliked(3)).thenReturn(List.of(pikachu));
+        when(voteService.getLastEvaluated())
+                .thenReturn(Mono.just(VoteResponseDTO.builder().characterName("Pikachu").voteType("like").build()));
+
+        // When / Then
+        StepVerifier.create(statsService.getSummary(3))
+                .assertNext(summary -> {
+                    assertThat(summary.getMostLiked()).isEqualTo(pikachu);
+                    assertThat(summary.getTopDisliked()).containsExactly(pikachu);
+                    assertThat(summary.getLastVote().getCharacterName()).isEqualTo("Pikachu");
+                })
+                .verifyComplete();
+        verifyNoInteractions(characterRepository);
+    }
+
+    private CharacterSummary createSummary(String name, int likes, int dislikes) {
+        return new CharacterSummary(new ObjectId().toHexString(), "25", name, "pokemon",
+                "http://example.com/image.png", likes, dislikes);
+    }
+}
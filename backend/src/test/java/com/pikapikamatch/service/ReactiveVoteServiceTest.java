@@ -0,0 +1,172 @@
+package com.pikapikamatch.service;
+
+import com.mongodb.DBRef;
+import com.pikapikamatch.event.CharacterUpdatedEvent;
+import com.pikapikamatch.event.VoteCreatedEvent;
+import com.pikapikamatch.model.dto.VoteRequestDTO;
+import com.pikapikamatch.model.entity.Character;
+import com.pikapikamatch.model.entity.Vote;
+import com.pikapikamatch.model.projection.VoteRecord;
+import com.pikapikamatch.repository.ReactiveCharacterRepository;
+import com.pikapikamatch.repository.ReactiveVoteRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveVoteServiceTest {
+
+    @Mock
+    private ReactiveVoteRepository voteRepository;
+
+    @Mock
+    private ReactiveCharacterRepository characterRepository;
+
+    @Mock
+    private ReactiveCharacterService characterService;
+
+    @Mock
+    private ReactiveSourceStatsService sourceStatsService;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ReactiveVoteService voteService;
+
+    @Test
+    void createVote_shouldIncrementLikesAndPublishEvents_inOneTransaction() {
+        // Given
+        VoteRequestDTO request = createVoteRequest("like");
+        Character character = createCharacter("1", "Pikachu");
+        runWithoutTransaction();
+
+        when(characterService.findOrCreateCharacter(request)).thenReturn(Mono.just(character));
+        when(characterRepository.save(any(Character.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(voteRepository.save(any(Vote.class))).thenAnswer(invocation -> {
+            Vote vote = invocation.getArgument(0);
+            vote.setId("vote-1");
+            return Mono.just(vote);
+        });
+
+        // When / Then
+        StepVerifier.create(voteService.createVote(request))
+            .assertNext(response -> {
+                assertThat(response.getVoteId()).isEqualTo("vote-1");
+                assertThat(response.getCharacterName()).isEqualTo("Pikachu");
+                assertThat(response.getVoteType()).isEqualTo("like");
+            })
+            .verifyComplete();
+
+        assertThat(character.getTotalLikes()).isEqualTo(1);
+        verify(transactionalOperator).transactional(any(Mono.class));
+        verify(sourceStatsService).recordVotes("pokemon", 1, 0);
+        verify(eventPublisher).publishEvent(any(CharacterUpdatedEvent.class));
+        verify(eventPublisher).publishEvent(any(VoteCreatedEvent.class));
+    }
+
+    @Test
+    void createVote_shouldNotPublishEvents_whenSavingTheVoteFails() {
+        // Given
+        VoteRequestDTO request = createVoteRequest("dislike");
+        Character character = createCharacter("1", "Pikachu");
+        runWithoutTransaction();
+
+        when(characterService.findOrCreateCharacter(request)).thenReturn(Mono.just(character));
+        when(characterRepository.save(any(Character.class))).thenReturn(Mono.just(character));
+        when(voteRepository.save(any(Vote.class))).thenReturn(Mono.error(new IllegalStateException("write failed")));
+
+        // When / Then
+        StepVerifier.create(voteService.createVote(request))
+            .expectError(IllegalStateException.class)
+            .verify();
+
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void getRecentVotes_shouldLoadCharactersInOneBatch_andSkipMissingOnes() {
+        // Given
+        ObjectId pikachuId = new ObjectId();
+        ObjectId deletedId = new ObjectId();
+        VoteRecord first = createVoteRecord("v1", pikachuId, "like");
+        VoteRecord second = createVoteRecord("v2", deletedId, "dislike");
+        VoteRecord third = createVoteRecord("v3", pikachuId, "dislike");
+
+        when(voteRepository.findRecent(3)).thenReturn(Flux.just(first, second, third));
+        when(characterRepository.findAllById(List.of(pikachuId.toHexString(), deletedId.toHexString())))
+            .thenReturn(Flux.just(createCharacter(pikachuId.toHexString(), "Pikachu")));
+
+        // When / Then
+        StepVerifier.create(voteService.getRecentVotes(3))
+            .assertNext(votes -> {
+                assertThat(votes).extracting("voteId").containsExactly("v1", "v3");
+                assertThat(votes).extracting("characterName").containsOnly("Pikachu");
+            })
+            .verifyComplete();
+
+        verify(characterRepository, times(1)).findAllById(any(Iterable.class));
+    }
+
+    @Test
+    void getLastEvaluated_shouldCompleteEmpty_whenNoVotesExist() {
+        // Given
+        when(voteRepository.findRecent(1)).thenReturn(Flux.empty());
+        when(characterRepository.findAllById(any(Iterable.class))).thenReturn(Flux.empty());
+
+        // When / Then
+        StepVerifier.create(voteService.getLastEvaluated())
+            .verifyComplete();
+    }
+
+    private void runWithoutTransaction() {
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(sourceStatsService.recordVotes(any(), anyLong(), anyLong())).thenReturn(Mono.empty());
+    }
+
+    private VoteRequestDTO createVoteRequest(String voteType) {
+        VoteRequestDTO request = new VoteRequestDTO();
+        request.setCharacterId("25");
+        request.setCharacterName("Pikachu");
+        request.setCharacterSource("pokemon");
+        request.setImageUrl("http://example.com/image.png");
+        request.setDescription("Electric Pokemon");
+        request.setVoteType(voteType);
+        return request;
+    }
+
+    private Character createCharacter(String id, String name) {
+        Character character = new Character();
+        character.setId(id);
+        character.setName(name);
+        character.setSource("pokemon");
+        character.setImageUrl("http://example.com/image.png");
+        character.setDescription("Electric Pokemon");
+        character.setTotalLikes(0);
+        character.setTotalDislikes(0);
+        character.setTotalVotes(0);
+        return character;
+    }
+
+    private VoteRecord createVoteRecord(String id, ObjectId characterId, String voteType) {
+        return new VoteRecord(id, new DBRef("characters", characterId), voteType, LocalDateTime.now());
+    }
+}
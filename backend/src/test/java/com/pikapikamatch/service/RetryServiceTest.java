@@ -0,0 +1,76 @@
+package com.pikapikamatch.service;
+
+import com.pikapikamatch.exception.ExternalApiException;
+import com.pikapikamatch.service.external.ExternalApiMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.ConnectException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RetryServiceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RetryService retryService = new RetryService(new ExternalApiMetrics(registry));
+
+    @Test
+    void executeWithRetry_shouldRecordEachAttemptAndBackoff() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        String result = retryService.executeWithRetry(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new ResourceAccessException("Connection reset");
+            }
+            return "pikachu";
+        }, "PokeAPI");
+
+        // Then
+        assertThat(result).isEqualTo("pikachu");
+        assertThat(attempts("PokeAPI", ExternalApiMetrics.RETRY)).isEqualTo(1);
+        assertThat(attempts("PokeAPI", ExternalApiMetrics.SUCCESS)).isEqualTo(1);
+        assertThat(registry.get(ExternalApiMetrics.BACKOFF).tag("api", "PokeAPI").timer()
+                .totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(1000);
+    }
+
+    @Test
+    void executeWithRetry_shouldRecordFailure_whenTheErrorIsNotRetried() {
+        // When / Then
+        assertThatThrownBy(() -> retryService.executeWithRetry(() -> {
+            throw new IllegalStateException("Unexpected payload");
+        }, "SuperHeroAPI")).isInstanceOf(IllegalStateException.class);
+        assertThat(attempts("SuperHeroAPI", ExternalApiMetrics.FAILURE)).isEqualTo(1);
+    }
+
+    @Test
+    void withRetry_shouldRecordRetriesAndFinalFailure_whenAllAttemptsFail() {
+        // Given
+        Mono<String> unreachable = Mono.error(new WebClientRequestException(
+                new ConnectException("Connection refused"), HttpMethod.GET, URI.create("http://localhost"), new HttpHeaders()));
+
+        // When / Then
+        StepVerifier.create(retryService.withRetry(unreachable, "RickAndMortyAPI"))
+                .expectError(ExternalApiException.class)
+                .verify();
+        assertThat(attempts("RickAndMortyAPI", ExternalApiMetrics.RETRY)).isEqualTo(2);
+        assertThat(attempts("RickAndMortyAPI", ExternalApiMetrics.FAILURE)).isEqualTo(1);
+        assertThat(registry.get(ExternalApiMetrics.BACKOFF).tag("api", "RickAndMortyAPI").timer()
+                .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(3000);
+    }
+
+    private long attempts(String api, String outcome) {
+        return registry.get(ExternalApiMetrics.ATTEMPTS).tag("api", api).tag("outcome", outcome).timer().count();
+    }
+}
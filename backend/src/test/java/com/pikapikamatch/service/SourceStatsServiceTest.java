@@ -0,0 +1,163 @@
+package com.pikapikamatch.service;
+
+import com.mongodb.MongoException;
+import com.pikapikamatch.event.SourceStatsChangedEvent;
+import com.pikapikamatch.model.dto.SourceStatsDTO;
+import com.pikapikamatch.model.entity.SourceStats;
+import com.pikapikamatch.repository.SourceStatsRepository;
+import com.pikapikamatch.service.cache.DataVersion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SourceStatsServiceTest {
+
+    @Mock
+    private SourceStatsRepository sourceStatsRepository;
+
+    @Mock
+    private DataVersion dataVersion;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private SourceStatsService sourceStatsService;
+
+    @Test
+    void recordVotes_shouldIncrementSourceCounters() {
+        // When
+        sourceStatsService.recordVotes("pokemon", 3, 1);
+
+        // Then
+        verify(sourceStatsRepository).increment("pokemon", 0, 3, 1);
+    }
+
+    @Test
+    void recordVotes_shouldSkipUpdate_whenNothingChanged() {
+        // When
+        sourceStatsService.recordVotes("pokemon", 0, 0);
+        sourceStatsService.recordVotes(null, 1, 0);
+
+        // Then
+        verifyNoInteractions(sourceStatsRepository);
+    }
+
+    @Test
+    void recordCharacter_shouldIncrementCharacterCount() {
+        // When
+        sourceStatsService.recordCharacter("superhero");
+
+        // Then
+        verify(sourceStatsRepository).increment("superhero", 1, 0, 0);
+    }
+
+    @Test
+    void onSourceStatsChanged_shouldApplyCharacterAndVoteCounts() {
+        // When
+        sourceStatsService.onSourceStatsChanged(new SourceStatsChangedEvent("pokemon", 1, 2, 0));
+
+        // Then
+        verify(sourceStatsRepository).increment("pokemon", 1, 0, 0);
+        verify(sourceStatsRepository).increment("pokemon", 0, 2, 0);
+    }
+
+    @Test
+    void onSourceStatsChanged_shouldSwallowDataAccessFailures() {
+        // Given
+        doThrow(new QueryTimeoutException("timeout"))
+                .when(sourceStatsRepository).increment("pokemon", 0, 1, 0);
+
+        // When / Then
+        assertThatCode(() -> sourceStatsService.onSourceStatsChanged(new SourceStatsChangedEvent("pokemon", 0, 1, 0)))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void getSourceStats_shouldReturnTotalsAndPercentages() {
+        // Given
+        SourceStats pokemon = new SourceStats("pokemon", 10L, 75L, 25L, 100L, null);
+        when(sourceStatsRepository.findAll(any(Sort.class))).thenReturn(List.of(pokemon));
+
+        // When
+        List<SourceStatsDTO> result = sourceStatsService.getSourceStats();
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getSource()).isEqualTo("pokemon");
+        assertThat(result.get(0).getTotalVotes()).isEqualTo(100L);
+        assertThat(result.get(0).getLikePercentage()).isEqualTo(75.0);
+        assertThat(result.get(0).getDislikePercentage()).isEqualTo(25.0);
+    }
+
+    @Test
+    void rebuild_shouldReturnRebuiltStats_sortedBySource() {
+        // Given
+        runTransactionsInline();
+        when(sourceStatsRepository.rebuild()).thenReturn(List.of(
+                new SourceStats("superhero", 1L, 0L, 2L, 2L, null),
+                new SourceStats("pokemon", 2L, 4L, 0L, 4L, null)));
+
+        // When
+        List<SourceStatsDTO> result = sourceStatsService.rebuild();
+
+        // Then
+        assertThat(result).extracting(SourceStatsDTO::getSource).containsExactly("pokemon", "superhero");
+        verify(dataVersion).bump();
+    }
+
+    @Test
+    void rebuild_shouldRetry_whenTransactionConflicts() {
+        // Given
+        runTransactionsInline();
+        MongoException writeConflict = new MongoException(112, "WriteConflict");
+        writeConflict.addLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+        when(sourceStatsRepository.rebuild())
+                .thenThrow(new UncategorizedMongoDbException("WriteConflict", writeConflict))
+                .thenReturn(List.of(new SourceStats("pokemon", 2L, 4L, 0L, 4L, null)));
+
+        // When
+        List<SourceStatsDTO> result = sourceStatsService.rebuild();
+
+        // Then
+        assertThat(result).extracting(SourceStatsDTO::getSource).containsExactly("pokemon");
+        verify(sourceStatsRepository, times(2)).rebuild();
+    }
+
+    @Test
+    void rebuild_shouldNotRetry_nonTransientFailures() {
+        // Given
+        runTransactionsInline();
+        when(sourceStatsRepository.rebuild()).thenThrow(new QueryTimeoutException("timeout"));
+
+        // When / Then
+        assertThatThrownBy(() -> sourceStatsService.rebuild()).isInstanceOf(QueryTimeoutException.class);
+        verify(sourceStatsRepository, times(1)).rebuild();
+        verifyNoInteractions(dataVersion);
+    }
+
+    private void runTransactionsInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+}
@@ -1,9 +1,16 @@
 package com.pikapikamatch.service;
 
 import com.pikapikamatch.exception.ExternalApiException;
+import com.pikapikamatch.exception.ValidationException;
 import com.pikapikamatch.model.dto.CharacterStatsDTO;
+import com.pikapikamatch.model.dto.RankingPageDTO;
 import com.pikapikamatch.model.entity.Character;
+import com.pikapikamatch.model.projection.CharacterSummary;
 import com.pikapikamatch.repository.CharacterRepository;
+import com.pikapikamatch.service.leaderboard.LeaderboardService;
+import com.pikapikamatch.util.CharacterMapper;
+import com.pikapikamatch.util.RankingCursor;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -16,6 +23,8 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,14 +33,16 @@ class StatsServiceTest {
     @Mock
     private CharacterRepository characterRepository;
 
+    @Mock
+    private LeaderboardService leaderboardService;
+
     @InjectMocks
     private StatsService statsService;
 
     @Test
     void getMostLiked_shouldReturnCharacter_whenCharactersExist() {
         // Given
-        Character character = createCharacter("Pikachu", 100, 10);
-        when(characterRepository.findTopByOrderByTotalLikesDesc()).thenReturn(character);
+        when(characterRepository.findTopLiked(1)).thenReturn(List.of(createSummary("Pikachu", 100, 10)));
 
         // When
         CharacterStatsDTO result = statsService.getMostLiked();
@@ -40,12 +51,13 @@ class StatsServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getName()).isEqualTo("Pikachu");
         assertThat(result.getTotalLikes()).isEqualTo(100);
+        assertThat(result.getTotalVotes()).isEqualTo(110);
     }
 
     @Test
     void getMostLiked_shouldThrowException_whenNoCharactersExist() {
         // Given
-        when(characterRepository.findTopByOrderByTotalLikesDesc()).thenReturn(null);
+        when(characterRepository.findTopLiked(1)).thenReturn(List.of());
 
         // When/Then
         assertThatThrownBy(() -> statsService.getMostLiked())
@@ -56,8 +68,7 @@ class StatsServiceTest {
     @Test
     void getMostDisliked_shouldReturnCharacter_whenCharactersExist() {
         // Given
-        Character character = createCharacter("Meowth", 10, 100);
-        when(characterRepository.findTopByOrderByTotalDislikesDesc()).thenReturn(character);
+        when(characterRepository.findTopDisliked(1)).thenReturn(List.of(createSummary("Meowth", 10, 100)));
 
         // When
         CharacterStatsDTO result = statsService.getMostDisliked();
@@ -71,7 +82,7 @@ class StatsServiceTest {
     @Test
     void getMostDisliked_shouldThrowException_whenNoCharactersExist() {
         // Given
-        when(characterRepository.findTopByOrderByTotalDislikesDesc()).thenReturn(null);
+        when(characterRepository.findTopDisliked(1)).thenReturn(List.of());
 
         // When/Then
         assertThatThrownBy(() -> statsService.getMostDisliked())
@@ -82,13 +93,12 @@ class StatsServiceTest {
     @Test
     void getTopLiked_shouldReturnList_whenCharactersExist() {
         // Given
-        List<Character> characters = List.of(
-                createCharacter("Pikachu", 100, 10),
-                createCharacter("Charizard", 90, 15),
-                createCharacter("Bulbasaur", 80, 20)
+        List<CharacterSummary> characters = List.of(
+                createSummary("Pikachu", 100, 10),
+                createSummary("Charizard", 90, 15),
+                createSummary("Bulbasaur", 80, 20)
         );
-        when(characterRepository.findByOrderByTotalLikesDesc(any(PageRequest.class)))
-                .thenReturn(characters);
+        when(characterRepository.findTopLiked(3)).thenReturn(characters);
 
         // When
         List<CharacterStatsDTO> result = statsService.getTopLiked(3);
@@ -104,13 +114,12 @@ class StatsServiceTest {
     @Test
     void getTopDisliked_shouldReturnList_whenCharactersExist() {
         // Given
-        List<Character> characters = List.of(
-                createCharacter("Meowth", 10, 100),
-                createCharacter("Zubat", 15, 90),
-                createCharacter("Rattata", 20, 80)
+        List<CharacterSummary> characters = List.of(
+                createSummary("Meowth", 10, 100),
+                createSummary("Zubat", 15, 90),
+                createSummary("Rattata", 20, 80)
         );
-        when(characterRepository.findByOrderByTotalDislikesDesc(any(PageRequest.class)))
-                .thenReturn(characters);
+        when(characterRepository.findTopDisliked(3)).thenReturn(characters);
 
         // When
         List<CharacterStatsDTO> result = statsService.getTopDisliked(3);
@@ -123,6 +132,134 @@ class StatsServiceTest {
         assertThat(result.get(2).getTotalDislikes()).isEqualTo(80);
     }
 
+    @Test
+    void getMostLiked_shouldServeFromLeaderboard_whenLeaderboardIsReady() {
+        // Given
+        CharacterStatsDTO pikachu = CharacterMapper.toStatsDTO(createCharacter("Pikachu", 100, 10));
+        when(leaderboardService.isReady()).thenReturn(true);
+        when(leaderboardService.getTopLiked(1)).thenReturn(List.of(pikachu));
+
+        // When
+        CharacterStatsDTO result = statsService.getMostLiked();
+
+        // Then
+        assertThat(result.getName()).isEqualTo("Pikachu");
+        verifyNoInteractions(characterRepository);
+    }
+
+    @Test
+    void getMostDisliked_shouldThrowException_whenLeaderboardIsEmpty() {
+        // Given
+        when(leaderboardService.isReady()).thenReturn(true);
+        when(leaderboardService.getTopDisliked(1)).thenReturn(List.of());
+
+        // When/Then
+        assertThatThrownBy(() -> statsService.getMostDisliked())
+                .isInstanceOf(ExternalApiException.class)
+                .hasMessageContaining("No characters available");
+        verifyNoInteractions(characterRepository);
+    }
+
+    @Test
+    void getTopLiked_shouldServeFromLeaderboard_whenLimitFitsInMemory() {
+        // Given
+        List<CharacterStatsDTO> top = List.of(
+                CharacterMapper.toStatsDTO(createCharacter("Pikachu", 100, 10)),
+                CharacterMapper.toStatsDTO(createCharacter("Charizard", 90, 15))
+        );
+        when(leaderboardService.isReady()).thenReturn(true);
+        when(leaderboardService.capacity()).thenReturn(50);
+        when(leaderboardService.getTopLiked(2)).thenReturn(top);
+
+        // When
+        List<CharacterStatsDTO> result = statsService.getTopLiked(2);
+
+        // Then
+        assertThat(result).extracting(CharacterStatsDTO::getName).containsExactly("Pikachu", "Charizard");
+        verifyNoInteractions(characterRepository);
+    }
+
+    @Test
+    void getLikesRanking_shouldReturnNextCursor_whenMoreCharactersExist() {
+        // Given
+        CharacterSummary pikachu = createSummary("Pikachu", 100, 10);
+        CharacterSummary charizard = createSummary("Charizard", 90, 15);
+        CharacterSummary bulbasaur = createSummary("Bulbasaur", 80, 20);
+        when(characterRepository.findLikesRanking(any(PageRequest.class)))
+                .thenReturn(List.of(pikachu, charizard, bulbasaur));
+
+        // When
+        RankingPageDTO result = statsService.getLikesRanking(2, null);
+
+        // Then
+        assertThat(result.getItems()).extracting(CharacterStatsDTO::getName)
+                .containsExactly("Pikachu", "Charizard");
+        assertThat(result.isHasMore()).isTrue();
+        RankingCursor cursor = RankingCursor.decode(result.getNextCursor(), "likes");
+        assertThat(cursor.count()).isEqualTo(90);
+        assertThat(cursor.id().toHexString()).isEqualTo(charizard.getId());
+    }
+
+    @Test
+    void getLikesRanking_shouldSeekAfterCursor_whenCursorGiven() {
+        // Given
+        ObjectId lastId = new ObjectId();
+        String cursor = new RankingCursor("likes", 90, lastId).encode();
+        when(characterRepository.findLikesRankingAfter(eq(90), eq(lastId), any(PageRequest.class)))
+                .thenReturn(List.of(createSummary("Bulbasaur", 80, 20)));
+
+        // When
+        RankingPageDTO result = statsService.getLikesRanking(2, cursor);
+
+        // Then
+        assertThat(result.getItems()).hasSize(1);
+        assertThat(result.isHasMore()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getDislikesRanking_shouldRejectCursor_fromAnotherRanking() {
+        // Given
+        String cursor = new RankingCursor("likes", 90, new ObjectId()).encode();
+
+        // When/Then
+        assertThatThrownBy(() -> statsService.getDislikesRanking(2, cursor))
+                .isInstanceOf(ValidationException.class);
+        verifyNoInteractions(characterRepository);
+    }
+
+    @Test
+    void getTopRated_shouldReturnCharactersWithScores_fromRatingIndex() {
+        // Given
+        Character pikachu = createCharacter("Pikachu", 90, 10);
+        pikachu.updateScores();
+        when(characterRepository.findTopRated(5)).thenReturn(List.of(pikachu));
+
+        // When
+        List<CharacterStatsDTO> result = statsService.getTopRated(5);
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getName()).isEqualTo("Pikachu");
+        assertThat(result.get(0).getRatingScore()).isBetween(0.8, 0.9);
+        verifyNoInteractions(leaderboardService);
+    }
+
+    @Test
+    void getMostControversial_shouldReturnCharacters_fromControversyIndex() {
+        // Given
+        Character slowpoke = createCharacter("Slowpoke", 50, 50);
+        slowpoke.updateScores();
+        when(characterRepository.findMostControversial(5)).thenReturn(List.of(slowpoke));
+
+        // When
+        List<CharacterStatsDTO> result = statsService.getMostControversial(5);
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getControversyScore()).isBetween(0.4, 0.5);
+    }
+
     private Character createCharacter(String name, int likes, int dislikes) {
         Character character = new Character();
         character.setId("1");
@@ -135,4 +272,9 @@ class StatsServiceTest {
         character.setTotalVotes(likes + dislikes);
         return character;
     }
+
+    private CharacterSummary createSummary(String name, int likes, int dislikes) {
+        return new CharacterSummary(new ObjectId().toHexString(), "25", name, "pokemon",
+                "http://example.com/image.png", likes, dislikes);
+    }
 }
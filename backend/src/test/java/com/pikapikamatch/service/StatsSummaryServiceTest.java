@@ -0,0 +1,88 @@
+package com.pikapikamatch.service;
+
+import com.pikapikamatch.exception.ExternalApiException;
+import com.pikapikamatch.model.dto.CharacterStatsDTO;
+import com.pikapikamatch.model.dto.StatsSummaryDTO;
+import com.pikapikamatch.model.dto.VoteResponseDTO;
+import com.pikapikamatch.service.cache.StatsCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StatsSummaryServiceTest {
+
+    @Mock
+    private StatsCache statsCache;
+
+    @Mock
+    private VoteService voteService;
+
+    private StatsSummaryService statsSummaryService;
+
+    @BeforeEach
+    void setUp() {
+        statsSummaryService = new StatsSummaryService(statsCache, voteService, new SyncTaskExecutor());
+    }
+
+    @Test
+    void getSummary_shouldCombineAllStatistics() {
+        // Given
+        CharacterStatsDTO pikachu = createStats("Pikachu", 100, 10);
+        CharacterStatsDTO meowth = createStats("Meowth", 10, 100);
+        VoteResponseDTO lastVote = VoteResponseDTO.builder().characterName("Pikachu").voteType("like").build();
+        when(statsCache.getMostLiked()).thenReturn(pikachu);
+        when(statsCache.getMostDisliked()).thenReturn(meowth);
+        when(statsCache.getTopLiked(3)).thenReturn(List.of(pikachu, meowth));
+        when(statsCache.getTopDisliked(3)).thenReturn(List.of(meowth, pikachu));
+        when(voteService.getLastEvaluated()).thenReturn(lastVote);
+
+        // When
+        StatsSummaryDTO result = statsSummaryService.getSummary(3);
+
+        // Then
+        assertThat(result.getMostLiked().getName()).isEqualTo("Pikachu");
+        assertThat(result.getMostDisliked().getName()).isEqualTo("Meowth");
+        assertThat(result.getTopLiked()).hasSize(2);
+        assertThat(result.getTopDisliked().get(0).getName()).isEqualTo("Meowth");
+        assertThat(result.getLastVote().getCharacterName()).isEqualTo("Pikachu");
+    }
+
+    @Test
+    void getSummary_shouldReturnEmptySummary_whenNoDataExists() {
+        // Given
+        when(statsCache.getMostLiked()).thenThrow(new ExternalApiException("No characters available"));
+        when(statsCache.getMostDisliked()).thenThrow(new ExternalApiException("No characters available"));
+        when(statsCache.getTopLiked(5)).thenReturn(List.of());
+        when(statsCache.getTopDisliked(5)).thenReturn(List.of());
+        when(voteService.getLastEvaluated()).thenReturn(null);
+
+        // When
+        StatsSummaryDTO result = statsSummaryService.getSummary(5);
+
+        // Then
+        assertThat(result.getMostLiked()).isNull();
+        assertThat(result.getMostDisliked()).isNull();
+        assertThat(result.getTopLiked()).isEmpty();
+        assertThat(result.getLastVote()).isNull();
+    }
+
+    private CharacterStatsDTO createStats(String name, int likes, int dislikes) {
+        return CharacterStatsDTO.builder()
+                .id(name.toLowerCase())
+                .name(name)
+                .source("pokemon")
+                .totalLikes(likes)
+                .totalDislikes(dislikes)
+                .totalVotes(likes + dislikes)
+                .build();
+    }
+}
@@ -1,5 +1,7 @@
 package com.pikapikamatch.service;
 
+import com.pikapikamatch.event.CharacterUpdatedEvent;
+import com.pikapikamatch.event.SourceStatsChangedEvent;
 import com.pikapikamatch.model.dto.VoteRequestDTO;
 import com.pikapikamatch.model.dto.VoteResponseDTO;
 import com.pikapikamatch.model.entity.Character;
@@ -11,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
@@ -18,6 +21,7 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +36,9 @@ class VoteServiceTest {
     @Mock
     private CharacterService characterService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private VoteService voteService;
 
@@ -55,6 +62,9 @@ class VoteServiceTest {
         assertThat(character.getTotalLikes()).isEqualTo(1);
         verify(characterRepository).save(character);
         verify(voteRepository).save(any(Vote.class));
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof SourceStatsChangedEvent change
+                && change.getSource().equals(character.getSource()) && change.getLikes() == 1 && change.getDislikes() == 0));
+        verify(eventPublisher).publishEvent(any(CharacterUpdatedEvent.class));
     }
 
     @Test
@@ -77,6 +87,8 @@ class VoteServiceTest {
         assertThat(character.getTotalDislikes()).isEqualTo(1);
         verify(characterRepository).save(character);
         verify(voteRepository).save(any(Vote.class));
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof SourceStatsChangedEvent change
+                && change.getSource().equals(character.getSource()) && change.getLikes() == 0 && change.getDislikes() == 1));
     }
 
     @Test
@@ -0,0 +1,137 @@
+package com.pikapikamatch.service.cache;
+
+import com.pikapikamatch.event.CharacterUpdatedEvent;
+import com.pikapikamatch.model.dto.CharacterStatsDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CharacterNameCacheTest {
+
+    private CharacterNameCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CharacterNameCache(100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void get_shouldLoadOnce_andCountHitsAndMisses() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        cache.get("pikachu", name -> {
+            loads.incrementAndGet();
+            return createStats("1", "Pikachu", 10);
+        });
+        CharacterStatsDTO result = cache.get("pikachu", name -> {
+            loads.incrementAndGet();
+            return createStats("1", "Pikachu", 10);
+        });
+
+        // Then
+        assertThat(result.getName()).isEqualTo("Pikachu");
+        assertThat(loads).hasValue(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void get_shouldNotCacheMissingCharacters() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        cache.get("unknown", name -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        CharacterStatsDTO result = cache.get("unknown", name -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        // Then
+        assertThat(result).isNull();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void onCharacterUpdated_shouldReplaceCachedEntryInPlace() {
+        // Given
+        cache.get("pikachu", name -> createStats("1", "Pikachu", 10));
+
+        // When
+        cache.onCharacterUpdated(new CharacterUpdatedEvent(createStats("1", "Pikachu", 11)));
+
+        // Then
+        CharacterStatsDTO result = cache.get("pikachu", name -> null);
+        assertThat(result.getTotalVotes()).isEqualTo(11);
+        assertThat(cache.stats().evictionCount()).isZero();
+    }
+
+    @Test
+    void onCharacterUpdated_shouldIgnoreOlderSnapshots() {
+        // Given
+        cache.get("pikachu", name -> createStats("1", "Pikachu", 12));
+
+        // When
+        cache.onCharacterUpdated(new CharacterUpdatedEvent(createStats("1", "Pikachu", 11)));
+
+        // Then
+        assertThat(cache.get("pikachu", name -> null).getTotalVotes()).isEqualTo(12);
+    }
+
+    @Test
+    void onCharacterUpdated_shouldKeepEntryOfAnotherCharacterWithSameName() {
+        // Given
+        cache.get("batman", name -> createStats("1", "Batman", 10));
+
+        // When
+        cache.onCharacterUpdated(new CharacterUpdatedEvent(createStats("2", "BATMAN", 50)));
+
+        // Then
+        assertThat(cache.get("batman", name -> null).getId()).isEqualTo("1");
+    }
+
+    @Test
+    void onCharacterUpdated_shouldEvictLoadStillInFlight() {
+        // Given: a lookup that read the counters before the vote committed
+        CompletableFuture<CharacterStatsDTO> load = new CompletableFuture<>();
+        CompletableFuture<CharacterStatsDTO> waiting = cache.getAsync("pikachu", name -> load);
+
+        // When
+        cache.onCharacterUpdated(new CharacterUpdatedEvent(createStats("1", "Pikachu", 11)));
+        load.complete(createStats("1", "Pikachu", 10));
+
+        // Then
+        assertThat(waiting.join().getTotalVotes()).isEqualTo(10);
+        assertThat(cache.get("pikachu", name -> createStats("1", "Pikachu", 11)).getTotalVotes()).isEqualTo(11);
+    }
+
+    @Test
+    void onCharacterUpdated_shouldNotCacheUncachedNames() {
+        // When
+        cache.onCharacterUpdated(new CharacterUpdatedEvent(createStats("1", "Pikachu", 11)));
+
+        // Then
+        assertThat(cache.get("pikachu", name -> null)).isNull();
+    }
+
+    private CharacterStatsDTO createStats(String id, String name, int likes) {
+        return CharacterStatsDTO.builder()
+                .id(id)
+                .name(name)
+                .source("pokemon")
+                .totalLikes(likes)
+                .totalDislikes(0)
+                .totalVotes(likes)
+                .build();
+    }
+}
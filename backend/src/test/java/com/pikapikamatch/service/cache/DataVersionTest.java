@@ -0,0 +1,33 @@
+package com.pikapikamatch.service.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataVersionTest {
+
+    @Test
+    void current_shouldStartAtADifferentValue_inEveryInstance() {
+        // Given
+        DataVersion first = new DataVersion();
+        DataVersion restarted = new DataVersion();
+
+        // Then
+        assertThat(first.current()).isNotEqualTo(restarted.current());
+        assertThat(first.current()).isNotNegative();
+    }
+
+    @Test
+    void bump_shouldMoveToANewVersion() {
+        // Given
+        DataVersion dataVersion = new DataVersion();
+        long initial = dataVersion.current();
+
+        // When
+        long bumped = dataVersion.bump();
+
+        // Then
+        assertThat(bumped).isEqualTo(initial + 1);
+        assertThat(dataVersion.current()).isEqualTo(bumped);
+    }
+}
@@ -0,0 +1,173 @@
+package com.pikapikamatch.service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.pikapikamatch.event.CharacterUpdatedEvent;
+import com.pikapikamatch.model.dto.CharacterStatsDTO;
+import com.pikapikamatch.model.dto.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResponseBytesCacheTest {
+
+    private static final String ETAG = "\"most-liked-v1\"";
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private ResponseBytesCache cache;
+
+    @BeforeEach
+    void setUp() {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        cache = new ResponseBytesCache(
+                List.of(new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build()),
+                        new MappingJackson2HttpMessageConverter(new Jackson2ObjectMapperBuilder().build())),
+                new ResponseFormats(List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR)),
+                100, Duration.ofMinutes(1), true, DataSize.ofBytes(512));
+    }
+
+    @Test
+    void ok_shouldEncodeOnce_andServeTheSameBytes_onSecondRequest() {
+        // When
+        ResponseEntity<byte[]> first = cache.ok(new MockHttpServletRequest(), ETAG, body("Pikachu", 1));
+        ResponseEntity<byte[]> second = cache.ok(new MockHttpServletRequest(), ETAG, body("Pikachu", 1));
+
+        // Then
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(second.getBody()).isSameAs(first.getBody());
+        assertThat(first.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(first.getHeaders().getETag()).isEqualTo(ETAG);
+        assertThat(new String(first.getBody(), StandardCharsets.UTF_8)).contains("\"name\":\"Pikachu\"");
+    }
+
+    @Test
+    void ok_shouldEncodeCbor_whenAccepted() throws IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.ACCEPT, "application/cbor, application/json;q=0.5");
+
+        // When
+        ResponseEntity<byte[]> response = cache.ok(request, "\"most-liked-v1-cbor\"", body("Pikachu", 1));
+
+        // Then
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"most-liked-v1-cbor\"");
+        assertThat(new ObjectMapper(new CBORFactory()).readTree(response.getBody()).at("/data/name").asText())
+                .isEqualTo("Pikachu");
+    }
+
+    @Test
+    void ok_shouldFallBackToJson_forUnsupportedOrWildcardAccept() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.ACCEPT, "*/*");
+
+        // When
+        ResponseEntity<byte[]> response = cache.ok(request, ETAG, body("Pikachu", 1));
+
+        // Then
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+    }
+
+    @Test
+    void ok_shouldSendPrecompressedBody_withWeakETag_whenGzipAccepted() throws IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br");
+        String name = "Pikachu".repeat(100);
+
+        // When
+        ResponseEntity<byte[]> gzipped = cache.ok(request, ETAG, body(name, 1));
+        ResponseEntity<byte[]> identity = cache.ok(new MockHttpServletRequest(), ETAG, body(name, 1));
+
+        // Then
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzipped.getHeaders().getETag()).isEqualTo("W/" + ETAG);
+        assertThat(gzipped.getHeaders().getVary()).contains(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(new GZIPInputStream(new ByteArrayInputStream(gzipped.getBody())).readAllBytes())
+                .isEqualTo(identity.getBody());
+        assertThat(identity.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(identity.getHeaders().getETag()).isEqualTo(ETAG);
+    }
+
+    @Test
+    void ok_shouldNotCompress_smallBodies_orWhenGzipRefused() {
+        // Given
+        MockHttpServletRequest small = new MockHttpServletRequest();
+        small.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        MockHttpServletRequest refused = new MockHttpServletRequest();
+        refused.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, br");
+
+        // When
+        ResponseEntity<byte[]> smallResponse = cache.ok(small, ETAG, body("Pikachu", 1));
+        ResponseEntity<byte[]> refusedResponse = cache.ok(refused, "\"top-liked-v1-l10\"", body("Pikachu".repeat(100), 1));
+
+        // Then
+        assertThat(smallResponse.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(refusedResponse.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+    }
+
+    @Test
+    void onCharacterUpdated_shouldDropCachedBodies() {
+        // Given
+        cache.ok(new MockHttpServletRequest(), ETAG, body("Pikachu", 1));
+
+        // When
+        cache.onCharacterUpdated(new CharacterUpdatedEvent(CharacterStatsDTO.builder().name("Pikachu").build()));
+        ResponseEntity<byte[]> response = cache.ok(new MockHttpServletRequest(), ETAG, body("Charmander", 2));
+
+        // Then
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(new String(response.getBody(), StandardCharsets.UTF_8)).contains("Charmander");
+    }
+
+    @Test
+    void constructor_shouldRejectFormatsWithoutConverter() {
+        assertThatThrownBy(() -> new ResponseBytesCache(
+                List.of(new MappingJackson2HttpMessageConverter(new Jackson2ObjectMapperBuilder().build())),
+                new ResponseFormats(List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR)),
+                100, Duration.ofMinutes(1), true, DataSize.ofBytes(512)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void ok_shouldNotCacheFailures() {
+        // When
+        assertThatThrownBy(() -> cache.ok(new MockHttpServletRequest(), ETAG, () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+        cache.ok(new MockHttpServletRequest(), ETAG, body("Pikachu", 1));
+
+        // Then
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    private Supplier<Response<CharacterStatsDTO>> body(String name, int likes) {
+        return () -> {
+            calls.incrementAndGet();
+            return Response.success(CharacterStatsDTO.builder().name(name).totalLikes(likes).build());
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package com.pikapikamatch.service.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResponseFormatsTest {
+
+    private final ResponseFormats responseFormats = new ResponseFormats(
+            List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, ResponseFormats.APPLICATION_SMILE));
+
+    @Test
+    void negotiate_shouldPickTheBestAcceptedFormat() {
+        assertThat(responseFormats.negotiate("application/cbor, application/json;q=0.5")).isEqualTo(MediaType.APPLICATION_CBOR);
+        assertThat(responseFormats.negotiate("application/json;q=0.5, application/x-jackson-smile"))
+                .isEqualTo(ResponseFormats.APPLICATION_SMILE);
+    }
+
+    @Test
+    void negotiate_shouldFallBackToJson_forMissingWildcardOrInvalidAccept() {
+        assertThat(responseFormats.negotiate(null)).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(responseFormats.negotiate("*/*")).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(responseFormats.negotiate("text/html")).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(responseFormats.negotiate("not a media type")).isEqualTo(MediaType.APPLICATION_JSON);
+    }
+
+    @Test
+    void eTag_shouldKeepJsonETag_andSuffixOtherRepresentations() {
+        assertThat(responseFormats.eTag(null, "\"summary-v7-l5\"")).isEqualTo("\"summary-v7-l5\"");
+        assertThat(responseFormats.eTag("application/cbor", "\"summary-v7-l5\"")).isEqualTo("\"summary-v7-l5-cbor\"");
+        assertThat(responseFormats.eTag("application/x-jackson-smile", "\"summary-v7-l5\""))
+                .isEqualTo("\"summary-v7-l5-x-jackson-smile\"");
+    }
+
+    @Test
+    void constructor_shouldRequireJsonFirst() {
+        assertThatThrownBy(() -> new ResponseFormats(List.of(MediaType.APPLICATION_CBOR, MediaType.APPLICATION_JSON)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
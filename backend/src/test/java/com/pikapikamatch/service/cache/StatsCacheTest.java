@@ -0,0 +1,159 @@
+package com.pikapikamatch.service.cache;
+
+import com.pikapikamatch.event.CharacterUpdatedEvent;
+import com.pikapikamatch.exception.ExternalApiException;
+import com.pikapikamatch.model.dto.CharacterStatsDTO;
+import com.pikapikamatch.service.StatsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StatsCacheTest {
+
+    @Mock
+    private StatsService statsService;
+
+    private StatsCache statsCache;
+
+    @BeforeEach
+    void setUp() {
+        statsCache = new StatsCache(statsService, 100, Duration.ofMinutes(1), Duration.ofSeconds(30));
+    }
+
+    @Test
+    void getMostLiked_shouldHitCache_onSecondCall() {
+        // Given
+        when(statsService.getMostLiked()).thenReturn(createStats("Pikachu", 100));
+
+        // When
+        statsCache.getMostLiked();
+        CharacterStatsDTO result = statsCache.getMostLiked();
+
+        // Then
+        assertThat(result.getName()).isEqualTo("Pikachu");
+        verify(statsService, times(1)).getMostLiked();
+        assertThat(statsCache.stats().get("most-liked").hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void onCharacterUpdated_shouldInvalidateCachedRankings() {
+        // Given
+        when(statsService.getTopLiked(5)).thenReturn(List.of(createStats("Pikachu", 100)));
+        statsCache.getTopLiked(5);
+
+        // When
+        statsCache.onCharacterUpdated(new CharacterUpdatedEvent(createStats("Pikachu", 101)));
+        statsCache.getTopLiked(5);
+
+        // Then
+        verify(statsService, times(2)).getTopLiked(5);
+    }
+
+    @Test
+    void onCharacterUpdated_shouldKeepFullRankings_theCharacterCannotEnter() {
+        // Given
+        when(statsService.getTopLiked(2)).thenReturn(List.of(createStats("Pikachu", 100), createStats("Mewtwo", 50)));
+        when(statsService.getMostLiked()).thenReturn(createStats("Pikachu", 100));
+        statsCache.getTopLiked(2);
+        statsCache.getMostLiked();
+
+        // When
+        statsCache.onCharacterUpdated(new CharacterUpdatedEvent(createStats("Rattata", 3)));
+        statsCache.getTopLiked(2);
+        statsCache.getMostLiked();
+
+        // Then
+        verify(statsService, times(1)).getTopLiked(2);
+        verify(statsService, times(1)).getMostLiked();
+    }
+
+    @Test
+    void onCharacterUpdated_shouldEvictRanking_whenCharacterReachesItsLastEntry() {
+        // Given
+        when(statsService.getTopLiked(2)).thenReturn(List.of(createStats("Pikachu", 100), createStats("Mewtwo", 50)));
+        when(statsService.getTopLiked(1)).thenReturn(List.of(createStats("Pikachu", 100)));
+        statsCache.getTopLiked(2);
+        statsCache.getTopLiked(1);
+
+        // When
+        statsCache.onCharacterUpdated(new CharacterUpdatedEvent(createStats("Charizard", 50)));
+        statsCache.getTopLiked(2);
+        statsCache.getTopLiked(1);
+
+        // Then: only the ranking whose boundary Charizard reached is reloaded
+        verify(statsService, times(2)).getTopLiked(2);
+        verify(statsService, times(1)).getTopLiked(1);
+    }
+
+    @Test
+    void getTopDisliked_shouldCollapseConcurrentMisses() throws Exception {
+        // Given
+        CountDownLatch loading = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        when(statsService.getTopDisliked(5)).thenAnswer(invocation -> {
+            loads.incrementAndGet();
+            loading.await(1, TimeUnit.SECONDS);
+            return List.of(createStats("Meowth", 3));
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            // When
+            List<Future<List<CharacterStatsDTO>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> statsCache.getTopDisliked(5)));
+            }
+            Thread.sleep(100);
+            loading.countDown();
+
+            // Then
+            for (Future<List<CharacterStatsDTO>> result : results) {
+                assertThat(result.get(2, TimeUnit.SECONDS)).hasSize(1);
+            }
+            assertThat(loads.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void getMostDisliked_shouldNotCacheFailures() {
+        // Given
+        when(statsService.getMostDisliked()).thenThrow(new ExternalApiException("No characters available"));
+
+        // When/Then
+        assertThatThrownBy(() -> statsCache.getMostDisliked()).isInstanceOf(ExternalApiException.class);
+        assertThatThrownBy(() -> statsCache.getMostDisliked()).isInstanceOf(ExternalApiException.class);
+        verify(statsService, times(2)).getMostDisliked();
+    }
+
+    private CharacterStatsDTO createStats(String name, int likes) {
+        return CharacterStatsDTO.builder()
+                .id(name.toLowerCase())
+                .name(name)
+                .source("pokemon")
+                .totalLikes(likes)
+                .totalDislikes(0)
+                .totalVotes(likes)
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.pikapikamatch.service.diagnostics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(Duration.ofMillis(10), 8);
+    private final Object lock = new Object();
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    void shouldReportVirtualThreadsBlockedInsideSynchronizedBlocks() throws Exception {
+        // Given
+        monitor.start();
+
+        // When
+        Thread.ofVirtual().start(this::sleepWhileHoldingMonitor).join();
+
+        // Then (events are streamed with about a second of delay)
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (monitor.pinnedCount() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        assertThat(monitor.pinnedCount()).isPositive();
+        assertThat(monitor.pinnedSites().keySet())
+                .anyMatch(site -> site.contains(VirtualThreadPinningMonitorTest.class.getName() + ".sleepWhileHoldingMonitor"));
+    }
+
+    @Test
+    void shouldNotReportVirtualThreadsThatUnmount() throws Exception {
+        // Given
+        monitor.start();
+
+        // When
+        Thread.ofVirtual().start(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }).join();
+        Thread.sleep(1500);
+
+        // Then
+        assertThat(monitor.pinnedCount()).isZero();
+    }
+
+    private void sleepWhileHoldingMonitor() {
+        synchronized (lock) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.pikapikamatch.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mongodb.DBRef;
+import com.pikapikamatch.model.entity.Character;
+import com.pikapikamatch.model.projection.VoteRecord;
+import com.pikapikamatch.repository.CharacterRepository;
+import com.pikapikamatch.repository.VoteRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExportServiceTest {
+
+    private static final LocalDateTime SINCE = LocalDateTime.of(2024, 1, 31, 0, 0);
+
+    @Mock
+    private VoteRepository voteRepository;
+
+    @Mock
+    private CharacterRepository characterRepository;
+
+    private final ObjectMapper objectMapper = new Jackson2ObjectMapperBuilder()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private ExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ExportService(voteRepository, characterRepository, objectMapper);
+    }
+
+    @Test
+    void exportVotes_shouldWriteOneJsonLinePerVote_withTheCharacterId() throws IOException {
+        // Given
+        ObjectId characterId = new ObjectId();
+        when(voteRepository.streamSince(SINCE)).thenReturn(Stream.of(
+                new VoteRecord("v1", new DBRef("characters", characterId), "like", SINCE.plusMinutes(1)),
+                new VoteRecord("v2", new DBRef("characters", characterId), "dislike", SINCE.plusMinutes(2))));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long count = exportService.writeNdjson(exportService.streamVotes(SINCE), out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[2]).isEmpty();
+        assertThat(objectMapper.readTree(lines[0]).get("voteId").asText()).isEqualTo("v1");
+        assertThat(objectMapper.readTree(lines[0]).get("characterId").asText()).isEqualTo(characterId.toHexString());
+        assertThat(objectMapper.readTree(lines[1]).get("voteType").asText()).isEqualTo("dislike");
+        assertThat(objectMapper.readTree(lines[1]).get("timestamp").asText()).isEqualTo("2024-01-31T00:02:00");
+    }
+
+    @Test
+    void exportVotes_shouldWriteNothing_whenNoVotes() throws IOException {
+        // Given
+        when(voteRepository.streamSince(null)).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long count = exportService.writeNdjson(exportService.streamVotes(null), out);
+
+        // Then
+        assertThat(count).isZero();
+        assertThat(out.size()).isZero();
+    }
+
+    @Test
+    void exportVotes_shouldCloseTheCursor_whenTheClientGoesAway() {
+        // Given
+        AtomicBoolean closed = new AtomicBoolean();
+        when(voteRepository.streamSince(null)).thenReturn(Stream.generate(
+                () -> new VoteRecord("v1", null, "like", SINCE)).onClose(() -> closed.set(true)));
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // When / Then
+        assertThatThrownBy(() -> exportService.writeNdjson(exportService.streamVotes(null), broken))
+                .isInstanceOf(IOException.class);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void exportCharacters_shouldStreamUpdatedCharacters_inUpdateOrder_whenSinceGiven() throws IOException {
+        // Given
+        Character pikachu = new Character();
+        pikachu.setId("c1");
+        pikachu.setName("Pikachu");
+        pikachu.setTotalLikes(3);
+        pikachu.setTotalDislikes(1);
+        when(characterRepository.streamUpdatedSince(SINCE, Sort.by(Sort.Direction.ASC, "lastUpdated")))
+                .thenReturn(Stream.of(pikachu));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long count = exportService.writeNdjson(exportService.streamCharacters(SINCE), out);
+
+        // Then
+        assertThat(count).isEqualTo(1);
+        var line = objectMapper.readTree(out.toString(StandardCharsets.UTF_8).trim());
+        assertThat(line.get("name").asText()).isEqualTo("Pikachu");
+        assertThat(line.get("totalLikes").asInt()).isEqualTo(3);
+        verifyNoMoreInteractions(characterRepository);
+    }
+
+    @Test
+    void exportCharacters_shouldStreamAllCharacters_whenNoSince() throws IOException {
+        // Given
+        when(characterRepository.streamAll(Sort.by(Sort.Direction.ASC, "id"))).thenReturn(Stream.empty());
+
+        // When
+        exportService.streamCharacters(null);
+
+        // Then
+        verify(characterRepository).streamAll(Sort.by(Sort.Direction.ASC, "id"));
+        verifyNoMoreInteractions(characterRepository);
+    }
+}
@@ -0,0 +1,105 @@
+package com.pikapikamatch.service.external;
+
+import com.pikapikamatch.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkheadTest {
+
+    @Test
+    void execute_shouldRunCall_andReleasePermit() {
+        Bulkhead bulkhead = new Bulkhead("pokemon", 2, 0, Duration.ZERO);
+
+        assertThat(bulkhead.execute(() -> "Pikachu")).isEqualTo("Pikachu");
+        assertThat(bulkhead.getAvailablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void execute_shouldReleasePermit_whenCallFails() {
+        Bulkhead bulkhead = new Bulkhead("pokemon", 1, 0, Duration.ZERO);
+
+        assertThatThrownBy(() -> bulkhead.execute(() -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(bulkhead.getAvailablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void execute_shouldRejectImmediately_whenPermitsAndQueueAreFull() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("superhero", 1, 0, Duration.ofSeconds(10));
+        CountDownLatch hung = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> running = hold(bulkhead, executor, hung);
+
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> bulkhead.execute(() -> "never"))
+                .isInstanceOf(ServiceOverloadedException.class)
+                .hasMessageContaining("superhero bulkhead is full");
+            assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(1));
+
+            hung.countDown();
+            assertThat(running.get()).isEqualTo("done");
+        }
+    }
+
+    @Test
+    void execute_shouldWaitInQueue_upToMaxWait() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("superhero", 1, 1, Duration.ofMillis(100));
+        CountDownLatch hung = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            hold(bulkhead, executor, hung);
+
+            assertThatThrownBy(() -> bulkhead.execute(() -> "never"))
+                .isInstanceOf(ServiceOverloadedException.class)
+                .hasMessageContaining("no permit within 100ms");
+            assertThat(bulkhead.getWaiting()).isZero();
+
+            hung.countDown();
+        }
+    }
+
+    @Test
+    void execute_shouldRunQueuedCall_oncePermitIsReleased() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("rickandmorty", 1, 1, Duration.ofSeconds(10));
+        CountDownLatch hung = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            hold(bulkhead, executor, hung);
+            Future<String> queued = executor.submit(() -> bulkhead.execute(() -> "Rick"));
+            while (bulkhead.getWaiting() == 0) {
+                Thread.sleep(1);
+            }
+
+            hung.countDown();
+
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("Rick");
+        }
+    }
+
+    private static Future<String> hold(Bulkhead bulkhead, ExecutorService executor, CountDownLatch release)
+            throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        Future<String> running = executor.submit(() -> bulkhead.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "done";
+        }));
+        started.await();
+        return running;
+    }
+}
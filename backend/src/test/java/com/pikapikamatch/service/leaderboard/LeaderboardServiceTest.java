@@ -0,0 +1,121 @@
+package com.pikapikamatch.service.leaderboard;
+
+import com.pikapikamatch.event.RankingsReloadedEvent;
+import com.pikapikamatch.model.entity.SourceStats;
+import com.pikapikamatch.model.projection.CharacterSummary;
+import com.pikapikamatch.repository.CharacterRepository;
+import com.pikapikamatch.repository.SourceStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderboardServiceTest {
+
+    @Mock
+    private CharacterRepository characterRepository;
+
+    @Mock
+    private SourceStatsRepository sourceStatsRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private LeaderboardService leaderboardService;
+
+    @BeforeEach
+    void setUp() {
+        leaderboardService = new LeaderboardService(characterRepository, sourceStatsRepository, eventPublisher, 3);
+    }
+
+    @Test
+    void seed_shouldNotPublishReload() {
+        // Given
+        when(characterRepository.findTopLiked(3)).thenReturn(List.of(createSummary("1", 10, 0)));
+        when(characterRepository.findTopDisliked(3)).thenReturn(List.of(createSummary("1", 10, 0)));
+        when(sourceStatsRepository.findAll()).thenReturn(List.of(createSourceStats(1L, 10L)));
+
+        // When
+        leaderboardService.seed();
+
+        // Then
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void reconcile_shouldNotPublishReload_whenNothingChanged() {
+        // Given
+        when(characterRepository.findTopLiked(3)).thenReturn(List.of(createSummary("1", 10, 0)));
+        when(characterRepository.findTopDisliked(3)).thenReturn(List.of(createSummary("1", 10, 0)));
+        when(sourceStatsRepository.findAll()).thenReturn(List.of(createSourceStats(1L, 10L)));
+        leaderboardService.seed();
+
+        // When
+        leaderboardService.reconcile();
+
+        // Then
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void reconcile_shouldPublishReload_whenBoardChangedElsewhere() {
+        // Given
+        when(characterRepository.findTopLiked(3))
+                .thenReturn(List.of(createSummary("1", 10, 0)))
+                .thenReturn(List.of(createSummary("1", 11, 0)));
+        when(characterRepository.findTopDisliked(3)).thenReturn(List.of(createSummary("1", 10, 0)));
+        when(sourceStatsRepository.findAll()).thenReturn(List.of(createSourceStats(1L, 10L)));
+        leaderboardService.seed();
+
+        // When
+        leaderboardService.reconcile();
+
+        // Then
+        verify(eventPublisher).publishEvent(any(RankingsReloadedEvent.class));
+    }
+
+    @Test
+    void reconcile_shouldPublishReload_whenTotalsChangedOffTheBoards() {
+        // Given: another replica recorded votes for a character outside the top N
+        when(characterRepository.findTopLiked(3)).thenReturn(List.of(createSummary("1", 10, 0)));
+        when(characterRepository.findTopDisliked(3)).thenReturn(List.of(createSummary("1", 10, 0)));
+        when(sourceStatsRepository.findAll())
+                .thenReturn(List.of(createSourceStats(1L, 10L)))
+                .thenReturn(List.of(createSourceStats(1L, 12L)));
+        leaderboardService.seed();
+
+        // When
+        leaderboardService.reconcile();
+
+        // Then
+        verify(eventPublisher).publishEvent(any(RankingsReloadedEvent.class));
+    }
+
+    private CharacterSummary createSummary(String id, int likes, int dislikes) {
+        CharacterSummary summary = new CharacterSummary();
+        summary.setId(id);
+        summary.setName("Character " + id);
+        summary.setSource("pokemon");
+        summary.setTotalLikes(likes);
+        summary.setTotalDislikes(dislikes);
+        return summary;
+    }
+
+    private SourceStats createSourceStats(long characterCount, long totalVotes) {
+        SourceStats stats = new SourceStats();
+        stats.setSource("pokemon");
+        stats.setCharacterCount(characterCount);
+        stats.setTotalVotes(totalVotes);
+        return stats;
+    }
+}
@@ -0,0 +1,107 @@
+package com.pikapikamatch.service.leaderboard;
+
+import com.pikapikamatch.model.dto.CharacterStatsDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeaderboardTest {
+
+    private final Leaderboard leaderboard = new Leaderboard(3, CharacterStatsDTO::getTotalLikes);
+
+    @Test
+    void update_shouldKeepCharactersOrderedByScore() {
+        // Given
+        leaderboard.update(createStats("1", "Pikachu", 10, 0));
+        leaderboard.update(createStats("2", "Charizard", 30, 0));
+        leaderboard.update(createStats("3", "Bulbasaur", 20, 0));
+
+        // When
+        List<CharacterStatsDTO> result = leaderboard.top(3);
+
+        // Then
+        assertThat(result).extracting(CharacterStatsDTO::getName)
+                .containsExactly("Charizard", "Bulbasaur", "Pikachu");
+    }
+
+    @Test
+    void update_shouldEvictLowestCharacter_whenBoardIsFull() {
+        // Given
+        leaderboard.update(createStats("1", "Pikachu", 10, 0));
+        leaderboard.update(createStats("2", "Charizard", 30, 0));
+        leaderboard.update(createStats("3", "Bulbasaur", 20, 0));
+
+        // When
+        leaderboard.update(createStats("4", "Mewtwo", 40, 0));
+        leaderboard.update(createStats("5", "Rattata", 1, 0));
+
+        // Then
+        assertThat(leaderboard.ids()).containsExactly("4", "2", "3");
+    }
+
+    @Test
+    void update_shouldMoveExistingCharacter_whenCountersChange() {
+        // Given
+        leaderboard.update(createStats("1", "Pikachu", 10, 0));
+        leaderboard.update(createStats("2", "Charizard", 30, 0));
+
+        // When
+        leaderboard.update(createStats("1", "Pikachu", 50, 0));
+
+        // Then
+        assertThat(leaderboard.ids()).containsExactly("1", "2");
+        assertThat(leaderboard.top(1).get(0).getTotalLikes()).isEqualTo(50);
+    }
+
+    @Test
+    void update_shouldIgnoreStaleSnapshots() {
+        // Given
+        leaderboard.update(createStats("1", "Pikachu", 10, 5));
+
+        // When
+        leaderboard.update(createStats("1", "Pikachu", 9, 5));
+
+        // Then
+        assertThat(leaderboard.top(1).get(0).getTotalLikes()).isEqualTo(10);
+    }
+
+    @Test
+    void update_shouldBreakTiesById() {
+        // Given
+        leaderboard.update(createStats("b", "Squirtle", 10, 0));
+        leaderboard.update(createStats("a", "Pikachu", 10, 0));
+
+        // Then
+        assertThat(leaderboard.ids()).containsExactly("a", "b");
+    }
+
+    @Test
+    void replaceAll_shouldSwapContentsAndTrimToCapacity() {
+        // Given
+        leaderboard.update(createStats("9", "Ditto", 99, 0));
+
+        // When
+        leaderboard.replaceAll(List.of(
+                createStats("1", "Pikachu", 10, 0),
+                createStats("2", "Charizard", 30, 0),
+                createStats("3", "Bulbasaur", 20, 0),
+                createStats("4", "Rattata", 5, 0)
+        ));
+
+        // Then
+        assertThat(leaderboard.ids()).containsExactly("2", "3", "1");
+    }
+
+    private CharacterStatsDTO createStats(String id, String name, int likes, int dislikes) {
+        return CharacterStatsDTO.builder()
+                .id(id)
+                .name(name)
+                .source("pokemon")
+                .totalLikes(likes)
+                .totalDislikes(dislikes)
+                .totalVotes(likes + dislikes)
+                .build();
+    }
+}
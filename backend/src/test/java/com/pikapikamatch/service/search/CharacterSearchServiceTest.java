@@ -0,0 +1,76 @@
+package com.pikapikamatch.service.search;
+
+import com.pikapikamatch.event.CharacterUpdatedEvent;
+import com.pikapikamatch.model.dto.CharacterStatsDTO;
+import com.pikapikamatch.model.dto.CharacterSuggestionDTO;
+import com.pikapikamatch.model.projection.CharacterSummary;
+import com.pikapikamatch.repository.CharacterRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CharacterSearchServiceTest {
+
+    @Mock
+    private CharacterRepository characterRepository;
+
+    @InjectMocks
+    private CharacterSearchService characterSearchService;
+
+    @Test
+    void search_shouldIgnoreCaseAndAccents_afterLoad() {
+        // Given
+        when(characterRepository.streamAllSummaries()).thenReturn(Stream.of(
+                new CharacterSummary("1", "669", "Flabébé", "pokemon", null, 3, 1),
+                new CharacterSummary("2", "1", "Rick Sanchez", "rickandmorty", null, 10, 2)));
+        characterSearchService.load();
+
+        // When
+        List<CharacterSuggestionDTO> result = characterSearchService.search("FLAB", 10);
+
+        // Then
+        assertThat(result).extracting(CharacterSuggestionDTO::getName).containsExactly("Flabébé");
+        assertThat(result.get(0).getTotalVotes()).isEqualTo(4);
+    }
+
+    @Test
+    void onCharacterUpdated_shouldReRankSuggestions() {
+        // Given
+        when(characterRepository.streamAllSummaries()).thenReturn(Stream.of(
+                new CharacterSummary("1", "25", "Pikachu", "pokemon", null, 10, 0),
+                new CharacterSummary("2", "172", "Pichu", "pokemon", null, 5, 0)));
+        characterSearchService.load();
+
+        // When
+        characterSearchService.onCharacterUpdated(new CharacterUpdatedEvent(CharacterStatsDTO.builder()
+                .id("2").name("Pichu").source("pokemon").totalVotes(20).build()));
+
+        // Then
+        assertThat(characterSearchService.search("pi", 10))
+                .extracting(CharacterSuggestionDTO::getName)
+                .containsExactly("Pichu", "Pikachu");
+    }
+
+    @Test
+    void closestName_shouldTolerateTypos_onlyWithinEditBudget() {
+        // Given
+        when(characterRepository.streamAllSummaries()).thenReturn(Stream.of(
+                new CharacterSummary("1", "25", "Pikachu", "pokemon", null, 10, 0),
+                new CharacterSummary("2", "1", "Rick Sanchez", "rickandmorty", null, 5, 0)));
+        characterSearchService.load();
+
+        // When/Then
+        assertThat(characterSearchService.closestName("Pikchu")).contains("pikachu");
+        assertThat(characterSearchService.closestName("Rick Sanches")).contains("rick sanchez");
+        assertThat(characterSearchService.closestName("Pkchoo")).isEmpty();
+    }
+}
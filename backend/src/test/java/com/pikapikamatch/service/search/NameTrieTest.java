@@ -0,0 +1,83 @@
+package com.pikapikamatch.service.search;
+
+import com.pikapikamatch.model.dto.CharacterSuggestionDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NameTrieTest {
+
+    private NameTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new NameTrie(3);
+        put("1", "pikachu", 50);
+        put("2", "pichu", 10);
+        put("3", "pidgey", 30);
+        put("4", "pidgeotto", 40);
+        put("5", "charmander", 20);
+    }
+
+    @Test
+    void search_shouldReturnMatches_rankedByVotes() {
+        assertThat(names(trie.search("pi", 10))).containsExactly("pikachu", "pidgeotto", "pidgey");
+        assertThat(names(trie.search("pidg", 10))).containsExactly("pidgeotto", "pidgey");
+    }
+
+    @Test
+    void search_shouldMatchPrefixEndingInsideAnEdge() {
+        assertThat(names(trie.search("charm", 10))).containsExactly("charmander");
+        assertThat(names(trie.search("pidgeo", 10))).containsExactly("pidgeotto");
+    }
+
+    @Test
+    void search_shouldReturnEmpty_whenNothingMatches() {
+        assertThat(trie.search("bulba", 10)).isEmpty();
+        assertThat(trie.search("pikachuu", 10)).isEmpty();
+    }
+
+    @Test
+    void search_shouldRespectLimit() {
+        assertThat(names(trie.search("p", 1))).containsExactly("pikachu");
+    }
+
+    @Test
+    void put_shouldReRank_whenVotesIncrease() {
+        // When
+        put("2", "pichu", 100);
+
+        // Then
+        assertThat(names(trie.search("pi", 10))).containsExactly("pichu", "pikachu", "pidgeotto");
+        assertThat(trie.size()).isEqualTo(5);
+    }
+
+    @Test
+    void put_shouldIgnoreStaleVoteTotals() {
+        // When
+        put("1", "pikachu", 5);
+
+        // Then
+        assertThat(trie.search("pik", 1).get(0).getTotalVotes()).isEqualTo(50);
+    }
+
+    @Test
+    void put_shouldKeepCharactersSharingAName() {
+        // When
+        put("6", "pikachu", 1);
+
+        // Then
+        assertThat(trie.search("pikachu", 10)).extracting(CharacterSuggestionDTO::getId).containsExactly("1", "6");
+    }
+
+    private void put(String id, String name, int votes) {
+        trie.put(name, CharacterSuggestionDTO.builder().id(id).name(name).totalVotes(votes).build());
+    }
+
+    private static List<String> names(List<CharacterSuggestionDTO> suggestions) {
+        return suggestions.stream().map(CharacterSuggestionDTO::getName).toList();
+    }
+}
@@ -0,0 +1,75 @@
+package com.pikapikamatch.service.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class TrigramIndexTest {
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        List.of("pikachu", "pichu", "raichu", "rick sanchez", "morty smith", "batman", "batgirl")
+                .forEach(index::add);
+    }
+
+    @Test
+    void closest_shouldFindNameWithMissingLetter() {
+        TrigramIndex.Match match = index.closest("pikchu", 1).get(0);
+
+        assertThat(match.name()).isEqualTo("pikachu");
+        assertThat(match.distance()).isEqualTo(1);
+    }
+
+    @Test
+    void closest_shouldFindNameWithSubstitutedLetter() {
+        assertThat(index.closest("rick sanches", 1).get(0).name()).isEqualTo("rick sanchez");
+    }
+
+    @Test
+    void closest_shouldRankByEditDistance() {
+        assertThat(index.closest("batmen", 2)).extracting(TrigramIndex.Match::name)
+                .containsExactly("batman", "batgirl");
+    }
+
+    @Test
+    void closest_shouldReturnEmpty_whenNoTrigramIsShared() {
+        assertThat(index.closest("xyz", 5)).isEmpty();
+    }
+
+    @Test
+    void closest_shouldNotCarryCountsOverBetweenQueries() {
+        // Given: the pooled counters were used by earlier queries
+        List<TrigramIndex.Match> first = index.closest("pikchu", 10);
+        index.closest("batmen", 10);
+
+        // When
+        List<TrigramIndex.Match> again = index.closest("pikchu", 10);
+        index.add("pikachu libre");
+
+        // Then
+        assertThat(again).isEqualTo(first);
+        assertThat(index.closest("pikchu", 10)).extracting(TrigramIndex.Match::name, TrigramIndex.Match::sharedTrigrams)
+                .contains(tuple("pikachu", 5), tuple("pikachu libre", 5));
+    }
+
+    @Test
+    void add_shouldIgnoreKnownNames() {
+        index.add("pikachu");
+
+        assertThat(index.size()).isEqualTo(7);
+    }
+
+    @Test
+    void distance_shouldComputeLevenshteinDistance() {
+        assertThat(TrigramIndex.distance("kitten", "sitting")).isEqualTo(3);
+        assertThat(TrigramIndex.distance("", "abc")).isEqualTo(3);
+        assertThat(TrigramIndex.distance("pikachu", "pikachu")).isZero();
+    }
+}
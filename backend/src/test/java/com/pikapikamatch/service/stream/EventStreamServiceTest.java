@@ -0,0 +1,147 @@
+package com.pikapikamatch.service.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pikapikamatch.event.CharacterUpdatedEvent;
+import com.pikapikamatch.event.VoteCreatedEvent;
+import com.pikapikamatch.exception.ServiceOverloadedException;
+import com.pikapikamatch.model.dto.CharacterStatsDTO;
+import com.pikapikamatch.model.dto.VoteResponseDTO;
+import com.pikapikamatch.service.leaderboard.LeaderboardService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventStreamServiceTest {
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Mock
+    private LeaderboardService leaderboardService;
+
+    private EventStreamService eventStreamService;
+
+    @BeforeEach
+    void setUp() {
+        eventStreamService = new EventStreamService(objectMapper, leaderboardService, 60000, 2, 32);
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventStreamService.shutdown();
+    }
+
+    @Test
+    void subscribe_shouldRejectSubscriber_whenLimitReached() {
+        // Given
+        eventStreamService.subscribe();
+        eventStreamService.subscribe();
+
+        // When/Then
+        assertThatThrownBy(() -> eventStreamService.subscribe())
+                .isInstanceOf(ServiceOverloadedException.class);
+        assertThat(eventStreamService.subscriberCount()).isEqualTo(2);
+    }
+
+    @Test
+    void subscribe_shouldNeverExceedTheLimit_underConcurrentSubscribers() throws Exception {
+        // Given
+        ExecutorService clients = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger admitted = new AtomicInteger();
+        List<Future<?>> attempts = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 64; i++) {
+            attempts.add(clients.submit(() -> {
+                start.await();
+                try {
+                    eventStreamService.subscribe();
+                    admitted.incrementAndGet();
+                } catch (ServiceOverloadedException e) {
+                    // Expected once the limit is reached
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> attempt : attempts) {
+            attempt.get(5, TimeUnit.SECONDS);
+        }
+        clients.shutdown();
+
+        // Then
+        assertThat(admitted.get()).isEqualTo(2);
+        assertThat(eventStreamService.subscriberCount()).isEqualTo(2);
+    }
+
+    @Test
+    void broadcast_shouldDisconnectSubscriber_whoseBufferIsFull_withoutBlocking() {
+        // Given: a dispatcher that never gets to run, like one stuck on a stalled client
+        List<Runnable> pending = new ArrayList<>();
+        EventStreamService stalled = new EventStreamService(objectMapper, leaderboardService, 60000, 2, 2, pending::add);
+        stalled.subscribe();
+
+        // When
+        stalled.broadcast("vote", "first");
+        stalled.broadcast("vote", "second");
+
+        // Then
+        assertThat(stalled.subscriberCount()).isZero();
+        assertThat(pending).hasSize(1);
+        stalled.subscribe();
+        stalled.subscribe();
+        assertThat(stalled.subscriberCount()).isEqualTo(2);
+    }
+
+    @Test
+    void onVoteCreated_shouldSerializeOnce_forAllSubscribers() throws Exception {
+        // Given
+        eventStreamService.subscribe();
+        eventStreamService.subscribe();
+        VoteResponseDTO vote = VoteResponseDTO.builder().characterName("Pikachu").voteType("like").build();
+
+        // When
+        eventStreamService.onVoteCreated(new VoteCreatedEvent(vote));
+
+        // Then
+        verify(objectMapper, times(1)).writeValueAsString(vote);
+    }
+
+    @Test
+    void onCharacterUpdated_shouldSkipCharacters_outsideLeaderboards() throws Exception {
+        // Given
+        eventStreamService.subscribe();
+        CharacterStatsDTO character = CharacterStatsDTO.builder().id("42").name("Rattata").build();
+        when(leaderboardService.likedRankOf("42")).thenReturn(0);
+        when(leaderboardService.dislikedRankOf("42")).thenReturn(0);
+
+        // When
+        eventStreamService.onCharacterUpdated(new CharacterUpdatedEvent(character));
+
+        // Then
+        verify(objectMapper, never()).writeValueAsString(any());
+    }
+}
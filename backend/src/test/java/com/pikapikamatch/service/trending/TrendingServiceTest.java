@@ -0,0 +1,66 @@
+package com.pikapikamatch.service.trending;
+
+import com.pikapikamatch.event.VoteCreatedEvent;
+import com.pikapikamatch.exception.ValidationException;
+import com.pikapikamatch.model.dto.TrendingCharacterDTO;
+import com.pikapikamatch.model.dto.VoteResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TrendingServiceTest {
+
+    private TrendingService trendingService;
+
+    @BeforeEach
+    void setUp() {
+        trendingService = new TrendingService(List.of("5m", "15m", "1h"), 10, 256, 4);
+    }
+
+    @Test
+    void getTrending_shouldReturnVotedCharacters_inEveryWindow() {
+        // Given
+        trendingService.onVoteCreated(new VoteCreatedEvent(createVote("1", "Pikachu")));
+        trendingService.onVoteCreated(new VoteCreatedEvent(createVote("1", "Pikachu")));
+        trendingService.onVoteCreated(new VoteCreatedEvent(createVote("2", "Eevee")));
+
+        // When
+        List<TrendingCharacterDTO> fiveMinutes = trendingService.getTrending("5m", 10);
+        List<TrendingCharacterDTO> oneHour = trendingService.getTrending("1h", 10);
+
+        // Then
+        assertThat(fiveMinutes).extracting(TrendingCharacterDTO::getName).containsExactly("Pikachu", "Eevee");
+        assertThat(oneHour).extracting(TrendingCharacterDTO::getName).containsExactly("Pikachu", "Eevee");
+    }
+
+    @Test
+    void getTrending_shouldAcceptEquivalentWindowNotation() {
+        assertThat(trendingService.getTrending("PT15M", 5)).isEmpty();
+    }
+
+    @Test
+    void getTrending_shouldRejectUnsupportedWindow() {
+        assertThatThrownBy(() -> trendingService.getTrending("2h", 5))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("5m, 15m, 1h");
+    }
+
+    @Test
+    void getTrending_shouldRejectMalformedWindow() {
+        assertThatThrownBy(() -> trendingService.getTrending("soon", 5))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    private VoteResponseDTO createVote(String characterId, String name) {
+        return VoteResponseDTO.builder()
+                .characterId(characterId)
+                .characterName(name)
+                .characterSource("pokemon")
+                .voteType("like")
+                .build();
+    }
+}
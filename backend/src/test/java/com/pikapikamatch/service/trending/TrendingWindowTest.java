@@ -0,0 +1,107 @@
+package com.pikapikamatch.service.trending;
+
+import com.pikapikamatch.model.dto.TrendingCharacterDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TrendingWindowTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(15);
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+
+    private TrendingWindow trendingWindow;
+
+    @BeforeEach
+    void setUp() {
+        trendingWindow = new TrendingWindow(WINDOW, 3, new CountMinSketch(1024, 4), clock::get);
+    }
+
+    @Test
+    void top_shouldRankByVoteCount_whenVotesAreSimultaneous() {
+        // Given
+        vote("pikachu", 3);
+        vote("charmander", 5);
+        vote("bulbasaur", 1);
+
+        // When
+        List<TrendingCharacterDTO> result = trendingWindow.top(10);
+
+        // Then
+        assertThat(result).extracting(TrendingCharacterDTO::getId)
+                .containsExactly("charmander", "pikachu", "bulbasaur");
+        assertThat(result.get(0).getScore()).isCloseTo(5.0, within(1e-9));
+    }
+
+    @Test
+    void top_shouldDecayScores_byFactorEPerWindow() {
+        // Given
+        vote("pikachu", 10);
+
+        // When
+        clock.addAndGet(WINDOW.toMillis());
+        List<TrendingCharacterDTO> result = trendingWindow.top(1);
+
+        // Then
+        assertThat(result.get(0).getScore()).isCloseTo(10 / Math.E, within(1e-9));
+    }
+
+    @Test
+    void top_shouldFavourRecentVotes_overOlderLargerBursts() {
+        // Given
+        vote("pikachu", 10);
+        clock.addAndGet(WINDOW.multipliedBy(3).toMillis());
+        vote("eevee", 2);
+
+        // When
+        List<TrendingCharacterDTO> result = trendingWindow.top(2);
+
+        // Then
+        assertThat(result).extracting(TrendingCharacterDTO::getId).containsExactly("eevee", "pikachu");
+    }
+
+    @Test
+    void record_shouldKeepOnlyHeaviestCharacters_whenCapacityIsReached() {
+        // Given
+        vote("pikachu", 5);
+        vote("charmander", 4);
+        vote("bulbasaur", 3);
+
+        // When
+        vote("rattata", 1);
+        vote("mewtwo", 6);
+
+        // Then
+        assertThat(trendingWindow.top(10)).extracting(TrendingCharacterDTO::getId)
+                .containsExactly("mewtwo", "pikachu", "charmander");
+    }
+
+    @Test
+    void record_shouldKeepScoresAccurate_acrossRescaling() {
+        // Given
+        vote("pikachu", 4);
+
+        // When: far enough in the future to force the landmark to move
+        clock.addAndGet(WINDOW.multipliedBy(100).toMillis());
+        vote("eevee", 1);
+
+        // Then
+        List<TrendingCharacterDTO> result = trendingWindow.top(2);
+        assertThat(result.get(0).getId()).isEqualTo("eevee");
+        assertThat(result.get(0).getScore()).isCloseTo(1.0, within(1e-9));
+        assertThat(result.get(1).getScore()).isLessThan(1e-30);
+    }
+
+    private void vote(String id, int times) {
+        for (int i = 0; i < times; i++) {
+            trendingWindow.record(TrendingCharacterDTO.builder().id(id).name(id).source("pokemon").build());
+        }
+    }
+}
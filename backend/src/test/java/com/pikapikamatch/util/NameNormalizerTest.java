@@ -0,0 +1,24 @@
+package com.pikapikamatch.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NameNormalizerTest {
+
+    @Test
+    void normalize_shouldLowerCaseAndFoldAccents() {
+        assertThat(NameNormalizer.normalize("Flabébé")).isEqualTo("flabebe");
+        assertThat(NameNormalizer.normalize("PIKACHU")).isEqualTo("pikachu");
+    }
+
+    @Test
+    void normalize_shouldCollapseWhitespace() {
+        assertThat(NameNormalizer.normalize("  Rick   Sanchez ")).isEqualTo("rick sanchez");
+    }
+
+    @Test
+    void normalize_shouldReturnNull_whenNameIsNull() {
+        assertThat(NameNormalizer.normalize(null)).isNull();
+    }
+}
@@ -0,0 +1,49 @@
+package com.pikapikamatch.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServerTimingTest {
+
+    @AfterEach
+    void tearDown() {
+        ServerTiming.end();
+    }
+
+    @Test
+    void record_shouldBeNoOp_withoutContext() {
+        ServerTiming.record("db", 1_000_000);
+
+        assertThat(ServerTiming.current()).isNull();
+    }
+
+    @Test
+    void toHeaderValue_shouldSumAndCountRepeatedMetrics_inRecordingOrder() {
+        ServerTiming timing = ServerTiming.begin();
+
+        ServerTiming.record("db", 1_500_000);
+        ServerTiming.record("pokeapi", 200_000_000);
+        ServerTiming.record("db", 2_000_000);
+
+        assertThat(timing.toHeaderValue())
+            .startsWith("db;desc=\"2 calls\";dur=3.5, pokeapi;dur=200.0, total;dur=");
+    }
+
+    @Test
+    void toHeaderValue_shouldOnlyReportTotal_whenNothingRecorded() {
+        ServerTiming timing = ServerTiming.begin();
+
+        assertThat(timing.toHeaderValue()).matches("total;dur=\\d+\\.\\d");
+    }
+
+    @Test
+    void end_shouldUnbindContext() {
+        ServerTiming.begin();
+
+        ServerTiming.end();
+
+        assertThat(ServerTiming.current()).isNull();
+    }
+}
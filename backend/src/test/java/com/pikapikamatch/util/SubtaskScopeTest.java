@@ -0,0 +1,84 @@
+package com.pikapikamatch.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SubtaskScopeTest {
+
+    private final Executor executor = new VirtualThreadTaskExecutor("subtask-test-");
+
+    @Test
+    void join_shouldWaitForAllSubtasks() {
+        try (SubtaskScope scope = new SubtaskScope(executor)) {
+            // When
+            Supplier<String> first = scope.fork(() -> {
+                Thread.sleep(50);
+                return "first";
+            });
+            Supplier<Integer> second = scope.fork(() -> 2);
+            scope.join();
+
+            // Then
+            assertThat(first.get()).isEqualTo("first");
+            assertThat(second.get()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void join_shouldRethrowFirstFailure_andCancelOtherSubtasks() throws Exception {
+        // Given
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        try (SubtaskScope scope = new SubtaskScope(executor)) {
+            scope.fork(() -> {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return null;
+            });
+            scope.fork(() -> {
+                throw new IllegalStateException("query failed");
+            });
+
+            // When/Then
+            assertThatThrownBy(scope::join)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("query failed");
+        }
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void close_shouldCancelRunningSubtasks() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        // When
+        try (SubtaskScope scope = new SubtaskScope(executor)) {
+            scope.fork(() -> {
+                started.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return null;
+            });
+            started.await(1, TimeUnit.SECONDS);
+        }
+
+        // Then
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+}
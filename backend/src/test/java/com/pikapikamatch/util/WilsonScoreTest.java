@@ -0,0 +1,36 @@
+package com.pikapikamatch.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class WilsonScoreTest {
+
+    @Test
+    void lowerBound_shouldBeZero_whenThereAreNoVotes() {
+        assertThat(WilsonScore.lowerBound(0, 0)).isZero();
+    }
+
+    @Test
+    void lowerBound_shouldMatchKnownValue() {
+        // 90 likes out of 100 at 95% confidence
+        assertThat(WilsonScore.lowerBound(90, 100)).isCloseTo(0.8256, within(0.0001));
+    }
+
+    @Test
+    void lowerBound_shouldRankConsistentVolumeAboveSmallPerfectSample() {
+        assertThat(WilsonScore.lowerBound(95, 100)).isGreaterThan(WilsonScore.lowerBound(2, 2));
+    }
+
+    @Test
+    void controversy_shouldPreferEvenSplits_withMoreVotes() {
+        double oneSided = WilsonScore.controversy(100, 0);
+        double evenSmall = WilsonScore.controversy(2, 2);
+        double evenLarge = WilsonScore.controversy(200, 200);
+
+        assertThat(oneSided).isZero();
+        assertThat(evenLarge).isGreaterThan(evenSmall);
+        assertThat(evenLarge).isLessThan(0.5);
+    }
+}